@@ -0,0 +1,123 @@
+#!/bin/bash
+
+# Compares startup modes: time from process start to the first answered request, latency of the first
+# authenticated request, resident memory after the first request and after a fixed load of authenticated
+# requests. The modes are
+#   jvm     plain java -jar of the boot jar,
+#   cds     the extracted jar with the class data sharing archive and the AOT-processed context (./gradlew cdsTrain),
+#   native  the native executable (./gradlew nativeCompile).
+#
+# Each run starts a fresh process against the same database, so start the dev database first
+# (docker compose -f db-dev.yml up -d). The admin user must exist; the first start creates it.
+
+PROFILE="${SPRING_PROFILES_ACTIVE:-dev}"
+PORT="${BENCH_PORT:-8081}"
+RUNS="${BENCH_RUNS:-5}"
+REQUESTS="${BENCH_REQUESTS:-500}"
+EMAIL="${BENCH_EMAIL:-admin@iamis.co.tz}"
+PASSWORD="${BENCH_PASSWORD:-password}"
+JAR="build/libs/iamis-api-0.0.1-SNAPSHOT.jar"
+CDS_JAR="build/cds/iamis-api-0.0.1-SNAPSHOT.jar"
+CDS_ARCHIVE="build/cds/application.jsa"
+NATIVE="build/native/nativeCompile/iamis"
+BASE_URL="http://localhost:$PORT/api"
+
+usage() {
+  echo "Usage: $0 [jvm] [cds] [native] [--no-build]"
+  echo "Runs jvm and cds when no mode is given."
+  exit 1
+}
+
+TARGETS=()
+BUILD=true
+for arg in "$@"; do
+  case "$arg" in
+    jvm|cds|native) TARGETS+=("$arg") ;;
+    --no-build) BUILD=false ;;
+    *) usage ;;
+  esac
+done
+if [ ${#TARGETS[@]} -eq 0 ]; then
+  TARGETS=(jvm cds)
+fi
+
+if [ "$BUILD" == true ]; then
+  for target in "${TARGETS[@]}"; do
+    case "$target" in
+      jvm) SPRING_PROFILES_ACTIVE=$PROFILE ./gradlew bootJar || exit 1 ;;
+      cds) SPRING_PROFILES_ACTIVE=$PROFILE ./gradlew cdsTrain || exit 1 ;;
+      native) SPRING_PROFILES_ACTIVE=$PROFILE ./gradlew nativeCompile || exit 1 ;;
+    esac
+  done
+fi
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+rss_mb() {
+  awk '/VmRSS/ { printf "%.1f", $2 / 1024 }' "/proc/$1/status"
+}
+
+# Prints "<ms to first request> <ms of first authenticated request> <RSS MB after first request>
+# <RSS MB after load>" for one fresh start.
+run_once() {
+  local start pid first rss_first token latency rss_load
+  start=$(now_ms)
+  SPRING_PROFILES_ACTIVE=$PROFILE "$@" > /dev/null 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "$BASE_URL/authenticate"; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "The application exited before answering" >&2
+      return 1
+    fi
+    sleep 0.01
+  done
+  first=$(( $(now_ms) - start ))
+  rss_first=$(rss_mb "$pid")
+
+  token=$(curl -sf -H 'Content-Type: application/json' \
+    -d "{\"username\":\"$EMAIL\",\"password\":\"$PASSWORD\"}" "$BASE_URL/authenticate" \
+    | sed -n 's/.*"token":"\([^"]*\)".*/\1/p')
+  latency=$(curl -sf -o /dev/null -w '%{time_total}' -H "Authorization: Bearer $token" \
+    "$BASE_URL/users?page=0&size=20" | awk '{ printf "%.1f", $1 * 1000 }')
+  for _ in $(seq "$REQUESTS"); do
+    curl -sf -o /dev/null -H "Authorization: Bearer $token" "$BASE_URL/users?page=0&size=20"
+  done
+  rss_load=$(rss_mb "$pid")
+
+  kill "$pid"
+  wait "$pid" 2> /dev/null
+  echo "$first $latency $rss_first $rss_load"
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+benchmark() {
+  local name=$1
+  shift
+  local results=()
+  for run in $(seq "$RUNS"); do
+    local result
+    result=$(run_once "$@") || exit 1
+    echo "$name run $run: $result" >&2
+    results+=("$result")
+  done
+  local column medians=()
+  for column in 1 2 3 4; do
+    medians+=("$(printf '%s\n' "${results[@]}" | awk -v c="$column" '{ print $c }' | median)")
+  done
+  printf '%-8s %12s %14s %10s %14s\n' "$name" "${medians[@]}"
+}
+
+printf '%-8s %12s %14s %10s %14s\n' "mode" "first (ms)" "first auth (ms)" "RSS (MB)" "RSS load (MB)"
+for target in "${TARGETS[@]}"; do
+  case "$target" in
+    jvm) benchmark jvm java -jar "$JAR" --server.port="$PORT" ;;
+    cds) benchmark cds java -XX:SharedArchiveFile="$CDS_ARCHIVE" -Dspring.aot.enabled=true \
+      -jar "$CDS_JAR" --server.port="$PORT" ;;
+    native) benchmark native "$NATIVE" --server.port="$PORT" ;;
+  esac
+done
@@ -0,0 +1,53 @@
+package com.deeptech.iamis;
+
+import com.deeptech.iamis.modules.authority.Authority;
+import com.deeptech.iamis.modules.department.Department;
+import com.deeptech.iamis.modules.financial_year.FinancialYear;
+import com.deeptech.iamis.modules.gfs_code.GfsCode;
+import com.deeptech.iamis.modules.menu_group.MenuGroup;
+import com.deeptech.iamis.modules.menu_item.MenuItem;
+import com.deeptech.iamis.modules.organisation_unit.OrganisationUnit;
+import com.deeptech.iamis.modules.organisation_unit_level.OrganisationUnitLevel;
+import com.deeptech.iamis.modules.period.Period;
+import com.deeptech.iamis.modules.risk_rank.RiskRank;
+import com.deeptech.iamis.modules.role.Role;
+import com.deeptech.iamis.modules.user.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+/**
+ * Builds a Hibernate session factory for the application entities without a database connection,
+ * so benchmarks can work against the real metamodel and criteria builder.
+ */
+public final class OfflineSessionFactory {
+
+    private OfflineSessionFactory() {}
+
+    public static SessionFactory build() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", false)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "none")
+                .build();
+        return new MetadataSources(registry)
+                .addAnnotatedClasses(
+                        Authority.class,
+                        Role.class,
+                        User.class,
+                        MenuGroup.class,
+                        MenuItem.class,
+                        OrganisationUnitLevel.class,
+                        OrganisationUnit.class,
+                        Department.class,
+                        FinancialYear.class,
+                        Period.class,
+                        RiskRank.class,
+                        GfsCode.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+}
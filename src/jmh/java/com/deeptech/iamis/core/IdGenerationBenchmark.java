@@ -0,0 +1,121 @@
+package com.deeptech.iamis.core;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures persisting 100k new entities, flushed in batches the way {@code saveAll} of a repository is, with
+ * identity ids as {@link BaseModel} used to have and with the pooled sequences of {@link TableSequenceGenerator}.
+ * Identity ids are only known after each insert, so Hibernate cannot batch them.
+ * <p>
+ * Uses the same Hibernate batching settings as the application; the connection is read from the
+ * {@code bench.db.url}, {@code bench.db.username} and {@code bench.db.password} system properties and defaults
+ * to the local dev database, where two scratch tables are created and dropped. Run with
+ * {@code ./gradlew jmh -Pbench=IdGenerationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IdGenerationBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"identity", "pooled"})
+    public String ids;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.URL, System.getProperty("bench.db.url",
+                        "jdbc:postgresql://localhost:6000/iamis-dev") + "?reWriteBatchedInserts=true")
+                .applySetting(AvailableSettings.USER, System.getProperty("bench.db.username", "iamis"))
+                .applySetting(AvailableSettings.PASS, System.getProperty("bench.db.password", "p@ssw0rd"))
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClasses(IdentityRow.class, PooledRow.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public int insert() {
+        boolean identity = "identity".equals(ids);
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 0; i < rows; i++) {
+                session.persist(identity ? new IdentityRow("row " + i) : new PooledRow("row " + i));
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            transaction.commit();
+        }
+        return rows;
+    }
+
+    @Entity
+    @Table(name = "bench_identity_rows")
+    public static class IdentityRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        private UUID uuid = UUID.randomUUID();
+
+        private String name;
+
+        protected IdentityRow() {}
+
+        IdentityRow(String name) {
+            this.name = name;
+        }
+    }
+
+    @Entity
+    @Table(name = "bench_pooled_rows")
+    public static class PooledRow {
+
+        @Id
+        @TableSequence
+        private Long id;
+
+        private UUID uuid = UUID.randomUUID();
+
+        private String name;
+
+        protected PooledRow() {}
+
+        PooledRow(String name) {
+            this.name = name;
+        }
+    }
+}
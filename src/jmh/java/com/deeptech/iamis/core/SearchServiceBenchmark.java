@@ -0,0 +1,111 @@
+package com.deeptech.iamis.core;
+
+import com.deeptech.iamis.OfflineSessionFactory;
+import com.deeptech.iamis.modules.organisation_unit.OrganisationUnit;
+import com.deeptech.iamis.modules.organisation_unit.OrganisationUnitScope;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building list-query predicates through the metamodel-compiled {@link SearchFilterRegistry}
+ * with the reflective lookup {@link SearchService} used before.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pbench=SearchServiceBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class SearchServiceBenchmark {
+
+    private SessionFactory sessionFactory;
+
+    private CriteriaBuilder builder;
+
+    private CriteriaQuery<OrganisationUnit> query;
+
+    private Root<OrganisationUnit> root;
+
+    private SearchService<OrganisationUnit> searchService;
+
+    private final ReflectiveSearchService<OrganisationUnit> reflectiveSearchService = new ReflectiveSearchService<>();
+
+    private final Map<String, Object> search = Map.of(
+            "name", "Dodoma",
+            "levelId", "2",
+            "page", "0",
+            "size", "20");
+
+    @Setup
+    public void setUp() {
+        sessionFactory = OfflineSessionFactory.build();
+        builder = sessionFactory.getCriteriaBuilder();
+        query = builder.createQuery(OrganisationUnit.class);
+        root = query.from(OrganisationUnit.class);
+        searchService = new SearchService<>();
+        searchService.setSearchFilterRegistry(new SearchFilterRegistry(sessionFactory));
+        // Without an authenticated user the scope is empty, so only the search criteria are measured.
+        searchService.setOrganisationUnitScope(new OrganisationUnitScope(sessionFactory, null));
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate compiledRegistry() {
+        return searchService.createSpecification(OrganisationUnit.class, search).toPredicate(root, query, builder);
+    }
+
+    @Benchmark
+    public Predicate reflective() {
+        return reflectiveSearchService.createSpecification(OrganisationUnit.class, search).toPredicate(root, query, builder);
+    }
+
+    /**
+     * The reflective specification builder {@link SearchService} used before the registry, kept as the baseline.
+     */
+    static class ReflectiveSearchService<T> {
+
+        Specification<T> createSpecification(Class<T> entity, Map<String, Object> search) {
+            Specification<T> specification = Specification.where(null);
+            List<String> allowedProps = Arrays.stream(entity.getDeclaredFields()).map(Field::getName).toList();
+            for (String key : search.keySet()) {
+                if (allowedProps.contains(key) && !search.get(key).toString().isEmpty()) {
+                    try {
+                        Field field = entity.getDeclaredField(key);
+                        specification = specification.and((root, query, builder) -> {
+                            if (field.getType() == Long.class) {
+                                return builder.equal(root.get(key), Long.valueOf(search.get(key).toString()));
+                            } else if (field.getType() == Boolean.class) {
+                                return builder.equal(root.get(key), search.get(key).toString().equalsIgnoreCase("true"));
+                            }
+                            if (field.getType().isEnum()) {
+                                return builder.equal(root.get(key), search.get(key));
+                            } else {
+                                return builder.like(
+                                        builder.lower(root.get(key)),
+                                        "%" + search.get(key).toString().toLowerCase() + "%");
+                            }
+                        });
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+            return Specification.<T>where(null).and(specification);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.deeptech.iamis.core;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the substring search {@link SearchFilter} emits for text fields against a table of a few million
+ * rows, with and without the pg_trgm index the migrations add.
+ * <p>
+ * Needs a PostgreSQL database with the pg_trgm extension available; the connection is read from the
+ * {@code bench.db.url}, {@code bench.db.username} and {@code bench.db.password} system properties and defaults
+ * to the local dev database. Run with {@code ./gradlew jmh -Pbench=TrigramSearchBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TrigramSearchBenchmark {
+
+    private static final String TABLE = "bench_trigram_search";
+
+    // Same shape as the predicate Hibernate renders for a text SearchFilter.
+    private static final String QUERY =
+            "select id, name from " + TABLE + " where lower(name) like ? escape '\\' order by id limit 20";
+
+    @Param({"3000000"})
+    public int rows;
+
+    @Param({"none", "trgm"})
+    public String index;
+
+    @Param({"%revenue 4217%", "%ministry%"})
+    public String pattern;
+
+    private Connection connection;
+
+    private PreparedStatement statement;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.db.url", "jdbc:postgresql://localhost:6000/iamis-dev"),
+                System.getProperty("bench.db.username", "iamis"),
+                System.getProperty("bench.db.password", "p@ssw0rd"));
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("create extension if not exists pg_trgm");
+            ddl.execute("create table if not exists " + TABLE + " (id bigint primary key, name varchar(300) not null)");
+            try (ResultSet count = ddl.executeQuery("select count(*) from " + TABLE)) {
+                count.next();
+                if (count.getLong(1) != rows) {
+                    ddl.execute("truncate " + TABLE);
+                    ddl.execute("insert into " + TABLE + " select g, (array['Ministry of', 'Revenue', 'Grant', "
+                            + "'Council', 'Agency'])[1 + g % 5] || ' ' || md5(g::text) || ' ' || g "
+                            + "from generate_series(1, " + rows + ") g");
+                }
+            }
+            ddl.execute("drop index if exists " + TABLE + "_name_trgm");
+            if ("trgm".equals(index)) {
+                ddl.execute("create index " + TABLE + "_name_trgm on " + TABLE + " using gin (lower(name) gin_trgm_ops)");
+            }
+            ddl.execute("analyze " + TABLE);
+        }
+        statement = connection.prepareStatement(QUERY);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        statement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public int search() throws SQLException {
+        statement.setString(1, pattern);
+        int found = 0;
+        try (ResultSet result = statement.executeQuery()) {
+            while (result.next()) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
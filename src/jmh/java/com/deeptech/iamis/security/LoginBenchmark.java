@@ -0,0 +1,130 @@
+package com.deeptech.iamis.security;
+
+import com.deeptech.iamis.modules.authority.Authority;
+import com.deeptech.iamis.modules.menu_group.MenuGroup;
+import com.deeptech.iamis.modules.menu_item.MenuItem;
+import com.deeptech.iamis.modules.role.Role;
+import com.deeptech.iamis.modules.user.User;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of concurrent logins of the admin user, comparing the pipeline that loaded the user
+ * graph once in the user details service and again in the login endpoint with the single load of the user and
+ * roles into an {@link AuthenticatedUser}, whose permissions come from the {@link RolePermissionCache}. Each login
+ * checks a BCrypt hash of the given strength, as the real login does.
+ * <p>
+ * The connection is read from the {@code bench.db.url}, {@code bench.db.username} and {@code bench.db.password}
+ * system properties and defaults to the local dev database, where the user given by {@code bench.login.email}
+ * (the admin by default) must exist. Run with {@code ./gradlew jmh -Pbench=LoginBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class LoginBenchmark {
+
+    private static final String PASSWORD = "password";
+
+    private static final String USER_GRAPH = "select distinct u from User u "
+            + "left join fetch u.roles r left join fetch r.authorities where u.email = :email";
+
+    private static final String USER_ROLES = "select u from User u left join fetch u.roles where u.email = :email";
+
+    @Param({"twice", "once"})
+    public String load;
+
+    @Param({"10"})
+    public int strength;
+
+    private SessionFactory sessionFactory;
+
+    private BCryptPasswordEncoder passwordEncoder;
+
+    private String passwordHash;
+
+    private String email;
+
+    private RolePermissionCache rolePermissionCache;
+
+    @Setup
+    public void setUp() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.URL, System.getProperty("bench.db.url",
+                        "jdbc:postgresql://localhost:6000/iamis-dev"))
+                .applySetting(AvailableSettings.USER, System.getProperty("bench.db.username", "iamis"))
+                .applySetting(AvailableSettings.PASS, System.getProperty("bench.db.password", "p@ssw0rd"))
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "none")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClasses(Authority.class, Role.class, User.class, MenuGroup.class, MenuItem.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        email = System.getProperty("bench.login.email", "admin@iamis.co.tz");
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        passwordHash = passwordEncoder.encode(PASSWORD);
+
+        List<Object[]> grants;
+        try (Session session = sessionFactory.openSession()) {
+            grants = session.createQuery("select r.id, a.id, a.name from Role r join r.authorities a", Object[].class)
+                    .getResultList();
+        }
+        Map<Long, RolePermissionCache.RolePermissions> roles = RolePermissionCache.build(grants);
+        rolePermissionCache = new RolePermissionCache(null) {
+            @Override
+            public RolePermissions of(Long roleId) {
+                return roles.getOrDefault(roleId, RolePermissions.NONE);
+            }
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Object login() {
+        if ("twice".equals(load)) {
+            // The user details service: load, grant authorities, check the password.
+            User loaded = loadUser(USER_GRAPH);
+            Set<GrantedAuthority> granted = new HashSet<>();
+            loaded.getRoles().forEach(role -> role.getAuthorities()
+                    .forEach(authority -> granted.add(new SimpleGrantedAuthority(authority.getName()))));
+            passwordEncoder.matches(PASSWORD, passwordHash);
+            // The login endpoint: load again for the response's authorities and menus.
+            User user = loadUser(USER_GRAPH);
+            List<String> names = new ArrayList<>();
+            Set<Long> ids = new HashSet<>();
+            user.getRoles().forEach(role -> role.getAuthorities().forEach(authority -> {
+                names.add(authority.getName());
+                ids.add(authority.getId());
+            }));
+            return names.size() + ids.size() + granted.size();
+        }
+        AuthenticatedUser principal = AuthenticatedUser.of(loadUser(USER_ROLES), rolePermissionCache);
+        passwordEncoder.matches(PASSWORD, passwordHash);
+        return principal.getAuthorityNames().size() + (principal.getPermissions().isEmpty() ? 0 : 1);
+    }
+
+    private User loadUser(String query) {
+        try (Session session = sessionFactory.openSession()) {
+            return session.createQuery(query, User.class).setParameter("email", email).getSingleResult();
+        }
+    }
+}
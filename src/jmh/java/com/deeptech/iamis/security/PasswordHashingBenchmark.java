@@ -0,0 +1,39 @@
+package com.deeptech.iamis.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time of one BCrypt hash per strength on this host, to choose
+ * {@code security.password.bcrypt.strength} or check the automatic choice of {@link BoundedPasswordEncoder}.
+ * A login verifies one hash, so the result is also the CPU time a login takes on a hashing thread.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pbench=PasswordHashingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class PasswordHashingBenchmark {
+
+    @Param({"10", "11", "12", "13"})
+    public int strength;
+
+    private BCryptPasswordEncoder passwordEncoder;
+
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        hash = passwordEncoder.encode("password");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("password", hash);
+    }
+}
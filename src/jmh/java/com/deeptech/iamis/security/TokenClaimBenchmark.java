@@ -0,0 +1,93 @@
+package com.deeptech.iamis.security;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.deeptech.iamis.security.SecurityUtils.AUTHORITIES_KEY;
+import static com.deeptech.iamis.security.SecurityUtils.CATALOG_VERSION_KEY;
+import static com.deeptech.iamis.security.SecurityUtils.JWT_ALGORITHM;
+import static com.deeptech.iamis.security.SecurityUtils.PERMISSIONS_KEY;
+
+/**
+ * Compares verifying and converting a super administrator's token carrying authority names in the {@code auth}
+ * claim with one carrying the permissions bitmap. The size of the {@code Authorization} header of each is
+ * printed during setup.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pbench=TokenClaimBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenClaimBenchmark {
+
+    @Param({"300"})
+    private int authorities;
+
+    @Param({"names", "bitmap"})
+    private String claim;
+
+    private JwtDecoder jwtDecoder;
+
+    private PermissionsJwtConverter converter;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // Names shaped like the generated ones, e.g. ORGANISATIONUNIT_DELETEALLBYUUIDS.
+        String[] actions = {"CREATE", "UPDATE", "GETBYUUID", "DELETE", "PAGINATE", "SAVEALL", "DELETEALLBYUUIDS"};
+        List<String> names = new ArrayList<>();
+        Map<String, Integer> authorityIds = new HashMap<>();
+        for (int i = 1; i <= authorities; i++) {
+            String name = "MODULE" + (i / actions.length) + "RESOURCEENTITY_" + actions[i % actions.length];
+            names.add(name);
+            authorityIds.put(name, i);
+        }
+        AuthorityCatalog catalog = new AuthorityCatalog(null, null);
+        catalog.refresh(authorityIds, Map.of());
+        converter = new PermissionsJwtConverter(catalog, null, null);
+
+        byte[] key = new byte[64];
+        new SecureRandom().nextBytes(key);
+        SecretKey secretKey = new SecretKeySpec(key, JWT_ALGORITHM.getName());
+        jwtDecoder = NimbusJwtDecoder.withSecretKey(secretKey).macAlgorithm(JWT_ALGORITHM).build();
+
+        Instant now = Instant.now();
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(3600))
+                .subject("admin@iamis.co.tz");
+        if ("names".equals(claim)) {
+            claims.claim(AUTHORITIES_KEY, String.join(" ", names));
+        } else {
+            claims.claim(PERMISSIONS_KEY, PermissionsClaim.encode(catalog.permissionsOf(names)))
+                    .claim(CATALOG_VERSION_KEY, catalog.version());
+        }
+        token = new NimbusJwtEncoder(new ImmutableSecret<>(secretKey))
+                .encode(JwtEncoderParameters.from(JwsHeader.with(JWT_ALGORITHM).build(), claims.build()))
+                .getTokenValue();
+        System.out.printf("%n%s claim, %d authorities: Authorization header of %d bytes%n",
+                claim, authorities, "Authorization: Bearer ".length() + token.length());
+    }
+
+    @Benchmark
+    public Object decode() {
+        return converter.convert(jwtDecoder.decode(token));
+    }
+}
@@ -1,18 +1,21 @@
 package com.deeptech.iamis.authentication;
 
 import com.deeptech.iamis.core.CustomApiResponse;
-import com.deeptech.iamis.modules.menu_group.MenuGroup;
-import com.deeptech.iamis.modules.menu_group.MenuGroupDto;
-import com.deeptech.iamis.modules.menu_group.MenuGroupRepository;
-import com.deeptech.iamis.modules.menu_item.MenuItem;
-import com.deeptech.iamis.modules.menu_item.MenuItemRepository;
-import com.deeptech.iamis.modules.menu_item.MenuItemService;
-import com.deeptech.iamis.modules.role.Role;
+import com.deeptech.iamis.core.NoAuthorization;
+import com.deeptech.iamis.modules.menu_item.MenuIndex;
 import com.deeptech.iamis.modules.role.RoleRepository;
 import com.deeptech.iamis.modules.user.User;
 import com.deeptech.iamis.modules.user.UserMapper;
 import com.deeptech.iamis.modules.user.UserRepository;
+import com.deeptech.iamis.security.AuthenticatedUser;
+import com.deeptech.iamis.security.AuthorityCatalog;
+import com.deeptech.iamis.security.LoginThrottle;
+import com.deeptech.iamis.security.Permissions;
+import com.deeptech.iamis.security.PermissionsClaim;
+import com.deeptech.iamis.security.RolePermissionCache;
+import com.deeptech.iamis.security.TokenRevocations;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,23 +29,29 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
-import static com.deeptech.iamis.security.SecurityUtils.AUTHORITIES_KEY;
+import static com.deeptech.iamis.security.SecurityUtils.CATALOG_VERSION_KEY;
 import static com.deeptech.iamis.security.SecurityUtils.JWT_ALGORITHM;
+import static com.deeptech.iamis.security.SecurityUtils.ORGANISATION_UNIT_KEY;
+import static com.deeptech.iamis.security.SecurityUtils.PERMISSIONS_KEY;
+import static com.deeptech.iamis.security.SecurityUtils.PERMISSION_VERSION_KEY;
+import static com.deeptech.iamis.security.SecurityUtils.REFRESH_TOKEN_USE;
+import static com.deeptech.iamis.security.SecurityUtils.TOKEN_USE_KEY;
 
 /**
  * Controller to authenticate users.
@@ -55,24 +64,37 @@ public class AuthenticateController {
 
     private final JwtEncoder jwtEncoder;
 
-    private final UserRepository userRepository;
+    private final JwtDecoder jwtDecoder;
+
+    private final TokenRevocations tokenRevocations;
 
-    private final MenuItemService menuItemService;
+    private final UserRepository userRepository;
 
-    private final MenuItemRepository menuItemRepository;
+    private final MenuIndex menuIndex;
 
     private final UserMapper userMapper;
 
+    private final AuthorityCatalog authorityCatalog;
+
+    private final LoginThrottle loginThrottle;
+
+    private final RolePermissionCache rolePermissionCache;
+
     @Value("${security.authentication.jwt.token-validity-in-seconds:0}")
     private long tokenValidityInSeconds;
 
     @Value("${security.authentication.jwt.token-validity-in-seconds-for-remember-me:0}")
     private long tokenValidityInSecondsForRememberMe;
 
+    @Value("${security.authentication.jwt.refresh-token-validity-in-seconds:28800}")
+    private long refreshTokenValidityInSeconds;
+
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
 
+    @NoAuthorization
     @PostMapping("/authenticate")
-    public CustomApiResponse authorize(@Valid @RequestBody LoginVM loginVM) {
+    public CustomApiResponse authorize(@Valid @RequestBody LoginVM loginVM, HttpServletRequest request) {
+        loginThrottle.checkAttempt(loginVM.getUsername(), request.getRemoteAddr());
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                 loginVM.getUsername(),
                 loginVM.getPassword()
@@ -80,57 +102,155 @@ public class AuthenticateController {
 
         Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = this.createToken(authentication, loginVM.isRememberMe());
-        HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.setBearerAuth(jwt);
 
-        User user = userRepository.findUserByEmail(authentication.getName())
-                .orElseThrow(() -> new UsernameNotFoundException(authentication.getName()));
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        User user = principal.getUser();
+        String jwt = this.createToken(user.getEmail(), principal.getPermissions(), user.getPermissionVersion(),
+                user.getOrganisationUnitId());
+        Instant refreshValidity = Instant.now().plus(loginVM.isRememberMe()
+                ? this.tokenValidityInSecondsForRememberMe
+                : this.refreshTokenValidityInSeconds, ChronoUnit.SECONDS);
 
         Map<String, Object> body = new HashMap<>();
         body.put("token", jwt);
+        body.put("refreshToken", createRefreshToken(user.getEmail(), user.getPermissionVersion(), refreshValidity));
         body.put("user", userMapper.toDto(user));
-        body.put("authorities", getAuthorities(user));
-        body.put("menus", getMenus(user));
+        body.put("authorities", principal.getAuthorityNames());
+        body.put("menus", menuIndex.menusFor(principal.getPermissions()));
 
         return CustomApiResponse.ok(body);
     }
 
+    /**
+     * {@code POST /authenticate/refresh} : exchange a refresh token for a new access token and a new refresh
+     * token expiring with the old one. The old refresh token is revoked, so it can be used only once, and it is
+     * rejected once the user's permission version has moved on, e.g. after a password change.
+     *
+     * @param refreshTokenVM the refresh token.
+     * @return the new tokens.
+     */
+    @NoAuthorization
+    @PostMapping("/authenticate/refresh")
+    public CustomApiResponse refresh(@Valid @RequestBody RefreshTokenVM refreshTokenVM) {
+        Jwt refreshToken = decodeRefreshToken(refreshTokenVM.getRefreshToken());
+        User user = userRepository.findWithRolesByEmail(refreshToken.getSubject())
+                .filter(u -> Boolean.TRUE.equals(u.getIsActive()))
+                .orElseThrow(() -> new InvalidBearerTokenException("User is not active"));
+        if (!(refreshToken.getClaims().get(PERMISSION_VERSION_KEY) instanceof Number version)
+                || version.intValue() != user.getPermissionVersion()) {
+            throw new InvalidBearerTokenException("Permissions changed since the refresh token was issued");
+        }
+        if (!tokenRevocations.revoke(UUID.fromString(refreshToken.getId()), refreshToken.getExpiresAt())) {
+            throw new InvalidBearerTokenException("Refresh token has already been used");
+        }
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("token", createToken(user.getEmail(), rolePermissionCache.of(user.getRoles()).permissions(),
+                user.getPermissionVersion(), user.getOrganisationUnitId()));
+        body.put("refreshToken", createRefreshToken(user.getEmail(), user.getPermissionVersion(),
+                refreshToken.getExpiresAt()));
+        return CustomApiResponse.ok(body);
+    }
+
+    /**
+     * {@code POST /authenticate/logout} : revoke the current access token and, if given, the refresh token.
+     *
+     * @param refreshTokenVM the refresh token, optional.
+     * @return the response.
+     */
+    @NoAuthorization
+    @PostMapping("/authenticate/logout")
+    public CustomApiResponse logout(@RequestBody(required = false) RefreshTokenVM refreshTokenVM) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt accessToken
+                && accessToken.getId() != null) {
+            tokenRevocations.revoke(UUID.fromString(accessToken.getId()), accessToken.getExpiresAt());
+        }
+        if (refreshTokenVM != null && refreshTokenVM.getRefreshToken() != null) {
+            Jwt refreshToken = decodeRefreshToken(refreshTokenVM.getRefreshToken());
+            if (authentication != null && refreshToken.getSubject().equals(authentication.getName())) {
+                tokenRevocations.revoke(UUID.fromString(refreshToken.getId()), refreshToken.getExpiresAt());
+            }
+        }
+        return CustomApiResponse.ok("Logged out");
+    }
+
     /**
      * {@code GET /authenticate} : check if the user is authenticated, and return its login.
      *
      * @param principal the authentication principal.
      * @return the login if the user is authenticated.
      */
+    @NoAuthorization
     @GetMapping(value = "/authenticate", produces = MediaType.TEXT_PLAIN_VALUE)
     public String isAuthenticated(Principal principal) {
         log.debug("REST request to check if the current user is authenticated");
         return principal == null ? null : principal.getName();
     }
 
-    public String createToken(Authentication authentication, boolean rememberMe) {
-        String authorities = authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.joining(" "));
-
+    /**
+     * Issues a short-lived access token granting the permissions as a bitmap of authority ids, see
+     * {@link PermissionsClaim}, and stamped with the user's permission version and, for a scoped user, their
+     * organisation unit.
+     */
+    public String createToken(String subject, Permissions permissions, int permissionVersion,
+                              Long organisationUnitId) {
         Instant now = Instant.now();
-        Instant validity;
-        if (rememberMe) {
-            validity = now.plus(this.tokenValidityInSecondsForRememberMe, ChronoUnit.SECONDS);
-        } else {
-            validity = now.plus(this.tokenValidityInSeconds, ChronoUnit.SECONDS);
-        }
 
         // @formatter:off
         JwtClaimsSet claims = JwtClaimsSet.builder()
+            .id(UUID.randomUUID().toString())
             .issuedAt(now)
+            .expiresAt(now.plus(this.tokenValidityInSeconds, ChronoUnit.SECONDS))
+            .subject(subject)
+            .claim(PERMISSIONS_KEY, PermissionsClaim.encode(permissions))
+            .claim(CATALOG_VERSION_KEY, authorityCatalog.version())
+            .claim(PERMISSION_VERSION_KEY, permissionVersion)
+            .claims(all -> {
+                if (organisationUnitId != null) {
+                    all.put(ORGANISATION_UNIT_KEY, organisationUnitId);
+                }
+            })
+            .build();
+        // @formatter:on
+
+        return encode(claims);
+    }
+
+    private String createRefreshToken(String subject, int permissionVersion, Instant validity) {
+        // @formatter:off
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+            .id(UUID.randomUUID().toString())
+            .issuedAt(Instant.now())
             .expiresAt(validity)
-            .subject(authentication.getName())
-            .claim(AUTHORITIES_KEY, authorities)
+            .subject(subject)
+            .claim(TOKEN_USE_KEY, REFRESH_TOKEN_USE)
+            .claim(PERMISSION_VERSION_KEY, permissionVersion)
             .build();
+        // @formatter:on
 
+        return encode(claims);
+    }
+
+    private String encode(JwtClaimsSet claims) {
         JwsHeader jwsHeader = JwsHeader.with(JWT_ALGORITHM).build();
         return this.jwtEncoder.encode(JwtEncoderParameters.from(jwsHeader, claims)).getTokenValue();
     }
 
+    private Jwt decodeRefreshToken(String token) {
+        Jwt jwt;
+        try {
+            jwt = jwtDecoder.decode(token);
+        } catch (JwtException e) {
+            throw new InvalidBearerTokenException("Invalid refresh token", e);
+        }
+        if (!REFRESH_TOKEN_USE.equals(jwt.getClaimAsString(TOKEN_USE_KEY)) || jwt.getId() == null
+                || tokenRevocations.isRevoked(UUID.fromString(jwt.getId()))) {
+            throw new InvalidBearerTokenException("Invalid refresh token");
+        }
+        return jwt;
+    }
+
     /**
      * Object to return as body in JWT Authentication.
      */
@@ -151,85 +271,4 @@ public class AuthenticateController {
             this.idToken = idToken;
         }
     }
-
-    public List<String> getAuthorities(User user) {
-        List<String> authorities = new ArrayList<>();
-        for (Role role : user.getRoles()) {
-            role.getAuthorities()
-                    .forEach(authority ->
-                            authorities.add(authority.getName()));
-        }
-        return authorities;
-    }
-
-    private List<MenuGroupDto> getMenus(User user) {
-        List<Long> authIds = new ArrayList<>();
-        authIds.add(0L);
-        user.getRoles()
-                .forEach(
-                        r ->
-                                r.getAuthorities()
-                                        .forEach(
-                                                a -> {
-                                                    authIds.add(a.getId());
-                                                }));
-        log.info("Auth ids {} ", authIds);
-        log.info("Find menu items with groups by auth ids {} ", authIds);
-        Set<MenuItem> menuItems = menuItemRepository.findByAuthorities(authIds);
-        log.info(
-                "menu items founds {} ",
-                menuItems.stream().map(MenuItem::getName).collect(Collectors.toSet()));
-        log.info("Find menu items with no groups by auth ids {} ", authIds);
-        Set<MenuItem> menuItems2 = menuItemRepository.findWithNoGroupByAuthorities(authIds);
-        log.info(
-                "menu items with no group founds {} ",
-                menuItems2.stream().map(MenuItem::getName).collect(Collectors.toSet()));
-        Map<String, List<Long>> groupItemIds = getMenuGroup(menuItems);
-        log.info("group and iterm ids {} ", groupItemIds);
-
-        List<MenuGroupDto> itemAsGroup =
-                menuItems2.stream()
-                        .map(
-                                i ->
-                                        new MenuGroupDto(
-                                                i.getId(),
-                                                i.getUuid(),
-                                                i.getName(),
-                                                i.getName(),
-                                                i.getState(),
-                                                i.getIcon(),
-                                                i.getSortOrder()))
-                        .collect(Collectors.toList());
-        log.info("get items and group filtered by corresponding ids");
-        itemAsGroup.addAll(menuItemService.getWithItems(groupItemIds));
-        log.info("Sorting groups");
-
-        itemAsGroup.sort(Comparator.comparingInt(o -> (o.getSortOrder() != null ? o.getSortOrder() : 0)));
-
-        return itemAsGroup;
-    }
-
-    public Map<String, List<Long>> getMenuGroup(Set<MenuItem> menuItems) {
-
-        Map<String, List<Long>> groupItemIds = new HashMap<>();
-        List<Long> menuGroupIds = new ArrayList<>();
-        List<Long> menuItemsIds = new ArrayList<>();
-        menuGroupIds.add(0L);
-        menuItemsIds.add(0L);
-
-        menuItems.forEach(
-                m -> {
-                    menuItemsIds.add(m.getId());
-                    if (m.getMenuGroup() != null) {
-                        getGroup(m.getMenuGroup(), menuGroupIds);
-                    }
-                });
-        groupItemIds.put("groupIds", menuGroupIds);
-        groupItemIds.put("itemIds", menuItemsIds);
-        return groupItemIds;
-    }
-
-    private void getGroup(MenuGroup group, List<Long> collect) {
-        collect.add(group.getId());
-    }
 }
@@ -0,0 +1,15 @@
+package com.deeptech.iamis.authentication;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+/**
+ * View Model object for storing a refresh token.
+ */
+@Data
+public class RefreshTokenVM {
+
+    @NotBlank
+    private String refreshToken;
+
+}
@@ -0,0 +1,77 @@
+package com.deeptech.iamis.config;
+
+import com.deeptech.iamis.IamisApplication;
+import com.deeptech.iamis.core.BatchItem;
+import com.deeptech.iamis.core.CursorPage;
+import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.CustomErrorResponse;
+import com.deeptech.iamis.core.EstimatedSlice;
+import com.deeptech.iamis.core.ImportResult;
+import com.deeptech.iamis.core.TableSequenceGenerator;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.regex.Pattern;
+
+/**
+ * Runtime hints for the native image build ({@code ./gradlew nativeCompile}).
+ * <p>
+ * Spring AOT covers the beans, including the MapStruct mappers, the JPA entities and the controller signatures,
+ * but not what the application reaches reflectively on its own:
+ * <ul>
+ *     <li>the DTOs and view models, which {@code DtoProjection} and {@code BulkImporter} introspect and
+ *     instantiate and Jackson binds from the untyped {@code data} of {@link CustomApiResponse};</li>
+ *     <li>the enums, which projections and search filters convert from strings;</li>
+ *     <li>{@link TableSequenceGenerator}, which Hibernate instantiates by class for {@code @TableSequence} ids.</li>
+ * </ul>
+ * Search filters are compiled from the JPA metamodel, see {@code SearchFilterRegistry}, so entities need no
+ * field hints beyond those Spring AOT registers.
+ */
+@Configuration
+@ImportRuntimeHints(NativeConfiguration.ApplicationRuntimeHints.class)
+@RegisterReflectionForBinding({CustomApiResponse.class, CustomErrorResponse.class, CursorPage.class,
+        BatchItem.class, EstimatedSlice.class, ImportResult.class})
+public class NativeConfiguration {
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final Pattern BINDING_TYPES = Pattern.compile(".*(Dto|VM)$");
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            String basePackage = IamisApplication.class.getPackageName();
+
+            ClassPathScanningCandidateComponentProvider bindingTypes =
+                    new ClassPathScanningCandidateComponentProvider(false);
+            bindingTypes.addIncludeFilter(new RegexPatternTypeFilter(BINDING_TYPES));
+            for (BeanDefinition candidate : bindingTypes.findCandidateComponents(basePackage)) {
+                Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+                bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+                hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            ClassPathScanningCandidateComponentProvider enums = new ClassPathScanningCandidateComponentProvider(false);
+            enums.addIncludeFilter((reader, factory) ->
+                    Enum.class.getName().equals(reader.getClassMetadata().getSuperClassName()));
+            for (BeanDefinition candidate : enums.findCandidateComponents(basePackage)) {
+                hints.reflection().registerType(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader),
+                        MemberCategory.PUBLIC_FIELDS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            hints.reflection().registerType(TableSequenceGenerator.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -1,13 +1,15 @@
 package com.deeptech.iamis.config;
 
+import com.deeptech.iamis.security.BoundedPasswordEncoder;
+import com.deeptech.iamis.security.PermissionsJwtConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenAuthenticationEntryPoint;
 import org.springframework.security.oauth2.server.resource.web.access.BearerTokenAccessDeniedHandler;
@@ -15,6 +17,8 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.servlet.util.matcher.MvcRequestMatcher;
 import org.springframework.web.servlet.handler.HandlerMappingIntrospector;
 
+import java.time.Duration;
+
 import static org.springframework.security.config.Customizer.withDefaults;
 
 @Slf4j
@@ -22,9 +26,27 @@ import static org.springframework.security.config.Customizer.withDefaults;
 @RequiredArgsConstructor
 public class SecurityConfiguration {
 
+    private final PermissionsJwtConverter permissionsJwtConverter;
+
+    @Value("${security.password.bcrypt.strength:0}")
+    private int bcryptStrength;
+
+    @Value("${security.password.bcrypt.target:PT0.25S}")
+    private Duration bcryptTarget;
+
+    @Value("${security.password.hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${security.password.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    @Value("${security.password.hashing.timeout:PT5S}")
+    private Duration hashingTimeout;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int threads = hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(bcryptStrength, bcryptTarget, threads, hashingQueueCapacity, hashingTimeout);
     }
 
     @Bean
@@ -38,6 +60,7 @@ public class SecurityConfiguration {
                                 .requestMatchers(mvc.pattern("/swagger-ui/**")).permitAll()
                                 .requestMatchers(mvc.pattern(HttpMethod.POST, "/api/authenticate")).permitAll()
                                 .requestMatchers(mvc.pattern(HttpMethod.GET, "/api/authenticate")).permitAll()
+                                .requestMatchers(mvc.pattern(HttpMethod.POST, "/api/authenticate/refresh")).permitAll()
                                 .requestMatchers(mvc.pattern("/api/register")).permitAll()
                                 .requestMatchers(mvc.pattern("/api/activate")).permitAll()
                                 .requestMatchers(mvc.pattern("/api/account/reset-password/init")).permitAll()
@@ -57,7 +80,7 @@ public class SecurityConfiguration {
                                 .authenticationEntryPoint(new BearerTokenAuthenticationEntryPoint())
                                 .accessDeniedHandler(new BearerTokenAccessDeniedHandler())
                 )
-                .oauth2ResourceServer(oauth2 -> oauth2.jwt(withDefaults()));
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.jwtAuthenticationConverter(permissionsJwtConverter)));
         return http.build();
     }
 
@@ -1,6 +1,7 @@
 package com.deeptech.iamis.config;
 
 import com.deeptech.iamis.security.SecurityMetersService;
+import com.deeptech.iamis.security.VerifiedTokenCache;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import com.nimbusds.jose.util.Base64;
 import org.slf4j.Logger;
@@ -8,6 +9,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
@@ -15,6 +17,7 @@ import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import java.time.Clock;
 
 import static com.deeptech.iamis.security.SecurityUtils.JWT_ALGORITHM;
 
@@ -26,12 +29,29 @@ public class SecurityJwtConfiguration {
     @Value("${security.authentication.jwt.base64-secret}")
     private String jwtKey;
 
+    @Value("${security.authentication.jwt.cache-max-entries:10000}")
+    private int cacheMaxEntries;
+
     @Bean
     public JwtDecoder jwtDecoder(SecurityMetersService metersService) {
         NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withSecretKey(getSecretKey()).macAlgorithm(JWT_ALGORITHM).build();
+        VerifiedTokenCache cache = new VerifiedTokenCache(cacheMaxEntries, Clock.systemUTC());
         return token -> {
+            VerifiedTokenCache.Key key = cacheMaxEntries > 0 ? cache.keyOf(token) : null;
+            if (key != null) {
+                Jwt cached = cache.get(key);
+                if (cached != null) {
+                    metersService.trackTokenCacheHit();
+                    return cached;
+                }
+                metersService.trackTokenCacheMiss();
+            }
             try {
-                return jwtDecoder.decode(token);
+                Jwt jwt = jwtDecoder.decode(token);
+                if (key != null) {
+                    cache.put(key, jwt);
+                }
+                return jwt;
             } catch (Exception e) {
                 if (e.getMessage().contains("Invalid signature")) {
                     metersService.trackTokenInvalidSignature();
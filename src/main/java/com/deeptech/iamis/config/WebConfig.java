@@ -1,15 +1,20 @@
 package com.deeptech.iamis.config;
 
+import com.deeptech.iamis.security.CustomAuthorizationInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final CustomAuthorizationInterceptor customAuthorizationInterceptor;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-//        registry.addInterceptor(new CustomAuthorizationInterceptor());
+        registry.addInterceptor(customAuthorizationInterceptor).addPathPatterns("/api/**");
         WebMvcConfigurer.super.addInterceptors(registry);
     }
 }
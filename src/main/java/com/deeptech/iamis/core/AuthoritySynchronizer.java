@@ -0,0 +1,168 @@
+package com.deeptech.iamis.core;
+
+import com.deeptech.iamis.modules.authority.Authority;
+import com.deeptech.iamis.modules.authority.AuthorityRepository;
+import com.deeptech.iamis.modules.role.RoleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+import static com.deeptech.iamis.core.Utils.splitCamelCase;
+import static com.deeptech.iamis.security.AuthorityCatalog.authorityName;
+import static com.deeptech.iamis.security.AuthorityCatalog.requiresAuthority;
+import static com.deeptech.iamis.security.AuthorityCatalog.resourceName;
+
+/**
+ * Brings the authorities table in line with the API handler methods at startup.
+ * <p>
+ * The existing authorities are read in one query and diffed in memory against the authorities the handler
+ * methods require: new ones are inserted with a single {@code saveAll}, which Hibernate sends as JDBC batches,
+ * and granted to the {@value #SUPER_ADMINISTRATOR} role if it exists, and authorities whose HTTP methods changed
+ * are updated at flush. Authorities no handler requires any more are only logged, since a renamed handler would
+ * otherwise silently drop its grants; deleting them, along with their role and menu item grants, is left to the
+ * operator, who can set {@code initializer.authorities.remove-stale} for one startup.
+ * <p>
+ * The duration and the outcome of the last run are published as the {@code startup.authorities.sync} timer and
+ * the {@code startup.authorities} gauges.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthoritySynchronizer {
+
+    public static final String SUPER_ADMINISTRATOR = "SUPER_ADMINISTRATOR";
+
+    public static final String SYNC_METER_NAME = "startup.authorities.sync";
+    public static final String AUTHORITIES_METER_NAME = "startup.authorities";
+    public static final String AUTHORITIES_METER_CHANGE_DIMENSION = "change";
+
+    private final RequestMappingInfoHandlerMapping requestMappingHandlerMapping;
+
+    private final AuthorityRepository authorityRepository;
+
+    private final RoleRepository roleRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${initializer.authorities.remove-stale:false}")
+    private boolean removeStale;
+
+    /**
+     * Synchronizes the authorities; must run in a transaction.
+     *
+     * @return the authorities after synchronization by name, e.g. {@code ROLE_CREATE}.
+     */
+    public Map<String, Authority> synchronize() {
+        long start = System.nanoTime();
+
+        Map<String, Authority> existing = new HashMap<>();
+        for (Authority authority : authorityRepository.findAll()) {
+            existing.putIfAbsent(authorityName(authority.getResource(), authority.getAction()), authority);
+        }
+
+        Map<String, Authority> required = new LinkedHashMap<>();
+        requestMappingHandlerMapping.getHandlerMethods().forEach((info, handlerMethod) -> {
+            if (requiresAuthority(info, handlerMethod)) {
+                Authority authority = toAuthority(info, handlerMethod);
+                required.putIfAbsent(authority.getName(), authority);
+            }
+        });
+
+        List<Authority> inserts = new ArrayList<>();
+        int updated = 0;
+        Map<String, Authority> authorities = new HashMap<>();
+        for (Map.Entry<String, Authority> entry : required.entrySet()) {
+            Authority current = existing.remove(entry.getKey());
+            if (current == null) {
+                inserts.add(entry.getValue());
+            } else {
+                if (!Objects.equals(current.getMethod(), entry.getValue().getMethod())) {
+                    current.setMethod(entry.getValue().getMethod());
+                    updated++;
+                }
+                authorities.put(entry.getKey(), current);
+            }
+        }
+        authorityRepository.saveAll(inserts).forEach(authority -> authorities.put(authority.getName(), authority));
+        if (!inserts.isEmpty()) {
+            roleRepository.findRoleByCode(SUPER_ADMINISTRATOR).ifPresent(role -> inserts.forEach(role::addAuthority));
+        }
+
+        int removed = 0;
+        if (removeStale && !existing.isEmpty()) {
+            List<Long> staleIds = existing.values().stream().map(Authority::getId).toList();
+            authorityRepository.deleteRoleGrantsByAuthorityIdIn(staleIds);
+            authorityRepository.deleteMenuItemGrantsByAuthorityIdIn(staleIds);
+            removed = authorityRepository.deleteAllByIdIn(staleIds);
+        } else {
+            existing.forEach(authorities::putIfAbsent);
+        }
+
+        Result result = new Result(inserts.size(), updated, removed, authorities.size() - inserts.size() - updated,
+                Duration.ofNanos(System.nanoTime() - start));
+        record(result);
+        if (!removeStale && !existing.isEmpty()) {
+            log.warn("{} authorities are not required by any handler method, set initializer.authorities.remove-stale "
+                    + "to delete them: {}", existing.size(), existing.keySet());
+        }
+        return authorities;
+    }
+
+    private static Authority toAuthority(RequestMappingInfo info, HandlerMethod handlerMethod) {
+        String resourceName = resourceName(handlerMethod);
+        String actionName = handlerMethod.getMethod().getName();
+        String actionDisplayName = splitCamelCase(actionName);
+
+        Authority authority = new Authority();
+        authority.setName(authorityName(resourceName, actionName));
+        authority.setAction(actionName);
+        authority.setResource(resourceName);
+        authority.setMethod(info.getMethodsCondition().getMethods().toString());
+        authority.setDescription(actionDisplayName.substring(0, 1).toUpperCase() + actionDisplayName.substring(1));
+        return authority;
+    }
+
+    private void record(Result result) {
+        Timer.builder(SYNC_METER_NAME)
+                .description("Time taken to synchronize the authorities with the handler methods at startup.")
+                .register(meterRegistry)
+                .record(result.elapsed());
+        gauge("inserted", result, Result::inserted);
+        gauge("updated", result, Result::updated);
+        gauge("removed", result, Result::removed);
+        gauge("unchanged", result, Result::unchanged);
+        log.info("Synchronized authorities in {} ms: {} inserted, {} updated, {} removed, {} unchanged",
+                result.elapsed().toMillis(), result.inserted(), result.updated(), result.removed(), result.unchanged());
+    }
+
+    private void gauge(String change, Result result, ToDoubleFunction<Result> value) {
+        Gauge.builder(AUTHORITIES_METER_NAME, result, value)
+                .description("Authorities changed by the last synchronization at startup.")
+                .baseUnit("authorities")
+                .tag(AUTHORITIES_METER_CHANGE_DIMENSION, change)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    /**
+     * The outcome of a synchronization.
+     */
+    public record Result(int inserted, int updated, int removed, int unchanged, Duration elapsed) {
+    }
+}
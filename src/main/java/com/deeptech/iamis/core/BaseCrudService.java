@@ -1,8 +1,12 @@
 package com.deeptech.iamis.core;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -10,9 +14,37 @@ public interface BaseCrudService <D, E>{
 
     D save(D dto);
 
-    Page<D> findAll(Pageable pageable, Map<String, Object> search);
+    Slice<D> findAll(Pageable pageable, Map<String, Object> search);
+
+    CursorPage<D> findAll(String cursor, Pageable pageable, Map<String, Object> search);
+
+    void export(ExportFormat format, Sort sort, Map<String, Object> search, OutputStream out) throws IOException;
 
     D findById(UUID uuid);
 
     void delete(UUID uuid);
+
+    /**
+     * Creates or updates each DTO, depending on the presence of its uuid, in one transaction.
+     *
+     * @param dtos the DTOs, at most {@link SearchService#BATCH_LIMIT}.
+     * @return the outcome of each DTO, in request order.
+     */
+    List<BatchItem<D>> saveAll(List<D> dtos);
+
+    /**
+     * Finds the rows with the given uuids in one query.
+     *
+     * @param uuids the uuids, at most {@link SearchService#BATCH_LIMIT}.
+     * @return the outcome of each uuid, in request order.
+     */
+    List<BatchItem<D>> findAllByUuids(List<UUID> uuids);
+
+    /**
+     * Deletes the rows with the given uuids in one transaction.
+     *
+     * @param uuids the uuids, at most {@link SearchService#BATCH_LIMIT}.
+     * @return the outcome of each uuid, in request order.
+     */
+    List<BatchItem<UUID>> deleteAllByUuids(List<UUID> uuids);
 }
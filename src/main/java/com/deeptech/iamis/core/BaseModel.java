@@ -22,7 +22,7 @@ import java.util.UUID;
 public abstract class BaseModel implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TableSequence
     private Long id;
 
     @Column(name = "uuid", nullable = false, updatable = false, unique = true)
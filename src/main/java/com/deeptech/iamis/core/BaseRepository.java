@@ -4,6 +4,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.repository.NoRepositoryBean;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,6 +14,8 @@ public interface BaseRepository<T, Long> extends JpaRepository<T, Long>, JpaSpec
 
    Optional<T> findByUuid(UUID uuid);
 
+   List<T> findAllByUuidIn(Collection<UUID> uuids);
+
    void deleteByUuid(UUID uuid);
 
    T getReferenceByUuid(UUID uuid);
@@ -0,0 +1,23 @@
+package com.deeptech.iamis.core;
+
+/**
+ * Outcome of one item of a batch request, see {@link BaseCrudService#saveAll(java.util.List)}.
+ *
+ * @param index the position of the item in the request.
+ * @param data  the saved or found DTO, or the uuid of a deleted row; null if the item failed.
+ * @param error why the item failed, null if it succeeded.
+ */
+public record BatchItem<R>(int index, R data, String error) {
+
+    public static <R> BatchItem<R> succeeded(int index, R data) {
+        return new BatchItem<>(index, data, null);
+    }
+
+    public static <R> BatchItem<R> failed(int index, String error) {
+        return new BatchItem<>(index, null, error);
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+}
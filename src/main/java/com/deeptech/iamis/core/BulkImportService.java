@@ -0,0 +1,12 @@
+package com.deeptech.iamis.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Bulk loading of reference data, implemented with {@link BulkImporter}.
+ */
+public interface BulkImportService {
+
+    ImportResult importAll(ExportFormat format, InputStream in) throws IOException;
+}
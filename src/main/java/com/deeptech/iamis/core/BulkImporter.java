@@ -0,0 +1,422 @@
+package com.deeptech.iamis.core;
+
+import com.deeptech.iamis.security.SecurityUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.stereotype.Component;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Loads an uploaded CSV or NDJSON file into an entity's table in one set-based pass.
+ * <p>
+ * Rows are read and validated one by one and streamed with PostgreSQL {@code COPY} into a temporary staging
+ * table, so the upload is never held in memory. The staging table is then merged into the target table with
+ * a handful of statements: rows with unknown foreign keys or duplicate uuids are rejected, rows whose uuid
+ * exists update that row and the others are inserted, skipping those that conflict with a unique constraint.
+ * Every rejected row is reported with its line number.
+ * <p>
+ * A foreign key to the entity's own table, e.g. the parent of an organisation unit, may also name another row of
+ * the file by the id given in that row's {@code id} column; a row of the file takes precedence over an existing
+ * row with the same id. New rows get their ids before the foreign keys are checked, so children are linked to
+ * the new ids of their parents, and a row whose parent in the file is rejected is rejected too. A parent skipped
+ * for a unique constraint conflict fails the import as a whole, since its children would have no parent.
+ */
+@Slf4j
+@Component
+public class BulkImporter {
+
+    private static final int COPY_BATCH_SIZE = 1000;
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String ID_PROPERTY = "id";
+
+    private static final String UUID_PROPERTY = "uuid";
+
+    private static final Set<String> AUDIT_PROPERTIES = Set.of(
+            ID_PROPERTY, UUID_PROPERTY, "createdAt", "createdBy", "updatedAt", "updatedBy", "deletedAt", "deletedBy");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    public BulkImporter(EntityManagerFactory entityManagerFactory, ObjectMapper objectMapper, Validator validator) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    /**
+     * Imports the uploaded rows into the table of the given entity.
+     *
+     * @param entity the entity class.
+     * @param dto    the DTO class rows are read and validated as.
+     * @param format the upload format.
+     * @param in     the upload.
+     * @return the number of inserted, updated and rejected rows, with the reasons of the rejections.
+     * @throws IOException         if reading the upload fails.
+     * @throws ValidationException if the merge fails as a whole, e.g. an update breaks a unique constraint.
+     */
+    @Transactional
+    public <D> ImportResult importAll(Class<?> entity, Class<D> dto, ExportFormat format, InputStream in)
+            throws IOException {
+        ImportTable<D> table = describe(entity, dto);
+        ImportReader<D> reader = ImportReader.of(format, dto, objectMapper, in);
+        String user = SecurityUtils.getCurrentUserLogin().orElse("system");
+        try {
+            return entityManager.unwrap(Session.class)
+                    .doReturningWork(connection -> load(connection, table, reader, user));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                log.warn("Import into {} failed", table.name(), sqlException);
+                throw new ValidationException("Import failed: " + sqlException.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    private <D> ImportResult load(Connection connection, ImportTable<D> table, ImportReader<D> reader, String user)
+            throws SQLException {
+        String stage = "import_stage_" + table.name();
+        String columns = table.columns().stream().map(ImportColumn::column).collect(Collectors.joining(", "));
+        List<ImportResult.ImportError> errors = new ArrayList<>();
+        long rejected = 0;
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create temp table " + stage + " on commit drop as select uuid, " + columns
+                    + " from " + table.name() + " with no data");
+            StringBuilder alter = new StringBuilder("alter table " + stage)
+                    .append(" add column line_no bigint, add column source_id bigint, add column target_id bigint,")
+                    .append(" add column existing boolean, add column error text, add column status text");
+            for (ImportForeignKey foreignKey : table.selfReferences()) {
+                alter.append(", add column ").append(foreignKey.lineColumn()).append(" bigint");
+            }
+            statement.execute(alter.toString());
+        }
+
+        CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("copy " + stage + " (line_no, source_id, uuid, " + columns + ") from stdin (format csv)");
+        try {
+            StringBuilder batch = new StringBuilder();
+            int batched = 0;
+            ImportReader.Row<D> row;
+            while ((row = reader.next()) != null) {
+                String error = row.error() != null ? row.error() : validate(row.dto());
+                if (error != null) {
+                    rejected++;
+                    addError(errors, row.line(), error);
+                    continue;
+                }
+                appendRow(batch, table, row);
+                if (++batched == COPY_BATCH_SIZE) {
+                    writeCopy(copy, batch);
+                    batched = 0;
+                }
+            }
+            writeCopy(copy, batch);
+            copy.endCopy();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("update " + stage + " s set error = 'Duplicate uuid ' || s.uuid || ' in file'"
+                    + " where exists (select 1 from " + stage + " d where d.uuid = s.uuid and d.line_no < s.line_no)");
+            statement.executeUpdate("update " + stage + " s set target_id = t.id, existing = true from "
+                    + table.name() + " t where t.uuid = s.uuid");
+            // Ids are taken from the table sequence in blocks, the way the pooled optimizer of
+            // TableSequenceGenerator does: each nextval is the upper bound of ALLOCATION_SIZE ids.
+            int blockSize = TableSequenceGenerator.ALLOCATION_SIZE;
+            statement.executeUpdate("with pending as (select line_no, row_number() over (order by line_no) - 1"
+                    + " as position from " + stage + " where error is null and existing is null),"
+                    + " blocks as (select block, nextval('" + TableSequenceGenerator.sequenceName(table.name())
+                    + "') as hi from generate_series(0, (select (count(*) - 1) / " + blockSize + " from pending))"
+                    + " block) update " + stage + " s set target_id = b.hi - " + (blockSize - 1) + " + p.position % "
+                    + blockSize + " from pending p join blocks b on b.block = p.position / " + blockSize
+                    + " where s.line_no = p.line_no");
+            checkForeignKeys(statement, stage, table);
+        }
+
+        String stagedColumns = table.columns().stream()
+                .map(column -> "s." + column.column())
+                .collect(Collectors.joining(", "));
+        // New rows go first, so existing rows can be moved under parents added by the same file.
+        long inserted;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "with added as (insert into " + table.name() + " (id, uuid, " + columns
+                        + ", created_at, created_by, updated_at, updated_by)"
+                        + " select s.target_id, s.uuid, " + stagedColumns + ", now(), ?, now(), ? from " + stage + " s"
+                        + " where s.error is null and s.existing is null order by s.line_no"
+                        + " on conflict do nothing returning uuid)"
+                        + " update " + stage + " s set status = 'inserted' from added a where s.uuid = a.uuid")) {
+            statement.setString(1, user);
+            statement.setString(2, user);
+            inserted = statement.executeUpdate();
+        }
+
+        String assignments = table.columns().stream()
+                .map(column -> column.column() + " = s." + column.column())
+                .collect(Collectors.joining(", "));
+        long updated;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "with changed as (update " + table.name() + " t set " + assignments
+                        + ", updated_at = now(), updated_by = ? from " + stage + " s"
+                        + " where t.id = s.target_id and s.existing and s.error is null returning s.line_no)"
+                        + " update " + stage + " s set status = 'updated' from changed c where s.line_no = c.line_no")) {
+            statement.setString(1, user);
+            updated = statement.executeUpdate();
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select line_no, coalesce(error, 'Conflicts with an existing row'), count(*) over ()"
+                        + " from " + stage + " where status is null order by line_no limit ?")) {
+            statement.setInt(1, MAX_REPORTED_ERRORS);
+            try (ResultSet result = statement.executeQuery()) {
+                boolean counted = false;
+                while (result.next()) {
+                    if (!counted) {
+                        rejected += result.getLong(3);
+                        counted = true;
+                    }
+                    addError(errors, result.getLong(1), result.getString(2));
+                }
+            }
+        }
+
+        errors.sort(Comparator.comparingLong(ImportResult.ImportError::line));
+        return new ImportResult(inserted, updated, rejected,
+                errors.size() > MAX_REPORTED_ERRORS ? List.copyOf(errors.subList(0, MAX_REPORTED_ERRORS)) : errors);
+    }
+
+    /**
+     * Rejects the staged rows whose foreign keys name no row. Keys to the entity's own table are first pointed at
+     * the new ids of the rows of the file they name; then rows naming a rejected row of the file are rejected,
+     * until no more are, since rejecting a parent also rejects its children.
+     */
+    static void checkForeignKeys(Statement statement, String stage, ImportTable<?> table) throws SQLException {
+        List<ImportForeignKey> selfReferences = table.selfReferences();
+        if (!selfReferences.isEmpty()) {
+            statement.executeUpdate("update " + stage + " s set error = 'Duplicate id ' || s.source_id || ' in file'"
+                    + " where s.error is null and exists (select 1 from " + stage + " d"
+                    + " where d.source_id = s.source_id and d.line_no < s.line_no)");
+        }
+        for (ImportForeignKey foreignKey : selfReferences) {
+            statement.executeUpdate("update " + stage + " s set " + foreignKey.lineColumn() + " = p.line_no, "
+                    + foreignKey.column() + " = p.target_id from " + stage + " p where p.source_id = s."
+                    + foreignKey.column() + " and not exists (select 1 from " + stage + " d"
+                    + " where d.source_id = p.source_id and d.line_no < p.line_no)");
+        }
+        for (ImportForeignKey foreignKey : selfReferences) {
+            statement.executeUpdate("update " + stage + " s set error = 'Row names itself as its "
+                    + foreignKey.property() + "' where s.error is null and s." + foreignKey.lineColumn()
+                    + " = s.line_no");
+        }
+        for (ImportForeignKey foreignKey : table.foreignKeys()) {
+            statement.executeUpdate("update " + stage + " s set error = 'Unknown " + foreignKey.property()
+                    + " ' || s." + foreignKey.column() + " where s.error is null and s." + foreignKey.column()
+                    + " is not null" + (selfReferences.contains(foreignKey)
+                            ? " and s." + foreignKey.lineColumn() + " is null" : "")
+                    + " and not exists (select 1 from " + foreignKey.targetTable() + " t where t."
+                    + foreignKey.targetColumn() + " = s." + foreignKey.column() + ")");
+        }
+        for (ImportForeignKey foreignKey : selfReferences) {
+            int rejected;
+            do {
+                rejected = statement.executeUpdate("update " + stage + " s set error = 'Rejected "
+                        + foreignKey.property() + " on line ' || s." + foreignKey.lineColumn()
+                        + " where s.error is null and exists (select 1 from " + stage + " p"
+                        + " where p.line_no = s." + foreignKey.lineColumn() + " and p.error is not null)");
+            } while (rejected > 0);
+        }
+    }
+
+    private <D> String validate(D dto) {
+        Set<ConstraintViolation<D>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static void addError(List<ImportResult.ImportError> errors, long line, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS * 2) {
+            errors.add(new ImportResult.ImportError(line, message));
+        }
+    }
+
+    private static <D> void appendRow(StringBuilder batch, ImportTable<D> table, ImportReader.Row<D> row) {
+        Object uuid = table.uuid() == null ? null : invoke(table.uuid(), row.dto());
+        batch.append(row.line()).append(',');
+        appendValue(batch, table.id() == null ? null : invoke(table.id(), row.dto()));
+        batch.append(',');
+        appendValue(batch, uuid == null ? UUID.randomUUID() : uuid);
+        for (ImportColumn column : table.columns()) {
+            batch.append(',');
+            appendValue(batch, invoke(column.getter(), row.dto()));
+        }
+        batch.append('\n');
+    }
+
+    // In COPY csv an unquoted empty cell is null, so every value is quoted to keep empty strings apart.
+    private static void appendValue(StringBuilder batch, Object value) {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof Enum<?> constant ? constant.name() : value.toString();
+        batch.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+
+    private static void writeCopy(CopyIn copy, StringBuilder batch) throws SQLException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        byte[] bytes = batch.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        batch.setLength(0);
+    }
+
+    private static Object invoke(Method getter, Object target) {
+        try {
+            return getter.invoke(target);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot call " + getter, e);
+        }
+    }
+
+    private <D> ImportTable<D> describe(Class<?> entity, Class<D> dto) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        AbstractEntityPersister persister =
+                (AbstractEntityPersister) sessionFactory.getMappingMetamodel().getEntityDescriptor(entity);
+        EntityType<?> entityType = entityManagerFactory.getMetamodel().entity(entity);
+
+        PropertyDescriptor[] properties;
+        try {
+            properties = Introspector.getBeanInfo(dto).getPropertyDescriptors();
+        } catch (IntrospectionException e) {
+            throw new IllegalArgumentException("Cannot import " + dto.getName(), e);
+        }
+
+        Method id = null;
+        Method uuid = null;
+        List<ImportColumn> columns = new ArrayList<>();
+        for (PropertyDescriptor property : properties) {
+            if (property.getReadMethod() == null) {
+                continue;
+            }
+            if (ID_PROPERTY.equals(property.getName())) {
+                id = property.getReadMethod();
+                continue;
+            }
+            if (UUID_PROPERTY.equals(property.getName())) {
+                uuid = property.getReadMethod();
+                continue;
+            }
+            if (AUDIT_PROPERTIES.contains(property.getName())) {
+                continue;
+            }
+            for (SingularAttribute<?, ?> attribute : entityType.getSingularAttributes()) {
+                if (attribute.getName().equals(property.getName())
+                        && attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC) {
+                    columns.add(new ImportColumn(
+                            persister.getPropertyColumnNames(attribute.getName())[0], property.getReadMethod()));
+                }
+            }
+        }
+
+        List<ImportForeignKey> foreignKeys = new ArrayList<>();
+        for (SingularAttribute<?, ?> association : entityType.getSingularAttributes()) {
+            if (association.getPersistentAttributeType() != Attribute.PersistentAttributeType.MANY_TO_ONE) {
+                continue;
+            }
+            String column = persister.getPropertyColumnNames(association.getName())[0];
+            columns.stream()
+                    .filter(imported -> imported.column().equals(column))
+                    .findFirst()
+                    .ifPresent(imported -> {
+                        AbstractEntityPersister target = (AbstractEntityPersister) sessionFactory
+                                .getMappingMetamodel().getEntityDescriptor(association.getJavaType());
+                        String property = Introspector.decapitalize(imported.getter().getName().substring(3));
+                        foreignKeys.add(new ImportForeignKey(
+                                column, target.getTableName(), target.getIdentifierColumnNames()[0], property));
+                    });
+        }
+        return new ImportTable<>(
+                persister.getTableName(), id, uuid, List.copyOf(columns), List.copyOf(foreignKeys));
+    }
+
+    record ImportTable<D>(String name,
+                          Method id,
+                          Method uuid,
+                          List<ImportColumn> columns,
+                          List<ImportForeignKey> foreignKeys) {
+
+        /**
+         * @return the foreign keys to the table itself.
+         */
+        List<ImportForeignKey> selfReferences() {
+            return foreignKeys.stream().filter(foreignKey -> foreignKey.targetTable().equals(name)).toList();
+        }
+    }
+
+    record ImportColumn(String column, Method getter) {
+    }
+
+    record ImportForeignKey(String column, String targetTable, String targetColumn, String property) {
+
+        /**
+         * @return the staging column holding the line of the row of the file the key names, if it names one.
+         */
+        String lineColumn() {
+            return "line_of_" + column;
+        }
+    }
+}
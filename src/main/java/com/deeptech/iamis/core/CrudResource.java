@@ -0,0 +1,99 @@
+package com.deeptech.iamis.core;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Base of the REST controllers of the CRUD modules, serving the endpoints every module has in the same shape:
+ * <p>
+ * - GET {base}/export: Stream all rows as NDJSON or CSV
+ * - POST {base}/batch: Create or update rows in one request
+ * - POST {base}/batch/find: Fetch rows by their UUIDs
+ * - DELETE {base}/batch: Delete rows by their UUIDs
+ * <p>
+ * The handlers are inherited, but each controller still guards them with its own authorities, e.g.
+ * {@code DEPARTMENT_EXPORT}, since authorities are named after the controller class.
+ *
+ * @param <D> the DTO.
+ */
+public abstract class CrudResource<D extends BaseDto> {
+
+    private final String exportName;
+
+    protected CrudResource() {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(
+                ClassUtils.getUserClass(getClass()), RequestMapping.class);
+        if (mapping == null || mapping.path().length != 1) {
+            throw new IllegalStateException(getClass() + " must be mapped to exactly one path");
+        }
+        String path = mapping.path()[0];
+        this.exportName = path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * @return the service of the module.
+     */
+    protected abstract BaseCrudService<D, ?> service();
+
+    /**
+     * Streams all rows matching the search parameters as a file, without paging.
+     *
+     * @param format       the export format, {@code ndjson} (default) or {@code csv}.
+     * @param sort         the order of the rows.
+     * @param searchParams a map of search parameters (fields names) for filtering the rows.
+     * @return the streamed export, named after the last segment of the controller's path.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format,
+                                                        Sort sort,
+                                                        @RequestParam Map<String, Object> searchParams) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return exportFormat.toResponse(exportName, out -> service().export(exportFormat, sort, searchParams, out));
+    }
+
+    /**
+     * Creates or updates rows in one request; items with a uuid update the existing row.
+     *
+     * @param dtos the DTOs to save.
+     * @return {@link CustomApiResponse} containing the outcome of each item, with the errors of failed items.
+     */
+    @PostMapping("/batch")
+    public CustomApiResponse saveAll(@RequestBody List<D> dtos) {
+        return CustomApiResponse.batch(service().saveAll(dtos));
+    }
+
+    /**
+     * Retrieves rows by their UUIDs.
+     *
+     * @param uuids the UUIDs of the rows to retrieve.
+     * @return {@link CustomApiResponse} containing the outcome of each UUID.
+     */
+    @PostMapping("/batch/find")
+    public CustomApiResponse findAllByUuids(@RequestBody List<UUID> uuids) {
+        return CustomApiResponse.batch(service().findAllByUuids(uuids));
+    }
+
+    /**
+     * Deletes rows by their UUIDs.
+     *
+     * @param uuids the UUIDs of the rows to delete.
+     * @return {@link CustomApiResponse} containing the outcome of each UUID.
+     */
+    @DeleteMapping("/batch")
+    public CustomApiResponse deleteAllByUuids(@RequestBody List<UUID> uuids) {
+        return CustomApiResponse.batch(service().deleteAllByUuids(uuids));
+    }
+}
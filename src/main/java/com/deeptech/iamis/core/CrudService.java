@@ -0,0 +1,204 @@
+package com.deeptech.iamis.core;
+
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
+import jakarta.validation.ValidationException;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Base of the services of the CRUD modules, implementing everything but {@link #save(Object)} once on top of
+ * {@link SearchService}: list and cursor pages, exports, reads and deletes by uuid and the batch operations.
+ * <p>
+ * A module supplies its repository and mapper through {@link #repository()} and {@link #toDto(BaseModel)}.
+ * Checks and cache invalidation go in {@link #beforeDelete(BaseModel)} and {@link #changed()}, which the
+ * single-row and the batch deletes both call, so the two paths cannot drift apart. Batch saves go through
+ * the module's own {@link #save(Object)}.
+ *
+ * @param <T> the entity.
+ * @param <D> the DTO.
+ */
+@Transactional
+public abstract class CrudService<T extends BaseModel, D extends BaseDto>
+        extends SearchService<T> implements BaseCrudService<D, T> {
+
+    private final Class<T> entity;
+
+    private final Class<D> dto;
+
+    @SuppressWarnings("unchecked")
+    protected CrudService() {
+        Class<?>[] types = GenericTypeResolver.resolveTypeArguments(getClass(), CrudService.class);
+        if (types == null) {
+            throw new IllegalStateException(getClass() + " must declare its entity and DTO types");
+        }
+        this.entity = (Class<T>) types[0];
+        this.dto = (Class<D>) types[1];
+    }
+
+    /**
+     * @return the repository of the entity.
+     */
+    protected abstract BaseRepository<T, Long> repository();
+
+    /**
+     * @param entity a loaded entity.
+     * @return its DTO, as returned by the single-row and batch reads.
+     */
+    protected abstract D toDto(T entity);
+
+    /**
+     * Called with each row about to be deleted, by {@link #delete(UUID)} and {@link #deleteAllByUuids(List)}.
+     *
+     * @param entity the row.
+     * @throws ValidationException to refuse the delete.
+     */
+    protected void beforeDelete(T entity) {
+    }
+
+    /**
+     * Called once rows were deleted or imported, within the transaction; {@link #save(Object)} calls it itself
+     * where the module needs it.
+     */
+    protected void changed() {
+    }
+
+    protected Class<T> entityClass() {
+        return entity;
+    }
+
+    protected Class<D> dtoClass() {
+        return dto;
+    }
+
+    /**
+     * Finds one page of rows matching the search criteria, see {@link #findSlice(Class, Class, Pageable, Map)}.
+     *
+     * @param pageable the pagination information.
+     * @param search   a map of search criteria.
+     * @return a slice of DTOs, with an exact total only when {@code count=exact} is requested.
+     */
+    @Override
+    public Slice<D> findAll(Pageable pageable, Map<String, Object> search) {
+        return findSlice(entity, dto, pageable, search);
+    }
+
+    /**
+     * Finds rows after the given cursor, seeking on the sort key plus id instead of an offset.
+     *
+     * @param cursor   the cursor returned with the previous page, empty for the first page.
+     * @param pageable the page size and sort.
+     * @param search   a map of search criteria.
+     * @return a cursor page of DTOs.
+     */
+    @Override
+    public CursorPage<D> findAll(String cursor, Pageable pageable, Map<String, Object> search) {
+        return scroll(entity, dto, cursor, pageable, search);
+    }
+
+    /**
+     * Writes all rows matching the search criteria to the given stream.
+     *
+     * @param format the export format.
+     * @param sort   the order of the rows.
+     * @param search a map of search criteria.
+     * @param out    the stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    @Override
+    public void export(ExportFormat format, Sort sort, Map<String, Object> search, OutputStream out)
+            throws IOException {
+        exportAll(entity, dto, format, sort, search, out);
+    }
+
+    /**
+     * @param uuid the uuid of the row.
+     * @return the DTO of the row.
+     * @throws EntityNotFoundException if there is no such row.
+     */
+    @Override
+    public D findById(UUID uuid) {
+        return toDto(require(uuid));
+    }
+
+    /**
+     * Deletes a row by its uuid.
+     *
+     * @param uuid the uuid of the row.
+     * @throws EntityNotFoundException if there is no such row.
+     * @throws ValidationException     if the row cannot be deleted, e.g. because it is still referenced.
+     */
+    @Override
+    public void delete(UUID uuid) {
+        T row = require(uuid);
+        beforeDelete(row);
+        repository().delete(row);
+        flush("Cannot delete " + entity.getSimpleName() + " with uuid " + uuid);
+        changed();
+    }
+
+    /**
+     * Creates or updates rows in one transaction, each with {@link #save(Object)}.
+     * <p>
+     * The row of a DTO whose save is refused is reloaded, so whatever the save changed on it before the refusal
+     * is not flushed with the rest of the batch. This also drops the change of an earlier item of the batch with
+     * the same uuid.
+     *
+     * @param dtos the DTOs to save.
+     * @return the outcome of each DTO, in request order.
+     */
+    @Override
+    public List<BatchItem<D>> saveAll(List<D> dtos) {
+        return saveEach(dtos, this::save, this::revertRow);
+    }
+
+    /**
+     * Finds rows by their uuids in one query.
+     *
+     * @param uuids the uuids of the rows.
+     * @return the outcome of each uuid, in request order.
+     */
+    @Override
+    public List<BatchItem<D>> findAllByUuids(List<UUID> uuids) {
+        return findEach(repository(), entity, uuids, this::toDto);
+    }
+
+    /**
+     * Deletes rows by their uuids in one transaction.
+     *
+     * @param uuids the uuids of the rows.
+     * @return the outcome of each uuid, in request order.
+     * @throws ValidationException if a row cannot be deleted.
+     */
+    @Override
+    public List<BatchItem<UUID>> deleteAllByUuids(List<UUID> uuids) {
+        List<BatchItem<UUID>> items = deleteEach(repository(), entity, uuids, this::beforeDelete);
+        changed();
+        return items;
+    }
+
+    private void revertRow(D dto) {
+        if (dto.getUuid() != null) {
+            repository().findByUuid(dto.getUuid()).ifPresent(this::revert);
+        }
+    }
+
+    /**
+     * @param uuid the uuid of the row.
+     * @return the row, provided the current user may see it, see {@link #findVisible}.
+     * @throws EntityNotFoundException if there is no such row the user may see.
+     */
+    protected T require(UUID uuid) {
+        return findVisible(repository(), entity, uuid)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        entity.getSimpleName() + " with uuid " + uuid + " not found"));
+    }
+}
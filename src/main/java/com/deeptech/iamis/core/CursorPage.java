@@ -0,0 +1,22 @@
+package com.deeptech.iamis.core;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of results served in cursor (keyset) mode.
+ *
+ * @param content    the rows of this page.
+ * @param size       the requested page size.
+ * @param nextCursor the opaque cursor of the next page, null when this is the last page.
+ */
+public record CursorPage<T>(List<T> content, int size, String nextCursor) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), size, nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -4,9 +4,11 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.ValidationException;
 import lombok.Data;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Optional;
 
 @Data
@@ -21,6 +23,9 @@ public class CustomApiResponse implements Serializable {
     private int page;
     private int size;
     private Long total;
+    private Boolean totalEstimated;
+    private Boolean hasNext;
+    private String nextCursor;
     private String[] errors;
 
     public static CustomApiResponse ok(Object data) {
@@ -73,13 +78,45 @@ public class CustomApiResponse implements Serializable {
         return response;
     }
 
-    public static CustomApiResponse ok(Page page) {
+    public static CustomApiResponse ok(Slice page) {
         CustomApiResponse response = new CustomApiResponse();
         response.setStatus(HttpStatus.OK.value());
         response.setData(page.getContent());
         response.setPage(page.getNumber());
-        response.setTotal(page.getTotalElements());
         response.setSize(page.getSize());
+        response.setHasNext(page.hasNext());
+        if (page instanceof Page<?> exact) {
+            response.setTotal(exact.getTotalElements());
+        } else if (page instanceof EstimatedSlice<?> estimated) {
+            response.setTotal(estimated.getTotal());
+            response.setTotalEstimated(estimated.isEstimated() ? Boolean.TRUE : null);
+        }
+        return response;
+    }
+
+    public static CustomApiResponse ok(CursorPage page) {
+        CustomApiResponse response = new CustomApiResponse();
+        response.setStatus(HttpStatus.OK.value());
+        response.setData(page.content());
+        response.setSize(page.size());
+        response.setHasNext(page.hasNext());
+        response.setNextCursor(page.nextCursor());
+        return response;
+    }
+
+    public static CustomApiResponse batch(List<? extends BatchItem<?>> items) {
+        CustomApiResponse response = new CustomApiResponse();
+        response.setStatus(HttpStatus.OK.value());
+        response.setData(items);
+        response.setSize(items.size());
+        String[] errors = items.stream()
+                .filter(BatchItem::isFailed)
+                .map(item -> "Item " + item.index() + ": " + item.error())
+                .toArray(String[]::new);
+        response.setMessage((items.size() - errors.length) + " of " + items.size() + " items succeeded");
+        if (errors.length > 0) {
+            response.setErrors(errors);
+        }
         return response;
     }
 
@@ -1,5 +1,7 @@
 package com.deeptech.iamis.core;
 
+import com.deeptech.iamis.security.LoginThrottledException;
+import com.deeptech.iamis.security.PasswordHashingBusyException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ValidationException;
@@ -64,6 +66,27 @@ public class CustomRestExceptionHandler extends ResponseEntityExceptionHandler {
   }
 
 
+  @ExceptionHandler({PasswordHashingBusyException.class})
+  public ResponseEntity<Object> handlePasswordHashingBusy(Exception ex, WebRequest request) {
+    logger.warn(ex.getMessage());
+    CustomErrorResponse customErrorResponse =
+        new CustomErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), "Service busy", ex.getMessage());
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.RETRY_AFTER, "1");
+
+    return new ResponseEntity<>(customErrorResponse, headers, HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
+  @ExceptionHandler({LoginThrottledException.class})
+  public ResponseEntity<Object> handleLoginThrottled(LoginThrottledException ex, WebRequest request) {
+    CustomErrorResponse customErrorResponse =
+        new CustomErrorResponse(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many login attempts", ex.getMessage());
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()));
+
+    return new ResponseEntity<>(customErrorResponse, headers, HttpStatus.TOO_MANY_REQUESTS);
+  }
+
   @ExceptionHandler({ValidationException.class})
   public ResponseEntity<Object> handleValidationException(Exception ex, WebRequest request) {
     logger.error(ex.getMessage());
@@ -0,0 +1,285 @@
+package com.deeptech.iamis.core;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A precompiled mapping from the columns of an entity to a list DTO, used to read list pages as scalar
+ * tuples instead of managed entities.
+ * <p>
+ * The DTO properties are matched by name, the same way the MapStruct mappers do:
+ * <ul>
+ *     <li>{@code name} is read from the basic attribute {@code name} of the entity;</li>
+ *     <li>{@code levelName} is read from the attribute {@code name} of the to-one association {@code level},
+ *     through a left join in the same query;</li>
+ *     <li>{@code authorityIds} is filled with the uuids of the {@code Authority} collection of the entity,
+ *     with one extra query per page rather than one per row.</li>
+ * </ul>
+ * Properties without a matching attribute are left unset.
+ */
+public final class DtoProjection<T, D> {
+
+    private static final String ID = "id";
+
+    private static final String UUID = "uuid";
+
+    private static final String IDS_SUFFIX = "Ids";
+
+    private static final int IN_BATCH_SIZE = 1000;
+
+    private final Class<T> entity;
+
+    private final Constructor<D> constructor;
+
+    private final List<Column> columns;
+
+    private final List<CollectionColumn> collections;
+
+    private DtoProjection(Class<T> entity,
+                          Constructor<D> constructor,
+                          List<Column> columns,
+                          List<CollectionColumn> collections) {
+        this.entity = entity;
+        this.constructor = constructor;
+        this.columns = columns;
+        this.collections = collections;
+    }
+
+    /**
+     * Compiles the projection of the given entity to the given DTO class.
+     *
+     * @param entityType the metamodel type of the entity.
+     * @param dto        the DTO class; it must have a public no-args constructor and setters.
+     * @return the projection.
+     */
+    static <T, D> DtoProjection<T, D> of(EntityType<T> entityType, Class<D> dto) {
+        Constructor<D> constructor;
+        PropertyDescriptor[] properties;
+        try {
+            constructor = dto.getConstructor();
+            properties = Introspector.getBeanInfo(dto).getPropertyDescriptors();
+        } catch (NoSuchMethodException | IntrospectionException e) {
+            throw new IllegalArgumentException("Cannot project " + entityType.getName() + " to " + dto.getName(), e);
+        }
+
+        List<Column> columns = new ArrayList<>();
+        List<CollectionColumn> collections = new ArrayList<>();
+        for (PropertyDescriptor property : properties) {
+            Method setter = property.getWriteMethod();
+            if (setter == null) {
+                continue;
+            }
+            String name = property.getName();
+            Class<?> type = property.getPropertyType();
+
+            SingularAttribute<?, ?> basic = findBasic(entityType, name);
+            if (basic != null) {
+                Function<Object, Object> converter = converter(basic.getJavaType(), type);
+                if (converter != null) {
+                    columns.add(new Column(null, name, setter, converter));
+                }
+                continue;
+            }
+            if (List.class.isAssignableFrom(type) && name.endsWith(IDS_SUFFIX)) {
+                String element = name.substring(0, name.length() - IDS_SUFFIX.length());
+                for (PluralAttribute<? super T, ?, ?> plural : entityType.getPluralAttributes()) {
+                    if (plural.getElementType().getPersistenceType() == Type.PersistenceType.ENTITY
+                            && Introspector.decapitalize(plural.getElementType().getJavaType().getSimpleName()).equals(element)) {
+                        collections.add(new CollectionColumn(plural.getName(), setter));
+                        break;
+                    }
+                }
+                continue;
+            }
+            Column joined = findJoined(entityType, name, type, setter);
+            if (joined != null) {
+                columns.add(joined);
+            }
+        }
+        return new DtoProjection<>(entityType.getJavaType(), constructor, List.copyOf(columns), List.copyOf(collections));
+    }
+
+    /**
+     * Returns the selections of the tuple query, the entity id first, joining the to-one associations the
+     * DTO reads labels from.
+     *
+     * @param root the root of the tuple query.
+     * @return the selections, in the order {@link #toDtos(EntityManager, List)} reads them.
+     */
+    public List<Selection<?>> selections(Root<T> root) {
+        Map<String, Join<T, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>(columns.size() + 1);
+        selections.add(root.get(ID));
+        for (Column column : columns) {
+            From<T, ?> from = column.association() == null
+                    ? root
+                    : joins.computeIfAbsent(column.association(), association -> root.join(association, JoinType.LEFT));
+            selections.add(from.get(column.attribute()));
+        }
+        return selections;
+    }
+
+    /**
+     * Maps the rows of a tuple query built with {@link #selections(Root)} to DTOs, and fills the collection
+     * properties with one query per collection for the whole list.
+     *
+     * @param entityManager the entity manager to run the collection queries with.
+     * @param rows          the rows of the tuple query.
+     * @return the DTOs in the order of the rows.
+     */
+    public List<D> toDtos(EntityManager entityManager, List<Tuple> rows) {
+        List<D> dtos = new ArrayList<>(rows.size());
+        Map<Long, D> byId = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            D dto = newInstance();
+            for (int i = 0; i < columns.size(); i++) {
+                columns.get(i).set(dto, row.get(i + 1));
+            }
+            dtos.add(dto);
+            byId.put(row.get(0, Long.class), dto);
+        }
+        if (!byId.isEmpty()) {
+            for (CollectionColumn collection : collections) {
+                fill(entityManager, collection, byId);
+            }
+        }
+        return dtos;
+    }
+
+    private void fill(EntityManager entityManager, CollectionColumn collection, Map<Long, D> byId) {
+        Map<Long, List<Object>> values = new HashMap<>();
+        byId.keySet().forEach(id -> values.put(id, new ArrayList<>()));
+
+        List<Long> ids = new ArrayList<>(byId.keySet());
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        for (int from = 0; from < ids.size(); from += IN_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + IN_BATCH_SIZE, ids.size()));
+            CriteriaQuery<Tuple> query = builder.createTupleQuery();
+            Root<T> root = query.from(entity);
+            Join<T, ?> join = root.join(collection.attribute());
+            query.multiselect(root.get(ID), join.get(UUID)).where(root.get(ID).in(batch));
+            for (Tuple row : entityManager.createQuery(query).getResultList()) {
+                values.get(row.get(0, Long.class)).add(row.get(1));
+            }
+        }
+        byId.forEach((id, dto) -> invoke(collection.setter(), dto, values.get(id)));
+    }
+
+    private D newInstance() {
+        try {
+            return constructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot create " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+
+    private static void invoke(Method setter, Object target, Object value) {
+        try {
+            setter.invoke(target, value);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot call " + setter, e);
+        }
+    }
+
+    private static Column findJoined(EntityType<?> entityType, String name, Class<?> type, Method setter) {
+        for (SingularAttribute<?, ?> association : entityType.getSingularAttributes()) {
+            Attribute.PersistentAttributeType kind = association.getPersistentAttributeType();
+            if (kind != Attribute.PersistentAttributeType.MANY_TO_ONE
+                    && kind != Attribute.PersistentAttributeType.ONE_TO_ONE) {
+                continue;
+            }
+            String prefix = association.getName();
+            if (name.length() <= prefix.length() || !name.startsWith(prefix)) {
+                continue;
+            }
+            SingularAttribute<?, ?> target = findBasic(
+                    (ManagedType<?>) association.getType(), Introspector.decapitalize(name.substring(prefix.length())));
+            if (target == null) {
+                continue;
+            }
+            Function<Object, Object> converter = converter(target.getJavaType(), type);
+            if (converter != null) {
+                return new Column(prefix, target.getName(), setter, converter);
+            }
+        }
+        return null;
+    }
+
+    private static SingularAttribute<?, ?> findBasic(ManagedType<?> type, String name) {
+        for (SingularAttribute<?, ?> attribute : type.getSingularAttributes()) {
+            if (attribute.getName().equals(name)
+                    && attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC) {
+                return attribute;
+            }
+        }
+        return null;
+    }
+
+    private static Function<Object, Object> converter(Class<?> source, Class<?> target) {
+        if (box(target).isAssignableFrom(box(source))) {
+            return Function.identity();
+        }
+        if (target == String.class && source.isEnum()) {
+            return value -> ((Enum<?>) value).name();
+        }
+        return null;
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == long.class) {
+            return Long.class;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        }
+        if (type == boolean.class) {
+            return Boolean.class;
+        }
+        if (type == double.class) {
+            return Double.class;
+        }
+        return type;
+    }
+
+    private record Column(String association, String attribute, Method setter, Function<Object, Object> converter) {
+
+        void set(Object dto, Object value) {
+            if (value == null && setter.getParameterTypes()[0].isPrimitive()) {
+                return;
+            }
+            invoke(setter, dto, value == null ? null : converter.apply(value));
+        }
+    }
+
+    private record CollectionColumn(String attribute, Method setter) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.deeptech.iamis.core;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link DtoProjection}s list endpoints read their pages with. Each entity and DTO pair is
+ * compiled from the JPA metamodel on first use and reused afterwards.
+ */
+@Component
+public class DtoProjectionRegistry {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Map<Class<?>, Map<Class<?>, DtoProjection<?, ?>>> projections = new ConcurrentHashMap<>();
+
+    public DtoProjectionRegistry(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Returns the projection of the given entity to the given DTO class.
+     *
+     * @param entity the entity class.
+     * @param dto    the DTO class.
+     * @return the compiled projection.
+     */
+    @SuppressWarnings("unchecked")
+    public <T, D> DtoProjection<T, D> projectionFor(Class<T> entity, Class<D> dto) {
+        return (DtoProjection<T, D>) projections
+                .computeIfAbsent(entity, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(dto, key -> {
+                    EntityType<T> entityType = entityManagerFactory.getMetamodel().entity(entity);
+                    return DtoProjection.of(entityType, dto);
+                });
+    }
+}
@@ -0,0 +1,39 @@
+package com.deeptech.iamis.core;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A slice of a list query that was fetched without a count query.
+ * <p>
+ * The total is either exact, when the slice is known to be the last one, or an estimate taken from the
+ * table statistics, or null when no cheap estimate is available.
+ */
+public class EstimatedSlice<T> extends SliceImpl<T> {
+
+    private final Long total;
+
+    private final boolean estimated;
+
+    public EstimatedSlice(List<T> content, Pageable pageable, boolean hasNext, Long total, boolean estimated) {
+        super(content, pageable, hasNext);
+        this.total = total;
+        this.estimated = estimated;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public boolean isEstimated() {
+        return estimated;
+    }
+
+    @Override
+    public <U> EstimatedSlice<U> map(Function<? super T, ? extends U> converter) {
+        return new EstimatedSlice<>(getConvertedContent(converter), getPageable(), hasNext(), total, estimated);
+    }
+}
@@ -0,0 +1,64 @@
+package com.deeptech.iamis.core;
+
+import jakarta.validation.ValidationException;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Formats a list can be exported in, see {@link ExportWriter}, and bulk imported from, see {@link ImportReader}.
+ */
+public enum ExportFormat {
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv"));
+
+    private final String extension;
+
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Returns the format for the given request parameter.
+     *
+     * @param format the format parameter, e.g. {@code ndjson} or {@code csv}.
+     * @return the format.
+     * @throws ValidationException if the format is not supported.
+     */
+    public static ExportFormat fromParam(String format) {
+        for (ExportFormat exportFormat : values()) {
+            if (exportFormat.extension.equalsIgnoreCase(format)) {
+                return exportFormat;
+            }
+        }
+        throw new ValidationException("Unsupported export format " + format);
+    }
+
+    /**
+     * Wraps a streaming body into a download response of this format.
+     *
+     * @param name the file name without extension.
+     * @param body the body writing the export.
+     * @return the response entity.
+     */
+    public ResponseEntity<StreamingResponseBody> toResponse(String name, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(name + "." + extension).build().toString())
+                .body(body);
+    }
+}
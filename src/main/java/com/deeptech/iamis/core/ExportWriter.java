@@ -0,0 +1,147 @@
+package com.deeptech.iamis.core;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Writes DTOs one by one to an export stream, without holding more than the current row.
+ * <p>
+ * NDJSON rows are serialized with the application's {@link ObjectMapper}, so they look like the items of the
+ * list endpoint. CSV columns are the JSON properties of the DTO in serialization order; collections are
+ * written as one cell with their items separated by {@code |}. Text cells starting with {@code =}, {@code +},
+ * {@code -}, {@code @}, a tab or a carriage return are prefixed with {@code '} so spreadsheets do not evaluate
+ * them as formulas; numbers are written as they are.
+ */
+public abstract class ExportWriter<D> {
+
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<>() {};
+
+    protected final Writer writer;
+
+    private ExportWriter(OutputStream out) {
+        this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a writer of the given format.
+     *
+     * @param format       the export format.
+     * @param dto          the class of the exported DTOs.
+     * @param objectMapper the mapper to serialize rows with.
+     * @param out          the response stream; it is not closed by the writer.
+     * @return the writer.
+     */
+    public static <D> ExportWriter<D> of(ExportFormat format, Class<D> dto, ObjectMapper objectMapper, OutputStream out) {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter<>(dto, objectMapper, out);
+            case CSV -> new CsvWriter<>(dto, objectMapper, out);
+        };
+    }
+
+    public abstract void write(D dto) throws IOException;
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private static final class NdjsonWriter<D> extends ExportWriter<D> {
+
+        private final ObjectWriter objectWriter;
+
+        private NdjsonWriter(Class<D> dto, ObjectMapper objectMapper, OutputStream out) {
+            super(out);
+            this.objectWriter = objectMapper.writerFor(dto);
+        }
+
+        @Override
+        public void write(D dto) throws IOException {
+            writer.write(objectWriter.writeValueAsString(dto));
+            writer.write('\n');
+        }
+    }
+
+    private static final class CsvWriter<D> extends ExportWriter<D> {
+
+        private final ObjectMapper objectMapper;
+
+        private final List<String> columns;
+
+        private boolean headerWritten;
+
+        private CsvWriter(Class<D> dto, ObjectMapper objectMapper, OutputStream out) {
+            super(out);
+            this.objectMapper = objectMapper;
+            JavaType type = objectMapper.constructType(dto);
+            this.columns = objectMapper.getSerializationConfig().introspect(type).findProperties().stream()
+                    .filter(BeanPropertyDefinition::couldSerialize)
+                    .map(BeanPropertyDefinition::getName)
+                    .toList();
+        }
+
+        @Override
+        public void write(D dto) throws IOException {
+            if (!headerWritten) {
+                writeLine(columns);
+                headerWritten = true;
+            }
+            Map<String, Object> row = objectMapper.convertValue(dto, ROW_TYPE);
+            writeLine(columns.stream().map(row::get).toList());
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!headerWritten) {
+                writeLine(columns);
+                headerWritten = true;
+            }
+            super.flush();
+        }
+
+        private void writeLine(List<?> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values.get(i)));
+            }
+            writer.write("\r\n");
+        }
+
+        private static String escape(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value instanceof Collection<?> items
+                    ? items.stream().map(String::valueOf).collect(Collectors.joining("|"))
+                    : value.toString();
+            if (!(value instanceof Number) && isFormula(text)) {
+                text = "'" + text;
+            }
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                return text;
+            }
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+
+        private static boolean isFormula(String text) {
+            if (text.isEmpty()) {
+                return false;
+            }
+            char first = text.charAt(0);
+            return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.deeptech.iamis.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads DTOs one by one from an uploaded file, the counterpart of {@link ExportWriter}.
+ * <p>
+ * NDJSON lines and CSV records are converted with the application's {@link ObjectMapper}, so a file produced
+ * by the export endpoint can be loaded back. CSV files must start with a header of DTO property names; empty
+ * cells are read as null.
+ */
+public abstract class ImportReader<D> {
+
+    protected final BufferedReader reader;
+
+    protected final Class<D> dto;
+
+    protected final ObjectMapper objectMapper;
+
+    protected long line;
+
+    private ImportReader(Class<D> dto, ObjectMapper objectMapper, InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.dto = dto;
+        this.objectMapper = objectMapper;
+    }
+
+    public static <D> ImportReader<D> of(ExportFormat format, Class<D> dto, ObjectMapper objectMapper, InputStream in) {
+        return switch (format) {
+            case NDJSON -> new NdjsonReader<>(dto, objectMapper, in);
+            case CSV -> new CsvReader<>(dto, objectMapper, in);
+        };
+    }
+
+    /**
+     * Reads the next row.
+     *
+     * @return the row, holding either the DTO or the reason it could not be read, or null at the end of the file.
+     * @throws IOException if reading the upload fails.
+     */
+    public abstract Row<D> next() throws IOException;
+
+    /**
+     * @param line  the line the row starts on.
+     * @param dto   the converted DTO, null if the row could not be read.
+     * @param error why the row could not be read, null if it was.
+     */
+    public record Row<D>(long line, D dto, String error) {
+    }
+
+    private static final class NdjsonReader<D> extends ImportReader<D> {
+
+        private NdjsonReader(Class<D> dto, ObjectMapper objectMapper, InputStream in) {
+            super(dto, objectMapper, in);
+        }
+
+        @Override
+        public Row<D> next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                if (text == null) {
+                    return null;
+                }
+                line++;
+            } while (text.isBlank());
+            try {
+                return new Row<>(line, objectMapper.readValue(text, dto), null);
+            } catch (JsonProcessingException e) {
+                return new Row<>(line, null, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private static final class CsvReader<D> extends ImportReader<D> {
+
+        private List<String> header;
+
+        private CsvReader(Class<D> dto, ObjectMapper objectMapper, InputStream in) {
+            super(dto, objectMapper, in);
+        }
+
+        @Override
+        public Row<D> next() throws IOException {
+            if (header == null) {
+                header = readRecord();
+                if (header == null) {
+                    return null;
+                }
+            }
+            long start = line + 1;
+            List<String> values = readRecord();
+            while (values != null && values.size() == 1 && values.getFirst() == null) {
+                start = line + 1;
+                values = readRecord();
+            }
+            if (values == null) {
+                return null;
+            }
+            if (values.size() != header.size()) {
+                return new Row<>(start, null, "Expected " + header.size() + " columns but found " + values.size());
+            }
+            Map<String, String> properties = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                properties.put(header.get(i), values.get(i));
+            }
+            try {
+                return new Row<>(start, objectMapper.convertValue(properties, dto), null);
+            } catch (IllegalArgumentException e) {
+                return new Row<>(start, null, "Invalid value: " + e.getMessage());
+            }
+        }
+
+        /**
+         * Reads one RFC 4180 record, which may span several lines when a quoted cell holds line breaks.
+         * Empty unquoted cells are returned as null.
+         */
+        private List<String> readRecord() throws IOException {
+            String text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+            List<String> values = new ArrayList<>();
+            StringBuilder cell = new StringBuilder();
+            boolean quoted = false;
+            boolean wasQuoted = false;
+            int i = 0;
+            while (true) {
+                if (i == text.length()) {
+                    if (!quoted) {
+                        break;
+                    }
+                    text = reader.readLine();
+                    if (text == null) {
+                        break;
+                    }
+                    line++;
+                    cell.append('\n');
+                    i = 0;
+                    continue;
+                }
+                char c = text.charAt(i++);
+                if (quoted) {
+                    if (c == '"' && i < text.length() && text.charAt(i) == '"') {
+                        cell.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        cell.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                    wasQuoted = true;
+                } else if (c == ',') {
+                    values.add(cell.isEmpty() && !wasQuoted ? null : cell.toString());
+                    cell.setLength(0);
+                    wasQuoted = false;
+                } else {
+                    cell.append(c);
+                }
+            }
+            values.add(cell.isEmpty() && !wasQuoted ? null : cell.toString());
+            return values;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.deeptech.iamis.core;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import.
+ *
+ * @param inserted the number of rows inserted.
+ * @param updated  the number of existing rows, matched by uuid, that were updated.
+ * @param rejected the number of rows that were not loaded.
+ * @param errors   the reasons rows were rejected, by line; capped, so it may hold fewer entries than rejected.
+ */
+public record ImportResult(long inserted, long updated, long rejected, List<ImportError> errors) {
+
+    /**
+     * @param line    the line of the row in the uploaded file, the CSV header being line 1.
+     * @param message why the row was rejected.
+     */
+    public record ImportError(long line, String message) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.deeptech.iamis.core;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A {@link CrudResource} that also serves POST {base}/import, loading rows in bulk from CSV or NDJSON.
+ *
+ * @param <D> the DTO.
+ * @param <S> the service of the module.
+ */
+public abstract class ImportableCrudResource<D extends BaseDto, S extends BaseCrudService<D, ?> & BulkImportService>
+        extends CrudResource<D> {
+
+    @Override
+    protected abstract S service();
+
+    /**
+     * Loads rows in bulk from the request body; rows with the uuid of an existing row update it. A reference to
+     * a row of the same kind, e.g. a parent, may name an existing row or another row of the file by its id.
+     *
+     * @param format the upload format, {@code csv} (default) or {@code ndjson}.
+     * @param body   the uploaded file.
+     * @return {@link CustomApiResponse} containing the number of loaded rows and the reasons rows were rejected.
+     * @throws IOException if reading the upload fails.
+     */
+    @PostMapping("/import")
+    public CustomApiResponse importAll(@RequestParam(defaultValue = "csv") String format, InputStream body)
+            throws IOException {
+        return CustomApiResponse.ok(service().importAll(ExportFormat.fromParam(format), body));
+    }
+}
@@ -0,0 +1,47 @@
+package com.deeptech.iamis.core;
+
+import jakarta.validation.ValidationException;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A {@link CrudService} whose rows can also be loaded in bulk with the {@link BulkImporter}.
+ *
+ * @param <T> the entity.
+ * @param <D> the DTO.
+ */
+public abstract class ImportableCrudService<T extends BaseModel, D extends BaseDto>
+        extends CrudService<T, D> implements BulkImportService {
+
+    private BulkImporter bulkImporter;
+
+    @Autowired
+    public void setBulkImporter(BulkImporter bulkImporter) {
+        this.bulkImporter = bulkImporter;
+    }
+
+    /**
+     * Loads rows in bulk from an uploaded file, see {@link BulkImporter}.
+     * <p>
+     * The import writes the table directly, so it is not available to users scoped to an organisation unit
+     * for entities bound to one; their rows could otherwise land outside that unit.
+     *
+     * @param format the upload format.
+     * @param in     the upload.
+     * @return the number of inserted, updated and rejected rows.
+     * @throws IOException if reading the upload fails.
+     * @throws ValidationException if the user is scoped to an organisation unit and the entity is bound to one.
+     */
+    @Override
+    public ImportResult importAll(ExportFormat format, InputStream in) throws IOException {
+        if (scopeOf(entityClass()) != null) {
+            throw new ValidationException("Only users not bound to an organisation unit can import "
+                    + entityClass().getSimpleName() + " rows");
+        }
+        ImportResult result = bulkImporter.importAll(entityClass(), dtoClass(), format, in);
+        changed();
+        return result;
+    }
+}
@@ -1,5 +1,7 @@
 package com.deeptech.iamis.core;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,9 +10,7 @@ import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
 import com.deeptech.iamis.modules.authority.Authority;
-import com.deeptech.iamis.modules.authority.AuthorityRepository;
 import com.deeptech.iamis.modules.menu_group.MenuGroup;
 import com.deeptech.iamis.modules.menu_group.MenuGroupRepository;
 import com.deeptech.iamis.modules.menu_item.MenuItem;
@@ -22,16 +22,16 @@ import com.deeptech.iamis.modules.user.UserRepository;
 
 import java.util.*;
 
-import static com.deeptech.iamis.core.Utils.splitCamelCase;
+import static com.deeptech.iamis.security.AuthorityCatalog.authorityName;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class Initializer implements ApplicationRunner {
 
-    private final RequestMappingInfoHandlerMapping requestMappingHandlerMapping;
+    public static final String INITIALIZER_METER_NAME = "startup.initializer";
 
-    private final AuthorityRepository authorityRepository;
+    private final AuthoritySynchronizer authoritySynchronizer;
 
     private final UserRepository userRepository;
 
@@ -43,6 +43,8 @@ public class Initializer implements ApplicationRunner {
 
     private final MenuItemRepository menuItemRepository;
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${admin-email}")
     private String adminEmail;
 
@@ -51,64 +53,23 @@ public class Initializer implements ApplicationRunner {
 
 
     // Load authorities
-    public void initializeAuthorities() {
+    public Map<String, Authority> initializeAuthorities() {
         try {
-            requestMappingHandlerMapping
-                    .getHandlerMethods()
-                    .forEach(
-                            (requestMappingInfo, handlerMethod) -> {
-                                NoAuthorization noAuthorization =
-                                        handlerMethod.getMethodAnnotation(NoAuthorization.class);
-
-                                if (!requestMappingInfo.getPatternValues().isEmpty()) {
-                                    List<String> urls = new ArrayList<>(requestMappingInfo.getPatternValues());
-
-                                    if (!requestMappingInfo.getMethodsCondition().getMethods().isEmpty()
-                                            && urls.size() == 1
-                                            && urls.getFirst().contains("api")
-                                            && noAuthorization == null) {
-
-                                        String resourceName =
-                                                handlerMethod.getBean().toString().replace("Resource", "");
-                                        resourceName =
-                                                resourceName.substring(0, 1).toUpperCase() + resourceName.substring(1);
-                                        String actionName = handlerMethod.getMethod().getName();
-                                        String methodName = null;
-                                        if (!requestMappingInfo.getMethodsCondition().getMethods().isEmpty()) {
-                                            methodName = requestMappingInfo.getMethodsCondition().getMethods().toString();
-                                        }
-                                        String actionDisplayName = splitCamelCase(actionName);
-                                        String authName = resourceName.toUpperCase().concat("_").concat(actionName.toUpperCase());
-
-                                        actionDisplayName =
-                                                actionDisplayName.substring(0, 1).toUpperCase()
-                                                        + actionDisplayName.substring(1);
-                                        if (!authorityRepository.existsByResourceAndAction(resourceName, actionName)) {
-                                            Authority authority = new Authority();
-                                            authority.setName(authName);
-                                            authority.setAction(actionName);
-                                            authority.setResource(resourceName);
-                                            authority.setMethod(methodName);
-                                            authority.setDescription(actionDisplayName);
-                                            authorityRepository.save(authority);
-                                        }
-                                    }
-                                }
-                            });
+            return authoritySynchronizer.synchronize();
         } catch (Exception e) {
             log.error("############# Error on initializing authorities #####################", e);
             System.exit(1);
+            return Map.of();
         }
     }
 
-    private Role initializeRole() {
-        Optional<Role> roleOptional = roleRepository.findRoleByCode("SUPER_ADMINISTRATOR");
+    private Role initializeRole(Map<String, Authority> authorities) {
+        Optional<Role> roleOptional = roleRepository.findRoleByCode(AuthoritySynchronizer.SUPER_ADMINISTRATOR);
         if (roleOptional.isEmpty()) {
-            Set<Authority> authorities = new HashSet<>(authorityRepository.findAll());
             Role role = new Role();
             role.setName("SUPER ADMINISTRATOR");
             role.setCode(String.join("_", role.getName().split(" ")));
-            authorities.forEach(role::addAuthority);
+            authorities.values().forEach(role::addAuthority);
             log.info("The role with name SUPER ADMINISTRATOR has been created successfully");
             return roleRepository.save(role);
         }
@@ -134,7 +95,7 @@ public class Initializer implements ApplicationRunner {
         }
     }
 
-    public void initializeMenus() {
+    public void initializeMenus(Map<String, Authority> authorities) {
         if (menuGroupRepository.count() == 0) {
             MenuGroup group = new MenuGroup();
             group.setName("System Configuration");
@@ -143,57 +104,51 @@ public class Initializer implements ApplicationRunner {
 
             menuGroupRepository.save(group);
 
-            MenuItem roleMenu = new MenuItem();
-            roleMenu.setMenuGroup(group);
-            roleMenu.setMenuGroupId(group.getId());
-            roleMenu.setName("Roles");
-            roleMenu.setIcon("pi pi-users");
-            roleMenu.setState("/main/config/role");
-            roleMenu.setSortOrder(1);
-            Set<Authority> roleAuth = authorityRepository.findAllByResourceAndAction("Role", "create");
-            roleAuth.forEach(roleMenu::addAuthority);
-            menuItemRepository.save(roleMenu);
-
-            MenuItem groupMenu = new MenuItem();
-            groupMenu.setMenuGroup(group);
-            groupMenu.setMenuGroupId(group.getId());
-            groupMenu.setName("Menu Groups");
-            groupMenu.setIcon("pi pi-expand");
-            groupMenu.setState("/main/config/menu-group");
-            groupMenu.setSortOrder(2);
-            Set<Authority> groupAuth = authorityRepository.findAllByResourceAndAction("MenuGroup", "create");
-            groupAuth.forEach(groupMenu::addAuthority);
-            menuItemRepository.save(groupMenu);
-
-            MenuItem itemMenu = new MenuItem();
-            itemMenu.setMenuGroup(group);
-            itemMenu.setMenuGroupId(group.getId());
-            itemMenu.setName("Menu Items");
-            itemMenu.setIcon("pi pi-bars");
-            itemMenu.setState("/main/config/menu-item");
-            itemMenu.setSortOrder(3);
-            Set<Authority> itemAuth = authorityRepository.findAllByResourceAndAction("MenuItem", "create");
-            itemAuth.forEach(itemMenu::addAuthority);
-            menuItemRepository.save(itemMenu);
-
-            MenuItem usersMenu = new MenuItem();
-            usersMenu.setMenuGroup(group);
-            usersMenu.setMenuGroupId(group.getId());
-            usersMenu.setName("Users");
-            groupMenu.setIcon("pi pi-user");
-            usersMenu.setState("/main/config/user");
-            usersMenu.setSortOrder(4);
-            Set<Authority> usersAuth = authorityRepository.findAllByResourceAndAction("User", "create");
-            usersAuth.forEach(usersMenu::addAuthority);
-            menuItemRepository.save(usersMenu);
+            MenuItem roleMenu = menuItem(group, "Roles", "pi pi-users", "/main/config/role", 1);
+            grant(roleMenu, authorities, "Role");
+
+            MenuItem groupMenu = menuItem(group, "Menu Groups", "pi pi-expand", "/main/config/menu-group", 2);
+            grant(groupMenu, authorities, "MenuGroup");
+
+            MenuItem itemMenu = menuItem(group, "Menu Items", "pi pi-bars", "/main/config/menu-item", 3);
+            grant(itemMenu, authorities, "MenuItem");
+
+            MenuItem usersMenu = menuItem(group, "Users", "pi pi-user", "/main/config/user", 4);
+            grant(usersMenu, authorities, "User");
+
+            menuItemRepository.saveAll(List.of(roleMenu, groupMenu, itemMenu, usersMenu));
+        }
+    }
+
+    private static MenuItem menuItem(MenuGroup group, String name, String icon, String state, int sortOrder) {
+        MenuItem menuItem = new MenuItem();
+        menuItem.setMenuGroup(group);
+        menuItem.setMenuGroupId(group.getId());
+        menuItem.setName(name);
+        menuItem.setIcon(icon);
+        menuItem.setState(state);
+        menuItem.setSortOrder(sortOrder);
+        return menuItem;
+    }
+
+    // A menu item is shown to whoever may create the resource it manages.
+    private static void grant(MenuItem menuItem, Map<String, Authority> authorities, String resourceName) {
+        Authority authority = authorities.get(authorityName(resourceName, "create"));
+        if (authority != null) {
+            menuItem.addAuthority(authority);
         }
     }
 
     public void init() {
-        initializeAuthorities();
-        Role role = initializeRole();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<String, Authority> authorities = initializeAuthorities();
+        Role role = initializeRole(authorities);
         initializeUsers(role);
-        initializeMenus();
+        initializeMenus(authorities);
+        long nanos = sample.stop(Timer.builder(INITIALIZER_METER_NAME)
+                .description("Time taken by the startup initializer.")
+                .register(meterRegistry));
+        log.info("Initialized authorities, roles, users and menus in {} ms", nanos / 1_000_000);
     }
 
 
@@ -0,0 +1,140 @@
+package com.deeptech.iamis.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.validation.ValidationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the keyset position of the last row of a page into an opaque, url safe cursor and back, and builds
+ * the predicate of the rows after it.
+ * <p>
+ * Key values are written as strings and converted back to the attribute type with the entity's
+ * {@link SearchFilter}s when the cursor is decoded. A null key value stays null.
+ */
+public final class KeysetCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final TypeReference<LinkedHashMap<String, String>> KEYS_TYPE = new TypeReference<>() {};
+
+    private KeysetCursor() {}
+
+    public static String encode(Map<String, ?> keys) {
+        Map<String, String> values = new LinkedHashMap<>();
+        keys.forEach((key, value) -> values.put(key, value == null ? null : value.toString()));
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(values));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode cursor", e);
+        }
+    }
+
+    public static Map<String, Object> decode(String cursor, Map<String, SearchFilter> filters) {
+        Map<String, String> values;
+        try {
+            values = MAPPER.readValue(
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8), KEYS_TYPE);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        values.forEach((key, value) -> {
+            SearchFilter filter = filters.get(key);
+            if (filter == null) {
+                throw new ValidationException("Invalid cursor key " + key);
+            }
+            keys.put(key, value == null ? null : filter.parse(value));
+        });
+        return keys;
+    }
+
+    /**
+     * Builds the predicate of the rows after a keyset position, the row comparison
+     * {@code (k1, k2, ...) > (v1, v2, ...)} spelled out key by key so each key can have its own direction and be
+     * null: a row is after the position if it equals it on the first keys and is beyond it on the next one.
+     * <p>
+     * Null keys are placed where PostgreSQL sorts them for a plain {@code order by}, last in ascending and
+     * first in descending order, so the predicate agrees with the page order and the indexes serving it. Orders
+     * ignoring case compare text keys with {@code lower(...)} on both sides, as the page query sorts them; orders
+     * with their own null handling are not supported, the caller rejects them.
+     *
+     * @param orders the sort, ending with a unique key.
+     * @param keys   the key values of the last row of the previous page, by attribute.
+     * @return the specification of the rows after that row.
+     */
+    public static <T> Specification<T> after(List<Sort.Order> orders, Map<String, Object> keys) {
+        return (root, query, builder) -> {
+            List<Predicate> branches = new ArrayList<>();
+            List<Predicate> equal = new ArrayList<>();
+            for (Sort.Order order : orders) {
+                Path<Comparable<Object>> path = root.get(order.getProperty());
+                Object value = keys.get(order.getProperty());
+                Predicate beyond;
+                Predicate same;
+                if (order.isIgnoreCase() && String.class.equals(path.getJavaType())) {
+                    @SuppressWarnings("unchecked")
+                    Expression<String> key = builder.lower((Expression<String>) (Expression<?>) path);
+                    Expression<String> bound = value == null ? null : builder.lower(builder.literal((String) value));
+                    beyond = beyondIgnoringCase(builder, key, bound, order.isAscending());
+                    same = bound == null ? builder.isNull(path) : builder.equal(key, bound);
+                } else {
+                    beyond = beyond(builder, path, value, order.isAscending());
+                    same = value == null ? builder.isNull(path) : builder.equal(path, value);
+                }
+                if (beyond != null) {
+                    List<Predicate> branch = new ArrayList<>(equal);
+                    branch.add(beyond);
+                    branches.add(builder.and(branch.toArray(Predicate[]::new)));
+                }
+                equal.add(same);
+            }
+            return builder.or(branches.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * @return the predicate of the values sorted after the given one, null if none is.
+     */
+    @SuppressWarnings("unchecked")
+    private static Predicate beyond(CriteriaBuilder builder,
+                                    Path<Comparable<Object>> path,
+                                    Object value,
+                                    boolean ascending) {
+        if (value == null) {
+            return ascending ? null : builder.isNotNull(path);
+        }
+        Comparable<Object> comparable = (Comparable<Object>) value;
+        return ascending
+                ? builder.or(builder.greaterThan(path, comparable), builder.isNull(path))
+                : builder.lessThan(path, comparable);
+    }
+
+    /**
+     * @return the predicate of the lowered values sorted after the given lowered bound, null if none is.
+     */
+    private static Predicate beyondIgnoringCase(CriteriaBuilder builder,
+                                                Expression<String> key,
+                                                Expression<String> bound,
+                                                boolean ascending) {
+        if (bound == null) {
+            return ascending ? null : builder.isNotNull(key);
+        }
+        return ascending
+                ? builder.or(builder.greaterThan(key, bound), builder.isNull(key))
+                : builder.lessThan(key, bound);
+    }
+}
@@ -0,0 +1,20 @@
+package com.deeptech.iamis.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity whose rows belong to an organisation unit. {@link SearchService} limits the queries of a user
+ * scoped to a unit to the rows of that unit and the units below it.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OrganisationScoped {
+
+    /**
+     * @return the attribute holding the organisation unit id, such as {@code organisationUnitId}.
+     */
+    String value();
+}
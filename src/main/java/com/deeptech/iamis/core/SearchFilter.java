@@ -0,0 +1,211 @@
+package com.deeptech.iamis.core;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.validation.ValidationException;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * A precompiled filter for one searchable attribute of an entity.
+ * <p>
+ * Instances are created once by {@link SearchFilterRegistry} from the JPA metamodel, so a search request
+ * only has to convert the raw request value and build the predicate, without any reflection.
+ */
+public final class SearchFilter {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final String attribute;
+
+    private final Class<?> javaType;
+
+    private final Function<String, Object> parser;
+
+    private final boolean text;
+
+    private SearchFilter(String attribute, Class<?> javaType, Function<String, Object> parser, boolean text) {
+        this.attribute = attribute;
+        this.javaType = javaType;
+        this.parser = parser;
+        this.text = text;
+    }
+
+    /**
+     * Creates a filter for the given attribute, or returns null when values of that type cannot be searched.
+     *
+     * @param attribute the attribute name as used in the search map.
+     * @param javaType  the java type of the attribute.
+     * @return the compiled filter or null.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static SearchFilter of(String attribute, Class<?> javaType) {
+        if (javaType == String.class) {
+            return new SearchFilter(attribute, javaType, value -> value, true);
+        }
+        if (javaType == Long.class || javaType == long.class) {
+            return new SearchFilter(attribute, javaType, Long::valueOf, false);
+        }
+        if (javaType == Integer.class || javaType == int.class) {
+            return new SearchFilter(attribute, javaType, Integer::valueOf, false);
+        }
+        if (javaType == BigDecimal.class) {
+            return new SearchFilter(attribute, javaType, BigDecimal::new, false);
+        }
+        if (javaType == Boolean.class || javaType == boolean.class) {
+            return new SearchFilter(attribute, javaType, value -> value.equalsIgnoreCase("true"), false);
+        }
+        if (javaType == UUID.class) {
+            return new SearchFilter(attribute, javaType, UUID::fromString, false);
+        }
+        if (javaType == LocalDate.class) {
+            return new SearchFilter(attribute, javaType, LocalDate::parse, false);
+        }
+        if (javaType == LocalDateTime.class) {
+            return new SearchFilter(attribute, javaType, LocalDateTime::parse, false);
+        }
+        if (javaType.isEnum()) {
+            return new SearchFilter(attribute, javaType, value -> Enum.valueOf((Class<Enum>) javaType, value), false);
+        }
+        return null;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public Class<?> getJavaType() {
+        return javaType;
+    }
+
+    /**
+     * Converts the raw request value and returns the specification matching it.
+     *
+     * @param value the raw, non-empty value from the search map.
+     * @return the specification for this attribute.
+     * @throws ValidationException if the value cannot be converted to the attribute type.
+     */
+    public <T> Specification<T> toSpecification(String value) {
+        Object converted = text ? "%" + escapeLike(value.toLowerCase()) + "%" : parse(value);
+        return (root, query, builder) -> toPredicate(root, builder, converted);
+    }
+
+    /**
+     * Converts the raw request value and returns the specification comparing the attribute with it using the
+     * given operator. Unlike {@link #toSpecification(String)}, {@link SearchOperator#EQ} matches text exactly.
+     * Every operator binds its values as parameters, so the predicate can use a plain index on the column.
+     *
+     * @param operator the operator from the search key suffix.
+     * @param value    the raw, non-empty value from the search map; comma separated for
+     *                 {@link SearchOperator#IN} and {@link SearchOperator#BETWEEN}.
+     * @return the specification for this attribute.
+     * @throws ValidationException if the value cannot be converted or the operator does not apply to the type.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> Specification<T> toSpecification(SearchOperator operator, String value) {
+        switch (operator) {
+            case EQ -> {
+                Object converted = parse(value);
+                return (root, query, builder) -> builder.equal(root.get(attribute), converted);
+            }
+            case IN -> {
+                List<Object> converted = parseList(value);
+                return (root, query, builder) -> root.get(attribute).in(converted);
+            }
+            case BETWEEN -> {
+                List<Object> bounds = parseList(value);
+                if (bounds.size() != 2) {
+                    throw new ValidationException("Search field " + attribute + ".between expects two values");
+                }
+                Comparable lower = requireComparable(bounds.get(0));
+                Comparable upper = requireComparable(bounds.get(1));
+                return (root, query, builder) -> {
+                    Expression<Comparable> path = root.get(attribute);
+                    return builder.between(path, lower, upper);
+                };
+            }
+            default -> {
+                Comparable converted = requireComparable(parse(value));
+                return (root, query, builder) -> {
+                    Expression<Comparable> path = root.get(attribute);
+                    return switch (operator) {
+                        case GT -> builder.greaterThan(path, converted);
+                        case GTE -> builder.greaterThanOrEqualTo(path, converted);
+                        case LT -> builder.lessThan(path, converted);
+                        default -> builder.lessThanOrEqualTo(path, converted);
+                    };
+                };
+            }
+        }
+    }
+
+    /**
+     * Converts a raw request value to the java type of the attribute.
+     *
+     * @param value the raw value.
+     * @return the typed value.
+     * @throws ValidationException if the value cannot be converted to the attribute type.
+     */
+    public Object parse(String value) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid value '" + value + "' for search field " + attribute);
+        }
+    }
+
+    private List<Object> parseList(String value) {
+        List<Object> values = new ArrayList<>();
+        for (String item : value.split(",")) {
+            String trimmed = item.trim();
+            if (!trimmed.isEmpty()) {
+                values.add(parse(trimmed));
+            }
+        }
+        if (values.isEmpty()) {
+            throw new ValidationException("Invalid value '" + value + "' for search field " + attribute);
+        }
+        return values;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Comparable requireComparable(Object value) {
+        if (value instanceof Comparable comparable && javaType != Boolean.class && javaType != boolean.class) {
+            return comparable;
+        }
+        throw new ValidationException("Search field " + attribute + " does not support range operators");
+    }
+
+    /**
+     * Escapes LIKE wildcards in a raw value, so a search for {@code 50%} matches the text literally instead of
+     * turning into a pattern the trigram indexes cannot narrow down.
+     */
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private Predicate toPredicate(Root<?> root, CriteriaBuilder builder, Object converted) {
+        if (text) {
+            Expression<String> path = root.get(attribute);
+            return builder.like(builder.lower(path), (String) converted, LIKE_ESCAPE);
+        }
+        return builder.equal(root.get(attribute), converted);
+    }
+}
@@ -0,0 +1,54 @@
+package com.deeptech.iamis.core;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of the searchable attributes of every entity, built once at startup from the JPA metamodel.
+ * <p>
+ * Each basic singular attribute, including the ones inherited from {@link BaseModel} such as uuid and createdAt,
+ * gets a precompiled {@link SearchFilter}. {@link SearchService} looks filters up here instead of reflecting
+ * over the entity class on every request.
+ */
+@Slf4j
+@Component
+public class SearchFilterRegistry {
+
+    private final Map<Class<?>, Map<String, SearchFilter>> filters;
+
+    public SearchFilterRegistry(EntityManagerFactory entityManagerFactory) {
+        Map<Class<?>, Map<String, SearchFilter>> byEntity = new HashMap<>();
+        for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+            Map<String, SearchFilter> entityFilters = new HashMap<>();
+            for (SingularAttribute<?, ?> attribute : entityType.getSingularAttributes()) {
+                if (attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC) {
+                    continue;
+                }
+                SearchFilter filter = SearchFilter.of(attribute.getName(), attribute.getJavaType());
+                if (filter != null) {
+                    entityFilters.put(attribute.getName(), filter);
+                }
+            }
+            byEntity.put(entityType.getJavaType(), Map.copyOf(entityFilters));
+        }
+        this.filters = Map.copyOf(byEntity);
+        log.info("Compiled search filters for {} entities", filters.size());
+    }
+
+    /**
+     * Returns the searchable attributes of the given entity keyed by attribute name.
+     *
+     * @param entity the entity class.
+     * @return an immutable map of filters, empty if the class is not a known entity.
+     */
+    public Map<String, SearchFilter> filtersFor(Class<?> entity) {
+        return filters.getOrDefault(entity, Map.of());
+    }
+}
@@ -0,0 +1,33 @@
+package com.deeptech.iamis.core;
+
+import jakarta.validation.ValidationException;
+
+/**
+ * Comparison operators accepted as a suffix of a search key, e.g. {@code startDate.gte=2024-07-01},
+ * {@code levelId.in=1,2,3} or {@code minValue.between=1,5}. A key without a suffix uses {@link #EQ}.
+ */
+public enum SearchOperator {
+    EQ,
+    GT,
+    GTE,
+    LT,
+    LTE,
+    IN,
+    BETWEEN;
+
+    /**
+     * Returns the operator for the given suffix.
+     *
+     * @param suffix the part of the search key after the last dot.
+     * @return the operator.
+     * @throws ValidationException if the suffix is not a known operator.
+     */
+    public static SearchOperator fromSuffix(String suffix) {
+        for (SearchOperator operator : values()) {
+            if (operator.name().equalsIgnoreCase(suffix)) {
+                return operator;
+            }
+        }
+        throw new ValidationException("Unknown search operator " + suffix);
+    }
+}
@@ -1,69 +1,587 @@
 package com.deeptech.iamis.core;
 
+import com.deeptech.iamis.modules.organisation_unit.OrganisationUnitScope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
 
-import java.lang.reflect.Field;
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
-public class SearchService<T> {
+public class SearchService<T extends BaseModel> {
 
+    private static final String ID = "id";
+
+    private static final String UUID_ATTRIBUTE = "uuid";
+
+    private static final String COUNT = "count";
+
+    private static final String EXACT_COUNT = "exact";
+
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    /**
+     * The most items a batch request may hold.
+     */
+    public static final int BATCH_LIMIT = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private SearchFilterRegistry searchFilterRegistry;
+
+    private TableStatistics tableStatistics;
+
+    private DtoProjectionRegistry dtoProjectionRegistry;
+
+    private ObjectMapper objectMapper;
+
+    private Validator validator;
+
+    private OrganisationUnitScope organisationUnitScope;
+
+    @Autowired
+    public void setSearchFilterRegistry(SearchFilterRegistry searchFilterRegistry) {
+        this.searchFilterRegistry = searchFilterRegistry;
+    }
+
+    @Autowired
+    public void setTableStatistics(TableStatistics tableStatistics) {
+        this.tableStatistics = tableStatistics;
+    }
+
+    @Autowired
+    public void setDtoProjectionRegistry(DtoProjectionRegistry dtoProjectionRegistry) {
+        this.dtoProjectionRegistry = dtoProjectionRegistry;
+    }
+
+    @Autowired
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Autowired
+    public void setValidator(Validator validator) {
+        this.validator = validator;
+    }
+
+    @Autowired
+    public void setOrganisationUnitScope(OrganisationUnitScope organisationUnitScope) {
+        this.organisationUnitScope = organisationUnitScope;
+    }
+
+    /**
+     * Builds the specification for the given search criteria.
+     * <p>
+     * A plain key such as {@code name=dar} matches text by substring and other types by equality. A key with an
+     * operator suffix, such as {@code startDate.gte=2024-07-01}, {@code levelId.in=1,2,3} or
+     * {@code minValue.between=1,5}, compiles to the matching comparison, see {@link SearchOperator}. Keys that are
+     * not attributes of the entity, such as page and size, are ignored.
+     * <p>
+     * For an {@link OrganisationScoped} entity and a user scoped to an organisation unit, the criteria are
+     * and-ed with the subtree of that unit, see {@link OrganisationUnitScope}, so every list, cursor page,
+     * count and export only holds the rows the user may see.
+     *
+     * @param entity the entity class.
+     * @param search the search criteria; {@code searchType=or} combines them with or instead of and.
+     * @return the specification.
+     * @throws ValidationException if a value cannot be converted or an operator is unknown.
+     */
     public Specification<T> createSpecification(Class<T> entity, Map<String, Object> search) {
+        return withScope(entity, criteriaOf(entity, search));
+    }
+
+    /**
+     * @param entity the entity class.
+     * @return the rows of the entity the current user may see, null if they may see all, see
+     * {@link OrganisationUnitScope}.
+     */
+    protected Specification<T> scopeOf(Class<T> entity) {
+        return organisationUnitScope.specificationFor(entity);
+    }
+
+    private Specification<T> withScope(Class<T> entity, Specification<T> specification) {
+        Specification<T> scope = scopeOf(entity);
+        return scope == null ? specification : specification.and(scope);
+    }
+
+    /**
+     * Finds a row by its uuid, provided the current user may see it; a row outside their organisation unit is
+     * not found, as it is in lists.
+     *
+     * @param repository the repository of the entity.
+     * @param entity     the entity class.
+     * @param uuid       the uuid.
+     * @return the row, empty if there is none the user may see.
+     */
+    protected Optional<T> findVisible(JpaSpecificationExecutor<T> repository, Class<T> entity, UUID uuid) {
+        return repository.findOne(withScope(entity,
+                (root, query, builder) -> builder.equal(root.get(UUID_ATTRIBUTE), uuid)));
+    }
+
+    private Specification<T> criteriaOf(Class<T> entity, Map<String, Object> search) {
         Specification<T> specification = Specification.where(null);
 
-        boolean isOr = search.containsKey("searchType") && search.get("searchType").equals("or");
-
-        List<String> allowedProps =
-                Arrays.stream(entity.getDeclaredFields()).map(Field::getName).toList();
-        if (!search.isEmpty()) {
-            for (String key : search.keySet()) {
-                if (allowedProps.contains(key) && !search.get(key).toString().isEmpty()) {
-                    try {
-                        Field field = entity.getDeclaredField(key);
-                        specification =
-                                isOr
-                                        ? specification.or(
-                                        (root, query, builder) -> {
-                                            if (field.getType() == Long.class) {
-                                                return builder.equal(root.get(key), search.get(key));
-                                            } else if (field.getType() == Boolean.class) {
-                                                Boolean bool = search.get(key).toString().equalsIgnoreCase("true");
-                                                return builder.equal(root.get(key), bool);
-                                            }
-                                            if (field.getType().isEnum()) {
-                                                return builder.equal(root.get(key), search.get(key));
-                                            } else {
-                                                return builder.like(
-                                                        builder.lower(root.get(key)),
-                                                        "%" + search.get(key).toString().toLowerCase() + "%");
-                                            }
-                                        })
-                                        : specification.and(
-                                        (root, query, builder) -> {
-                                            if (field.getType() == Long.class) {
-                                                return builder.equal(root.get(key), search.get(key));
-                                            } else if (field.getType() == Boolean.class) {
-                                                Boolean bool = search.get(key).toString().equalsIgnoreCase("true");
-                                                return builder.equal(root.get(key), bool);
-                                            }
-                                            if (field.getType().isEnum()) {
-                                                return builder.equal(root.get(key), search.get(key));
-                                            } else {
-                                                return builder.like(
-                                                        builder.lower(root.get(key)),
-                                                        "%" + search.get(key).toString().toLowerCase() + "%");
-                                            }
-                                        });
-                    } catch (Exception e) {
-                        log.error(e.toString());
-                    }
+        if (search.isEmpty()) {
+            return specification;
+        }
+
+        boolean isOr = "or".equals(search.get("searchType"));
+        Map<String, SearchFilter> filters = searchFilterRegistry.filtersFor(entity);
+
+        for (Map.Entry<String, Object> entry : search.entrySet()) {
+            if (entry.getValue() == null || entry.getValue().toString().isEmpty()) {
+                continue;
+            }
+            String key = entry.getKey();
+            String attribute = attributeOf(key);
+            SearchFilter filter = filters.get(attribute);
+            if (filter == null) {
+                continue;
+            }
+            String value = entry.getValue().toString();
+            Specification<T> next = attribute.length() == key.length()
+                    ? filter.toSpecification(value)
+                    : filter.toSpecification(SearchOperator.fromSuffix(key.substring(attribute.length() + 1)), value);
+            specification = isOr ? specification.or(next) : specification.and(next);
+        }
+        return specification;
+    }
+
+    /**
+     * Finds one page of entities matching the search criteria, read straight into DTOs.
+     * <p>
+     * The page is read with a single tuple query through the entity's {@link DtoProjection}, joining the
+     * associations the DTO takes labels from, so no entity is loaded or dirty checked and no lazy association
+     * is fetched per row.
+     * <p>
+     * An exact {@code count(*)} is only run when the client asks for it with {@code count=exact}. Otherwise one
+     * extra row is fetched to tell whether there is a next page, and the total is exact only when this is the
+     * last page; before that it is the planner's row estimate for unfiltered lists, or null for filtered or
+     * organisation scoped ones.
+     *
+     * @param entity   the entity class.
+     * @param dto      the DTO class to read the rows into.
+     * @param pageable the page number, size and sort.
+     * @param search   the search criteria, as accepted by {@link #createSpecification(Class, Map)}.
+     * @return a {@link org.springframework.data.domain.Page} when an exact count was asked for,
+     * an {@link EstimatedSlice} otherwise.
+     */
+    protected <D> Slice<D> findSlice(Class<T> entity,
+                                     Class<D> dto,
+                                     Pageable pageable,
+                                     Map<String, Object> search) {
+        return findSlice(entity, dto, pageable, search, null);
+    }
+
+    /**
+     * Finds one page of entities matching both the search criteria and the given scope, such as a subtree of the
+     * organisation hierarchy, as {@link #findSlice(Class, Class, Pageable, Map)} does.
+     *
+     * @param scope a specification the search criteria are and-ed with, null for none.
+     */
+    protected <D> Slice<D> findSlice(Class<T> entity,
+                                     Class<D> dto,
+                                     Pageable pageable,
+                                     Map<String, Object> search,
+                                     Specification<T> scope) {
+        DtoProjection<T, D> projection = dtoProjectionRegistry.projectionFor(entity, dto);
+        Specification<T> specification = scope == null
+                ? createSpecification(entity, search)
+                : createSpecification(entity, search).and(scope);
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(
+                createTupleQuery(entity, projection, specification, pageable.getSort(), List.of()));
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(projection.toDtos(entityManager, typedQuery.getResultList()));
+        }
+        if (EXACT_COUNT.equals(search.get(COUNT))) {
+            List<D> content = projection.toDtos(entityManager, typedQuery
+                    .setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize())
+                    .getResultList());
+            return PageableExecutionUtils.getPage(content, pageable, () -> count(entity, specification));
+        }
+
+        List<Tuple> rows = typedQuery
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<D> content = projection.toDtos(entityManager, hasNext ? rows.subList(0, pageable.getPageSize()) : rows);
+        if (!hasNext && (!content.isEmpty() || pageable.getOffset() == 0)) {
+            return new EstimatedSlice<>(content, pageable, false, pageable.getOffset() + content.size(), false);
+        }
+        boolean filtered = scope != null || hasFilters(entity, search) || scopeOf(entity) != null;
+        Long estimate = filtered ? null : tableStatistics.estimateRows(entity);
+        return new EstimatedSlice<>(content, pageable, hasNext, estimate, true);
+    }
+
+    /**
+     * Writes every entity matching the search criteria to the given stream, in constant memory.
+     * <p>
+     * Rows are read through the entity's {@link DtoProjection} as a forward-only result stream with a JDBC fetch
+     * size, so neither the result set nor the persistence context grows with the export. The caller must run
+     * inside a transaction for the driver to use a server-side cursor.
+     *
+     * @param entity the entity class.
+     * @param dto    the DTO class to export the rows as.
+     * @param format the export format.
+     * @param sort   the order of the rows.
+     * @param search the search criteria, as accepted by {@link #createSpecification(Class, Map)}.
+     * @param out    the stream to write to; it is flushed but not closed.
+     * @throws IOException if writing to the stream fails.
+     */
+    protected <D> void exportAll(Class<T> entity,
+                                 Class<D> dto,
+                                 ExportFormat format,
+                                 Sort sort,
+                                 Map<String, Object> search,
+                                 OutputStream out) throws IOException {
+        DtoProjection<T, D> projection = dtoProjectionRegistry.projectionFor(entity, dto);
+        CriteriaQuery<Tuple> query = createTupleQuery(
+                entity, projection, createSpecification(entity, search), sort, List.of());
+        ExportWriter<D> writer = ExportWriter.of(format, dto, objectMapper, out);
+
+        List<Tuple> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
+        try (Stream<Tuple> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_BATCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<Tuple> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == EXPORT_BATCH_SIZE) {
+                    writeBatch(projection, writer, batch);
                 }
             }
         }
-        Specification<T> all = Specification.where(null);
-        return all.and(specification);
+        writeBatch(projection, writer, batch);
+        writer.flush();
+    }
+
+    private <D> void writeBatch(DtoProjection<T, D> projection, ExportWriter<D> writer, List<Tuple> batch)
+            throws IOException {
+        for (D dto : projection.toDtos(entityManager, batch)) {
+            writer.write(dto);
+        }
+        writer.flush();
+        batch.clear();
+    }
+
+    /**
+     * @param keys attributes selected after the projection's columns, e.g. the sort keys a cursor is built from.
+     */
+    private <D> CriteriaQuery<Tuple> createTupleQuery(Class<T> entity,
+                                                      DtoProjection<T, D> projection,
+                                                      Specification<T> specification,
+                                                      Sort sort,
+                                                      Collection<String> keys) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<T> root = query.from(entity);
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<Selection<?>> selections = new ArrayList<>(projection.selections(root));
+        keys.forEach(key -> selections.add(root.get(key)));
+        query.multiselect(selections);
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, builder));
+        }
+        return query;
+    }
+
+    private long count(Class<T> entity, Specification<T> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<T> root = query.from(entity);
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(builder.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private boolean hasFilters(Class<T> entity, Map<String, Object> search) {
+        Map<String, SearchFilter> filters = searchFilterRegistry.filtersFor(entity);
+        return search.entrySet().stream()
+                .anyMatch(entry -> entry.getValue() != null
+                        && !entry.getValue().toString().isEmpty()
+                        && filters.containsKey(attributeOf(entry.getKey())));
+    }
+
+    private static String attributeOf(String key) {
+        int dot = key.lastIndexOf('.');
+        return dot < 0 ? key : key.substring(0, dot);
+    }
+
+    /**
+     * Finds one page after the given cursor by seeking on the sort key plus id, so the cost of a page
+     * does not grow with its depth and no count query is run.
+     * <p>
+     * The page is read through the entity's {@link DtoProjection} like {@link #findSlice(Class, Class, Pageable, Map)},
+     * with the sort keys selected after the DTO columns to build the next cursor from. The seek predicate is
+     * {@link KeysetCursor#after(List, Map)}, which handles null sort keys the way the database orders them and
+     * orders ignoring case; orders placing nulls first or last are rejected.
+     *
+     * @param entity   the entity class.
+     * @param dto      the DTO class to read the rows into.
+     * @param cursor   the cursor returned with the previous page, null or empty for the first page.
+     * @param pageable the page size and sort; the page number is ignored.
+     * @param search   the search criteria, as accepted by {@link #createSpecification(Class, Map)}.
+     * @return the page and the cursor of the next one.
+     * @throws ValidationException if the cursor is invalid or does not match the requested sort.
+     */
+    protected <D> CursorPage<D> scroll(Class<T> entity,
+                                       Class<D> dto,
+                                       String cursor,
+                                       Pageable pageable,
+                                       Map<String, Object> search) {
+        Map<String, SearchFilter> filters = searchFilterRegistry.filtersFor(entity);
+        Sort sort = pageable.getSort().getOrderFor(ID) == null
+                ? pageable.getSort().and(Sort.by(ID))
+                : pageable.getSort();
+
+        Set<String> sortKeys = new LinkedHashSet<>();
+        for (Sort.Order order : sort) {
+            if (!filters.containsKey(order.getProperty())) {
+                throw new ValidationException("Cannot use a cursor when sorting by " + order.getProperty());
+            }
+            if (order.getNullHandling() != Sort.NullHandling.NATIVE) {
+                throw new ValidationException("Cannot use a cursor when placing the nulls of " + order.getProperty());
+            }
+            sortKeys.add(order.getProperty());
+        }
+
+        Specification<T> specification = createSpecification(entity, search);
+        if (cursor != null && !cursor.isEmpty()) {
+            Map<String, Object> keys = KeysetCursor.decode(cursor, filters);
+            if (!keys.keySet().equals(sortKeys)) {
+                throw new ValidationException("Cursor does not match the requested sort");
+            }
+            specification = specification.and(KeysetCursor.after(sort.toList(), keys));
+        }
+
+        DtoProjection<T, D> projection = dtoProjectionRegistry.projectionFor(entity, dto);
+        List<Tuple> rows = entityManager
+                .createQuery(createTupleQuery(entity, projection, specification, sort, sortKeys))
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Tuple> page = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        String nextCursor = null;
+        if (hasNext && !page.isEmpty()) {
+            Tuple last = page.get(page.size() - 1);
+            int index = last.getElements().size() - sortKeys.size();
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (String key : sortKeys) {
+                keys.put(key, last.get(index++));
+            }
+            nextCursor = KeysetCursor.encode(keys);
+        }
+        return new CursorPage<>(projection.toDtos(entityManager, page), pageable.getPageSize(), nextCursor);
+    }
+
+    /**
+     * Saves each DTO with the given single-row save in the current transaction.
+     * <p>
+     * Invalid DTOs and DTOs whose save fails with {@link EntityNotFoundException} or {@link ValidationException}
+     * are reported and skipped; {@code revert} is called with each DTO whose save failed, to undo what the save
+     * changed before it failed. Flushing is deferred to the end, so the inserts and updates of all items go to
+     * the database as JDBC batches; if one of those statements fails, e.g. on a unique constraint, the whole
+     * batch is rejected.
+     *
+     * @param dtos   the DTOs.
+     * @param save   the single-row save of the service.
+     * @param revert undoes the changes of a failed save, see {@link #revert(Object)}.
+     * @return the outcome of each DTO, in request order.
+     * @throws ValidationException if the batch is too large or its statements fail.
+     */
+    protected <D> List<BatchItem<D>> saveEach(List<D> dtos, UnaryOperator<D> save, Consumer<D> revert) {
+        requireBatchLimit(dtos.size());
+        List<BatchItem<D>> items = new ArrayList<>(dtos.size());
+        FlushModeType flushMode = entityManager.getFlushMode();
+        entityManager.setFlushMode(FlushModeType.COMMIT);
+        try {
+            for (int i = 0; i < dtos.size(); i++) {
+                D dto = dtos.get(i);
+                String error = validate(dto);
+                if (error != null) {
+                    items.add(BatchItem.failed(i, error));
+                    continue;
+                }
+                try {
+                    items.add(BatchItem.succeeded(i, save.apply(dto)));
+                } catch (EntityNotFoundException | ValidationException e) {
+                    revert.accept(dto);
+                    items.add(BatchItem.failed(i, e.getMessage()));
+                }
+            }
+            flush("Cannot save batch");
+        } finally {
+            entityManager.setFlushMode(flushMode);
+        }
+        return items;
+    }
+
+    /**
+     * Finds the rows with the given uuids in one query.
+     *
+     * @param repository the repository of the entity.
+     * @param entity     the entity class.
+     * @param uuids      the uuids.
+     * @param toDto      converts a found entity.
+     * @return the outcome of each uuid, in request order; unknown uuids and rows the user may not see are
+     * reported as failed.
+     * @throws ValidationException if the batch is too large.
+     */
+    protected <D> List<BatchItem<D>> findEach(BaseRepository<T, ?> repository,
+                                              Class<T> entity,
+                                              List<UUID> uuids,
+                                              Function<T, D> toDto) {
+        requireBatchLimit(uuids.size());
+        Map<UUID, T> found = findByUuids(repository, entity, uuids);
+        List<BatchItem<D>> items = new ArrayList<>(uuids.size());
+        for (int i = 0; i < uuids.size(); i++) {
+            T entity = found.get(uuids.get(i));
+            items.add(entity == null
+                    ? BatchItem.failed(i, "No row with uuid " + uuids.get(i))
+                    : BatchItem.succeeded(i, toDto.apply(entity)));
+        }
+        return items;
+    }
+
+    /**
+     * Deletes the rows with the given uuids in the current transaction; the deletes go to the database as
+     * JDBC batches. If one of them fails, e.g. because the row is still referenced, the whole batch is rejected.
+     *
+     * @param repository   the repository of the entity.
+     * @param entity       the entity class.
+     * @param uuids        the uuids.
+     * @param beforeDelete called with each found row before any is deleted, the same check the single-row
+     *                     delete runs.
+     * @return the outcome of each uuid, in request order; unknown uuids and rows the user may not see are
+     * reported as failed.
+     * @throws ValidationException if the batch is too large, a row fails the check or the statements fail.
+     */
+    protected List<BatchItem<UUID>> deleteEach(BaseRepository<T, ?> repository,
+                                               Class<T> entity,
+                                               List<UUID> uuids,
+                                               Consumer<T> beforeDelete) {
+        requireBatchLimit(uuids.size());
+        Map<UUID, T> found = findByUuids(repository, entity, uuids);
+        found.values().forEach(beforeDelete);
+        List<BatchItem<UUID>> items = new ArrayList<>(uuids.size());
+        for (int i = 0; i < uuids.size(); i++) {
+            items.add(found.containsKey(uuids.get(i))
+                    ? BatchItem.succeeded(i, uuids.get(i))
+                    : BatchItem.failed(i, "No row with uuid " + uuids.get(i)));
+        }
+        repository.deleteAll(found.values());
+        flush("Cannot delete batch");
+        return items;
+    }
+
+    private Map<UUID, T> findByUuids(BaseRepository<T, ?> repository, Class<T> entity, List<UUID> uuids) {
+        Set<UUID> distinct = new HashSet<>(uuids);
+        distinct.remove(null);
+        Map<UUID, T> found = new HashMap<>();
+        if (!distinct.isEmpty()) {
+            for (T row : repository.findAll(withScope(entity,
+                    (root, query, builder) -> root.get(UUID_ATTRIBUTE).in(distinct)))) {
+                found.put(row.getUuid(), row);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Flushes the persistence context, reporting a failing statement, e.g. on a constraint, as invalid input.
+     *
+     * @param message what failed.
+     * @throws ValidationException if a statement fails.
+     */
+    /**
+     * Discards the unflushed changes of a managed row by reloading it from the database.
+     *
+     * @param entity the row; left alone if it is not managed.
+     */
+    protected void revert(T entity) {
+        if (entityManager.contains(entity)) {
+            entityManager.refresh(entity);
+        }
+    }
+
+    protected void flush(String message) {
+        try {
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            log.warn(message, e);
+            throw new ValidationException(message + ": " + e.getMessage());
+        }
+    }
+
+    private <D> String validate(D dto) {
+        Set<ConstraintViolation<D>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static void requireBatchLimit(int size) {
+        if (size > BATCH_LIMIT) {
+            throw new ValidationException("A batch may hold at most " + BATCH_LIMIT + " items");
+        }
     }
 }
@@ -0,0 +1,17 @@
+package com.deeptech.iamis.core;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Takes the ids of the annotated field from the pooled sequence of its table, see {@link TableSequenceGenerator}.
+ */
+@IdGeneratorType(TableSequenceGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TableSequence {
+}
@@ -0,0 +1,43 @@
+package com.deeptech.iamis.core;
+
+import org.hibernate.MappingException;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Generates ids from a sequence of its own per table, named {@code <table>_seq}, with the pooled optimizer, for
+ * id fields annotated with {@link TableSequence}.
+ * <p>
+ * Unlike identity columns, sequence ids are known before the insert, so Hibernate can batch inserts; with an
+ * increment of {@link #ALLOCATION_SIZE} only one {@code nextval} call is made per block of ids. The sequences
+ * are created by the {@code use_pooled_id_sequences} migration; any other writer of these tables, e.g.
+ * {@link BulkImporter}, must take ids from them the same way.
+ */
+public class TableSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private static final String SEQUENCE_SUFFIX = "_seq";
+
+    /**
+     * @param table the table name.
+     * @return the name of the sequence ids of the table are taken from.
+     */
+    public static String sequenceName(String table) {
+        return table + SEQUENCE_SUFFIX;
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        String table = parameters.getProperty(PersistentIdentifierGenerator.TABLE);
+        parameters.setProperty(SEQUENCE_PARAM, sequenceName(table));
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(ALLOCATION_SIZE));
+        parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
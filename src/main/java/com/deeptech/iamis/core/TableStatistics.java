@@ -0,0 +1,41 @@
+package com.deeptech.iamis.core;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Table;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads row estimates the PostgreSQL planner keeps in {@code pg_class}, so list endpoints can report
+ * an approximate total without running {@code count(*)}.
+ */
+@Component
+public class TableStatistics {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Returns the planner's row estimate of the table backing the given entity.
+     *
+     * @param entity the entity class.
+     * @return the estimated number of rows, or null if the table has not been analyzed yet.
+     */
+    public Long estimateRows(Class<?> entity) {
+        Table table = entity.getAnnotation(Table.class);
+        if (table == null) {
+            return null;
+        }
+        Object result = entityManager
+                .createNativeQuery("select cast(reltuples as bigint) from pg_class where oid = to_regclass(:table)")
+                .setParameter("table", table.name())
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+        if (result == null) {
+            return null;
+        }
+        long rows = ((Number) result).longValue();
+        return rows < 0 ? null : rows;
+    }
+}
@@ -1,7 +1,9 @@
 package com.deeptech.iamis.modules.authority;
 
 import jakarta.validation.constraints.NotNull;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.deeptech.iamis.core.BaseRepository;
 
 import java.util.List;
@@ -17,4 +19,16 @@ public interface AuthorityRepository extends BaseRepository<Authority, Long> {
 
     @Query("Select a from Authority a order by a.resource, a.method")
     List<Authority> findAll();
-}
\ No newline at end of file
+
+    @Modifying
+    @Query(value = "delete from role_authorities where authority_id in (:ids)", nativeQuery = true)
+    int deleteRoleGrantsByAuthorityIdIn(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from menu_item_authorities where authority_id in (:ids)", nativeQuery = true)
+    int deleteMenuItemGrantsByAuthorityIdIn(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("delete from Authority a where a.id in :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+}
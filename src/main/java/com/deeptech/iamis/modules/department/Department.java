@@ -1,6 +1,7 @@
 package com.deeptech.iamis.modules.department;
 
 import com.deeptech.iamis.core.BaseModel;
+import com.deeptech.iamis.core.OrganisationScoped;
 import com.deeptech.iamis.modules.organisation_unit.OrganisationUnit;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
@@ -22,6 +23,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "departments")
+@OrganisationScoped("organisationUnitId")
 public class Department extends BaseModel {
 
   @NotNull
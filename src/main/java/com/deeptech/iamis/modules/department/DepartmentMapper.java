@@ -16,6 +16,7 @@ import org.mapstruct.*;
 public interface DepartmentMapper {
   Department toEntity(DepartmentDto departmentDto);
 
+  @Mapping(target = "organisationUnitName", source = "organisationUnit.name")
   DepartmentDto toDto(Department department);
 
   @BeanMapping(
@@ -2,6 +2,7 @@ package com.deeptech.iamis.modules.department;
 
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.ImportableCrudResource;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
 import java.util.Map;
@@ -18,18 +19,29 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/departments: Create a new Department
  * - PUT /api/departments/{uuid}: Update an existing Department
  * - GET /api/departments: Fetch all Departments with optional search and pagination
+ * - GET /api/departments/export: Stream all Departments as NDJSON or CSV
+ * - POST /api/departments/import: Load Departments in bulk from CSV or NDJSON
  * - GET /api/departments/{uuid}: Get an existing Department by its UUID
  * - DELETE /api/departments/{uuid}: Delete a Department by its UUID
+ * - POST /api/departments/batch: Create or update Departments in one request
+ * - POST /api/departments/batch/find: Fetch Departments by their UUIDs
+ * - DELETE /api/departments/batch: Delete Departments by their UUIDs
  * <p>
  * Uses {@link DepartmentService} to perform business logic.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/departments")
-public class DepartmentResource {
+public class DepartmentResource
+  extends ImportableCrudResource<DepartmentDto, DepartmentService> {
 
   private final DepartmentService departmentService;
 
+  @Override
+  protected DepartmentService service() {
+    return departmentService;
+  }
+
   /**
    * Creates a new Department in the system.
    *
@@ -75,15 +87,22 @@ public class DepartmentResource {
    * Retrieves a list of Departments with pagination and optional search parameters.
    *
    * @param pageable the {@link Pageable} object to control pagination.
+   * @param cursor the cursor of the previous page; when present (empty for the first page) the list is served in cursor mode.
    * @param searchParams a map of search parameters (fields names) for filtering Departments.
    * @return {@link CustomApiResponse} containing a list of Departments and pagination information.
    */
   @GetMapping
   public CustomApiResponse get(
     Pageable pageable,
+    @RequestParam(required = false) String cursor,
     @RequestParam Long organisationUnitId,
     @RequestParam Map<String, Object> searchParams
   ) {
+    if (cursor != null) {
+      return CustomApiResponse.ok(
+        departmentService.findAll(cursor, pageable, searchParams)
+      );
+    }
     return CustomApiResponse.ok(
       departmentService.findAll(pageable, searchParams)
     );
@@ -1,6 +1,7 @@
 package com.deeptech.iamis.modules.department;
 
 import com.deeptech.iamis.core.BaseCrudService;
+import com.deeptech.iamis.core.BulkImportService;
 
 /**
  * Service interface for managing Departments in the system.
@@ -8,4 +9,4 @@ import com.deeptech.iamis.core.BaseCrudService;
  * and can define additional functionality to be implemented specific to Department management.
  */
 public interface DepartmentService
-  extends BaseCrudService<DepartmentDto, Department> {}
+  extends BaseCrudService<DepartmentDto, Department>, BulkImportService {}
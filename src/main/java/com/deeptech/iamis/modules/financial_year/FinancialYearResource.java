@@ -2,6 +2,7 @@ package com.deeptech.iamis.modules.financial_year;
 
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.ImportableCrudResource;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
 import java.util.Map;
@@ -18,18 +19,29 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/financial-years: Create a new FinancialYear
  * - PUT /api/financial-years/{uuid}: Update an existing FinancialYear
  * - GET /api/financial-years: Fetch all FinancialYears with optional search and pagination
+ * - GET /api/financial-years/export: Stream all FinancialYears as NDJSON or CSV
+ * - POST /api/financial-years/import: Load FinancialYears in bulk from CSV or NDJSON
  * - GET /api/financial-years/{uuid}: Get an existing FinancialYear by its UUID
  * - DELETE /api/financial-years/{uuid}: Delete a FinancialYear by its UUID
+ * - POST /api/financial-years/batch: Create or update FinancialYears in one request
+ * - POST /api/financial-years/batch/find: Fetch FinancialYears by their UUIDs
+ * - DELETE /api/financial-years/batch: Delete FinancialYears by their UUIDs
  * <p>
  * Uses {@link FinancialYearService} to perform business logic.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/financial-years")
-public class FinancialYearResource {
+public class FinancialYearResource
+  extends ImportableCrudResource<FinancialYearDto, FinancialYearService> {
 
   private final FinancialYearService financialYearService;
 
+  @Override
+  protected FinancialYearService service() {
+    return financialYearService;
+  }
+
   /**
    * Creates a new FinancialYear in the system.
    *
@@ -75,14 +87,21 @@ public class FinancialYearResource {
    * Retrieves a list of FinancialYears with pagination and optional search parameters.
    *
    * @param pageable the {@link Pageable} object to control pagination.
+   * @param cursor the cursor of the previous page; when present (empty for the first page) the list is served in cursor mode.
    * @param searchParams a map of search parameters (fields names) for filtering FinancialYears.
    * @return {@link CustomApiResponse} containing a list of FinancialYears and pagination information.
    */
   @GetMapping
   public CustomApiResponse get(
     Pageable pageable,
+    @RequestParam(required = false) String cursor,
     @RequestParam Map<String, Object> searchParams
   ) {
+    if (cursor != null) {
+      return CustomApiResponse.ok(
+        financialYearService.findAll(cursor, pageable, searchParams)
+      );
+    }
     return CustomApiResponse.ok(
       financialYearService.findAll(pageable, searchParams)
     );
@@ -1,6 +1,7 @@
 package com.deeptech.iamis.modules.financial_year;
 
 import com.deeptech.iamis.core.BaseCrudService;
+import com.deeptech.iamis.core.BulkImportService;
 
 /**
  * Service interface for managing FinancialYears in the system.
@@ -8,4 +9,4 @@ import com.deeptech.iamis.core.BaseCrudService;
  * and can define additional functionality to be implemented specific to FinancialYear management.
  */
 public interface FinancialYearService
-  extends BaseCrudService<FinancialYearDto, FinancialYear> {}
+  extends BaseCrudService<FinancialYearDto, FinancialYear>, BulkImportService {}
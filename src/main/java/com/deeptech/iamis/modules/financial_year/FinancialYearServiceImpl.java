@@ -1,17 +1,11 @@
 package com.deeptech.iamis.modules.financial_year;
 
-import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.core.ImportableCrudService;
 import com.deeptech.iamis.core.Utils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import jakarta.validation.ValidationException;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,7 +13,8 @@ import org.springframework.stereotype.Service;
  * This service uses {@link FinancialYearRepository} for database operations and {@link FinancialYearMapper}
  * to convert between entity and DTO objects.
  * <p>
- * It also extends {@link SearchService} to enable advanced search capabilities for FinancialYears.
+ * It extends {@link ImportableCrudService}, which provides the searches, reads, deletes, exports, imports and
+ * batch operations of FinancialYears.
  */
 
 @Slf4j
@@ -27,7 +22,7 @@ import org.springframework.stereotype.Service;
 @Transactional
 @RequiredArgsConstructor
 public class FinancialYearServiceImpl
-  extends SearchService<FinancialYear>
+  extends ImportableCrudService<FinancialYear, FinancialYearDto>
   implements FinancialYearService {
 
   private final FinancialYearRepository financialYearRepository;
@@ -72,56 +67,13 @@ public class FinancialYearServiceImpl
     return financialYearMapper.toDto(financialYear);
   }
 
-  /**
-   * Finds all FinancialYears based on pagination and search criteria.
-   *
-   * @param pageable the pagination information.
-   * @param searchParams   a map of search criteria.
-   * @return a paginated list of {@link FinancialYearDto}.
-   */
-  @Override
-  public Page<FinancialYearDto> findAll(
-    Pageable pageable,
-    Map<String, Object> searchParams
-  ) {
-    return financialYearRepository
-      .findAll(createSpecification(FinancialYear.class, searchParams), pageable)
-      .map(financialYearMapper::toDto);
-  }
-
-  /**
-   * Finds a FinancialYear by its UUID.
-   *
-   * @param uuid the UUID of the FinancialYear to find.
-   * @return the {@link FinancialYearDto} if found.
-   * @throws ValidationException if the FinancialYear is not found.
-   */
   @Override
-  public FinancialYearDto findById(UUID uuid) {
-    return financialYearRepository
-      .findByUuid(uuid)
-      .map(financialYearMapper::toDto)
-      .orElseThrow(() ->
-        new EntityNotFoundException(
-          "FinancialYear  with uuid " + uuid + " not found"
-        )
-      );
+  protected FinancialYearRepository repository() {
+    return financialYearRepository;
   }
 
-  /**
-   * Deletes a FinancialYear by its UUID.
-   *
-   * @param uuid the UUID of the FinancialYear to delete.
-   * @throws ValidationException if the FinancialYear cannot be deleted.
-   */
   @Override
-  public void delete(UUID uuid) {
-    try {
-      financialYearRepository.deleteByUuid(uuid);
-    } catch (Exception e) {
-      throw new ValidationException(
-        "Cannot delete FinancialYear with uuid " + uuid
-      );
-    }
+  protected FinancialYearDto toDto(FinancialYear financialYear) {
+    return financialYearMapper.toDto(financialYear);
   }
 }
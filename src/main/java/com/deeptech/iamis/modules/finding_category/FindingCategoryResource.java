@@ -2,6 +2,7 @@ package com.deeptech.iamis.modules.finding_category;
 
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.ImportableCrudResource;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
 import java.util.Map;
@@ -18,18 +19,29 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/finding-categories: Create a new FindingCategory
  * - PUT /api/finding-categories/{uuid}: Update an existing FindingCategory
  * - GET /api/finding-categories: Fetch all FindingCategories with optional search and pagination
+ * - GET /api/finding-categories/export: Stream all FindingCategories as NDJSON or CSV
+ * - POST /api/finding-categories/import: Load FindingCategories in bulk from CSV or NDJSON
  * - GET /api/finding-categories/{uuid}: Get an existing FindingCategory by its UUID
  * - DELETE /api/finding-categories/{uuid}: Delete a FindingCategory by its UUID
+ * - POST /api/finding-categories/batch: Create or update FindingCategories in one request
+ * - POST /api/finding-categories/batch/find: Fetch FindingCategories by their UUIDs
+ * - DELETE /api/finding-categories/batch: Delete FindingCategories by their UUIDs
  * <p>
  * Uses {@link FindingCategoryService} to perform business logic.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/finding-categories")
-public class FindingCategoryResource {
+public class FindingCategoryResource
+  extends ImportableCrudResource<FindingCategoryDto, FindingCategoryService> {
 
   private final FindingCategoryService findingCategoryService;
 
+  @Override
+  protected FindingCategoryService service() {
+    return findingCategoryService;
+  }
+
   /**
    * Creates a new FindingCategory in the system.
    *
@@ -75,14 +87,21 @@ public class FindingCategoryResource {
    * Retrieves a list of FindingCategories with pagination and optional search parameters.
    *
    * @param pageable the {@link Pageable} object to control pagination.
+   * @param cursor the cursor of the previous page; when present (empty for the first page) the list is served in cursor mode.
    * @param searchParams a map of search parameters (fields names) for filtering FindingCategories.
    * @return {@link CustomApiResponse} containing a list of FindingCategories and pagination information.
    */
   @GetMapping
   public CustomApiResponse get(
     Pageable pageable,
+    @RequestParam(required = false) String cursor,
     @RequestParam Map<String, Object> searchParams
   ) {
+    if (cursor != null) {
+      return CustomApiResponse.ok(
+        findingCategoryService.findAll(cursor, pageable, searchParams)
+      );
+    }
     return CustomApiResponse.ok(
       findingCategoryService.findAll(pageable, searchParams)
     );
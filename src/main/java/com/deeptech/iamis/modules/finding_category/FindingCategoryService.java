@@ -1,6 +1,7 @@
 package com.deeptech.iamis.modules.finding_category;
 
 import com.deeptech.iamis.core.BaseCrudService;
+import com.deeptech.iamis.core.BulkImportService;
 
 /**
  * Service interface for managing FindingCategories in the system.
@@ -8,4 +9,6 @@ import com.deeptech.iamis.core.BaseCrudService;
  * and can define additional functionality to be implemented specific to FindingCategory management.
  */
 public interface FindingCategoryService
-  extends BaseCrudService<FindingCategoryDto, FindingCategory> {}
+  extends
+    BaseCrudService<FindingCategoryDto, FindingCategory>,
+    BulkImportService {}
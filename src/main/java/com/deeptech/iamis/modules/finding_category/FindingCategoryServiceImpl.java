@@ -1,17 +1,11 @@
 package com.deeptech.iamis.modules.finding_category;
 
-import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.core.ImportableCrudService;
 import com.deeptech.iamis.core.Utils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import jakarta.validation.ValidationException;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,7 +13,8 @@ import org.springframework.stereotype.Service;
  * This service uses {@link FindingCategoryRepository} for database operations and {@link FindingCategoryMapper}
  * to convert between entity and DTO objects.
  * <p>
- * It also extends {@link SearchService} to enable advanced search capabilities for FindingCategories.
+ * It extends {@link ImportableCrudService}, which provides the searches, reads, deletes, exports, imports
+ * and batch operations of FindingCategories.
  */
 
 @Slf4j
@@ -27,7 +22,7 @@ import org.springframework.stereotype.Service;
 @Transactional
 @RequiredArgsConstructor
 public class FindingCategoryServiceImpl
-  extends SearchService<FindingCategory>
+  extends ImportableCrudService<FindingCategory, FindingCategoryDto>
   implements FindingCategoryService {
 
   private final FindingCategoryRepository findingCategoryRepository;
@@ -75,59 +70,13 @@ public class FindingCategoryServiceImpl
     return findingCategoryMapper.toDto(findingCategory);
   }
 
-  /**
-   * Finds all FindingCategories based on pagination and search criteria.
-   *
-   * @param pageable the pagination information.
-   * @param searchParams   a map of search criteria.
-   * @return a paginated list of {@link FindingCategoryDto}.
-   */
-  @Override
-  public Page<FindingCategoryDto> findAll(
-    Pageable pageable,
-    Map<String, Object> searchParams
-  ) {
-    return findingCategoryRepository
-      .findAll(
-        createSpecification(FindingCategory.class, searchParams),
-        pageable
-      )
-      .map(findingCategoryMapper::toDto);
-  }
-
-  /**
-   * Finds a FindingCategory by its UUID.
-   *
-   * @param uuid the UUID of the FindingCategory to find.
-   * @return the {@link FindingCategoryDto} if found.
-   * @throws ValidationException if the FindingCategory is not found.
-   */
   @Override
-  public FindingCategoryDto findById(UUID uuid) {
-    return findingCategoryRepository
-      .findByUuid(uuid)
-      .map(findingCategoryMapper::toDto)
-      .orElseThrow(() ->
-        new EntityNotFoundException(
-          "FindingCategory  with uuid " + uuid + " not found"
-        )
-      );
+  protected FindingCategoryRepository repository() {
+    return findingCategoryRepository;
   }
 
-  /**
-   * Deletes a FindingCategory by its UUID.
-   *
-   * @param uuid the UUID of the FindingCategory to delete.
-   * @throws ValidationException if the FindingCategory cannot be deleted.
-   */
   @Override
-  public void delete(UUID uuid) {
-    try {
-      findingCategoryRepository.deleteByUuid(uuid);
-    } catch (Exception e) {
-      throw new ValidationException(
-        "Cannot delete FindingCategory with uuid " + uuid
-      );
-    }
+  protected FindingCategoryDto toDto(FindingCategory findingCategory) {
+    return findingCategoryMapper.toDto(findingCategory);
   }
 }
@@ -16,6 +16,7 @@ import org.mapstruct.*;
 public interface FindingSubcategoryMapper {
   FindingSubcategory toEntity(FindingSubcategoryDto findingSubcategoryDto);
 
+  @Mapping(target = "findingCategoryName", source = "findingCategory.name")
   FindingSubcategoryDto toDto(FindingSubcategory findingSubcategory);
 
   @BeanMapping(
@@ -2,6 +2,7 @@ package com.deeptech.iamis.modules.finding_subcategory;
 
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.ImportableCrudResource;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
 import java.util.Map;
@@ -18,18 +19,32 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/finding-subcategories: Create a new FindingSubcategory
  * - PUT /api/finding-subcategories/{uuid}: Update an existing FindingSubcategory
  * - GET /api/finding-subcategories: Fetch all FindingSubcategories with optional search and pagination
+ * - GET /api/finding-subcategories/export: Stream all FindingSubcategories as NDJSON or CSV
+ * - POST /api/finding-subcategories/import: Load FindingSubcategories in bulk from CSV or NDJSON
  * - GET /api/finding-subcategories/{uuid}: Get an existing FindingSubcategory by its UUID
  * - DELETE /api/finding-subcategories/{uuid}: Delete a FindingSubcategory by its UUID
+ * - POST /api/finding-subcategories/batch: Create or update FindingSubcategories in one request
+ * - POST /api/finding-subcategories/batch/find: Fetch FindingSubcategories by their UUIDs
+ * - DELETE /api/finding-subcategories/batch: Delete FindingSubcategories by their UUIDs
  * <p>
  * Uses {@link FindingSubcategoryService} to perform business logic.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/finding-subcategories")
-public class FindingSubcategoryResource {
+public class FindingSubcategoryResource
+  extends ImportableCrudResource<
+    FindingSubcategoryDto,
+    FindingSubcategoryService
+  > {
 
   private final FindingSubcategoryService findingSubcategoryService;
 
+  @Override
+  protected FindingSubcategoryService service() {
+    return findingSubcategoryService;
+  }
+
   /**
    * Creates a new FindingSubcategory in the system.
    *
@@ -77,15 +92,22 @@ public class FindingSubcategoryResource {
    * Retrieves a list of FindingSubcategories with pagination and optional search parameters.
    *
    * @param pageable the {@link Pageable} object to control pagination.
+   * @param cursor the cursor of the previous page; when present (empty for the first page) the list is served in cursor mode.
    * @param searchParams a map of search parameters (fields names) for filtering FindingSubcategories.
    * @return {@link CustomApiResponse} containing a list of FindingSubcategories and pagination information.
    */
   @GetMapping
   public CustomApiResponse get(
     Pageable pageable,
+    @RequestParam(required = false) String cursor,
     @RequestParam Long findingCategoryId,
     @RequestParam Map<String, Object> searchParams
   ) {
+    if (cursor != null) {
+      return CustomApiResponse.ok(
+        findingSubcategoryService.findAll(cursor, pageable, searchParams)
+      );
+    }
     return CustomApiResponse.ok(
       findingSubcategoryService.findAll(pageable, searchParams)
     );
@@ -1,6 +1,7 @@
 package com.deeptech.iamis.modules.finding_subcategory;
 
 import com.deeptech.iamis.core.BaseCrudService;
+import com.deeptech.iamis.core.BulkImportService;
 
 /**
  * Service interface for managing FindingSubcategories in the system.
@@ -8,4 +9,6 @@ import com.deeptech.iamis.core.BaseCrudService;
  * and can define additional functionality to be implemented specific to FindingSubcategory management.
  */
 public interface FindingSubcategoryService
-  extends BaseCrudService<FindingSubcategoryDto, FindingSubcategory> {}
+  extends
+    BaseCrudService<FindingSubcategoryDto, FindingSubcategory>,
+    BulkImportService {}
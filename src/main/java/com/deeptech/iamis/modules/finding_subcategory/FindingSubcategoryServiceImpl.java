@@ -1,17 +1,11 @@
 package com.deeptech.iamis.modules.finding_subcategory;
 
-import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.core.ImportableCrudService;
 import com.deeptech.iamis.core.Utils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import jakarta.validation.ValidationException;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,7 +13,8 @@ import org.springframework.stereotype.Service;
  * This service uses {@link FindingSubcategoryRepository} for database operations and {@link FindingSubcategoryMapper}
  * to convert between entity and DTO objects.
  * <p>
- * It also extends {@link SearchService} to enable advanced search capabilities for FindingSubcategories.
+ * It extends {@link ImportableCrudService}, which provides the searches, reads, deletes, exports, imports
+ * and batch operations of FindingSubcategories.
  */
 
 @Slf4j
@@ -27,7 +22,7 @@ import org.springframework.stereotype.Service;
 @Transactional
 @RequiredArgsConstructor
 public class FindingSubcategoryServiceImpl
-  extends SearchService<FindingSubcategory>
+  extends ImportableCrudService<FindingSubcategory, FindingSubcategoryDto>
   implements FindingSubcategoryService {
 
   private final FindingSubcategoryRepository findingSubcategoryRepository;
@@ -77,59 +72,13 @@ public class FindingSubcategoryServiceImpl
     return findingSubcategoryMapper.toDto(findingSubcategory);
   }
 
-  /**
-   * Finds all FindingSubcategories based on pagination and search criteria.
-   *
-   * @param pageable the pagination information.
-   * @param searchParams   a map of search criteria.
-   * @return a paginated list of {@link FindingSubcategoryDto}.
-   */
   @Override
-  public Page<FindingSubcategoryDto> findAll(
-    Pageable pageable,
-    Map<String, Object> searchParams
-  ) {
-    return findingSubcategoryRepository
-      .findAll(
-        createSpecification(FindingSubcategory.class, searchParams),
-        pageable
-      )
-      .map(findingSubcategoryMapper::toDto);
+  protected FindingSubcategoryRepository repository() {
+    return findingSubcategoryRepository;
   }
 
-  /**
-   * Finds a FindingSubcategory by its UUID.
-   *
-   * @param uuid the UUID of the FindingSubcategory to find.
-   * @return the {@link FindingSubcategoryDto} if found.
-   * @throws ValidationException if the FindingSubcategory is not found.
-   */
   @Override
-  public FindingSubcategoryDto findById(UUID uuid) {
-    return findingSubcategoryRepository
-      .findByUuid(uuid)
-      .map(findingSubcategoryMapper::toDto)
-      .orElseThrow(() ->
-        new EntityNotFoundException(
-          "FindingSubcategory  with uuid " + uuid + " not found"
-        )
-      );
-  }
-
-  /**
-   * Deletes a FindingSubcategory by its UUID.
-   *
-   * @param uuid the UUID of the FindingSubcategory to delete.
-   * @throws ValidationException if the FindingSubcategory cannot be deleted.
-   */
-  @Override
-  public void delete(UUID uuid) {
-    try {
-      findingSubcategoryRepository.deleteByUuid(uuid);
-    } catch (Exception e) {
-      throw new ValidationException(
-        "Cannot delete FindingSubcategory with uuid " + uuid
-      );
-    }
+  protected FindingSubcategoryDto toDto(FindingSubcategory findingSubcategory) {
+    return findingSubcategoryMapper.toDto(findingSubcategory);
   }
 }
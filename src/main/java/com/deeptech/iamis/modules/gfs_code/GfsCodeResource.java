@@ -2,6 +2,7 @@ package com.deeptech.iamis.modules.gfs_code;
 
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.ImportableCrudResource;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
 import java.util.Map;
@@ -18,18 +19,29 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/gfs-codes: Create a new GfsCode
  * - PUT /api/gfs-codes/{uuid}: Update an existing GfsCode
  * - GET /api/gfs-codes: Fetch all GfsCodes with optional search and pagination
+ * - GET /api/gfs-codes/export: Stream all GfsCodes as NDJSON or CSV
+ * - POST /api/gfs-codes/import: Load GfsCodes in bulk from CSV or NDJSON
  * - GET /api/gfs-codes/{uuid}: Get an existing GfsCode by its UUID
  * - DELETE /api/gfs-codes/{uuid}: Delete a GfsCode by its UUID
+ * - POST /api/gfs-codes/batch: Create or update GfsCodes in one request
+ * - POST /api/gfs-codes/batch/find: Fetch GfsCodes by their UUIDs
+ * - DELETE /api/gfs-codes/batch: Delete GfsCodes by their UUIDs
  * <p>
  * Uses {@link GfsCodeService} to perform business logic.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/gfs-codes")
-public class GfsCodeResource {
+public class GfsCodeResource
+  extends ImportableCrudResource<GfsCodeDto, GfsCodeService> {
 
   private final GfsCodeService gfsCodeService;
 
+  @Override
+  protected GfsCodeService service() {
+    return gfsCodeService;
+  }
+
   /**
    * Creates a new GfsCode in the system.
    *
@@ -73,14 +85,21 @@ public class GfsCodeResource {
    * Retrieves a list of GfsCodes with pagination and optional search parameters.
    *
    * @param pageable the {@link Pageable} object to control pagination.
+   * @param cursor the cursor of the previous page; when present (empty for the first page) the list is served in cursor mode.
    * @param searchParams a map of search parameters (fields names) for filtering GfsCodes.
    * @return {@link CustomApiResponse} containing a list of GfsCodes and pagination information.
    */
   @GetMapping
   public CustomApiResponse get(
     Pageable pageable,
+    @RequestParam(required = false) String cursor,
     @RequestParam Map<String, Object> searchParams
   ) {
+    if (cursor != null) {
+      return CustomApiResponse.ok(
+        gfsCodeService.findAll(cursor, pageable, searchParams)
+      );
+    }
     return CustomApiResponse.ok(gfsCodeService.findAll(pageable, searchParams));
   }
 
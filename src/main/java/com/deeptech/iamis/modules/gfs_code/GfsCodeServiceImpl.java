@@ -1,17 +1,11 @@
 package com.deeptech.iamis.modules.gfs_code;
 
-import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.core.ImportableCrudService;
 import com.deeptech.iamis.core.Utils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import jakarta.validation.ValidationException;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,7 +13,8 @@ import org.springframework.stereotype.Service;
  * This service uses {@link GfsCodeRepository} for database operations and {@link GfsCodeMapper}
  * to convert between entity and DTO objects.
  * <p>
- * It also extends {@link SearchService} to enable advanced search capabilities for GfsCodes.
+ * It extends {@link ImportableCrudService}, which provides the searches, reads, deletes, exports, imports
+ * and batch operations of GfsCodes.
  */
 
 @Slf4j
@@ -27,7 +22,7 @@ import org.springframework.stereotype.Service;
 @Transactional
 @RequiredArgsConstructor
 public class GfsCodeServiceImpl
-  extends SearchService<GfsCode>
+  extends ImportableCrudService<GfsCode, GfsCodeDto>
   implements GfsCodeService {
 
   private final GfsCodeRepository gfsCodeRepository;
@@ -67,52 +62,13 @@ public class GfsCodeServiceImpl
     return gfsCodeMapper.toDto(gfsCode);
   }
 
-  /**
-   * Finds all GfsCodes based on pagination and search criteria.
-   *
-   * @param pageable the pagination information.
-   * @param searchParams   a map of search criteria.
-   * @return a paginated list of {@link GfsCodeDto}.
-   */
-  @Override
-  public Page<GfsCodeDto> findAll(
-    Pageable pageable,
-    Map<String, Object> searchParams
-  ) {
-    return gfsCodeRepository
-      .findAll(createSpecification(GfsCode.class, searchParams), pageable)
-      .map(gfsCodeMapper::toDto);
-  }
-
-  /**
-   * Finds a GfsCode by its UUID.
-   *
-   * @param uuid the UUID of the GfsCode to find.
-   * @return the {@link GfsCodeDto} if found.
-   * @throws ValidationException if the GfsCode is not found.
-   */
   @Override
-  public GfsCodeDto findById(UUID uuid) {
-    return gfsCodeRepository
-      .findByUuid(uuid)
-      .map(gfsCodeMapper::toDto)
-      .orElseThrow(() ->
-        new EntityNotFoundException("GfsCode  with uuid " + uuid + " not found")
-      );
+  protected GfsCodeRepository repository() {
+    return gfsCodeRepository;
   }
 
-  /**
-   * Deletes a GfsCode by its UUID.
-   *
-   * @param uuid the UUID of the GfsCode to delete.
-   * @throws ValidationException if the GfsCode cannot be deleted.
-   */
   @Override
-  public void delete(UUID uuid) {
-    try {
-      gfsCodeRepository.deleteByUuid(uuid);
-    } catch (Exception e) {
-      throw new ValidationException("Cannot delete GfsCode with uuid " + uuid);
-    }
+  protected GfsCodeDto toDto(GfsCode gfsCode) {
+    return gfsCodeMapper.toDto(gfsCode);
   }
 }
@@ -2,6 +2,7 @@ package com.deeptech.iamis.modules.internal_control_type;
 
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.ImportableCrudResource;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
 import java.util.Map;
@@ -18,18 +19,32 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/internal-control-types: Create a new InternalControlType
  * - PUT /api/internal-control-types/{uuid}: Update an existing InternalControlType
  * - GET /api/internal-control-types: Fetch all InternalControlTypes with optional search and pagination
+ * - GET /api/internal-control-types/export: Stream all InternalControlTypes as NDJSON or CSV
+ * - POST /api/internal-control-types/import: Load InternalControlTypes in bulk from CSV or NDJSON
  * - GET /api/internal-control-types/{uuid}: Get an existing InternalControlType by its UUID
  * - DELETE /api/internal-control-types/{uuid}: Delete a InternalControlType by its UUID
+ * - POST /api/internal-control-types/batch: Create or update InternalControlTypes in one request
+ * - POST /api/internal-control-types/batch/find: Fetch InternalControlTypes by their UUIDs
+ * - DELETE /api/internal-control-types/batch: Delete InternalControlTypes by their UUIDs
  * <p>
  * Uses {@link InternalControlTypeService} to perform business logic.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/internal-control-types")
-public class InternalControlTypeResource {
+public class InternalControlTypeResource
+  extends ImportableCrudResource<
+    InternalControlTypeDto,
+    InternalControlTypeService
+  > {
 
   private final InternalControlTypeService internalControlTypeService;
 
+  @Override
+  protected InternalControlTypeService service() {
+    return internalControlTypeService;
+  }
+
   /**
    * Creates a new InternalControlType in the system.
    *
@@ -77,14 +92,21 @@ public class InternalControlTypeResource {
    * Retrieves a list of InternalControlTypes with pagination and optional search parameters.
    *
    * @param pageable the {@link Pageable} object to control pagination.
+   * @param cursor the cursor of the previous page; when present (empty for the first page) the list is served in cursor mode.
    * @param searchParams a map of search parameters (fields names) for filtering InternalControlTypes.
    * @return {@link CustomApiResponse} containing a list of InternalControlTypes and pagination information.
    */
   @GetMapping
   public CustomApiResponse get(
     Pageable pageable,
+    @RequestParam(required = false) String cursor,
     @RequestParam Map<String, Object> searchParams
   ) {
+    if (cursor != null) {
+      return CustomApiResponse.ok(
+        internalControlTypeService.findAll(cursor, pageable, searchParams)
+      );
+    }
     return CustomApiResponse.ok(
       internalControlTypeService.findAll(pageable, searchParams)
     );
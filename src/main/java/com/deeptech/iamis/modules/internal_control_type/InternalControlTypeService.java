@@ -1,6 +1,7 @@
 package com.deeptech.iamis.modules.internal_control_type;
 
 import com.deeptech.iamis.core.BaseCrudService;
+import com.deeptech.iamis.core.BulkImportService;
 
 /**
  * Service interface for managing InternalControlTypes in the system.
@@ -8,4 +9,6 @@ import com.deeptech.iamis.core.BaseCrudService;
  * and can define additional functionality to be implemented specific to InternalControlType management.
  */
 public interface InternalControlTypeService
-  extends BaseCrudService<InternalControlTypeDto, InternalControlType> {}
+  extends
+    BaseCrudService<InternalControlTypeDto, InternalControlType>,
+    BulkImportService {}
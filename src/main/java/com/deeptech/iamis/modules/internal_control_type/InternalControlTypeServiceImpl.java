@@ -1,17 +1,11 @@
 package com.deeptech.iamis.modules.internal_control_type;
 
-import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.core.ImportableCrudService;
 import com.deeptech.iamis.core.Utils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import jakarta.validation.ValidationException;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,7 +13,8 @@ import org.springframework.stereotype.Service;
  * This service uses {@link InternalControlTypeRepository} for database operations and {@link InternalControlTypeMapper}
  * to convert between entity and DTO objects.
  * <p>
- * It also extends {@link SearchService} to enable advanced search capabilities for InternalControlTypes.
+ * It extends {@link ImportableCrudService}, which provides the searches, reads, deletes, exports, imports
+ * and batch operations of InternalControlTypes.
  */
 
 @Slf4j
@@ -27,7 +22,10 @@ import org.springframework.stereotype.Service;
 @Transactional
 @RequiredArgsConstructor
 public class InternalControlTypeServiceImpl
-  extends SearchService<InternalControlType>
+  extends ImportableCrudService<
+    InternalControlType,
+    InternalControlTypeDto
+  >
   implements InternalControlTypeService {
 
   private final InternalControlTypeRepository internalControlTypeRepository;
@@ -77,59 +75,15 @@ public class InternalControlTypeServiceImpl
     return internalControlTypeMapper.toDto(internalControlType);
   }
 
-  /**
-   * Finds all InternalControlTypes based on pagination and search criteria.
-   *
-   * @param pageable the pagination information.
-   * @param searchParams   a map of search criteria.
-   * @return a paginated list of {@link InternalControlTypeDto}.
-   */
-  @Override
-  public Page<InternalControlTypeDto> findAll(
-    Pageable pageable,
-    Map<String, Object> searchParams
-  ) {
-    return internalControlTypeRepository
-      .findAll(
-        createSpecification(InternalControlType.class, searchParams),
-        pageable
-      )
-      .map(internalControlTypeMapper::toDto);
-  }
-
-  /**
-   * Finds a InternalControlType by its UUID.
-   *
-   * @param uuid the UUID of the InternalControlType to find.
-   * @return the {@link InternalControlTypeDto} if found.
-   * @throws ValidationException if the InternalControlType is not found.
-   */
   @Override
-  public InternalControlTypeDto findById(UUID uuid) {
-    return internalControlTypeRepository
-      .findByUuid(uuid)
-      .map(internalControlTypeMapper::toDto)
-      .orElseThrow(() ->
-        new EntityNotFoundException(
-          "InternalControlType  with uuid " + uuid + " not found"
-        )
-      );
+  protected InternalControlTypeRepository repository() {
+    return internalControlTypeRepository;
   }
 
-  /**
-   * Deletes a InternalControlType by its UUID.
-   *
-   * @param uuid the UUID of the InternalControlType to delete.
-   * @throws ValidationException if the InternalControlType cannot be deleted.
-   */
   @Override
-  public void delete(UUID uuid) {
-    try {
-      internalControlTypeRepository.deleteByUuid(uuid);
-    } catch (Exception e) {
-      throw new ValidationException(
-        "Cannot delete InternalControlType with uuid " + uuid
-      );
-    }
+  protected InternalControlTypeDto toDto(
+    InternalControlType internalControlType
+  ) {
+    return internalControlTypeMapper.toDto(internalControlType);
   }
 }
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.CrudResource;
 
 import java.util.Map;
 import java.util.UUID;
@@ -14,12 +15,22 @@ import java.util.UUID;
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/menu-groups")
-public class MenuGroupResource {
+public class MenuGroupResource extends CrudResource<MenuGroupDto> {
 
     private final MenuGroupService menuGroupService;
 
+    @Override
+    protected MenuGroupService service() {
+        return menuGroupService;
+    }
+
     @GetMapping
-    public CustomApiResponse get(Pageable pageable,@RequestParam Map<String, Object> searchParams) {
+    public CustomApiResponse get(Pageable pageable,
+                                 @RequestParam(required = false) String cursor,
+                                 @RequestParam Map<String, Object> searchParams) {
+        if (cursor != null) {
+            return CustomApiResponse.ok(menuGroupService.findAll(cursor, pageable, searchParams));
+        }
         return CustomApiResponse.ok(menuGroupService.findAll(pageable, searchParams));
     }
 
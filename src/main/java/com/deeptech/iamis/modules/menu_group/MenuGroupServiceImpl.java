@@ -2,26 +2,23 @@ package com.deeptech.iamis.modules.menu_group;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.core.CrudService;
 import com.deeptech.iamis.core.Utils;
-
-import java.util.Map;
-import java.util.UUID;
+import com.deeptech.iamis.modules.menu_item.MenuIndex;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
-public class MenuGroupServiceImpl extends SearchService<MenuGroup> implements MenuGroupService {
+public class MenuGroupServiceImpl extends CrudService<MenuGroup, MenuGroupDto> implements MenuGroupService {
 
     private final MenuGroupRepository menuGroupRepository;
 
     private final MenuGroupMapper menuGroupMapper;
 
+    private final MenuIndex menuIndex;
+
     @Override
     public MenuGroupDto save(MenuGroupDto dto) {
         MenuGroup menuGroup = menuGroupMapper.toEntity(dto);
@@ -33,29 +30,22 @@ public class MenuGroupServiceImpl extends SearchService<MenuGroup> implements Me
             menuGroup.setUuid(Utils.generateUuid());
         }
         menuGroup = menuGroupRepository.save(menuGroup);
+        menuIndex.invalidate();
         return menuGroupMapper.toDto(menuGroup);
     }
 
     @Override
-    public Page<MenuGroupDto> findAll(Pageable pageable, Map<String, Object> search) {
-
-        return menuGroupRepository.findAll(
-                        createSpecification(MenuGroup.class, search), pageable)
-                .map(menuGroupMapper::toDto);
+    protected MenuGroupRepository repository() {
+        return menuGroupRepository;
     }
 
     @Override
-    public MenuGroupDto findById(UUID uuid) {
-        return menuGroupRepository.findByUuid(uuid).map(menuGroupMapper::toDto)
-                .orElseThrow(() -> new EntityNotFoundException("Menu group not found"));
+    protected MenuGroupDto toDto(MenuGroup menuGroup) {
+        return menuGroupMapper.toDto(menuGroup);
     }
 
     @Override
-    public void delete(UUID uuid) {
-        try {
-            menuGroupRepository.deleteByUuid(uuid);
-        }catch (Exception e) {
-            throw new ValidationException("Cannot delete menu group");
-        }
+    protected void changed() {
+        menuIndex.invalidate();
     }
 }
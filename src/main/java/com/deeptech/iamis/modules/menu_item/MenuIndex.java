@@ -0,0 +1,213 @@
+package com.deeptech.iamis.modules.menu_item;
+
+import com.deeptech.iamis.modules.menu_group.MenuGroup;
+import com.deeptech.iamis.modules.menu_group.MenuGroupDto;
+import com.deeptech.iamis.modules.menu_group.MenuGroupMapper;
+import com.deeptech.iamis.modules.menu_group.MenuGroupRepository;
+import com.deeptech.iamis.security.Permissions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory index of the menu tree by authority, so a login assembles its menus without queries.
+ * <p>
+ * The index is an immutable snapshot of all menu groups and items held under a copy-on-write reference.
+ * Menu item and menu group services call {@link #invalidate()} when they change menus; the snapshot is then
+ * dropped once the transaction commits and rebuilt with three queries by the next reader. Assembled menus are
+ * memoized per distinct set of permissions for the life of the snapshot; the returned lists and DTOs are shared and
+ * must not be modified.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuIndex {
+
+    private static final int MAX_MEMOIZED_SETS = 1024;
+
+    private static final Comparator<MenuGroupDto> BY_SORT_ORDER =
+            Comparator.comparingInt(group -> group.getSortOrder() != null ? group.getSortOrder() : 0);
+
+    private final MenuItemRepository menuItemRepository;
+
+    private final MenuGroupRepository menuGroupRepository;
+
+    private final MenuItemMapper menuItemMapper;
+
+    private final MenuGroupMapper menuGroupMapper;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        snapshot();
+    }
+
+    /**
+     * Returns the menus visible with the given authorities: items without a group as top-level entries and
+     * groups holding their visible items, ordered by sort order.
+     *
+     * @param permissions the granted authorities.
+     * @return the menu tree; shared, must not be modified.
+     */
+    public List<MenuGroupDto> menusFor(Permissions permissions) {
+        Snapshot current = snapshot();
+        List<MenuGroupDto> menus = current.memoized.get(permissions);
+        if (menus == null) {
+            menus = current.assemble(permissions);
+            if (current.memoized.size() < MAX_MEMOIZED_SETS) {
+                current.memoized.putIfAbsent(permissions, menus);
+            }
+        }
+        return menus;
+    }
+
+    /**
+     * Drops the snapshot after the current transaction commits, or right away outside a transaction.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reset();
+                }
+            });
+        } else {
+            reset();
+        }
+    }
+
+    private void reset() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot.get();
+            if (current != null) {
+                return current;
+            }
+            long built = generation.get();
+            current = build();
+            snapshot.set(current);
+            // A change committed while building may not be in this snapshot; let the next reader rebuild.
+            if (generation.get() != built) {
+                snapshot.compareAndSet(current, null);
+            }
+            return current;
+        }
+    }
+
+    private Snapshot build() {
+        List<MenuGroupDto> groups = new ArrayList<>();
+        for (MenuGroup group : menuGroupRepository.findAll(Sort.by("sortOrder"))) {
+            groups.add(menuGroupMapper.toDto(group));
+        }
+
+        List<MenuItem> items = menuItemRepository.findAll(Sort.by("sortOrder"));
+        Map<Long, Integer> positions = new HashMap<>();
+        List<MenuItemDto> itemDtos = new ArrayList<>(items.size());
+        List<Long> itemGroupIds = new ArrayList<>(items.size());
+        for (MenuItem item : items) {
+            positions.put(item.getId(), itemDtos.size());
+            itemDtos.add(menuItemMapper.toDtoNoAuth(item));
+            itemGroupIds.add(item.getMenuGroupId());
+        }
+
+        Map<Long, List<Integer>> itemsByAuthority = new HashMap<>();
+        for (Object[] link : menuItemRepository.findAuthorityLinks()) {
+            Integer position = positions.get((Long) link[0]);
+            if (position != null) {
+                itemsByAuthority.computeIfAbsent((Long) link[1], authorityId -> new ArrayList<>()).add(position);
+            }
+        }
+        Map<Integer, int[]> index = new HashMap<>();
+        itemsByAuthority.forEach((authorityId, positionList) -> index.put(Math.toIntExact(authorityId),
+                positionList.stream().mapToInt(Integer::intValue).toArray()));
+
+        log.debug("Built menu index of {} groups, {} items and {} authorities",
+                groups.size(), itemDtos.size(), index.size());
+        return new Snapshot(List.copyOf(groups), List.copyOf(itemDtos), itemGroupIds, Map.copyOf(index));
+    }
+
+    /**
+     * @param groups       all menu groups, by sort order.
+     * @param items        all menu items, by sort order, without authorities.
+     * @param itemGroupIds the group id of each item, null for items shown at the top level.
+     * @param index        the positions in {@code items} of the items each authority id grants.
+     */
+    private record Snapshot(List<MenuGroupDto> groups,
+                            List<MenuItemDto> items,
+                            List<Long> itemGroupIds,
+                            Map<Integer, int[]> index,
+                            Map<Permissions, List<MenuGroupDto>> memoized) {
+
+        Snapshot(List<MenuGroupDto> groups, List<MenuItemDto> items, List<Long> itemGroupIds,
+                 Map<Integer, int[]> index) {
+            this(groups, items, itemGroupIds, index, new ConcurrentHashMap<>());
+        }
+
+        List<MenuGroupDto> assemble(Permissions permissions) {
+            boolean[] visible = new boolean[items.size()];
+            BitSet authorityIds = permissions.toBitSet();
+            for (int authorityId = authorityIds.nextSetBit(0); authorityId >= 0;
+                 authorityId = authorityIds.nextSetBit(authorityId + 1)) {
+                int[] positions = index.get(authorityId);
+                if (positions != null) {
+                    for (int position : positions) {
+                        visible[position] = true;
+                    }
+                }
+            }
+
+            List<MenuGroupDto> menus = new ArrayList<>();
+            Map<Long, List<MenuItemDto>> children = new LinkedHashMap<>();
+            for (int i = 0; i < visible.length; i++) {
+                if (!visible[i]) {
+                    continue;
+                }
+                MenuItemDto item = items.get(i);
+                Long groupId = itemGroupIds.get(i);
+                if (groupId == null) {
+                    menus.add(new MenuGroupDto(item.getId(), item.getUuid(), item.getName(), item.getName(),
+                            item.getState(), item.getIcon(), item.getSortOrder()));
+                } else {
+                    children.computeIfAbsent(groupId, id -> new ArrayList<>()).add(item);
+                }
+            }
+            for (MenuGroupDto group : groups) {
+                List<MenuItemDto> groupItems = children.get(group.getId());
+                if (groupItems != null) {
+                    menus.add(new MenuGroupDto(group.getId(), group.getUuid(), group.getName(), group.getState(),
+                            group.getIcon(), group.getSortOrder(), List.copyOf(groupItems)));
+                }
+            }
+            menus.sort(BY_SORT_ORDER);
+            return List.copyOf(menus);
+        }
+    }
+}
@@ -29,4 +29,7 @@ public interface MenuItemRepository extends BaseRepository<MenuItem, Long> {
             "Select distinct  i from MenuItem  i where i.menuGroup.id=:id and i.id in :itemIds"
                     + " order by i.sortOrder")
     List<MenuItem> byGroupAndIds(@Param("id") Long id, @Param("itemIds") List<Long> itemIds);
+
+    @Query("select i.id, a.id from MenuItem i join i.authorities a")
+    List<Object[]> findAuthorityLinks();
 }
\ No newline at end of file
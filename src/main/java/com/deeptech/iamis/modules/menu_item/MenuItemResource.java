@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.CrudResource;
 import com.deeptech.iamis.modules.role.RoleAuthoritiesDto;
 
 import java.util.Map;
@@ -15,13 +16,22 @@ import java.util.UUID;
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/menu-items")
-public class MenuItemResource {
+public class MenuItemResource extends CrudResource<MenuItemDto> {
 
     private final MenuItemService menuItemService;
 
+    @Override
+    protected MenuItemService service() {
+        return menuItemService;
+    }
+
     @GetMapping
     public CustomApiResponse get(Pageable pageable,
+                                 @RequestParam(required = false) String cursor,
                                  @RequestParam Map<String, Object> searchParams) {
+        if (cursor != null) {
+            return CustomApiResponse.ok(menuItemService.findAll(cursor, pageable, searchParams));
+        }
         return CustomApiResponse.ok(menuItemService.findAll(pageable, searchParams));
     }
 
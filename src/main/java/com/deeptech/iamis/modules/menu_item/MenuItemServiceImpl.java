@@ -2,14 +2,11 @@ package com.deeptech.iamis.modules.menu_item;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import com.deeptech.iamis.core.CrudService;
 import com.deeptech.iamis.core.Utils;
 import com.deeptech.iamis.modules.authority.AuthorityRepository;
-import com.deeptech.iamis.core.SearchService;
 import com.deeptech.iamis.modules.menu_group.MenuGroupDto;
 import com.deeptech.iamis.modules.menu_group.MenuGroupMapper;
 import com.deeptech.iamis.modules.menu_group.MenuGroupRepository;
@@ -22,7 +19,7 @@ import java.util.UUID;
 @Service
 @Transactional
 @RequiredArgsConstructor
-public class MenuItemServiceImpl extends SearchService<MenuItem> implements MenuItemService {
+public class MenuItemServiceImpl extends CrudService<MenuItem, MenuItemDto> implements MenuItemService {
 
     private final MenuItemRepository menuItemRepository;
 
@@ -34,6 +31,8 @@ public class MenuItemServiceImpl extends SearchService<MenuItem> implements Menu
 
     private final MenuGroupRepository menuGroupRepository;
 
+    private final MenuIndex menuIndex;
+
     @Override
     public MenuItemDto save(MenuItemDto dto) {
         MenuItem menuItem = menuItemMapper.toEntity(dto);
@@ -45,32 +44,10 @@ public class MenuItemServiceImpl extends SearchService<MenuItem> implements Menu
             menuItem.setUuid(Utils.generateUuid());
         }
         menuItem = menuItemRepository.save(menuItem);
+        menuIndex.invalidate();
         return menuItemMapper.toDto(menuItem);
     }
 
-    @Override
-    public Page<MenuItemDto> findAll(Pageable pageable, Map<String, Object> search) {
-        return menuItemRepository.findAll(createSpecification(MenuItem.class, search), pageable)
-                .map(menuItemMapper::toDto);
-    }
-
-    @Override
-    public MenuItemDto findById(UUID uuid) {
-        return menuItemRepository.findByUuid(uuid)
-                .map(menuItemMapper::toDto)
-                .orElseThrow(() -> new EntityNotFoundException("Cannot find menu item with uuid " + uuid));
-    }
-
-    @Override
-    public void delete(UUID uuid) {
-        try {
-            menuItemRepository.deleteByUuid(uuid);
-        } catch (Exception e) {
-            throw new ValidationException("Cannot delete menu item with uuid " + uuid);
-        }
-
-    }
-
     @Override
     public List<MenuGroupDto> getWithItems(Map<String, List<Long>> groupItemIds) {
         List<MenuGroupDto> groups = menuGroupRepository.byIds(
@@ -94,6 +71,22 @@ public class MenuItemServiceImpl extends SearchService<MenuItem> implements Menu
         for (UUID authorityId : menuAuthoritiesDto.getAuthorityIds()) {
             menuItem.addAuthority(authorityRepository.getReferenceByUuid(authorityId));
         }
+        menuIndex.invalidate();
         return menuItemMapper.toDto(menuItem);
     }
+
+    @Override
+    protected MenuItemRepository repository() {
+        return menuItemRepository;
+    }
+
+    @Override
+    protected MenuItemDto toDto(MenuItem menuItem) {
+        return menuItemMapper.toDto(menuItem);
+    }
+
+    @Override
+    protected void changed() {
+        menuIndex.invalidate();
+    }
 }
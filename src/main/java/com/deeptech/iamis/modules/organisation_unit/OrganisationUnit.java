@@ -1,6 +1,7 @@
 package com.deeptech.iamis.modules.organisation_unit;
 
 import com.deeptech.iamis.core.BaseModel;
+import com.deeptech.iamis.core.OrganisationScoped;
 import com.deeptech.iamis.modules.organisation_unit_level.OrganisationUnitLevel;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
@@ -22,6 +23,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "organisation_units")
+@OrganisationScoped("id")
 public class OrganisationUnit extends BaseModel {
 
   @NotNull
@@ -50,7 +52,9 @@ public class OrganisationUnit extends BaseModel {
   @JoinColumn(name = "level_id", insertable = false, updatable = false)
   private OrganisationUnitLevel level;
 
-  @NotNull
+  /**
+   * The parent unit, null for a root.
+   */
   @Column(name = "parent_id")
   private Long parentId;
 
@@ -58,4 +62,11 @@ public class OrganisationUnit extends BaseModel {
   @JsonIgnoreProperties({ "organisationUnits" })
   @JoinColumn(name = "parent_id", insertable = false, updatable = false)
   private OrganisationUnit parent;
+
+  /**
+   * The number of levels above this unit, 0 for a root; maintained with the hierarchy, see
+   * {@link OrganisationUnitClosure}.
+   */
+  @NotNull
+  private Integer depth = 0;
 }
@@ -0,0 +1,46 @@
+package com.deeptech.iamis.modules.organisation_unit;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One ancestor and descendant pair of the {@link OrganisationUnit} hierarchy, with the number of levels between
+ * them; every unit is also paired with itself at depth 0.
+ * This class maps to the 'organisation_unit_closure' table, which {@link OrganisationUnitServiceImpl} keeps up to
+ * date with native statements of {@link OrganisationUnitRepository}; it is mapped only to be queried, see
+ * {@link OrganisationUnitHierarchy}.
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(OrganisationUnitClosure.Key.class)
+@Table(name = "organisation_unit_closure")
+public class OrganisationUnitClosure {
+
+  @Id
+  @Column(name = "ancestor_id")
+  private Long ancestorId;
+
+  @Id
+  @Column(name = "descendant_id")
+  private Long descendantId;
+
+  private Integer depth;
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+
+    private Long ancestorId;
+
+    private Long descendantId;
+  }
+}
@@ -41,7 +41,6 @@ public class OrganisationUnitDto extends BaseDto {
 
   private String levelName;
 
-  @NotNull
   private Long parentId;
 
   private String parentName;
@@ -0,0 +1,112 @@
+package com.deeptech.iamis.modules.organisation_unit;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specifications selecting parts of the {@link OrganisationUnit} hierarchy through the
+ * {@link OrganisationUnitClosure}, or the rows of any entity that belong to a subtree of it.
+ * <p>
+ * Each compiles to a semi-join on the closure that the planner serves from its (ancestor_id, depth) or
+ * (descendant_id, depth) index, so it can be combined with search criteria, sorting and paging in a single query.
+ */
+public final class OrganisationUnitHierarchy {
+
+  private static final String ID = "id";
+
+  private static final String UUID_ATTRIBUTE = "uuid";
+
+  private static final String ANCESTOR_ID = "ancestorId";
+
+  private static final String DESCENDANT_ID = "descendantId";
+
+  private static final String DEPTH = "depth";
+
+  private OrganisationUnitHierarchy() {}
+
+  /**
+   * @param attribute the attribute of the entity holding an organisation unit id.
+   * @param unitId the id of the unit.
+   * @return the rows whose unit is the given one or below it.
+   */
+  public static <T> Specification<T> within(String attribute, Long unitId) {
+    return (root, query, builder) -> {
+      Subquery<Long> subquery = query.subquery(Long.class);
+      Root<OrganisationUnitClosure> closure = subquery.from(
+        OrganisationUnitClosure.class
+      );
+      return root
+        .get(attribute)
+        .in(
+          subquery
+            .select(closure.<Long>get(DESCENDANT_ID))
+            .where(builder.equal(closure.get(ANCESTOR_ID), unitId))
+        );
+    };
+  }
+
+  /**
+   * @param uuid the uuid of the unit.
+   * @param maxDepth the most levels below the unit to include, all levels when null.
+   * @return the units below the given one, excluding it.
+   */
+  public static Specification<OrganisationUnit> descendantsOf(
+    UUID uuid,
+    Integer maxDepth
+  ) {
+    return (root, query, builder) ->
+      root
+        .get(ID)
+        .in(related(query, builder, uuid, maxDepth, ANCESTOR_ID, DESCENDANT_ID));
+  }
+
+  /**
+   * @param uuid the uuid of the unit.
+   * @param maxDepth the most levels above the unit to include, all levels when null.
+   * @return the units above the given one, excluding it.
+   */
+  public static Specification<OrganisationUnit> ancestorsOf(
+    UUID uuid,
+    Integer maxDepth
+  ) {
+    return (root, query, builder) ->
+      root
+        .get(ID)
+        .in(related(query, builder, uuid, maxDepth, DESCENDANT_ID, ANCESTOR_ID));
+  }
+
+  private static Subquery<Long> related(
+    CriteriaQuery<?> query,
+    CriteriaBuilder builder,
+    UUID uuid,
+    Integer maxDepth,
+    String from,
+    String to
+  ) {
+    Subquery<Long> subquery = query.subquery(Long.class);
+    Root<OrganisationUnitClosure> closure = subquery.from(
+      OrganisationUnitClosure.class
+    );
+    Root<OrganisationUnit> unit = subquery.from(OrganisationUnit.class);
+
+    List<Predicate> predicates = new ArrayList<>();
+    predicates.add(builder.equal(unit.get(UUID_ATTRIBUTE), uuid));
+    predicates.add(builder.equal(closure.get(from), unit.get(ID)));
+    predicates.add(builder.greaterThan(closure.<Integer>get(DEPTH), 0));
+    if (maxDepth != null) {
+      predicates.add(
+        builder.lessThanOrEqualTo(closure.<Integer>get(DEPTH), maxDepth)
+      );
+    }
+    return subquery
+      .select(closure.<Long>get(to))
+      .where(predicates.toArray(Predicate[]::new));
+  }
+}
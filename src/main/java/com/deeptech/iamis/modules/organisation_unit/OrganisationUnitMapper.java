@@ -16,6 +16,8 @@ import org.mapstruct.*;
 public interface OrganisationUnitMapper {
   OrganisationUnit toEntity(OrganisationUnitDto organisationUnitDto);
 
+  @Mapping(target = "levelName", source = "level.name")
+  @Mapping(target = "parentName", source = "parent.name")
   OrganisationUnitDto toDto(OrganisationUnit organisationUnit);
 
   @BeanMapping(
@@ -1,6 +1,10 @@
 package com.deeptech.iamis.modules.organisation_unit;
 
 import com.deeptech.iamis.core.BaseRepository;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Repository interface for {@link OrganisationUnit} entities.
@@ -8,6 +12,133 @@ import com.deeptech.iamis.core.BaseRepository;
  * This interface extends {@link BaseRepository} which provides generic CRUD operations
  * and additional query methods such as findByUuid, deleteByUuid, getReferenceByUuid.
  * It is responsible for interacting with the database for {@link OrganisationUnit} specific queries and operations.
+ * <p>
+ * It also maintains the {@link OrganisationUnitClosure} of the hierarchy; the statements only touch the rows of
+ * the unit and its subtree.
  */
 public interface OrganisationUnitRepository
-  extends BaseRepository<OrganisationUnit, Long> {}
+  extends BaseRepository<OrganisationUnit, Long> {
+  /**
+   * @return whether any unit has the given parent.
+   */
+  boolean existsByParentId(Long parentId);
+
+  /**
+   * @return the id, uuid, name, code, level id, parent id and depth of every unit, by depth and name; see
+   * {@link OrganisationUnitTree}.
+   */
+  @Query(
+    "select u.id, u.uuid, u.name, u.code, u.levelId, u.parentId, u.depth from OrganisationUnit u " +
+    "order by u.depth, u.name, u.id"
+  )
+  List<Object[]> findTreeRows();
+
+  /**
+   * @return whether {@code descendantId} is the unit {@code ancestorId} or one of its descendants.
+   */
+  @Query(
+    "select case when count(c) > 0 then true else false end from OrganisationUnitClosure c " +
+    "where c.ancestorId = :ancestorId and c.descendantId = :descendantId"
+  )
+  boolean isInSubtree(
+    @Param("ancestorId") Long ancestorId,
+    @Param("descendantId") Long descendantId
+  );
+
+  /**
+   * Links a new unit with itself and with its parent's ancestors and the parent.
+   */
+  @Modifying
+  @Query(
+    value = "insert into organisation_unit_closure (ancestor_id, descendant_id, depth) " +
+    "select ancestor_id, :id, depth + 1 from organisation_unit_closure where descendant_id = :parentId " +
+    "union all select :id, :id, 0",
+    nativeQuery = true
+  )
+  void insertIntoHierarchy(
+    @Param("id") Long id,
+    @Param("parentId") Long parentId
+  );
+
+  /**
+   * Links a new root unit with itself.
+   */
+  @Modifying
+  @Query(
+    value = "insert into organisation_unit_closure (ancestor_id, descendant_id, depth) values (:id, :id, 0)",
+    nativeQuery = true
+  )
+  void insertRootIntoHierarchy(@Param("id") Long id);
+
+  /**
+   * Unlinks the subtree of a unit from the unit's ancestors, before it moves to another parent.
+   */
+  @Modifying
+  @Query(
+    value = "delete from organisation_unit_closure " +
+    "where descendant_id in (select descendant_id from organisation_unit_closure where ancestor_id = :id) " +
+    "and ancestor_id in (select ancestor_id from organisation_unit_closure where descendant_id = :id and depth > 0)",
+    nativeQuery = true
+  )
+  void detachSubtree(@Param("id") Long id);
+
+  /**
+   * Links the subtree of a unit with its new parent and the parent's ancestors.
+   */
+  @Modifying
+  @Query(
+    value = "insert into organisation_unit_closure (ancestor_id, descendant_id, depth) " +
+    "select above.ancestor_id, below.descendant_id, above.depth + below.depth + 1 " +
+    "from organisation_unit_closure above cross join organisation_unit_closure below " +
+    "where above.descendant_id = :parentId and below.ancestor_id = :id",
+    nativeQuery = true
+  )
+  void attachSubtree(@Param("id") Long id, @Param("parentId") Long parentId);
+
+  /**
+   * Adds {@code delta} to the depth of the units below a unit that moved.
+   */
+  @Modifying
+  @Query(
+    value = "update organisation_units set depth = depth + :delta " +
+    "where id in (select descendant_id from organisation_unit_closure where ancestor_id = :id and depth > 0)",
+    nativeQuery = true
+  )
+  void shiftSubtreeDepth(@Param("id") Long id, @Param("delta") int delta);
+
+  @Modifying
+  @Query(value = "delete from organisation_unit_closure", nativeQuery = true)
+  void clearHierarchy();
+
+  @Modifying
+  @Query(
+    value = "insert into organisation_unit_closure (ancestor_id, descendant_id, depth) " +
+    "with recursive tree (ancestor_id, descendant_id, depth) as (" +
+    "select id, id, 0 from organisation_units " +
+    "union all select tree.ancestor_id, unit.id, tree.depth + 1 " +
+    "from tree join organisation_units unit on unit.parent_id = tree.descendant_id" +
+    ") cycle descendant_id set is_cycle using visited " +
+    "select ancestor_id, descendant_id, depth from tree where not is_cycle on conflict do nothing",
+    nativeQuery = true
+  )
+  void fillHierarchy();
+
+  @Modifying
+  @Query(
+    value = "update organisation_units unit set depth = closure.depth " +
+    "from (select descendant_id, max(depth) as depth from organisation_unit_closure group by descendant_id) closure " +
+    "where closure.descendant_id = unit.id and unit.depth <> closure.depth",
+    nativeQuery = true
+  )
+  void updateDepths();
+
+  /**
+   * Recomputes the closure and depths from the parent ids, after writes that bypass
+   * {@link OrganisationUnitServiceImpl#save(OrganisationUnitDto)} such as bulk imports.
+   */
+  default void rebuildHierarchy() {
+    clearHierarchy();
+    fillHierarchy();
+    updateDepths();
+  }
+}
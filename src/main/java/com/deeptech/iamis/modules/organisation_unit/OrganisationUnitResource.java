@@ -2,13 +2,18 @@ package com.deeptech.iamis.modules.organisation_unit;
 
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.ImportableCrudResource;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * REST controller that provides endpoints for managing OrganisationUnit within the system.
@@ -18,18 +23,36 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/organisation-units: Create a new OrganisationUnit
  * - PUT /api/organisation-units/{uuid}: Update an existing OrganisationUnit
  * - GET /api/organisation-units: Fetch all OrganisationUnits with optional search and pagination
+ * - GET /api/organisation-units/export: Stream all OrganisationUnits as NDJSON or CSV
+ * - POST /api/organisation-units/import: Load OrganisationUnits in bulk from CSV or NDJSON
+ * - GET /api/organisation-units/tree: Fetch the hierarchy visible to the user, with ETag revalidation
  * - GET /api/organisation-units/{uuid}: Get an existing OrganisationUnit by its UUID
+ * - GET /api/organisation-units/{uuid}/descendants: Fetch the OrganisationUnits below an OrganisationUnit
+ * - GET /api/organisation-units/{uuid}/ancestors: Fetch the OrganisationUnits above an OrganisationUnit
  * - DELETE /api/organisation-units/{uuid}: Delete a OrganisationUnit by its UUID
+ * - POST /api/organisation-units/batch: Create or update OrganisationUnits in one request
+ * - POST /api/organisation-units/batch/find: Fetch OrganisationUnits by their UUIDs
+ * - DELETE /api/organisation-units/batch: Delete OrganisationUnits by their UUIDs
  * <p>
  * Uses {@link OrganisationUnitService} to perform business logic.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/organisation-units")
-public class OrganisationUnitResource {
+public class OrganisationUnitResource
+  extends ImportableCrudResource<OrganisationUnitDto, OrganisationUnitService> {
 
   private final OrganisationUnitService organisationUnitService;
 
+  private final OrganisationUnitTree organisationUnitTree;
+
+  private final OrganisationUnitScope organisationUnitScope;
+
+  @Override
+  protected OrganisationUnitService service() {
+    return organisationUnitService;
+  }
+
   /**
    * Creates a new OrganisationUnit in the system.
    *
@@ -75,20 +98,52 @@ public class OrganisationUnitResource {
    * Retrieves a list of OrganisationUnits with pagination and optional search parameters.
    *
    * @param pageable the {@link Pageable} object to control pagination.
-   * @param searchParams a map of search parameters (fields names) for filtering OrganisationUnits.
+   * @param cursor the cursor of the previous page; when present (empty for the first page) the list is served in cursor mode.
+   * @param searchParams a map of search parameters (fields names) for filtering OrganisationUnits, e.g. {@code parentId} for the children of a unit.
    * @return {@link CustomApiResponse} containing a list of OrganisationUnits and pagination information.
    */
   @GetMapping
   public CustomApiResponse get(
     Pageable pageable,
-    @RequestParam Long parentId,
+    @RequestParam(required = false) String cursor,
     @RequestParam Map<String, Object> searchParams
   ) {
+    if (cursor != null) {
+      return CustomApiResponse.ok(
+        organisationUnitService.findAll(cursor, pageable, searchParams)
+      );
+    }
     return CustomApiResponse.ok(
       organisationUnitService.findAll(pageable, searchParams)
     );
   }
 
+  /**
+   * Retrieves the whole organisation hierarchy from memory, see {@link OrganisationUnitTree}, or for a user
+   * scoped to an organisation unit the subtree of that unit, see {@link OrganisationUnitScope}.
+   * The response carries a strong ETag; a request whose {@code If-None-Match} holds it gets 304 Not Modified
+   * without a body.
+   *
+   * @param request the request, for its conditional headers.
+   * @return the {@link OrganisationUnitTreeDto} wrapped in a {@link CustomApiResponse}, or 304.
+   */
+  @GetMapping("/tree")
+  public ResponseEntity<byte[]> tree(WebRequest request) {
+    OrganisationUnitTree.Rendered tree = organisationUnitTree.render(
+      organisationUnitScope.currentUnitId()
+    );
+    // Sets the ETag and, when it matches, the 304 status on the response itself.
+    if (request.checkNotModified(tree.etag())) {
+      return null;
+    }
+    return ResponseEntity
+      .ok()
+      .eTag(tree.etag())
+      .cacheControl(CacheControl.noCache())
+      .contentType(MediaType.APPLICATION_JSON)
+      .body(tree.body());
+  }
+
   /**
    * Retrieves a OrganisationUnit by its UUID.
    *
@@ -101,21 +156,59 @@ public class OrganisationUnitResource {
     return CustomApiResponse.ok(organisationUnitService.findById(uuid));
   }
 
+  /**
+   * Retrieves the OrganisationUnits below a OrganisationUnit, nearest first unless a sort is given.
+   *
+   * @param uuid the UUID of the OrganisationUnit.
+   * @param maxDepth the most levels below it to include, all levels when absent.
+   * @param pageable the {@link Pageable} object to control pagination.
+   * @param searchParams a map of search parameters (fields names) the descendants must also match.
+   * @return {@link CustomApiResponse} containing a list of OrganisationUnits and pagination information.
+   */
+  @GetMapping("/{uuid}/descendants")
+  public CustomApiResponse descendants(
+    @PathVariable UUID uuid,
+    @RequestParam(required = false) Integer maxDepth,
+    Pageable pageable,
+    @RequestParam Map<String, Object> searchParams
+  ) {
+    return CustomApiResponse.ok(
+      organisationUnitService.findDescendants(
+        uuid,
+        maxDepth,
+        pageable,
+        searchParams
+      )
+    );
+  }
+
+  /**
+   * Retrieves the OrganisationUnits above a OrganisationUnit, from its root down to its parent.
+   *
+   * @param uuid the UUID of the OrganisationUnit.
+   * @param maxDepth the most levels above it to include, all levels when absent.
+   * @return {@link CustomApiResponse} containing the ancestors.
+   */
+  @GetMapping("/{uuid}/ancestors")
+  public CustomApiResponse ancestors(
+    @PathVariable UUID uuid,
+    @RequestParam(required = false) Integer maxDepth
+  ) {
+    return CustomApiResponse.ok(
+      organisationUnitService.findAncestors(uuid, maxDepth)
+    );
+  }
+
   /**
    * Deletes a OrganisationUnit by its UUID.
    *
    * @param uuid the UUID of the OrganisationUnit to delete.
    * @return {@link CustomApiResponse} confirming the successful deletion.
+   * @throws ValidationException if the OrganisationUnit has children or is still referenced.
    */
   @DeleteMapping("/{uuid}")
   public CustomApiResponse delete(@PathVariable UUID uuid) {
-    try {
-      organisationUnitService.delete(uuid);
-      return CustomApiResponse.ok("OrganisationUnit deleted successfully");
-    } catch (Exception e) {
-      throw new ValidationException(
-        "Cannot delete OrganisationUnit with uuid " + uuid
-      );
-    }
+    organisationUnitService.delete(uuid);
+    return CustomApiResponse.ok("OrganisationUnit deleted successfully");
   }
 }
@@ -0,0 +1,102 @@
+package com.deeptech.iamis.modules.organisation_unit;
+
+import com.deeptech.iamis.core.OrganisationScoped;
+import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.security.PermissionsAuthenticationToken;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.validation.ValidationException;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits the reads of a user scoped to an organisation unit to the rows of that unit and the units below it.
+ * <p>
+ * The entities to scope are the ones marked {@link OrganisationScoped}, found once at startup from the JPA
+ * metamodel. The user's unit comes from their access token, so resolving the scope needs no query.
+ * {@link SearchService} ands the resulting {@link OrganisationUnitHierarchy#within(String, Long)} predicate with
+ * the search criteria; it is a semi-join on the closure's ancestor index, so scoped lists stay index-backed and
+ * are paged and counted in the database.
+ */
+@Slf4j
+@Component
+public class OrganisationUnitScope {
+
+  private final Map<Class<?>, String> attributes;
+
+  private final OrganisationUnitRepository organisationUnitRepository;
+
+  public OrganisationUnitScope(
+    EntityManagerFactory entityManagerFactory,
+    OrganisationUnitRepository organisationUnitRepository
+  ) {
+    this.organisationUnitRepository = organisationUnitRepository;
+    Map<Class<?>, String> byEntity = new HashMap<>();
+    for (EntityType<?> entityType : entityManagerFactory
+      .getMetamodel()
+      .getEntities()) {
+      OrganisationScoped scoped = entityType
+        .getJavaType()
+        .getAnnotation(OrganisationScoped.class);
+      if (scoped != null) {
+        // Fails at startup rather than on the first scoped query if the attribute does not exist.
+        entityType.getSingularAttribute(scoped.value());
+        byEntity.put(entityType.getJavaType(), scoped.value());
+      }
+    }
+    this.attributes = Map.copyOf(byEntity);
+    log.info("Scoping {} entities by organisation unit", attributes.size());
+  }
+
+  /**
+   * @return the id of the unit whose subtree the current user may see, null for an unscoped user or outside a
+   * request.
+   */
+  public Long currentUnitId() {
+    return SecurityContextHolder.getContext().getAuthentication() instanceof
+        PermissionsAuthenticationToken token
+      ? token.getOrganisationUnitId()
+      : null;
+  }
+
+  /**
+   * @param entity the entity class.
+   * @return the rows of the entity the current user may see, null if they may see all.
+   */
+  public <T> Specification<T> specificationFor(Class<T> entity) {
+    String attribute = attributes.get(entity);
+    if (attribute == null) {
+      return null;
+    }
+    Long unitId = currentUnitId();
+    return unitId == null
+      ? null
+      : OrganisationUnitHierarchy.within(attribute, unitId);
+  }
+
+  /**
+   * Checks that the current user may place a row under the given unit, e.g. as the unit of a new Department or
+   * the parent of a OrganisationUnit; unscoped users may place rows anywhere.
+   *
+   * @param unitId the id of the unit, null for none, which only unscoped users may choose.
+   * @throws ValidationException if the unit is outside the user's subtree.
+   */
+  public void requireWithin(Long unitId) {
+    Long currentUnitId = currentUnitId();
+    if (
+      currentUnitId != null &&
+      (unitId == null ||
+        !organisationUnitRepository.isInSubtree(currentUnitId, unitId))
+    ) {
+      throw new ValidationException(
+        "OrganisationUnit with id " +
+        unitId +
+        " is outside your organisation unit"
+      );
+    }
+  }
+}
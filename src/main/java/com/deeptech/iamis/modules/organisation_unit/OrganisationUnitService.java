@@ -1,6 +1,12 @@
 package com.deeptech.iamis.modules.organisation_unit;
 
 import com.deeptech.iamis.core.BaseCrudService;
+import com.deeptech.iamis.core.BulkImportService;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service interface for managing OrganisationUnits in the system.
@@ -8,4 +14,31 @@ import com.deeptech.iamis.core.BaseCrudService;
  * and can define additional functionality to be implemented specific to OrganisationUnit management.
  */
 public interface OrganisationUnitService
-  extends BaseCrudService<OrganisationUnitDto, OrganisationUnit> {}
+  extends
+    BaseCrudService<OrganisationUnitDto, OrganisationUnit>,
+    BulkImportService {
+  /**
+   * Finds the units below the given one, nearest first unless the page asks for another order.
+   *
+   * @param uuid the UUID of the OrganisationUnit.
+   * @param maxDepth the most levels below it to include, all levels when null.
+   * @param pageable the pagination information.
+   * @param searchParams a map of search criteria the descendants must also match.
+   * @return a slice of {@link OrganisationUnitDto}.
+   */
+  Slice<OrganisationUnitDto> findDescendants(
+    UUID uuid,
+    Integer maxDepth,
+    Pageable pageable,
+    Map<String, Object> searchParams
+  );
+
+  /**
+   * Finds the units above the given one, from its root down to its parent.
+   *
+   * @param uuid the UUID of the OrganisationUnit.
+   * @param maxDepth the most levels above it to include, all levels when null.
+   * @return the ancestors.
+   */
+  List<OrganisationUnitDto> findAncestors(UUID uuid, Integer maxDepth);
+}
@@ -1,17 +1,24 @@
 package com.deeptech.iamis.modules.organisation_unit;
 
-import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.core.ExportFormat;
+import com.deeptech.iamis.core.ImportResult;
+import com.deeptech.iamis.core.ImportableCrudService;
 import com.deeptech.iamis.core.Utils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
-import java.util.HashSet;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,7 +26,8 @@ import org.springframework.stereotype.Service;
  * This service uses {@link OrganisationUnitRepository} for database operations and {@link OrganisationUnitMapper}
  * to convert between entity and DTO objects.
  * <p>
- * It also extends {@link SearchService} to enable advanced search capabilities for OrganisationUnits.
+ * It extends {@link ImportableCrudService}, which provides the searches, reads, deletes, exports, imports
+ * and batch operations of OrganisationUnits.
  */
 
 @Slf4j
@@ -27,19 +35,32 @@ import org.springframework.stereotype.Service;
 @Transactional
 @RequiredArgsConstructor
 public class OrganisationUnitServiceImpl
-  extends SearchService<OrganisationUnit>
+  extends ImportableCrudService<OrganisationUnit, OrganisationUnitDto>
   implements OrganisationUnitService {
 
+  private static final String DEPTH = "depth";
+
+  private static final String NAME = "name";
+
   private final OrganisationUnitRepository organisationUnitRepository;
 
   private final OrganisationUnitMapper organisationUnitMapper;
 
+  private final OrganisationUnitTree organisationUnitTree;
+
+  private final OrganisationUnitScope organisationUnitScope;
+
   /**
    * Creates or updates a OrganisationUnit based on the presence of a UUID in the DTO.
+   * <p>
+   * The hierarchy is kept up to date with it: a new OrganisationUnit is linked under its parent, and one whose
+   * parent changed moves with its subtree, see {@link OrganisationUnitClosure}.
    *
    * @param organisationUnitDto the {@link OrganisationUnitDto} containing OrganisationUnit data.
    * @return the saved {@link OrganisationUnitDto}.
    * @throws EntityNotFoundException if the OrganisationUnit is not found for update or there is validation failure.
+   * @throws ValidationException if the parent is not found, is the OrganisationUnit itself or one of its descendants,
+   * or is outside the user's organisation unit, see {@link OrganisationUnitScope#requireWithin(Long)}.
    */
   @Override
   public OrganisationUnitDto save(OrganisationUnitDto organisationUnitDto) {
@@ -50,84 +71,212 @@ public class OrganisationUnitServiceImpl
 
     // If the OrganisationUnit has a UUID, fetch the existing OrganisationUnit and perform an update
     if (organisationUnitDto.getUuid() != null) {
-      organisationUnit =
-        organisationUnitRepository
-          .findByUuid(organisationUnitDto.getUuid())
-          .orElseThrow(() ->
-            new EntityNotFoundException(
-              "organisationUnit with uuid" +
-              organisationUnitDto.getUuid() +
-              " not found"
-            )
-          );
+      organisationUnit = require(organisationUnitDto.getUuid());
+      // Check a move before changing the managed entity, so a refused save leaves the row as it was
+      Long parentId = organisationUnitDto.getParentId() != null
+        ? organisationUnitDto.getParentId()
+        : organisationUnit.getParentId();
+      Integer depth = Objects.equals(parentId, organisationUnit.getParentId())
+        ? null
+        : checkMove(organisationUnit, parentId);
       // Partially update the existing OrganisationUnit with new data from the DTO
       organisationUnit =
         organisationUnitMapper.partialUpdate(
           organisationUnitDto,
           organisationUnit
         );
-    } else {
-      // Set a new UUID for a new OrganisationUnit
-      organisationUnit.setUuid(Utils.generateUuid());
+      if (depth != null) {
+        move(organisationUnit, depth);
+      }
+      organisationUnitTree.invalidate();
+      return organisationUnitMapper.toDto(
+        organisationUnitRepository.save(organisationUnit)
+      );
     }
-    // Save the OrganisationUnit and return the DTO
+    // Set a new UUID for a new OrganisationUnit
+    organisationUnitScope.requireWithin(organisationUnit.getParentId());
+    organisationUnit.setUuid(Utils.generateUuid());
+    organisationUnit.setDepth(depthUnder(organisationUnit.getParentId()));
+    // Save the OrganisationUnit, link it into the hierarchy and return the DTO
     organisationUnit = organisationUnitRepository.save(organisationUnit);
+    if (organisationUnit.getParentId() == null) {
+      organisationUnitRepository.insertRootIntoHierarchy(
+        organisationUnit.getId()
+      );
+    } else {
+      organisationUnitRepository.insertIntoHierarchy(
+        organisationUnit.getId(),
+        organisationUnit.getParentId()
+      );
+    }
+    organisationUnitTree.invalidate();
     return organisationUnitMapper.toDto(organisationUnit);
   }
 
   /**
-   * Finds all OrganisationUnits based on pagination and search criteria.
+   * Checks that a OrganisationUnit may be moved under the given parent.
    *
-   * @param pageable the pagination information.
-   * @param searchParams   a map of search criteria.
-   * @return a paginated list of {@link OrganisationUnitDto}.
+   * @return the depth of the OrganisationUnit under the new parent.
+   */
+  private int checkMove(OrganisationUnit organisationUnit, Long parentId) {
+    organisationUnitScope.requireWithin(parentId);
+    if (
+      organisationUnitRepository.isInSubtree(organisationUnit.getId(), parentId)
+    ) {
+      throw new ValidationException(
+        "OrganisationUnit cannot be moved under itself or its descendants"
+      );
+    }
+    return depthUnder(parentId);
+  }
+
+  /**
+   * Moves the subtree of a OrganisationUnit under its new parent, once {@link #checkMove} passed.
+   */
+  private void move(OrganisationUnit organisationUnit, int depth) {
+    Long id = organisationUnit.getId();
+    organisationUnitRepository.detachSubtree(id);
+    organisationUnitRepository.attachSubtree(id, organisationUnit.getParentId());
+    organisationUnitRepository.shiftSubtreeDepth(
+      id,
+      depth - organisationUnit.getDepth()
+    );
+    organisationUnit.setDepth(depth);
+  }
+
+  /**
+   * @return the depth of a child of the given parent.
+   */
+  private int depthUnder(Long parentId) {
+    if (parentId == null) {
+      return 0;
+    }
+    return organisationUnitRepository
+      .findById(parentId)
+      .map(parent -> parent.getDepth() + 1)
+      .orElseThrow(() ->
+        new ValidationException(
+          "Parent OrganisationUnit with id " + parentId + " not found"
+        )
+      );
+  }
+
+  /**
+   * Finds the units below the given one in one query, see {@link OrganisationUnitHierarchy}.
+   *
+   * @param uuid the UUID of the OrganisationUnit.
+   * @param maxDepth the most levels below it to include, all levels when null.
+   * @param pageable the pagination information; unsorted pages are ordered by depth and name.
+   * @param searchParams a map of search criteria the descendants must also match.
+   * @return a slice of {@link OrganisationUnitDto}.
+   * @throws EntityNotFoundException if the OrganisationUnit is not found.
+   * @throws ValidationException if the depth is not positive.
    */
   @Override
-  public Page<OrganisationUnitDto> findAll(
+  public Slice<OrganisationUnitDto> findDescendants(
+    UUID uuid,
+    Integer maxDepth,
     Pageable pageable,
     Map<String, Object> searchParams
   ) {
-    return organisationUnitRepository
-      .findAll(
-        createSpecification(OrganisationUnit.class, searchParams),
-        pageable
-      )
-      .map(organisationUnitMapper::toDto);
+    requirePositive(maxDepth);
+    Pageable sorted = pageable.getSort().isSorted() || pageable.isUnpaged()
+      ? pageable
+      : PageRequest.of(
+        pageable.getPageNumber(),
+        pageable.getPageSize(),
+        Sort.by(DEPTH, NAME)
+      );
+    Slice<OrganisationUnitDto> descendants = findSlice(
+      OrganisationUnit.class,
+      OrganisationUnitDto.class,
+      sorted,
+      searchParams,
+      OrganisationUnitHierarchy.descendantsOf(uuid, maxDepth)
+    );
+    requireFound(uuid, descendants.isEmpty());
+    return descendants;
   }
 
   /**
-   * Finds a OrganisationUnit by its UUID.
+   * Finds the units above the given one in one query, see {@link OrganisationUnitHierarchy}.
    *
-   * @param uuid the UUID of the OrganisationUnit to find.
-   * @return the {@link OrganisationUnitDto} if found.
-   * @throws ValidationException if the OrganisationUnit is not found.
+   * @param uuid the UUID of the OrganisationUnit.
+   * @param maxDepth the most levels above it to include, all levels when null.
+   * @return the ancestors, from the root down to the parent.
+   * @throws EntityNotFoundException if the OrganisationUnit is not found.
+   * @throws ValidationException if the depth is not positive.
    */
   @Override
-  public OrganisationUnitDto findById(UUID uuid) {
-    return organisationUnitRepository
-      .findByUuid(uuid)
-      .map(organisationUnitMapper::toDto)
-      .orElseThrow(() ->
-        new EntityNotFoundException(
-          "OrganisationUnit  with uuid " + uuid + " not found"
-        )
-      );
+  public List<OrganisationUnitDto> findAncestors(UUID uuid, Integer maxDepth) {
+    requirePositive(maxDepth);
+    List<OrganisationUnitDto> ancestors = findSlice(
+      OrganisationUnit.class,
+      OrganisationUnitDto.class,
+      Pageable.unpaged(Sort.by(DEPTH)),
+      Map.of(),
+      OrganisationUnitHierarchy.ancestorsOf(uuid, maxDepth)
+    )
+      .getContent();
+    requireFound(uuid, ancestors.isEmpty());
+    return ancestors;
+  }
+
+  private static void requirePositive(Integer maxDepth) {
+    if (maxDepth != null && maxDepth < 1) {
+      throw new ValidationException("maxDepth must be at least 1");
+    }
+  }
+
+  // An empty result is also what an unknown uuid gives, so for an unscoped user only then is the uuid looked up.
+  // A scoped user's results are cut to their subtree, so the unit itself must be in it too.
+  private void requireFound(UUID uuid, boolean empty) {
+    if (empty || scopeOf(OrganisationUnit.class) != null) {
+      require(uuid);
+    }
   }
 
   /**
-   * Deletes a OrganisationUnit by its UUID.
+   * Loads OrganisationUnits in bulk, see {@link ImportableCrudService#importAll(ExportFormat, InputStream)}.
+   * The import writes the table directly, so the hierarchy is rebuilt from the parent ids.
+   */
+  @Override
+  public ImportResult importAll(ExportFormat format, InputStream in)
+    throws IOException {
+    ImportResult result = super.importAll(format, in);
+    organisationUnitRepository.rebuildHierarchy();
+    return result;
+  }
+
+  @Override
+  protected OrganisationUnitRepository repository() {
+    return organisationUnitRepository;
+  }
+
+  @Override
+  protected OrganisationUnitDto toDto(OrganisationUnit organisationUnit) {
+    return organisationUnitMapper.toDto(organisationUnit);
+  }
+
+  /**
+   * A OrganisationUnit is only deleted once it has no children, so deleting one never silently takes a subtree
+   * with it or leaves units without their parent.
    *
-   * @param uuid the UUID of the OrganisationUnit to delete.
-   * @throws ValidationException if the OrganisationUnit cannot be deleted.
+   * @throws ValidationException if the OrganisationUnit has children.
    */
   @Override
-  public void delete(UUID uuid) {
-    try {
-      organisationUnitRepository.deleteByUuid(uuid);
-    } catch (Exception e) {
+  protected void beforeDelete(OrganisationUnit organisationUnit) {
+    if (organisationUnitRepository.existsByParentId(organisationUnit.getId())) {
       throw new ValidationException(
-        "Cannot delete OrganisationUnit with uuid " + uuid
+        "Cannot delete OrganisationUnit " +
+        organisationUnit.getName() +
+        " because it has child units; move or delete them first"
       );
     }
   }
+
+  @Override
+  protected void changed() {
+    organisationUnitTree.invalidate();
+  }
 }
@@ -0,0 +1,331 @@
+package com.deeptech.iamis.modules.organisation_unit;
+
+import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.modules.organisation_unit_level.OrganisationUnitLevel;
+import com.deeptech.iamis.modules.organisation_unit_level.OrganisationUnitLevelRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory snapshot of the whole organisation hierarchy, so looking up a unit, listing its children or walking
+ * to its root needs no query.
+ * <p>
+ * The snapshot holds the units as rendered, numbered by node in depth and name order, with the parent of each
+ * node in an array and the children of each node as a range of one shared array. It is immutable and held
+ * under a copy-on-write reference: the organisation unit and level services call {@link #invalidate()} when
+ * they change, the snapshot is dropped once the transaction commits and rebuilt with two queries by the next
+ * reader. Each snapshot also carries its rendered JSON body and a strong ETag derived from it, which
+ * {@code GET /api/organisation-units/tree} serves; users scoped to a unit get the subtree of that unit,
+ * rendered from the snapshot per request.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrganisationUnitTree {
+
+  private final OrganisationUnitRepository organisationUnitRepository;
+
+  private final OrganisationUnitLevelRepository organisationUnitLevelRepository;
+
+  private final ObjectMapper objectMapper;
+
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+  private final AtomicLong generation = new AtomicLong();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    snapshot();
+  }
+
+  /**
+   * Drops the snapshot after the current transaction commits, or right away outside a transaction.
+   */
+  public void invalidate() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            reset();
+          }
+        }
+      );
+    } else {
+      reset();
+    }
+  }
+
+  private void reset() {
+    generation.incrementAndGet();
+    snapshot.set(null);
+  }
+
+  /**
+   * @param unitId the unit to start from, null for the whole tree.
+   * @return the rendered tree, or the subtree of the unit with all levels; without units if the unit is unknown.
+   */
+  public Rendered render(Long unitId) {
+    Snapshot current = snapshot();
+    if (unitId == null) {
+      return new Rendered(current.body(), current.etag());
+    }
+    int node = current.nodeOf(unitId);
+    List<OrganisationUnitTreeDto.Unit> units = new ArrayList<>();
+    if (node >= 0) {
+      for (int descendant : current.subtreeOf(node)) {
+        units.add(current.tree().units().get(descendant));
+      }
+    }
+    byte[] body = render(
+      new OrganisationUnitTreeDto(current.tree().levels(), units)
+    );
+    return new Rendered(body, etag(body));
+  }
+
+  /**
+   * @return the current snapshot, built if there is none.
+   */
+  public Snapshot snapshot() {
+    Snapshot current = snapshot.get();
+    if (current != null) {
+      return current;
+    }
+    synchronized (this) {
+      current = snapshot.get();
+      if (current != null) {
+        return current;
+      }
+      long built = generation.get();
+      current = build();
+      snapshot.set(current);
+      // A change committed while building may not be in this snapshot; let the next reader rebuild.
+      if (generation.get() != built) {
+        snapshot.compareAndSet(current, null);
+      }
+      return current;
+    }
+  }
+
+  private Snapshot build() {
+    List<OrganisationUnitTreeDto.Level> levels = new ArrayList<>();
+    for (OrganisationUnitLevel level : organisationUnitLevelRepository.findAll(
+      Sort.by("position", "id")
+    )) {
+      levels.add(
+        new OrganisationUnitTreeDto.Level(
+          level.getId(),
+          level.getName(),
+          level.getCode(),
+          level.getPosition()
+        )
+      );
+    }
+
+    List<Object[]> rows = organisationUnitRepository.findTreeRows();
+    int size = rows.size();
+    List<OrganisationUnitTreeDto.Unit> units = new ArrayList<>(size);
+    Map<Long, Integer> byId = new HashMap<>(size * 2);
+    Map<UUID, Integer> byUuid = new HashMap<>(size * 2);
+    for (int node = 0; node < size; node++) {
+      Object[] row = rows.get(node);
+      OrganisationUnitTreeDto.Unit unit = new OrganisationUnitTreeDto.Unit(
+        (Long) row[0],
+        (UUID) row[1],
+        (String) row[2],
+        (String) row[3],
+        (Long) row[4],
+        (Long) row[5],
+        (Integer) row[6]
+      );
+      units.add(unit);
+      byId.put(unit.id(), node);
+      byUuid.put(unit.uuid(), node);
+    }
+
+    // Parents by node, then the children of each node as a range of one array, in node order. A parent sorts
+    // before its child; one that does not can only come from a cycle, which is cut there.
+    int[] parents = new int[size];
+    int[] childOffsets = new int[size + 1];
+    for (int node = 0; node < size; node++) {
+      Long parentId = units.get(node).parentId();
+      Integer parent = parentId == null ? null : byId.get(parentId);
+      parents[node] = parent == null || parent >= node ? -1 : parent;
+      if (parents[node] >= 0) {
+        childOffsets[parents[node] + 1]++;
+      }
+    }
+    for (int node = 0; node < size; node++) {
+      childOffsets[node + 1] += childOffsets[node];
+    }
+    int[] children = new int[childOffsets[size]];
+    int[] filled = Arrays.copyOf(childOffsets, size);
+    for (int node = 0; node < size; node++) {
+      if (parents[node] >= 0) {
+        children[filled[parents[node]]++] = node;
+      }
+    }
+
+    OrganisationUnitTreeDto tree = new OrganisationUnitTreeDto(
+      List.copyOf(levels),
+      List.copyOf(units)
+    );
+    byte[] body = render(tree);
+
+    log.debug(
+      "Built organisation tree of {} units and {} levels",
+      size,
+      levels.size()
+    );
+    return new Snapshot(
+      parents,
+      childOffsets,
+      children,
+      Map.copyOf(byId),
+      Map.copyOf(byUuid),
+      tree,
+      body,
+      etag(body)
+    );
+  }
+
+  private byte[] render(OrganisationUnitTreeDto tree) {
+    try {
+      return objectMapper.writeValueAsBytes(CustomApiResponse.ok(tree));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Cannot render the organisation tree", e);
+    }
+  }
+
+  // Derived from the body rather than a counter, so every instance serving the same tree gives the same tag.
+  private static String etag(byte[] body) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+      return (
+        "\"" +
+        Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) +
+        "\""
+      );
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * A rendered {@link OrganisationUnitTreeDto} response.
+   *
+   * @param body the response body.
+   * @param etag the strong ETag of the body, quoted.
+   */
+  public record Rendered(byte[] body, String etag) {}
+
+  /**
+   * An immutable organisation tree. Nodes are numbered from 0 by depth and name, so a parent always comes
+   * before its children; the units of the nodes are {@code tree().units()}. The arrays are shared and must
+   * not be modified.
+   *
+   * @param parents      the parent node of each node, -1 for a root.
+   * @param childOffsets the children of node {@code n} are {@code children[childOffsets[n]]} up to, excluding,
+   *                     {@code children[childOffsets[n + 1]]}.
+   * @param children     the child nodes of all nodes.
+   * @param byId         the node of each unit id.
+   * @param byUuid       the node of each unit uuid.
+   * @param tree         the units by node, and the levels.
+   * @param body         the rendered {@link OrganisationUnitTreeDto} response.
+   * @param etag         the strong ETag of the body, quoted.
+   */
+  public record Snapshot(
+    int[] parents,
+    int[] childOffsets,
+    int[] children,
+    Map<Long, Integer> byId,
+    Map<UUID, Integer> byUuid,
+    OrganisationUnitTreeDto tree,
+    byte[] body,
+    String etag
+  ) {
+    public int size() {
+      return parents.length;
+    }
+
+    /**
+     * @return the node of the unit, -1 if there is none.
+     */
+    public int nodeOf(UUID uuid) {
+      return byUuid.getOrDefault(uuid, -1);
+    }
+
+    /**
+     * @return the node of the unit, -1 if there is none.
+     */
+    public int nodeOf(long id) {
+      return byId.getOrDefault(id, -1);
+    }
+
+    /**
+     * @return the child nodes of the node, by name.
+     */
+    public int[] childrenOf(int node) {
+      return Arrays.copyOfRange(
+        children,
+        childOffsets[node],
+        childOffsets[node + 1]
+      );
+    }
+
+    /**
+     * @return the node and all nodes below it, in node order.
+     */
+    public int[] subtreeOf(int node) {
+      // Parents come before their children, so one pass from the node marks the whole subtree.
+      boolean[] inSubtree = new boolean[size()];
+      inSubtree[node] = true;
+      int[] subtree = new int[size() - node];
+      int length = 0;
+      subtree[length++] = node;
+      for (int current = node + 1; current < size(); current++) {
+        if (parents[current] >= 0 && inSubtree[parents[current]]) {
+          inSubtree[current] = true;
+          subtree[length++] = current;
+        }
+      }
+      return Arrays.copyOf(subtree, length);
+    }
+
+    /**
+     * @return the nodes from the node up to its root, both included.
+     */
+    public int[] pathToRoot(int node) {
+      int length = 0;
+      for (int current = node; current >= 0; current = parents[current]) {
+        length++;
+      }
+      int[] path = new int[length];
+      int current = node;
+      for (int i = 0; i < length; i++) {
+        path[i] = current;
+        current = parents[current];
+      }
+      return path;
+    }
+  }
+}
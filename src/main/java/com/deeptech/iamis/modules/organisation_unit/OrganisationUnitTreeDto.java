@@ -0,0 +1,32 @@
+package com.deeptech.iamis.modules.organisation_unit;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The whole organisation hierarchy as served by {@code GET /api/organisation-units/tree}.
+ * Units are listed flat, by depth and then name, so every unit comes after its parent and a client can build
+ * the tree in one pass however deep it is.
+ *
+ * @param levels all organisation unit levels, by position.
+ * @param units all organisation units, by depth and name.
+ */
+public record OrganisationUnitTreeDto(List<Level> levels, List<Unit> units) {
+  /**
+   * An {@link com.deeptech.iamis.modules.organisation_unit_level.OrganisationUnitLevel}.
+   */
+  public record Level(Long id, String name, String code, Integer position) {}
+
+  /**
+   * An {@link OrganisationUnit}; {@code parentId} is null for a root.
+   */
+  public record Unit(
+    Long id,
+    UUID uuid,
+    String name,
+    String code,
+    Long levelId,
+    Long parentId,
+    int depth
+  ) {}
+}
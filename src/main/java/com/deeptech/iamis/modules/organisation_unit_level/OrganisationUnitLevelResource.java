@@ -2,6 +2,7 @@ package com.deeptech.iamis.modules.organisation_unit_level;
 
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.ImportableCrudResource;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
 import java.util.Map;
@@ -18,18 +19,32 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/organisation-unit-levels: Create a new OrganisationUnitLevel
  * - PUT /api/organisation-unit-levels/{uuid}: Update an existing OrganisationUnitLevel
  * - GET /api/organisation-unit-levels: Fetch all OrganisationUnitLevels with optional search and pagination
+ * - GET /api/organisation-unit-levels/export: Stream all OrganisationUnitLevels as NDJSON or CSV
+ * - POST /api/organisation-unit-levels/import: Load OrganisationUnitLevels in bulk from CSV or NDJSON
  * - GET /api/organisation-unit-levels/{uuid}: Get an existing OrganisationUnitLevel by its UUID
  * - DELETE /api/organisation-unit-levels/{uuid}: Delete a OrganisationUnitLevel by its UUID
+ * - POST /api/organisation-unit-levels/batch: Create or update OrganisationUnitLevels in one request
+ * - POST /api/organisation-unit-levels/batch/find: Fetch OrganisationUnitLevels by their UUIDs
+ * - DELETE /api/organisation-unit-levels/batch: Delete OrganisationUnitLevels by their UUIDs
  * <p>
  * Uses {@link OrganisationUnitLevelService} to perform business logic.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/organisation-unit-levels")
-public class OrganisationUnitLevelResource {
+public class OrganisationUnitLevelResource
+  extends ImportableCrudResource<
+    OrganisationUnitLevelDto,
+    OrganisationUnitLevelService
+  > {
 
   private final OrganisationUnitLevelService organisationUnitLevelService;
 
+  @Override
+  protected OrganisationUnitLevelService service() {
+    return organisationUnitLevelService;
+  }
+
   /**
    * Creates a new OrganisationUnitLevel in the system.
    *
@@ -77,14 +92,21 @@ public class OrganisationUnitLevelResource {
    * Retrieves a list of OrganisationUnitLevels with pagination and optional search parameters.
    *
    * @param pageable the {@link Pageable} object to control pagination.
+   * @param cursor the cursor of the previous page; when present (empty for the first page) the list is served in cursor mode.
    * @param searchParams a map of search parameters (fields names) for filtering OrganisationUnitLevels.
    * @return {@link CustomApiResponse} containing a list of OrganisationUnitLevels and pagination information.
    */
   @GetMapping
   public CustomApiResponse get(
     Pageable pageable,
+    @RequestParam(required = false) String cursor,
     @RequestParam Map<String, Object> searchParams
   ) {
+    if (cursor != null) {
+      return CustomApiResponse.ok(
+        organisationUnitLevelService.findAll(cursor, pageable, searchParams)
+      );
+    }
     return CustomApiResponse.ok(
       organisationUnitLevelService.findAll(pageable, searchParams)
     );
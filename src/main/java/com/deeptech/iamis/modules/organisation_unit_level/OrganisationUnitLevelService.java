@@ -1,6 +1,7 @@
 package com.deeptech.iamis.modules.organisation_unit_level;
 
 import com.deeptech.iamis.core.BaseCrudService;
+import com.deeptech.iamis.core.BulkImportService;
 
 /**
  * Service interface for managing OrganisationUnitLevels in the system.
@@ -8,4 +9,6 @@ import com.deeptech.iamis.core.BaseCrudService;
  * and can define additional functionality to be implemented specific to OrganisationUnitLevel management.
  */
 public interface OrganisationUnitLevelService
-  extends BaseCrudService<OrganisationUnitLevelDto, OrganisationUnitLevel> {}
+  extends
+    BaseCrudService<OrganisationUnitLevelDto, OrganisationUnitLevel>,
+    BulkImportService {}
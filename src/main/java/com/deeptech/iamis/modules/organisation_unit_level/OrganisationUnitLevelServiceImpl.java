@@ -1,17 +1,12 @@
 package com.deeptech.iamis.modules.organisation_unit_level;
 
-import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.core.ImportableCrudService;
 import com.deeptech.iamis.core.Utils;
+import com.deeptech.iamis.modules.organisation_unit.OrganisationUnitTree;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import jakarta.validation.ValidationException;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,7 +14,8 @@ import org.springframework.stereotype.Service;
  * This service uses {@link OrganisationUnitLevelRepository} for database operations and {@link OrganisationUnitLevelMapper}
  * to convert between entity and DTO objects.
  * <p>
- * It also extends {@link SearchService} to enable advanced search capabilities for OrganisationUnitLevels.
+ * It extends {@link ImportableCrudService}, which provides the searches, reads, deletes, exports, imports
+ * and batch operations of OrganisationUnitLevels.
  */
 
 @Slf4j
@@ -27,13 +23,18 @@ import org.springframework.stereotype.Service;
 @Transactional
 @RequiredArgsConstructor
 public class OrganisationUnitLevelServiceImpl
-  extends SearchService<OrganisationUnitLevel>
+  extends ImportableCrudService<
+    OrganisationUnitLevel,
+    OrganisationUnitLevelDto
+  >
   implements OrganisationUnitLevelService {
 
   private final OrganisationUnitLevelRepository organisationUnitLevelRepository;
 
   private final OrganisationUnitLevelMapper organisationUnitLevelMapper;
 
+  private final OrganisationUnitTree organisationUnitTree;
+
   /**
    * Creates or updates a OrganisationUnitLevel based on the presence of a UUID in the DTO.
    *
@@ -74,62 +75,27 @@ public class OrganisationUnitLevelServiceImpl
     // Save the OrganisationUnitLevel and return the DTO
     organisationUnitLevel =
       organisationUnitLevelRepository.save(organisationUnitLevel);
+    organisationUnitTree.invalidate();
     return organisationUnitLevelMapper.toDto(organisationUnitLevel);
   }
 
-  /**
-   * Finds all OrganisationUnitLevels based on pagination and search criteria.
-   *
-   * @param pageable the pagination information.
-   * @param searchParams   a map of search criteria.
-   * @return a paginated list of {@link OrganisationUnitLevelDto}.
-   */
   @Override
-  public Page<OrganisationUnitLevelDto> findAll(
-    Pageable pageable,
-    Map<String, Object> searchParams
-  ) {
-    return organisationUnitLevelRepository
-      .findAll(
-        createSpecification(OrganisationUnitLevel.class, searchParams),
-        pageable
-      )
-      .map(organisationUnitLevelMapper::toDto);
+  protected OrganisationUnitLevelRepository repository() {
+    return organisationUnitLevelRepository;
   }
 
-  /**
-   * Finds a OrganisationUnitLevel by its UUID.
-   *
-   * @param uuid the UUID of the OrganisationUnitLevel to find.
-   * @return the {@link OrganisationUnitLevelDto} if found.
-   * @throws ValidationException if the OrganisationUnitLevel is not found.
-   */
   @Override
-  public OrganisationUnitLevelDto findById(UUID uuid) {
-    return organisationUnitLevelRepository
-      .findByUuid(uuid)
-      .map(organisationUnitLevelMapper::toDto)
-      .orElseThrow(() ->
-        new EntityNotFoundException(
-          "OrganisationUnitLevel  with uuid " + uuid + " not found"
-        )
-      );
+  protected OrganisationUnitLevelDto toDto(
+    OrganisationUnitLevel organisationUnitLevel
+  ) {
+    return organisationUnitLevelMapper.toDto(organisationUnitLevel);
   }
 
   /**
-   * Deletes a OrganisationUnitLevel by its UUID.
-   *
-   * @param uuid the UUID of the OrganisationUnitLevel to delete.
-   * @throws ValidationException if the OrganisationUnitLevel cannot be deleted.
+   * Level names are part of the organisation unit tree, so deletes and imports invalidate it.
    */
   @Override
-  public void delete(UUID uuid) {
-    try {
-      organisationUnitLevelRepository.deleteByUuid(uuid);
-    } catch (Exception e) {
-      throw new ValidationException(
-        "Cannot delete OrganisationUnitLevel with uuid " + uuid
-      );
-    }
+  protected void changed() {
+    organisationUnitTree.invalidate();
   }
 }
@@ -16,6 +16,7 @@ import org.mapstruct.*;
 public interface PeriodMapper {
   Period toEntity(PeriodDto periodDto);
 
+  @Mapping(target = "financialYearName", source = "financialYear.name")
   PeriodDto toDto(Period period);
 
   @BeanMapping(
@@ -2,6 +2,7 @@ package com.deeptech.iamis.modules.period;
 
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.ImportableCrudResource;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
 import java.util.Map;
@@ -18,18 +19,29 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/periods: Create a new Period
  * - PUT /api/periods/{uuid}: Update an existing Period
  * - GET /api/periods: Fetch all Periods with optional search and pagination
+ * - GET /api/periods/export: Stream all Periods as NDJSON or CSV
+ * - POST /api/periods/import: Load Periods in bulk from CSV or NDJSON
  * - GET /api/periods/{uuid}: Get an existing Period by its UUID
  * - DELETE /api/periods/{uuid}: Delete a Period by its UUID
+ * - POST /api/periods/batch: Create or update Periods in one request
+ * - POST /api/periods/batch/find: Fetch Periods by their UUIDs
+ * - DELETE /api/periods/batch: Delete Periods by their UUIDs
  * <p>
  * Uses {@link PeriodService} to perform business logic.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/periods")
-public class PeriodResource {
+public class PeriodResource
+  extends ImportableCrudResource<PeriodDto, PeriodService> {
 
   private final PeriodService periodService;
 
+  @Override
+  protected PeriodService service() {
+    return periodService;
+  }
+
   /**
    * Creates a new Period in the system.
    *
@@ -73,15 +85,22 @@ public class PeriodResource {
    * Retrieves a list of Periods with pagination and optional search parameters.
    *
    * @param pageable the {@link Pageable} object to control pagination.
+   * @param cursor the cursor of the previous page; when present (empty for the first page) the list is served in cursor mode.
    * @param searchParams a map of search parameters (fields names) for filtering Periods.
    * @return {@link CustomApiResponse} containing a list of Periods and pagination information.
    */
   @GetMapping
   public CustomApiResponse get(
     Pageable pageable,
+    @RequestParam(required = false) String cursor,
     @RequestParam Long financialYearId,
     @RequestParam Map<String, Object> searchParams
   ) {
+    if (cursor != null) {
+      return CustomApiResponse.ok(
+        periodService.findAll(cursor, pageable, searchParams)
+      );
+    }
     return CustomApiResponse.ok(periodService.findAll(pageable, searchParams));
   }
 
@@ -1,17 +1,11 @@
 package com.deeptech.iamis.modules.period;
 
-import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.core.ImportableCrudService;
 import com.deeptech.iamis.core.Utils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import jakarta.validation.ValidationException;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,7 +13,8 @@ import org.springframework.stereotype.Service;
  * This service uses {@link PeriodRepository} for database operations and {@link PeriodMapper}
  * to convert between entity and DTO objects.
  * <p>
- * It also extends {@link SearchService} to enable advanced search capabilities for Periods.
+ * It extends {@link ImportableCrudService}, which provides the searches, reads, deletes, exports, imports
+ * and batch operations of Periods.
  */
 
 @Slf4j
@@ -27,7 +22,7 @@ import org.springframework.stereotype.Service;
 @Transactional
 @RequiredArgsConstructor
 public class PeriodServiceImpl
-  extends SearchService<Period>
+  extends ImportableCrudService<Period, PeriodDto>
   implements PeriodService {
 
   private final PeriodRepository periodRepository;
@@ -67,52 +62,13 @@ public class PeriodServiceImpl
     return periodMapper.toDto(period);
   }
 
-  /**
-   * Finds all Periods based on pagination and search criteria.
-   *
-   * @param pageable the pagination information.
-   * @param searchParams   a map of search criteria.
-   * @return a paginated list of {@link PeriodDto}.
-   */
-  @Override
-  public Page<PeriodDto> findAll(
-    Pageable pageable,
-    Map<String, Object> searchParams
-  ) {
-    return periodRepository
-      .findAll(createSpecification(Period.class, searchParams), pageable)
-      .map(periodMapper::toDto);
-  }
-
-  /**
-   * Finds a Period by its UUID.
-   *
-   * @param uuid the UUID of the Period to find.
-   * @return the {@link PeriodDto} if found.
-   * @throws ValidationException if the Period is not found.
-   */
   @Override
-  public PeriodDto findById(UUID uuid) {
-    return periodRepository
-      .findByUuid(uuid)
-      .map(periodMapper::toDto)
-      .orElseThrow(() ->
-        new EntityNotFoundException("Period  with uuid " + uuid + " not found")
-      );
+  protected PeriodRepository repository() {
+    return periodRepository;
   }
 
-  /**
-   * Deletes a Period by its UUID.
-   *
-   * @param uuid the UUID of the Period to delete.
-   * @throws ValidationException if the Period cannot be deleted.
-   */
   @Override
-  public void delete(UUID uuid) {
-    try {
-      periodRepository.deleteByUuid(uuid);
-    } catch (Exception e) {
-      throw new ValidationException("Cannot delete Period with uuid " + uuid);
-    }
+  protected PeriodDto toDto(Period period) {
+    return periodMapper.toDto(period);
   }
 }
@@ -2,6 +2,7 @@ package com.deeptech.iamis.modules.position;
 
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.ImportableCrudResource;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
 import java.util.Map;
@@ -18,18 +19,29 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/positions: Create a new Position
  * - PUT /api/positions/{uuid}: Update an existing Position
  * - GET /api/positions: Fetch all Positions with optional search and pagination
+ * - GET /api/positions/export: Stream all Positions as NDJSON or CSV
+ * - POST /api/positions/import: Load Positions in bulk from CSV or NDJSON
  * - GET /api/positions/{uuid}: Get an existing Position by its UUID
  * - DELETE /api/positions/{uuid}: Delete a Position by its UUID
+ * - POST /api/positions/batch: Create or update Positions in one request
+ * - POST /api/positions/batch/find: Fetch Positions by their UUIDs
+ * - DELETE /api/positions/batch: Delete Positions by their UUIDs
  * <p>
  * Uses {@link PositionService} to perform business logic.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/positions")
-public class PositionResource {
+public class PositionResource
+  extends ImportableCrudResource<PositionDto, PositionService> {
 
   private final PositionService positionService;
 
+  @Override
+  protected PositionService service() {
+    return positionService;
+  }
+
   /**
    * Creates a new Position in the system.
    *
@@ -73,14 +85,21 @@ public class PositionResource {
    * Retrieves a list of Positions with pagination and optional search parameters.
    *
    * @param pageable the {@link Pageable} object to control pagination.
+   * @param cursor the cursor of the previous page; when present (empty for the first page) the list is served in cursor mode.
    * @param searchParams a map of search parameters (fields names) for filtering Positions.
    * @return {@link CustomApiResponse} containing a list of Positions and pagination information.
    */
   @GetMapping
   public CustomApiResponse get(
     Pageable pageable,
+    @RequestParam(required = false) String cursor,
     @RequestParam Map<String, Object> searchParams
   ) {
+    if (cursor != null) {
+      return CustomApiResponse.ok(
+        positionService.findAll(cursor, pageable, searchParams)
+      );
+    }
     return CustomApiResponse.ok(
       positionService.findAll(pageable, searchParams)
     );
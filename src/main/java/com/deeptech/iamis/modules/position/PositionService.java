@@ -1,6 +1,7 @@
 package com.deeptech.iamis.modules.position;
 
 import com.deeptech.iamis.core.BaseCrudService;
+import com.deeptech.iamis.core.BulkImportService;
 
 /**
  * Service interface for managing Positions in the system.
@@ -8,4 +9,4 @@ import com.deeptech.iamis.core.BaseCrudService;
  * and can define additional functionality to be implemented specific to Position management.
  */
 public interface PositionService
-  extends BaseCrudService<PositionDto, Position> {}
+  extends BaseCrudService<PositionDto, Position>, BulkImportService {}
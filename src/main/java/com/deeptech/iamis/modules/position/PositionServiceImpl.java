@@ -1,17 +1,11 @@
 package com.deeptech.iamis.modules.position;
 
-import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.core.ImportableCrudService;
 import com.deeptech.iamis.core.Utils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import jakarta.validation.ValidationException;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,7 +13,8 @@ import org.springframework.stereotype.Service;
  * This service uses {@link PositionRepository} for database operations and {@link PositionMapper}
  * to convert between entity and DTO objects.
  * <p>
- * It also extends {@link SearchService} to enable advanced search capabilities for Positions.
+ * It extends {@link ImportableCrudService}, which provides the searches, reads, deletes, exports, imports
+ * and batch operations of Positions.
  */
 
 @Slf4j
@@ -27,7 +22,7 @@ import org.springframework.stereotype.Service;
 @Transactional
 @RequiredArgsConstructor
 public class PositionServiceImpl
-  extends SearchService<Position>
+  extends ImportableCrudService<Position, PositionDto>
   implements PositionService {
 
   private final PositionRepository positionRepository;
@@ -67,54 +62,13 @@ public class PositionServiceImpl
     return positionMapper.toDto(position);
   }
 
-  /**
-   * Finds all Positions based on pagination and search criteria.
-   *
-   * @param pageable the pagination information.
-   * @param searchParams   a map of search criteria.
-   * @return a paginated list of {@link PositionDto}.
-   */
-  @Override
-  public Page<PositionDto> findAll(
-    Pageable pageable,
-    Map<String, Object> searchParams
-  ) {
-    return positionRepository
-      .findAll(createSpecification(Position.class, searchParams), pageable)
-      .map(positionMapper::toDto);
-  }
-
-  /**
-   * Finds a Position by its UUID.
-   *
-   * @param uuid the UUID of the Position to find.
-   * @return the {@link PositionDto} if found.
-   * @throws ValidationException if the Position is not found.
-   */
   @Override
-  public PositionDto findById(UUID uuid) {
-    return positionRepository
-      .findByUuid(uuid)
-      .map(positionMapper::toDto)
-      .orElseThrow(() ->
-        new EntityNotFoundException(
-          "Position  with uuid " + uuid + " not found"
-        )
-      );
+  protected PositionRepository repository() {
+    return positionRepository;
   }
 
-  /**
-   * Deletes a Position by its UUID.
-   *
-   * @param uuid the UUID of the Position to delete.
-   * @throws ValidationException if the Position cannot be deleted.
-   */
   @Override
-  public void delete(UUID uuid) {
-    try {
-      positionRepository.deleteByUuid(uuid);
-    } catch (Exception e) {
-      throw new ValidationException("Cannot delete Position with uuid " + uuid);
-    }
+  protected PositionDto toDto(Position position) {
+    return positionMapper.toDto(position);
   }
 }
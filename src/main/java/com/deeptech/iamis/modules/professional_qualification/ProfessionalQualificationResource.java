@@ -2,6 +2,7 @@ package com.deeptech.iamis.modules.professional_qualification;
 
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.ImportableCrudResource;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
 import java.util.Map;
@@ -18,18 +19,32 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/professional-qualifications: Create a new ProfessionalQualification
  * - PUT /api/professional-qualifications/{uuid}: Update an existing ProfessionalQualification
  * - GET /api/professional-qualifications: Fetch all ProfessionalQualifications with optional search and pagination
+ * - GET /api/professional-qualifications/export: Stream all ProfessionalQualifications as NDJSON or CSV
+ * - POST /api/professional-qualifications/import: Load ProfessionalQualifications in bulk from CSV or NDJSON
  * - GET /api/professional-qualifications/{uuid}: Get an existing ProfessionalQualification by its UUID
  * - DELETE /api/professional-qualifications/{uuid}: Delete a ProfessionalQualification by its UUID
+ * - POST /api/professional-qualifications/batch: Create or update ProfessionalQualifications in one request
+ * - POST /api/professional-qualifications/batch/find: Fetch ProfessionalQualifications by their UUIDs
+ * - DELETE /api/professional-qualifications/batch: Delete ProfessionalQualifications by their UUIDs
  * <p>
  * Uses {@link ProfessionalQualificationService} to perform business logic.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/professional-qualifications")
-public class ProfessionalQualificationResource {
+public class ProfessionalQualificationResource
+  extends ImportableCrudResource<
+    ProfessionalQualificationDto,
+    ProfessionalQualificationService
+  > {
 
   private final ProfessionalQualificationService professionalQualificationService;
 
+  @Override
+  protected ProfessionalQualificationService service() {
+    return professionalQualificationService;
+  }
+
   /**
    * Creates a new ProfessionalQualification in the system.
    *
@@ -77,14 +92,21 @@ public class ProfessionalQualificationResource {
    * Retrieves a list of ProfessionalQualifications with pagination and optional search parameters.
    *
    * @param pageable the {@link Pageable} object to control pagination.
+   * @param cursor the cursor of the previous page; when present (empty for the first page) the list is served in cursor mode.
    * @param searchParams a map of search parameters (fields names) for filtering ProfessionalQualifications.
    * @return {@link CustomApiResponse} containing a list of ProfessionalQualifications and pagination information.
    */
   @GetMapping
   public CustomApiResponse get(
     Pageable pageable,
+    @RequestParam(required = false) String cursor,
     @RequestParam Map<String, Object> searchParams
   ) {
+    if (cursor != null) {
+      return CustomApiResponse.ok(
+        professionalQualificationService.findAll(cursor, pageable, searchParams)
+      );
+    }
     return CustomApiResponse.ok(
       professionalQualificationService.findAll(pageable, searchParams)
     );
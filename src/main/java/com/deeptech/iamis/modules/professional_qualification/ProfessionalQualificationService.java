@@ -1,6 +1,7 @@
 package com.deeptech.iamis.modules.professional_qualification;
 
 import com.deeptech.iamis.core.BaseCrudService;
+import com.deeptech.iamis.core.BulkImportService;
 
 /**
  * Service interface for managing ProfessionalQualifications in the system.
@@ -9,4 +10,5 @@ import com.deeptech.iamis.core.BaseCrudService;
  */
 public interface ProfessionalQualificationService
   extends
-    BaseCrudService<ProfessionalQualificationDto, ProfessionalQualification> {}
+    BaseCrudService<ProfessionalQualificationDto, ProfessionalQualification>,
+    BulkImportService {}
@@ -1,17 +1,11 @@
 package com.deeptech.iamis.modules.professional_qualification;
 
-import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.core.ImportableCrudService;
 import com.deeptech.iamis.core.Utils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import jakarta.validation.ValidationException;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,7 +13,8 @@ import org.springframework.stereotype.Service;
  * This service uses {@link ProfessionalQualificationRepository} for database operations and {@link ProfessionalQualificationMapper}
  * to convert between entity and DTO objects.
  * <p>
- * It also extends {@link SearchService} to enable advanced search capabilities for ProfessionalQualifications.
+ * It extends {@link ImportableCrudService}, which provides the searches, reads, deletes, exports, imports
+ * and batch operations of ProfessionalQualifications.
  */
 
 @Slf4j
@@ -27,7 +22,10 @@ import org.springframework.stereotype.Service;
 @Transactional
 @RequiredArgsConstructor
 public class ProfessionalQualificationServiceImpl
-  extends SearchService<ProfessionalQualification>
+  extends ImportableCrudService<
+    ProfessionalQualification,
+    ProfessionalQualificationDto
+  >
   implements ProfessionalQualificationService {
 
   private final ProfessionalQualificationRepository professionalQualificationRepository;
@@ -77,59 +75,15 @@ public class ProfessionalQualificationServiceImpl
     return professionalQualificationMapper.toDto(professionalQualification);
   }
 
-  /**
-   * Finds all ProfessionalQualifications based on pagination and search criteria.
-   *
-   * @param pageable the pagination information.
-   * @param searchParams   a map of search criteria.
-   * @return a paginated list of {@link ProfessionalQualificationDto}.
-   */
-  @Override
-  public Page<ProfessionalQualificationDto> findAll(
-    Pageable pageable,
-    Map<String, Object> searchParams
-  ) {
-    return professionalQualificationRepository
-      .findAll(
-        createSpecification(ProfessionalQualification.class, searchParams),
-        pageable
-      )
-      .map(professionalQualificationMapper::toDto);
-  }
-
-  /**
-   * Finds a ProfessionalQualification by its UUID.
-   *
-   * @param uuid the UUID of the ProfessionalQualification to find.
-   * @return the {@link ProfessionalQualificationDto} if found.
-   * @throws ValidationException if the ProfessionalQualification is not found.
-   */
   @Override
-  public ProfessionalQualificationDto findById(UUID uuid) {
-    return professionalQualificationRepository
-      .findByUuid(uuid)
-      .map(professionalQualificationMapper::toDto)
-      .orElseThrow(() ->
-        new EntityNotFoundException(
-          "ProfessionalQualification  with uuid " + uuid + " not found"
-        )
-      );
+  protected ProfessionalQualificationRepository repository() {
+    return professionalQualificationRepository;
   }
 
-  /**
-   * Deletes a ProfessionalQualification by its UUID.
-   *
-   * @param uuid the UUID of the ProfessionalQualification to delete.
-   * @throws ValidationException if the ProfessionalQualification cannot be deleted.
-   */
   @Override
-  public void delete(UUID uuid) {
-    try {
-      professionalQualificationRepository.deleteByUuid(uuid);
-    } catch (Exception e) {
-      throw new ValidationException(
-        "Cannot delete ProfessionalQualification with uuid " + uuid
-      );
-    }
+  protected ProfessionalQualificationDto toDto(
+    ProfessionalQualification professionalQualification
+  ) {
+    return professionalQualificationMapper.toDto(professionalQualification);
   }
 }
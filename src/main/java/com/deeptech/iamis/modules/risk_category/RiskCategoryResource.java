@@ -2,6 +2,7 @@ package com.deeptech.iamis.modules.risk_category;
 
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.ImportableCrudResource;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
 import java.util.Map;
@@ -18,18 +19,29 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/risk-categories: Create a new RiskCategory
  * - PUT /api/risk-categories/{uuid}: Update an existing RiskCategory
  * - GET /api/risk-categories: Fetch all RiskCategories with optional search and pagination
+ * - GET /api/risk-categories/export: Stream all RiskCategories as NDJSON or CSV
+ * - POST /api/risk-categories/import: Load RiskCategories in bulk from CSV or NDJSON
  * - GET /api/risk-categories/{uuid}: Get an existing RiskCategory by its UUID
  * - DELETE /api/risk-categories/{uuid}: Delete a RiskCategory by its UUID
+ * - POST /api/risk-categories/batch: Create or update RiskCategories in one request
+ * - POST /api/risk-categories/batch/find: Fetch RiskCategories by their UUIDs
+ * - DELETE /api/risk-categories/batch: Delete RiskCategories by their UUIDs
  * <p>
  * Uses {@link RiskCategoryService} to perform business logic.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/risk-categories")
-public class RiskCategoryResource {
+public class RiskCategoryResource
+  extends ImportableCrudResource<RiskCategoryDto, RiskCategoryService> {
 
   private final RiskCategoryService riskCategoryService;
 
+  @Override
+  protected RiskCategoryService service() {
+    return riskCategoryService;
+  }
+
   /**
    * Creates a new RiskCategory in the system.
    *
@@ -75,14 +87,21 @@ public class RiskCategoryResource {
    * Retrieves a list of RiskCategories with pagination and optional search parameters.
    *
    * @param pageable the {@link Pageable} object to control pagination.
+   * @param cursor the cursor of the previous page; when present (empty for the first page) the list is served in cursor mode.
    * @param searchParams a map of search parameters (fields names) for filtering RiskCategories.
    * @return {@link CustomApiResponse} containing a list of RiskCategories and pagination information.
    */
   @GetMapping
   public CustomApiResponse get(
     Pageable pageable,
+    @RequestParam(required = false) String cursor,
     @RequestParam Map<String, Object> searchParams
   ) {
+    if (cursor != null) {
+      return CustomApiResponse.ok(
+        riskCategoryService.findAll(cursor, pageable, searchParams)
+      );
+    }
     return CustomApiResponse.ok(
       riskCategoryService.findAll(pageable, searchParams)
     );
@@ -1,6 +1,7 @@
 package com.deeptech.iamis.modules.risk_category;
 
 import com.deeptech.iamis.core.BaseCrudService;
+import com.deeptech.iamis.core.BulkImportService;
 
 /**
  * Service interface for managing RiskCategories in the system.
@@ -8,4 +9,4 @@ import com.deeptech.iamis.core.BaseCrudService;
  * and can define additional functionality to be implemented specific to RiskCategory management.
  */
 public interface RiskCategoryService
-  extends BaseCrudService<RiskCategoryDto, RiskCategory> {}
+  extends BaseCrudService<RiskCategoryDto, RiskCategory>, BulkImportService {}
@@ -1,17 +1,11 @@
 package com.deeptech.iamis.modules.risk_category;
 
-import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.core.ImportableCrudService;
 import com.deeptech.iamis.core.Utils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import jakarta.validation.ValidationException;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,7 +13,8 @@ import org.springframework.stereotype.Service;
  * This service uses {@link RiskCategoryRepository} for database operations and {@link RiskCategoryMapper}
  * to convert between entity and DTO objects.
  * <p>
- * It also extends {@link SearchService} to enable advanced search capabilities for RiskCategories.
+ * It extends {@link ImportableCrudService}, which provides the searches, reads, deletes, exports, imports
+ * and batch operations of RiskCategories.
  */
 
 @Slf4j
@@ -27,7 +22,7 @@ import org.springframework.stereotype.Service;
 @Transactional
 @RequiredArgsConstructor
 public class RiskCategoryServiceImpl
-  extends SearchService<RiskCategory>
+  extends ImportableCrudService<RiskCategory, RiskCategoryDto>
   implements RiskCategoryService {
 
   private final RiskCategoryRepository riskCategoryRepository;
@@ -70,56 +65,13 @@ public class RiskCategoryServiceImpl
     return riskCategoryMapper.toDto(riskCategory);
   }
 
-  /**
-   * Finds all RiskCategories based on pagination and search criteria.
-   *
-   * @param pageable the pagination information.
-   * @param searchParams   a map of search criteria.
-   * @return a paginated list of {@link RiskCategoryDto}.
-   */
-  @Override
-  public Page<RiskCategoryDto> findAll(
-    Pageable pageable,
-    Map<String, Object> searchParams
-  ) {
-    return riskCategoryRepository
-      .findAll(createSpecification(RiskCategory.class, searchParams), pageable)
-      .map(riskCategoryMapper::toDto);
-  }
-
-  /**
-   * Finds a RiskCategory by its UUID.
-   *
-   * @param uuid the UUID of the RiskCategory to find.
-   * @return the {@link RiskCategoryDto} if found.
-   * @throws ValidationException if the RiskCategory is not found.
-   */
   @Override
-  public RiskCategoryDto findById(UUID uuid) {
-    return riskCategoryRepository
-      .findByUuid(uuid)
-      .map(riskCategoryMapper::toDto)
-      .orElseThrow(() ->
-        new EntityNotFoundException(
-          "RiskCategory  with uuid " + uuid + " not found"
-        )
-      );
+  protected RiskCategoryRepository repository() {
+    return riskCategoryRepository;
   }
 
-  /**
-   * Deletes a RiskCategory by its UUID.
-   *
-   * @param uuid the UUID of the RiskCategory to delete.
-   * @throws ValidationException if the RiskCategory cannot be deleted.
-   */
   @Override
-  public void delete(UUID uuid) {
-    try {
-      riskCategoryRepository.deleteByUuid(uuid);
-    } catch (Exception e) {
-      throw new ValidationException(
-        "Cannot delete RiskCategory with uuid " + uuid
-      );
-    }
+  protected RiskCategoryDto toDto(RiskCategory riskCategory) {
+    return riskCategoryMapper.toDto(riskCategory);
   }
 }
@@ -2,6 +2,7 @@ package com.deeptech.iamis.modules.risk_rank;
 
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.ImportableCrudResource;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
 import java.util.Map;
@@ -18,18 +19,29 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/risk-ranks: Create a new RiskRank
  * - PUT /api/risk-ranks/{uuid}: Update an existing RiskRank
  * - GET /api/risk-ranks: Fetch all RiskRanks with optional search and pagination
+ * - GET /api/risk-ranks/export: Stream all RiskRanks as NDJSON or CSV
+ * - POST /api/risk-ranks/import: Load RiskRanks in bulk from CSV or NDJSON
  * - GET /api/risk-ranks/{uuid}: Get an existing RiskRank by its UUID
  * - DELETE /api/risk-ranks/{uuid}: Delete a RiskRank by its UUID
+ * - POST /api/risk-ranks/batch: Create or update RiskRanks in one request
+ * - POST /api/risk-ranks/batch/find: Fetch RiskRanks by their UUIDs
+ * - DELETE /api/risk-ranks/batch: Delete RiskRanks by their UUIDs
  * <p>
  * Uses {@link RiskRankService} to perform business logic.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/risk-ranks")
-public class RiskRankResource {
+public class RiskRankResource
+  extends ImportableCrudResource<RiskRankDto, RiskRankService> {
 
   private final RiskRankService riskRankService;
 
+  @Override
+  protected RiskRankService service() {
+    return riskRankService;
+  }
+
   /**
    * Creates a new RiskRank in the system.
    *
@@ -73,14 +85,21 @@ public class RiskRankResource {
    * Retrieves a list of RiskRanks with pagination and optional search parameters.
    *
    * @param pageable the {@link Pageable} object to control pagination.
+   * @param cursor the cursor of the previous page; when present (empty for the first page) the list is served in cursor mode.
    * @param searchParams a map of search parameters (fields names) for filtering RiskRanks.
    * @return {@link CustomApiResponse} containing a list of RiskRanks and pagination information.
    */
   @GetMapping
   public CustomApiResponse get(
     Pageable pageable,
+    @RequestParam(required = false) String cursor,
     @RequestParam Map<String, Object> searchParams
   ) {
+    if (cursor != null) {
+      return CustomApiResponse.ok(
+        riskRankService.findAll(cursor, pageable, searchParams)
+      );
+    }
     return CustomApiResponse.ok(
       riskRankService.findAll(pageable, searchParams)
     );
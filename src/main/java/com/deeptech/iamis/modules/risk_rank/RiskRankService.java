@@ -1,6 +1,7 @@
 package com.deeptech.iamis.modules.risk_rank;
 
 import com.deeptech.iamis.core.BaseCrudService;
+import com.deeptech.iamis.core.BulkImportService;
 
 /**
  * Service interface for managing RiskRanks in the system.
@@ -8,4 +9,4 @@ import com.deeptech.iamis.core.BaseCrudService;
  * and can define additional functionality to be implemented specific to RiskRank management.
  */
 public interface RiskRankService
-  extends BaseCrudService<RiskRankDto, RiskRank> {}
+  extends BaseCrudService<RiskRankDto, RiskRank>, BulkImportService {}
@@ -1,17 +1,11 @@
 package com.deeptech.iamis.modules.risk_rank;
 
-import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.core.ImportableCrudService;
 import com.deeptech.iamis.core.Utils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import jakarta.validation.ValidationException;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,7 +13,8 @@ import org.springframework.stereotype.Service;
  * This service uses {@link RiskRankRepository} for database operations and {@link RiskRankMapper}
  * to convert between entity and DTO objects.
  * <p>
- * It also extends {@link SearchService} to enable advanced search capabilities for RiskRanks.
+ * It extends {@link ImportableCrudService}, which provides the searches, reads, deletes, exports, imports
+ * and batch operations of RiskRanks.
  */
 
 @Slf4j
@@ -27,7 +22,7 @@ import org.springframework.stereotype.Service;
 @Transactional
 @RequiredArgsConstructor
 public class RiskRankServiceImpl
-  extends SearchService<RiskRank>
+  extends ImportableCrudService<RiskRank, RiskRankDto>
   implements RiskRankService {
 
   private final RiskRankRepository riskRankRepository;
@@ -67,54 +62,13 @@ public class RiskRankServiceImpl
     return riskRankMapper.toDto(riskRank);
   }
 
-  /**
-   * Finds all RiskRanks based on pagination and search criteria.
-   *
-   * @param pageable the pagination information.
-   * @param searchParams   a map of search criteria.
-   * @return a paginated list of {@link RiskRankDto}.
-   */
-  @Override
-  public Page<RiskRankDto> findAll(
-    Pageable pageable,
-    Map<String, Object> searchParams
-  ) {
-    return riskRankRepository
-      .findAll(createSpecification(RiskRank.class, searchParams), pageable)
-      .map(riskRankMapper::toDto);
-  }
-
-  /**
-   * Finds a RiskRank by its UUID.
-   *
-   * @param uuid the UUID of the RiskRank to find.
-   * @return the {@link RiskRankDto} if found.
-   * @throws ValidationException if the RiskRank is not found.
-   */
   @Override
-  public RiskRankDto findById(UUID uuid) {
-    return riskRankRepository
-      .findByUuid(uuid)
-      .map(riskRankMapper::toDto)
-      .orElseThrow(() ->
-        new EntityNotFoundException(
-          "RiskRank  with uuid " + uuid + " not found"
-        )
-      );
+  protected RiskRankRepository repository() {
+    return riskRankRepository;
   }
 
-  /**
-   * Deletes a RiskRank by its UUID.
-   *
-   * @param uuid the UUID of the RiskRank to delete.
-   * @throws ValidationException if the RiskRank cannot be deleted.
-   */
   @Override
-  public void delete(UUID uuid) {
-    try {
-      riskRankRepository.deleteByUuid(uuid);
-    } catch (Exception e) {
-      throw new ValidationException("Cannot delete RiskRank with uuid " + uuid);
-    }
+  protected RiskRankDto toDto(RiskRank riskRank) {
+    return riskRankMapper.toDto(riskRank);
   }
 }
@@ -1,7 +1,9 @@
 package com.deeptech.iamis.modules.role;
 
 import com.deeptech.iamis.core.BaseRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,4 +18,10 @@ public interface RoleRepository extends BaseRepository<Role, Long> {
     Optional<Role> findRoleByName(String name);
 
     Optional<Role> findRoleByCode(String code);
+
+    /**
+     * @return the role id, authority id and authority name of every authority granted to a role.
+     */
+    @Query("select r.id, a.id, a.name from Role r join r.authorities a")
+    List<Object[]> findAuthorityGrants();
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.CrudResource;
 
 import java.util.Map;
 import java.util.UUID;
@@ -20,18 +21,27 @@ import java.util.UUID;
  * - POST /api/roles: Create a new role
  * - PUT /api/roles/{uuid}: Update an existing role
  * - GET /api/roles: Fetch all roles with optional search and pagination
+ * - GET /api/roles/export: Stream all roles as NDJSON or CSV
  * - DELETE /api/roles/{uuid}: Delete a role by its UUID
  * - POST /api/roles/assign-authorities: Assign authorities to a role
+ * - POST /api/roles/batch: Create or update roles in one request
+ * - POST /api/roles/batch/find: Fetch roles by their UUIDs
+ * - DELETE /api/roles/batch: Delete roles by their UUIDs
  * <p>
  * Uses {@link RoleService} to perform business logic.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX + "/roles")
-public class RoleResource {
+public class RoleResource extends CrudResource<RoleDto> {
 
     private final RoleService roleService;
 
+    @Override
+    protected RoleService service() {
+        return roleService;
+    }
+
     /**
      * Creates a new role in the system.
      *
@@ -48,7 +58,6 @@ public class RoleResource {
         return CustomApiResponse.ok(roleService.save(dto));
     }
 
-
     /**
      * Updates an existing role.
      *
@@ -74,11 +83,17 @@ public class RoleResource {
      * Retrieves a list of roles with pagination and optional search parameters.
      *
      * @param pageable     the {@link Pageable} object to control pagination.
+     * @param cursor       the cursor of the previous page; when present (empty for the first page) the list is served in cursor mode.
      * @param searchParams a map of search parameters (fields names) for filtering roles.
      * @return {@link CustomApiResponse} containing a list of roles and pagination information.
      */
     @GetMapping
-    public CustomApiResponse get(Pageable pageable, @RequestParam Map<String, Object> searchParams) {
+    public CustomApiResponse get(Pageable pageable,
+                                 @RequestParam(required = false) String cursor,
+                                 @RequestParam Map<String, Object> searchParams) {
+        if (cursor != null) {
+            return CustomApiResponse.ok(roleService.findAll(cursor, pageable, searchParams));
+        }
         return CustomApiResponse.ok(roleService.findAll(pageable, searchParams));
     }
 
@@ -119,5 +134,4 @@ public class RoleResource {
         RoleDto dto = roleService.assignAuthorities(roleAuthoritiesDto);
         return CustomApiResponse.ok("Role assigned successfully", dto.getId());
     }
-
 }
@@ -5,15 +5,14 @@ import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import com.deeptech.iamis.core.SearchService;
+import com.deeptech.iamis.core.CrudService;
 import com.deeptech.iamis.core.Utils;
 import com.deeptech.iamis.modules.authority.AuthorityRepository;
+import com.deeptech.iamis.security.PermissionVersions;
+import com.deeptech.iamis.security.RolePermissionCache;
 
 import java.util.HashSet;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -22,13 +21,14 @@ import java.util.UUID;
  * This service uses {@link RoleRepository} for database operations and {@link RoleMapper}
  * to convert between entity and DTO objects.
  * <p>
- * It also extends {@link SearchService} to enable advanced search capabilities for roles.
+ * It extends {@link CrudService}, which provides the searches, reads, deletes, exports and batch operations
+ * of roles.
  */
 @Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
-public class RoleServiceImpl extends SearchService<Role> implements RoleService {
+public class RoleServiceImpl extends CrudService<Role, RoleDto> implements RoleService {
 
     private final RoleRepository roleRepository;
 
@@ -36,6 +36,10 @@ public class RoleServiceImpl extends SearchService<Role> implements RoleService
 
     private final AuthorityRepository authorityRepository;
 
+    private final PermissionVersions permissionVersions;
+
+    private final RolePermissionCache rolePermissionCache;
+
     /**
      * Creates or updates a role based on the presence of a UUID in the DTO.
      *
@@ -61,52 +65,10 @@ public class RoleServiceImpl extends SearchService<Role> implements RoleService
         }
         // Save the role and return the DTO
         role = roleRepository.save(role);
+        rolePermissionCache.invalidate();
         return roleMapper.toDto(role);
     }
 
-    /**
-     * Finds all roles based on pagination and search criteria.
-     *
-     * @param pageable the pagination information.
-     * @param search   a map of search criteria.
-     * @return a paginated list of {@link RoleDto}.
-     */
-    @Override
-    public Page<RoleDto> findAll(Pageable pageable,
-                                 Map<String, Object> search) {
-        return roleRepository.findAll(createSpecification(Role.class, search), pageable)
-                .map(roleMapper::toDto);
-    }
-
-    /**
-     * Finds a role by its UUID.
-     *
-     * @param uuid the UUID of the role to find.
-     * @return the {@link RoleDto} if found.
-     * @throws ValidationException if the role is not found.
-     */
-    @Override
-    public RoleDto findById(UUID uuid) {
-        return roleRepository.findByUuid(uuid)
-                .map(roleMapper::toDto)
-                .orElseThrow(() -> new EntityNotFoundException("Role not found"));
-    }
-
-    /**
-     * Deletes a role by its UUID.
-     *
-     * @param uuid the UUID of the role to delete.
-     * @throws ValidationException if the role cannot be deleted.
-     */
-    @Override
-    public void delete(UUID uuid) {
-        try {
-            roleRepository.deleteByUuid(uuid);
-        } catch (Exception e) {
-            throw new ValidationException("Can not delete role");
-        }
-    }
-
     /**
      * Assigns a set of authorities to a role.
      *
@@ -123,6 +85,31 @@ public class RoleServiceImpl extends SearchService<Role> implements RoleService
             role.addAuthority(authorityRepository.getReferenceByUuid(authId));
         }
         roleRepository.save(role);
+        permissionVersions.roleChanged(role.getId());
+        rolePermissionCache.invalidate();
+        return roleMapper.toDto(role);
+    }
+
+    @Override
+    protected RoleRepository repository() {
+        return roleRepository;
+    }
+
+    @Override
+    protected RoleDto toDto(Role role) {
         return roleMapper.toDto(role);
     }
+
+    /**
+     * The tokens of the role's users carry its permissions, so they are reissued.
+     */
+    @Override
+    protected void beforeDelete(Role role) {
+        permissionVersions.roleChanged(role.getId());
+    }
+
+    @Override
+    protected void changed() {
+        rolePermissionCache.invalidate();
+    }
 }
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import com.deeptech.iamis.core.BaseModel;
+import com.deeptech.iamis.core.OrganisationScoped;
 import com.deeptech.iamis.modules.role.Role;
 
 import java.util.HashSet;
@@ -19,6 +20,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "users")
+@OrganisationScoped("organisationUnitId")
 public class User extends BaseModel {
 
     @Column(name = "email", nullable = false, unique = true)
@@ -48,6 +50,15 @@ public class User extends BaseModel {
     @Column(name = "password_changed")
     private Boolean passwordChanged;
 
+    @Column(name = "permission_version", nullable = false)
+    private Integer permissionVersion = 0;
+
+    /**
+     * The organisation unit whose subtree the user may see, null for all units.
+     */
+    @Column(name = "organisation_unit_id")
+    private Long organisationUnitId;
+
 
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinTable(
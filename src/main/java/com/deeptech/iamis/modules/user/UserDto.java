@@ -32,6 +32,7 @@ public class UserDto extends BaseDto {
     private Boolean isActive = Boolean.TRUE;
     private Boolean passwordChanged = Boolean.FALSE;
     private List<UUID> roleIds;
+    private Long organisationUnitId;
 
 
     public UserDto(
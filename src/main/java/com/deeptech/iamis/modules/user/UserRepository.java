@@ -1,8 +1,10 @@
 package com.deeptech.iamis.modules.user;
 
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import com.deeptech.iamis.core.BaseRepository;
 
 import java.util.List;
@@ -13,6 +15,9 @@ public interface UserRepository extends BaseRepository<User, Long> {
     @EntityGraph(attributePaths = {"roles", "roles.authorities"})
     Optional<User> findUserByEmail(String username);
 
+    @EntityGraph(attributePaths = {"roles"})
+    Optional<User> findWithRolesByEmail(String email);
+
     @Query("Select new com.deeptech.iamis.modules.user.UserDto(" +
             "u.id, u.uuid, " +
             "u.firstName," +
@@ -25,5 +30,26 @@ public interface UserRepository extends BaseRepository<User, Long> {
             "LOWER(CONCAT(u.firstName, ' ', u.middleName, ' ', u.lastName)) LIKE LOWER(CONCAT('%', :fullName, '%'))")
     List<User> searchByFullName(@Param("fullName") String fullName);
 
+    /**
+     * @return the email and permission version of every active user.
+     */
+    @Query("select u.email, u.permissionVersion from User u where u.isActive = true")
+    List<Object[]> findActivePermissionVersions();
+
+    /**
+     * @return the permission version of the user, if active.
+     */
+    @Query("select u.permissionVersion from User u where u.email = :email and u.isActive = true")
+    Optional<Integer> findActivePermissionVersionByEmail(@Param("email") String email);
+
+    @Modifying
+    @Query("update User u set u.permissionVersion = u.permissionVersion + 1 " +
+            "where u.id in (select ur.id from User ur join ur.roles r where r.id = :roleId)")
+    int incrementPermissionVersionByRoleId(@Param("roleId") Long roleId);
+
+    @Modifying
+    @Transactional
+    @Query("update User u set u.password = :password where u.email = :email")
+    int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
 
 }
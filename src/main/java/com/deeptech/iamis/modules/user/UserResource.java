@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
 import com.deeptech.iamis.core.AppConstants;
 import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.core.CrudResource;
 
 import java.util.List;
 import java.util.Map;
@@ -15,10 +16,15 @@ import java.util.UUID;
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(AppConstants.API_PREFIX+"/users")
-public class UserResource {
+public class UserResource extends CrudResource<UserDto> {
 
    private final UserService userService;
 
+    @Override
+    protected UserService service() {
+        return userService;
+    }
+
     @PostMapping()
     public CustomApiResponse create(@Valid @RequestBody UserDto userDto) {
         if(userDto.getId() != null || userDto.getUuid() != null) {
@@ -41,7 +47,12 @@ public class UserResource {
     }
 
     @GetMapping
-    public CustomApiResponse get(Pageable pageable,@RequestParam Map<String, Object> searchParams) {
+    public CustomApiResponse get(Pageable pageable,
+                                 @RequestParam(required = false) String cursor,
+                                 @RequestParam Map<String, Object> searchParams) {
+        if (cursor != null) {
+            return CustomApiResponse.ok(userService.findAll(cursor, pageable, searchParams));
+        }
         return CustomApiResponse.ok( userService.findAll(pageable, searchParams));
     }
 
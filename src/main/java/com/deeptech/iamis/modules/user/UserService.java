@@ -5,7 +5,7 @@ import com.deeptech.iamis.core.BaseCrudService;
 import java.util.List;
 import java.util.UUID;
 
-public interface UserService extends BaseCrudService<UserDto, Long> {
+public interface UserService extends BaseCrudService<UserDto, User> {
     void changePassword(UserChangePasswordDto userChangePasswordDto);
     void resetPassword(UUID uuid,UserResetPasswordDto userResetPasswordDto);
     List<UserDto> searchByFullName(String fullname);
@@ -1,28 +1,30 @@
 package com.deeptech.iamis.modules.user;
 
-import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import com.deeptech.iamis.core.*;
+import com.deeptech.iamis.core.CrudService;
+import com.deeptech.iamis.core.Utils;
+import com.deeptech.iamis.modules.organisation_unit.OrganisationUnitScope;
 import com.deeptech.iamis.modules.role.RoleRepository;
+import com.deeptech.iamis.security.PermissionVersions;
 
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional
 @RequiredArgsConstructor
-public class UserServiceImpl extends SearchService<User> implements UserService {
+public class UserServiceImpl extends CrudService<User, UserDto> implements UserService {
 
     private final UserRepository userRepository;
 
@@ -32,18 +34,33 @@ public class UserServiceImpl extends SearchService<User> implements UserService
 
     private final UserMapper userMapper;
 
+    private final PermissionVersions permissionVersions;
+
+    private final OrganisationUnitScope organisationUnitScope;
+
     @Value("${zanemr.default-password:password}")
     private String defaultPassword;
 
     @Override
     public UserDto save(UserDto dto) {
         User user = userMapper.toEntity(dto);
+        boolean permissionsChanged = false;
         if (dto.getUuid() != null) {
-            user = userRepository.findByUuid(dto.getUuid())
-                    .orElseThrow(
-                            () -> new EntityNotFoundException("User with id " + dto.getUuid() + " not found"));
+            user = require(dto.getUuid());
+            // The User must stay within the current user's organisation unit; checked before changing the
+            // managed entity, so a refused save leaves the row as it was
+            organisationUnitScope.requireWithin(
+                    dto.getOrganisationUnitId() != null ? dto.getOrganisationUnitId() : user.getOrganisationUnitId());
+            String email = user.getEmail();
+            Boolean isActive = user.getIsActive();
+            Long organisationUnitId = user.getOrganisationUnitId();
             user = userMapper.partialUpdate(dto, user);
+            permissionsChanged = dto.getRoleIds() != null
+                    || !Objects.equals(email, user.getEmail())
+                    || !Objects.equals(isActive, user.getIsActive())
+                    || !Objects.equals(organisationUnitId, user.getOrganisationUnitId());
         } else {
+            organisationUnitScope.requireWithin(user.getOrganisationUnitId());
             user.setUuid(Utils.generateUuid());
             user.setPassword(passwordEncoder.encode(defaultPassword));
         }
@@ -53,30 +70,14 @@ public class UserServiceImpl extends SearchService<User> implements UserService
                 user.addRole(roleRepository.getReferenceByUuid(roleId));
             }
         }
+        if (permissionsChanged) {
+            permissionVersions.userChanged(user);
+        }
         user = userRepository.save(user);
-        return userMapper.toDto(user);
-    }
-
-    @Override
-    public Page<UserDto> findAll(Pageable pageable, Map<String, Object> searchParams) {
-        return userRepository.findAll(createSpecification(User.class, searchParams), pageable)
-                .map(userMapper::toDto);
-    }
-
-    @Override
-    public UserDto findById(UUID uuid) {
-        return userRepository.findByUuid(uuid).map(userMapper::toDto).orElseThrow(
-                () -> new EntityNotFoundException("User with id " + uuid + " not found")
-        );
-    }
-
-    @Override
-    public void delete(UUID uuid) {
-        try {
-            userRepository.deleteByUuid(uuid);
-        } catch (Exception e) {
-            throw new ValidationException("Cannot delete user with id " + uuid);
+        if (dto.getUuid() == null) {
+            permissionVersions.reloadAfterCommit();
         }
+        return userMapper.toDto(user);
     }
 
     @Override
@@ -97,15 +98,15 @@ public class UserServiceImpl extends SearchService<User> implements UserService
         }
         user.setPassword(passwordEncoder.encode(userChangePasswordDto.getNewPassword()));
         user.setPasswordChanged(true);
+        permissionVersions.userChanged(user);
         userRepository.save(user);
     }
 
     @Override
     public void resetPassword(UUID uuid,UserResetPasswordDto userResetPasswordDto){
-        User user = userRepository.findByUuid(uuid).orElseThrow(
-                () -> new EntityNotFoundException("User with UUID " + uuid + " not found")
-        );
+        User user = require(uuid);
         user.setPassword(passwordEncoder.encode(userResetPasswordDto.getNewPassword()));
+        permissionVersions.userChanged(user);
         userRepository.save(user);
     }
 
@@ -118,4 +119,18 @@ public class UserServiceImpl extends SearchService<User> implements UserService
                 .collect(Collectors.toList());
     }
 
+    @Override
+    protected UserRepository repository() {
+        return userRepository;
+    }
+
+    @Override
+    protected UserDto toDto(User user) {
+        return userMapper.toDto(user);
+    }
+
+    @Override
+    protected void changed() {
+        permissionVersions.reloadAfterCommit();
+    }
 }
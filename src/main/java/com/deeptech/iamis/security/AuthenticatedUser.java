@@ -0,0 +1,64 @@
+package com.deeptech.iamis.security;
+
+import com.deeptech.iamis.modules.user.User;
+
+import java.util.List;
+
+/**
+ * The principal of a password login: the user with their roles as loaded once by
+ * {@link CustomUserDetailsService} and the permissions resolved from the {@link RolePermissionCache}, so token
+ * creation and the login response need no further queries.
+ * <p>
+ * Authorities are carried as a {@link Permissions} bitset and names rather than {@code GrantedAuthority}
+ * objects. The entity is detached once the login transaction ends; only the user and roles fetched with it may
+ * be read.
+ */
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User {
+
+    private final transient User user;
+
+    private final transient Permissions permissions;
+
+    private final List<String> authorityNames;
+
+    private AuthenticatedUser(User user, Permissions permissions, List<String> authorityNames) {
+        super(user.getEmail(),
+                user.getPassword(),
+                Boolean.TRUE.equals(user.getIsActive()),
+                true,
+                true,
+                true,
+                List.of());
+        this.user = user;
+        this.permissions = permissions;
+        this.authorityNames = authorityNames;
+    }
+
+    /**
+     * @param user            the user, with roles fetched.
+     * @param rolePermissions the cached role permissions.
+     * @return the snapshot of the user and their permissions.
+     */
+    public static AuthenticatedUser of(User user, RolePermissionCache rolePermissions) {
+        RolePermissionCache.RolePermissions granted = rolePermissions.of(user.getRoles());
+        return new AuthenticatedUser(user, granted.permissions(), granted.names());
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    /**
+     * @return the authorities granted by the user's roles.
+     */
+    public Permissions getPermissions() {
+        return permissions;
+    }
+
+    /**
+     * @return the distinct names of the authorities granted by the user's roles; shared, must not be modified.
+     */
+    public List<String> getAuthorityNames() {
+        return authorityNames;
+    }
+}
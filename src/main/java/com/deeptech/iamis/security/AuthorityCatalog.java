@@ -0,0 +1,191 @@
+package com.deeptech.iamis.security;
+
+import com.deeptech.iamis.core.NoAuthorization;
+import com.deeptech.iamis.modules.authority.Authority;
+import com.deeptech.iamis.modules.authority.AuthorityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * The authority catalog: authority names by id and the authority each API handler method requires.
+ * <p>
+ * The catalog is read once the application is ready, after {@code Initializer} has created the authorities of
+ * new handler methods, and published as an immutable state. Requirements are keyed by the controller class and
+ * then by the handler's {@link Method} instance, which every per-request copy of a {@link HandlerMethod} shares,
+ * so looking one up neither hashes strings nor allocates. The controller class is part of the key because
+ * handlers inherited from a shared base resource are the same {@link Method} in every controller, yet each
+ * controller guards them with its own authority.
+ * <p>
+ * The catalog {@link #version()} fingerprints the authority ids and names, so a permission bitmap issued
+ * against one catalog is never read against another.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthorityCatalog {
+
+    private static final String HANDLER_MAPPING = "requestMappingHandlerMapping";
+
+    private final AuthorityRepository authorityRepository;
+
+    private final ApplicationContext applicationContext;
+
+    private volatile State state;
+
+    /**
+     * Whether a handler method is guarded by an authority; this is the same rule {@code AuthoritySynchronizer} uses
+     * to create the authorities.
+     */
+    public static boolean requiresAuthority(RequestMappingInfo info, HandlerMethod handlerMethod) {
+        return !info.getMethodsCondition().getMethods().isEmpty()
+                && info.getPatternValues().size() == 1
+                && info.getPatternValues().iterator().next().contains("api")
+                && !handlerMethod.hasMethodAnnotation(NoAuthorization.class);
+    }
+
+    /**
+     * @return the resource part of the authorities of the handler's controller, e.g. {@code RiskRank}.
+     */
+    public static String resourceName(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName().replace("Resource", "");
+    }
+
+    /**
+     * @return the name of the authority guarding the handler method, e.g. {@code RISKRANK_CREATE}.
+     */
+    public static String authorityName(HandlerMethod handlerMethod) {
+        return authorityName(resourceName(handlerMethod), handlerMethod.getMethod().getName());
+    }
+
+    public static String authorityName(String resourceName, String actionName) {
+        return resourceName.toUpperCase() + "_" + actionName.toUpperCase();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        Map<String, Integer> authorityIds = new HashMap<>();
+        for (Authority authority : authorityRepository.findAll()) {
+            authorityIds.put(authority.getName(), Math.toIntExact(authority.getId()));
+        }
+        refresh(authorityIds,
+                applicationContext.getBean(HANDLER_MAPPING, RequestMappingInfoHandlerMapping.class).getHandlerMethods());
+    }
+
+    synchronized void refresh(Map<String, Integer> authorityIds, Map<RequestMappingInfo, HandlerMethod> handlerMethods) {
+        Map<Class<?>, Map<Method, Requirement>> requirements = new IdentityHashMap<>();
+        int[] count = new int[1];
+        handlerMethods.forEach((info, handlerMethod) -> {
+            if (requiresAuthority(info, handlerMethod)) {
+                String name = authorityName(handlerMethod);
+                Integer id = authorityIds.get(name);
+                if (id == null) {
+                    log.warn("No authority {} for {}, it will be denied", name, handlerMethod);
+                }
+                requirements.computeIfAbsent(handlerMethod.getBeanType(), type -> new IdentityHashMap<>())
+                        .put(handlerMethod.getMethod(), new Requirement(id != null ? id : Requirement.UNKNOWN,
+                                deniedBody(resourceName(handlerMethod), handlerMethod.getMethod().getName())));
+                count[0]++;
+            }
+        });
+        state = new State(Map.copyOf(authorityIds), requirements, fingerprint(authorityIds));
+        log.debug("Authority catalog holds {} authorities guarding {} handler methods",
+                authorityIds.size(), count[0]);
+    }
+
+    /**
+     * @param handler the handler method.
+     * @return what the handler requires, or null if it is not guarded by an authority.
+     */
+    public Requirement requirementOf(HandlerMethod handler) {
+        Map<Method, Requirement> requirements = state().requirements.get(handler.getBeanType());
+        return requirements == null ? null : requirements.get(handler.getMethod());
+    }
+
+    /**
+     * @param handler a handler method that is not guarded by an authority.
+     * @return a requirement no caller has, for handlers that must be denied although no authority guards them.
+     */
+    public static Requirement unlisted(HandlerMethod handler) {
+        return new Requirement(Requirement.UNKNOWN, deniedBody(resourceName(handler), handler.getMethod().getName()));
+    }
+
+    /**
+     * @return the version of the catalog, which changes whenever an authority is added, removed or renamed.
+     */
+    public long version() {
+        return state().version;
+    }
+
+    /**
+     * @param names authority names; unknown names are ignored.
+     * @return the permissions granting the named authorities.
+     */
+    public Permissions permissionsOf(Collection<String> names) {
+        Map<String, Integer> ids = state().authorityIds;
+        BitSet granted = new BitSet();
+        for (String name : names) {
+            Integer id = ids.get(name);
+            if (id != null) {
+                granted.set(id);
+            }
+        }
+        return Permissions.of(granted);
+    }
+
+    private State state() {
+        State current = state;
+        if (current == null) {
+            synchronized (this) {
+                if (state == null) {
+                    refresh();
+                }
+                current = state;
+            }
+        }
+        return current;
+    }
+
+    private static long fingerprint(Map<String, Integer> authorityIds) {
+        Map<Integer, String> byId = new TreeMap<>();
+        authorityIds.forEach((name, id) -> byId.put(id, name));
+        CRC32 crc = new CRC32();
+        byId.forEach((id, name) -> crc.update((id + ":" + name + ";").getBytes(StandardCharsets.UTF_8)));
+        return crc.getValue();
+    }
+
+    private static byte[] deniedBody(String resourceName, String actionName) {
+        String message = "Your Are Not Authorized to Access {" + actionName + "} on {" + resourceName + "}";
+        return ("{\"message\":\"" + message + "\", \"errors\":[\"" + message + "\"]}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param authorityId the id of the authority a handler requires, {@link #UNKNOWN} if it is not in the catalog.
+     * @param deniedBody  the JSON body of the response when it is not granted.
+     */
+    public record Requirement(int authorityId, byte[] deniedBody) {
+
+        public static final int UNKNOWN = -1;
+    }
+
+    private record State(Map<String, Integer> authorityIds,
+                         Map<Class<?>, Map<Method, Requirement>> requirements,
+                         long version) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.deeptech.iamis.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * BCrypt password encoder running on a dedicated, bounded executor.
+ * <p>
+ * Hashing and verification run on a fixed number of threads, so a burst of logins can use at most that many
+ * cores and leaves the rest to other requests. At most {@code queueCapacity} calls wait for a thread; further
+ * calls, and calls waiting longer than {@code timeout}, fail with {@link PasswordHashingBusyException} instead
+ * of piling up request threads. The calling thread waits for the result, so callers see an ordinary
+ * {@link PasswordEncoder}.
+ * <p>
+ * Hashes of a lower strength than the configured one report {@link #upgradeEncoding(String)}, so the login
+ * rehashes them with the current strength.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    /**
+     * Lowest strength picked when tuning, the default of {@link BCryptPasswordEncoder}.
+     */
+    static final int MIN_STRENGTH = 10;
+
+    /**
+     * Highest strength picked when tuning.
+     */
+    static final int MAX_STRENGTH = 14;
+
+    private final BCryptPasswordEncoder delegate;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Duration timeout;
+
+    /**
+     * @param strength      the BCrypt strength, or 0 to pick the highest one hashing within {@code target}.
+     * @param target        the hashing time to tune the strength for.
+     * @param threads       the number of hashing threads.
+     * @param queueCapacity the number of calls that may wait for a thread.
+     * @param timeout       how long a call may wait for its result.
+     */
+    public BoundedPasswordEncoder(int strength, Duration target, int threads, int queueCapacity, Duration timeout) {
+        this.delegate = new BCryptPasswordEncoder(strength > 0 ? strength : tune(target));
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingBusyException("Too many concurrent password checks, try again shortly");
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new PasswordHashingBusyException("Password check timed out, try again shortly");
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Password check interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Picks the highest strength whose hashing time, measured at {@link #MIN_STRENGTH} on this host and doubling
+     * with each step, stays within the target.
+     */
+    static int tune(Duration target) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_STRENGTH);
+        probe.encode("warm-up");
+        long start = System.nanoTime();
+        probe.encode("measure");
+        long nanos = System.nanoTime() - start;
+
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH && nanos * 2 <= target.toNanos()) {
+            nanos *= 2;
+            strength++;
+        }
+        log.info("Using BCrypt strength {}, about {} ms per hash", strength, TimeUnit.NANOSECONDS.toMillis(nanos));
+        return strength;
+    }
+}
@@ -1,73 +1,53 @@
 package com.deeptech.iamis.security;
 
+import com.deeptech.iamis.core.NoAuthorization;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
-import com.deeptech.iamis.core.NoAuthorization;
-
-import java.util.HashSet;
-import java.util.Set;
 
+/**
+ * Allows an API call only if the caller has the authority guarding the handler method.
+ * <p>
+ * The authority of each handler is resolved once by the {@link AuthorityCatalog} and the caller's
+ * authorities are a {@link Permissions} bitset, so a granted call costs a map lookup and a bit test.
+ * Only handlers annotated with {@code @NoAuthorization} are let through without an authority; any other handler
+ * the catalog does not guard, e.g. one mapped to several paths or to every HTTP method, is denied.
+ */
 @Component
-@Slf4j
+@RequiredArgsConstructor
 public class CustomAuthorizationInterceptor implements HandlerInterceptor {
 
+    private final AuthorityCatalog authorityCatalog;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
             throws Exception {
-
-        if (!handler.getClass().getSimpleName().equals("ResourceHttpRequestHandler")
-                && request.getRequestURI().contains("api/")) {
-            log.info("******Intercepting****");
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            Set<String> userAuthorities = new HashSet<>();
-            if (authentication != null && authentication.getPrincipal() instanceof Jwt) {
-                userAuthorities.addAll(((Jwt) authentication.getPrincipal()).getClaim("authorities"));
-            }
-
-            HandlerMethod handlerMethod = (HandlerMethod) handler;
-            NoAuthorization noAuthorization = handlerMethod.getMethodAnnotation(NoAuthorization.class);
-
-            if (noAuthorization == null) {
-                String resourceName = handlerMethod.getBeanType().getSimpleName().replace("Resource", "");
-                String actionName = handlerMethod.getMethod().getName();
-                String authName = resourceName.toUpperCase().concat("_").concat(actionName.toUpperCase());
-
-                log.info("Finding Authority");
-                if (userAuthorities.contains(authName)) {
-                    return true;
-                } else {
-                    response.setStatus(HttpStatus.FORBIDDEN.value());
-                    response.setContentType("application/json");
-                    response
-                            .getWriter()
-                            .write(
-                                    "{\"message\":\"Your Are Not Authorized to Access {"
-                                            + actionName
-                                            + "} on {"
-                                            + resourceName
-                                            + "}\", \"errors\":[\"Your Are Not Authorized to Access {"
-                                            + actionName
-                                            + "} on {"
-                                            + resourceName
-                                            + "}\"]}");
-                    response.flushBuffer();
-                    return false;
-                }
-
-            } else {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        AuthorityCatalog.Requirement requirement = authorityCatalog.requirementOf(handlerMethod);
+        if (requirement == null) {
+            if (handlerMethod.hasMethodAnnotation(NoAuthorization.class)) {
                 return true;
             }
+            requirement = AuthorityCatalog.unlisted(handlerMethod);
         }
-
-        return true;
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof PermissionsAuthenticationToken token
+                && token.getPermissions().has(requirement.authorityId())) {
+            return true;
+        }
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(requirement.deniedBody());
+        response.flushBuffer();
+        return false;
     }
 }
@@ -1,53 +1,49 @@
 package com.deeptech.iamis.security;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
-import com.deeptech.iamis.modules.role.Role;
 import com.deeptech.iamis.modules.user.User;
 import com.deeptech.iamis.modules.user.UserRepository;
 
-import java.util.HashSet;
-import java.util.Set;
-
+/**
+ * Loads the user and their roles for a password login in one query and resolves their permissions from the
+ * {@link RolePermissionCache}. The returned {@link AuthenticatedUser} becomes the principal of the
+ * authentication, which the login endpoint reads instead of loading the user again.
+ * <p>
+ * As the {@link UserDetailsPasswordService}, it stores the new hash when a login finds the password hashed
+ * with a lower strength than the configured one, see {@link BoundedPasswordEncoder#upgradeEncoding(String)}.
+ */
 @Component("userDetailsService")
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
+    private final RolePermissionCache rolePermissionCache;
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
         //TODO implement password expiration and account locking
         return userRepository
-                .findUserByEmail(username)
-                .map(u -> new org.springframework.security.core.userdetails.User(
-                                u.getEmail(),
-                                u.getPassword(),
-                                u.getIsActive(),
-                                true,
-                                true,
-                                true,
-                                getAuthority(u)
-                        )
-                )
+                .findWithRolesByEmail(username)
+                .map(user -> AuthenticatedUser.of(user, rolePermissionCache))
                 .orElseThrow(() -> new UsernameNotFoundException("No user with "
                         + "the name " + username + "was found in the database"));
     }
 
-    private Set<GrantedAuthority> getAuthority(User user) {
-        Set<GrantedAuthority> authorities = new HashSet<>();
-        for (Role role : user.getRoles()) {
-            role.getAuthorities()
-                    .forEach(authority ->
-                            authorities.add(
-                                    new SimpleGrantedAuthority(authority.getName())));
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        userRepository.updatePasswordByEmail(userDetails.getUsername(), newPassword);
+        if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+            User user = authenticatedUser.getUser();
+            user.setPassword(newPassword);
+            return AuthenticatedUser.of(user, rolePermissionCache);
         }
-        return authorities;
+        return loadUserByUsername(userDetails.getUsername());
     }
 }
@@ -0,0 +1,58 @@
+package com.deeptech.iamis.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Throttles login attempts per username and per client address before any database or password work, so
+ * credential stuffing cannot turn into unbounded BCrypt load. Every attempt counts, successful or not.
+ * <p>
+ * The client address is {@code request.getRemoteAddr()}. Behind a reverse proxy that is the proxy's address,
+ * which would put every client under one budget, so set {@code server.forward-headers-strategy} to
+ * {@code native} there to take it from {@code X-Forwarded-For}. Leave it at {@code none} when clients reach the
+ * application directly, or they could pick their own address by sending the header.
+ */
+@Component
+public class LoginThrottle {
+
+    private final SlidingWindowLimiter byUsername;
+
+    private final SlidingWindowLimiter byAddress;
+
+    private final SecurityMetersService metersService;
+
+    private final Duration window;
+
+    public LoginThrottle(SecurityMetersService metersService,
+                         @Value("${security.authentication.throttle.window:PT1M}") Duration window,
+                         @Value("${security.authentication.throttle.username-limit:10}") int usernameLimit,
+                         @Value("${security.authentication.throttle.address-limit:100}") int addressLimit,
+                         @Value("${security.authentication.throttle.slots:16384}") int slots) {
+        this.metersService = metersService;
+        this.window = window;
+        this.byUsername = new SlidingWindowLimiter(slots, window.toNanos(), usernameLimit);
+        this.byAddress = new SlidingWindowLimiter(slots, window.toNanos(), addressLimit);
+    }
+
+    /**
+     * Records a login attempt.
+     *
+     * @param username the username tried.
+     * @param address  the client address.
+     * @throws LoginThrottledException if the username or the address is over its limit.
+     */
+    public void checkAttempt(String username, String address) {
+        long now = System.nanoTime();
+        if (!byAddress.tryAcquire(address, now)) {
+            metersService.trackLoginThrottledByAddress();
+            throw new LoginThrottledException("Too many login attempts from this address", window);
+        }
+        if (!byUsername.tryAcquire(username.toLowerCase(Locale.ROOT), now)) {
+            metersService.trackLoginThrottledByUsername();
+            throw new LoginThrottledException("Too many login attempts for this user", window);
+        }
+    }
+}
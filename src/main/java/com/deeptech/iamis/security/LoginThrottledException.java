@@ -0,0 +1,20 @@
+package com.deeptech.iamis.security;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a login attempt is rejected by the {@link LoginThrottle}.
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public LoginThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,12 @@
+package com.deeptech.iamis.security;
+
+/**
+ * Thrown when a password cannot be hashed or verified because the password hashing executor is saturated.
+ * The client should retry after a short delay.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,143 @@
+package com.deeptech.iamis.security;
+
+import com.deeptech.iamis.modules.user.User;
+import com.deeptech.iamis.modules.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory permission version of every active user, checked against the version stamped into each access
+ * token so a token stops working as soon as the user's permissions change.
+ * <p>
+ * The versions are read with one query into an immutable map, replaced after every change committed by this
+ * instance and every {@code security.authentication.permission-versions.refresh-interval} to pick up changes
+ * made by other instances. A token for a user missing from the map, or stamped with a newer version than the
+ * map holds, looks the user up on its own, so users created or changed on another instance are not rejected
+ * until the next refresh. The result of such a lookup, including that the user is not active, is kept until
+ * that refresh, so tokens of unknown or deactivated users cost one query rather than one per request.
+ * Deactivated and deleted users have no version, so their tokens are rejected.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PermissionVersions {
+
+    /**
+     * Version looked up for a user who is not active; never stamped into a token.
+     */
+    private static final int INACTIVE = -1;
+
+    private final UserRepository userRepository;
+
+    private final Map<String, Integer> lookedUp = new ConcurrentHashMap<>();
+
+    private volatile Map<String, Integer> versions;
+
+    private volatile long generation;
+
+    /**
+     * @param subject the token subject, i.e. the user email.
+     * @param version the permission version stamped into the token.
+     * @return whether the user is active and their permissions have not changed since.
+     */
+    public boolean isCurrent(String subject, int version) {
+        Integer current = lookedUp.get(subject);
+        if (current == null) {
+            current = versions().get(subject);
+            if (current == null || current < version) {
+                current = lookUp(subject);
+            }
+        }
+        return current == version;
+    }
+
+    /**
+     * Marks the user's permissions as changed, to be saved with the user. Call it when roles, activation,
+     * email or organisation unit change.
+     *
+     * @param user the user about to be saved.
+     */
+    public void userChanged(User user) {
+        user.setPermissionVersion(user.getPermissionVersion() + 1);
+        reloadAfterCommit();
+    }
+
+    /**
+     * Bumps the permission version of every user holding the role. Call it within the transaction changing the
+     * role's authorities.
+     *
+     * @param roleId the role id.
+     */
+    public void roleChanged(Long roleId) {
+        userRepository.incrementPermissionVersionByRoleId(roleId);
+        reloadAfterCommit();
+    }
+
+    /**
+     * Reloads the versions after the current transaction commits, or right away outside a transaction.
+     */
+    public void reloadAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.authentication.permission-versions.refresh-interval:PT10S}")
+    public synchronized void reload() {
+        // Lookups started before this reload may have read older versions; they are dropped, not kept.
+        generation++;
+        Map<String, Integer> loaded = new HashMap<>();
+        for (Object[] row : userRepository.findActivePermissionVersions()) {
+            loaded.put((String) row[0], (Integer) row[1]);
+        }
+        versions = Map.copyOf(loaded);
+        lookedUp.clear();
+        log.trace("Loaded permission versions of {} active users", loaded.size());
+    }
+
+    /**
+     * Looks up the version of one user and keeps it until the next reload. Lookups of different users run
+     * concurrently; two of the same user both query, which is harmless.
+     *
+     * @param subject the user email.
+     * @return the current version, or {@link #INACTIVE} if the user is not active.
+     */
+    private int lookUp(String subject) {
+        long started = generation;
+        int current = userRepository.findActivePermissionVersionByEmail(subject).orElse(INACTIVE);
+        synchronized (this) {
+            if (generation == started) {
+                lookedUp.put(subject, current);
+            }
+        }
+        return current;
+    }
+
+    private Map<String, Integer> versions() {
+        Map<String, Integer> current = versions;
+        if (current == null) {
+            synchronized (this) {
+                if (versions == null) {
+                    reload();
+                }
+                current = versions;
+            }
+        }
+        return current;
+    }
+}
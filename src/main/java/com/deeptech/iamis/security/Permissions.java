@@ -0,0 +1,107 @@
+package com.deeptech.iamis.security;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Immutable set of granted authorities, as a bitset indexed by authority id.
+ * <p>
+ * Checking a permission is a shift and a mask on the backing words, so the per-request authorization check
+ * does not allocate.
+ */
+public final class Permissions {
+
+    public static final Permissions NONE = new Permissions(new long[0]);
+
+    private final long[] words;
+
+    private Permissions(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * @param authorityIds the granted authority ids.
+     * @return the permissions.
+     */
+    public static Permissions of(BitSet authorityIds) {
+        return authorityIds.isEmpty() ? NONE : new Permissions(authorityIds.toLongArray());
+    }
+
+    /**
+     * @param words the bitset words, little-endian as in {@link BitSet#toLongArray()}; not copied.
+     * @return the permissions.
+     */
+    static Permissions wrap(long[] words) {
+        return words.length == 0 ? NONE : new Permissions(words);
+    }
+
+    /**
+     * @param bytes the bitset bytes, little-endian as in {@link BitSet#toByteArray()}.
+     * @return the permissions.
+     */
+    public static Permissions valueOf(byte[] bytes) {
+        int length = bytes.length;
+        while (length > 0 && bytes[length - 1] == 0) {
+            length--;
+        }
+        long[] words = new long[(length + 7) >>> 3];
+        for (int i = 0; i < length; i++) {
+            words[i >>> 3] |= (bytes[i] & 0xFFL) << ((i & 7) << 3);
+        }
+        return wrap(words);
+    }
+
+    /**
+     * @param authorityId the authority id.
+     * @return whether the authority is granted.
+     */
+    public boolean has(int authorityId) {
+        int word = authorityId >>> 6;
+        return word < words.length && (words[word] & (1L << authorityId)) != 0;
+    }
+
+    /**
+     * @param other other permissions.
+     * @return the authorities granted by either.
+     */
+    public Permissions or(Permissions other) {
+        if (other.words.length > words.length) {
+            return other.or(this);
+        }
+        long[] union = words.clone();
+        for (int i = 0; i < other.words.length; i++) {
+            union[i] |= other.words[i];
+        }
+        return new Permissions(union);
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    /**
+     * @return the bitset bytes, little-endian and without trailing zero bytes, as read by {@link #valueOf(byte[])}.
+     */
+    public byte[] toByteArray() {
+        return toBitSet().toByteArray();
+    }
+
+    public BitSet toBitSet() {
+        return BitSet.valueOf(words);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Permissions other && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return "Permissions" + toBitSet();
+    }
+}
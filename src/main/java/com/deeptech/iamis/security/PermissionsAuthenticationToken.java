@@ -0,0 +1,41 @@
+package com.deeptech.iamis.security;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.List;
+
+/**
+ * A JWT authentication carrying the caller's {@link Permissions}, checked by
+ * {@link CustomAuthorizationInterceptor}, and the organisation unit their reads are scoped to.
+ * <p>
+ * Authorities are not expanded into {@code GrantedAuthority} objects, which would cost one object per
+ * authority on every request.
+ */
+public class PermissionsAuthenticationToken extends JwtAuthenticationToken {
+
+    private final transient Permissions permissions;
+
+    private final Long organisationUnitId;
+
+    public PermissionsAuthenticationToken(Jwt jwt, Permissions permissions) {
+        this(jwt, permissions, null);
+    }
+
+    public PermissionsAuthenticationToken(Jwt jwt, Permissions permissions, Long organisationUnitId) {
+        super(jwt, List.of(), jwt.getSubject());
+        this.permissions = permissions;
+        this.organisationUnitId = organisationUnitId;
+    }
+
+    public Permissions getPermissions() {
+        return permissions;
+    }
+
+    /**
+     * @return the id of the organisation unit whose subtree the caller may see, null for all units.
+     */
+    public Long getOrganisationUnitId() {
+        return organisationUnitId;
+    }
+}
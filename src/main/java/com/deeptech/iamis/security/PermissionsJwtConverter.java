@@ -0,0 +1,115 @@
+package com.deeptech.iamis.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static com.deeptech.iamis.security.SecurityUtils.AUTHORITIES_KEY;
+import static com.deeptech.iamis.security.SecurityUtils.CATALOG_VERSION_KEY;
+import static com.deeptech.iamis.security.SecurityUtils.ORGANISATION_UNIT_KEY;
+import static com.deeptech.iamis.security.SecurityUtils.PERMISSIONS_KEY;
+import static com.deeptech.iamis.security.SecurityUtils.PERMISSION_VERSION_KEY;
+import static com.deeptech.iamis.security.SecurityUtils.REFRESH_TOKEN_USE;
+import static com.deeptech.iamis.security.SecurityUtils.TOKEN_USE_KEY;
+
+/**
+ * Converts a verified JWT into a {@link PermissionsAuthenticationToken}.
+ * <p>
+ * Tokens carry their permissions as a {@link PermissionsClaim} bitmap, valid only against the authority catalog
+ * version they were issued with; a token from another catalog version is rejected so the client signs in again.
+ * A token is also rejected once it is revoked, see {@link TokenRevocations}, or once the user's permission
+ * version has moved on, see {@link PermissionVersions}; both checks are in memory. Refresh tokens are never
+ * accepted as access tokens.
+ * <p>
+ * The organisation unit a user is scoped to travels in the {@code ou} claim; changing it bumps the user's
+ * permission version, so a token never carries a stale scope.
+ * <p>
+ * Tokens issued before the bitmap claim hold the space-separated authority names of the {@code auth} claim and
+ * no permission version. They are accepted while {@code security.authentication.jwt.accept-legacy-authorities}
+ * is on, which can be turned off once the longest token validity has passed since the upgrade.
+ */
+@Component
+@RequiredArgsConstructor
+public class PermissionsJwtConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private final AuthorityCatalog authorityCatalog;
+
+    private final PermissionVersions permissionVersions;
+
+    private final TokenRevocations tokenRevocations;
+
+    @Value("${security.authentication.jwt.accept-legacy-authorities:true}")
+    private boolean acceptLegacyAuthorities = true;
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        if (REFRESH_TOKEN_USE.equals(jwt.getClaimAsString(TOKEN_USE_KEY))) {
+            throw new InvalidBearerTokenException("Refresh tokens cannot be used as access tokens");
+        }
+        checkNotRevoked(jwt);
+        if (jwt.getClaims().get(PERMISSION_VERSION_KEY) instanceof Number version) {
+            if (!permissionVersions.isCurrent(jwt.getSubject(), version.intValue())) {
+                throw new InvalidBearerTokenException("Permissions changed since the token was issued");
+            }
+        } else if (!acceptLegacyAuthorities) {
+            throw new InvalidBearerTokenException("Token has no permission version");
+        }
+
+        String bitmap = jwt.getClaimAsString(PERMISSIONS_KEY);
+        if (bitmap != null) {
+            if (!(jwt.getClaims().get(CATALOG_VERSION_KEY) instanceof Number version)
+                    || version.longValue() != authorityCatalog.version()) {
+                throw new InvalidBearerTokenException("Token was issued for another authority catalog");
+            }
+            try {
+                return new PermissionsAuthenticationToken(jwt, PermissionsClaim.decode(bitmap),
+                        organisationUnitOf(jwt));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidBearerTokenException("Malformed permissions claim", e);
+            }
+        }
+        String authorities = jwt.getClaimAsString(AUTHORITIES_KEY);
+        if (authorities == null || authorities.isEmpty()) {
+            return new PermissionsAuthenticationToken(jwt, Permissions.NONE);
+        }
+        if (!acceptLegacyAuthorities) {
+            throw new InvalidBearerTokenException("Token uses the retired authorities claim");
+        }
+        return new PermissionsAuthenticationToken(jwt,
+                authorityCatalog.permissionsOf(Arrays.asList(authorities.split(" "))));
+    }
+
+    private static Long organisationUnitOf(Jwt jwt) {
+        Object claim = jwt.getClaims().get(ORGANISATION_UNIT_KEY);
+        if (claim == null) {
+            return null;
+        }
+        if (!(claim instanceof Number organisationUnitId)) {
+            throw new InvalidBearerTokenException("Malformed organisation unit claim");
+        }
+        return organisationUnitId.longValue();
+    }
+
+    private void checkNotRevoked(Jwt jwt) {
+        String id = jwt.getId();
+        if (id == null) {
+            return;
+        }
+        UUID jti;
+        try {
+            jti = UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidBearerTokenException("Malformed token id", e);
+        }
+        if (tokenRevocations.isRevoked(jti)) {
+            throw new InvalidBearerTokenException("Token has been revoked");
+        }
+    }
+}
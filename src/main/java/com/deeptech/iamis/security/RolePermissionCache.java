@@ -0,0 +1,135 @@
+package com.deeptech.iamis.security;
+
+import com.deeptech.iamis.modules.role.Role;
+import com.deeptech.iamis.modules.role.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory permissions of every role: an immutable authority bitset and the authority names, read with one
+ * query, so resolving a user's permissions is a bitset OR per role.
+ * <p>
+ * {@code RoleServiceImpl} calls {@link #invalidate()} when it saves, deletes or assigns authorities to roles;
+ * the snapshot is then dropped once the transaction commits and rebuilt by the next reader.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RolePermissionCache {
+
+    private final RoleRepository roleRepository;
+
+    private final AtomicReference<Map<Long, RolePermissions>> snapshot = new AtomicReference<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param roleId the role id.
+     * @return the role's permissions, {@link RolePermissions#NONE} for a role without authorities.
+     */
+    public RolePermissions of(Long roleId) {
+        return snapshot().getOrDefault(roleId, RolePermissions.NONE);
+    }
+
+    /**
+     * @param roles roles, e.g. those of a user.
+     * @return the authorities granted by any of the roles.
+     */
+    public RolePermissions of(Collection<Role> roles) {
+        if (roles.size() == 1) {
+            return of(roles.iterator().next().getId());
+        }
+        Permissions permissions = Permissions.NONE;
+        Set<String> names = new LinkedHashSet<>();
+        for (Role role : roles) {
+            RolePermissions rolePermissions = of(role.getId());
+            permissions = permissions.or(rolePermissions.permissions());
+            names.addAll(rolePermissions.names());
+        }
+        return new RolePermissions(permissions, List.copyOf(names));
+    }
+
+    /**
+     * Drops the snapshot after the current transaction commits, or right away outside a transaction.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reset();
+                }
+            });
+        } else {
+            reset();
+        }
+    }
+
+    private void reset() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    private Map<Long, RolePermissions> snapshot() {
+        Map<Long, RolePermissions> current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot.get();
+            if (current != null) {
+                return current;
+            }
+            long built = generation.get();
+            current = build(roleRepository.findAuthorityGrants());
+            snapshot.set(current);
+            // A change committed while building may not be in this snapshot; let the next reader rebuild.
+            if (generation.get() != built) {
+                snapshot.compareAndSet(current, null);
+            }
+            return current;
+        }
+    }
+
+    /**
+     * @param grants role id, authority id and authority name rows.
+     * @return the permissions of each role.
+     */
+    static Map<Long, RolePermissions> build(List<Object[]> grants) {
+        Map<Long, BitSet> bits = new HashMap<>();
+        Map<Long, List<String>> names = new HashMap<>();
+        for (Object[] grant : grants) {
+            Long roleId = (Long) grant[0];
+            bits.computeIfAbsent(roleId, id -> new BitSet()).set(Math.toIntExact((Long) grant[1]));
+            names.computeIfAbsent(roleId, id -> new ArrayList<>()).add((String) grant[2]);
+        }
+        Map<Long, RolePermissions> roles = new HashMap<>();
+        bits.forEach((roleId, roleBits) ->
+                roles.put(roleId, new RolePermissions(Permissions.of(roleBits), List.copyOf(names.get(roleId)))));
+        log.debug("Built permissions of {} roles", roles.size());
+        return Map.copyOf(roles);
+    }
+
+    /**
+     * @param permissions the granted authorities.
+     * @param names       the names of the granted authorities.
+     */
+    public record RolePermissions(Permissions permissions, List<String> names) {
+
+        public static final RolePermissions NONE = new RolePermissions(Permissions.NONE, List.of());
+    }
+}
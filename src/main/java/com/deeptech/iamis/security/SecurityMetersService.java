@@ -13,16 +13,36 @@ public class SecurityMetersService {
     public static final String INVALID_TOKENS_METER_BASE_UNIT = "errors";
     public static final String INVALID_TOKENS_METER_CAUSE_DIMENSION = "cause";
 
+    public static final String TOKEN_CACHE_METER_NAME = "security.authentication.token-cache";
+    public static final String TOKEN_CACHE_METER_DESCRIPTION =
+        "Indicates lookups of presented tokens in the verified-token cache.";
+    public static final String TOKEN_CACHE_METER_BASE_UNIT = "lookups";
+    public static final String TOKEN_CACHE_METER_RESULT_DIMENSION = "result";
+
+    public static final String LOGIN_THROTTLED_METER_NAME = "security.authentication.login-throttled";
+    public static final String LOGIN_THROTTLED_METER_DESCRIPTION =
+        "Indicates login attempts rejected by the login throttle before any password check.";
+    public static final String LOGIN_THROTTLED_METER_BASE_UNIT = "attempts";
+    public static final String LOGIN_THROTTLED_METER_KEY_DIMENSION = "key";
+
     private final Counter tokenInvalidSignatureCounter;
     private final Counter tokenExpiredCounter;
     private final Counter tokenUnsupportedCounter;
     private final Counter tokenMalformedCounter;
+    private final Counter tokenCacheHitCounter;
+    private final Counter tokenCacheMissCounter;
+    private final Counter loginThrottledByUsernameCounter;
+    private final Counter loginThrottledByAddressCounter;
 
     public SecurityMetersService(MeterRegistry registry) {
         this.tokenInvalidSignatureCounter = invalidTokensCounterForCauseBuilder("invalid-signature").register(registry);
         this.tokenExpiredCounter = invalidTokensCounterForCauseBuilder("expired").register(registry);
         this.tokenUnsupportedCounter = invalidTokensCounterForCauseBuilder("unsupported").register(registry);
         this.tokenMalformedCounter = invalidTokensCounterForCauseBuilder("malformed").register(registry);
+        this.tokenCacheHitCounter = tokenCacheCounterForResultBuilder("hit").register(registry);
+        this.tokenCacheMissCounter = tokenCacheCounterForResultBuilder("miss").register(registry);
+        this.loginThrottledByUsernameCounter = loginThrottledCounterForKeyBuilder("username").register(registry);
+        this.loginThrottledByAddressCounter = loginThrottledCounterForKeyBuilder("address").register(registry);
     }
 
     private Counter.Builder invalidTokensCounterForCauseBuilder(String cause) {
@@ -32,6 +52,20 @@ public class SecurityMetersService {
             .tag(INVALID_TOKENS_METER_CAUSE_DIMENSION, cause);
     }
 
+    private Counter.Builder tokenCacheCounterForResultBuilder(String result) {
+        return Counter.builder(TOKEN_CACHE_METER_NAME)
+            .baseUnit(TOKEN_CACHE_METER_BASE_UNIT)
+            .description(TOKEN_CACHE_METER_DESCRIPTION)
+            .tag(TOKEN_CACHE_METER_RESULT_DIMENSION, result);
+    }
+
+    private Counter.Builder loginThrottledCounterForKeyBuilder(String key) {
+        return Counter.builder(LOGIN_THROTTLED_METER_NAME)
+            .baseUnit(LOGIN_THROTTLED_METER_BASE_UNIT)
+            .description(LOGIN_THROTTLED_METER_DESCRIPTION)
+            .tag(LOGIN_THROTTLED_METER_KEY_DIMENSION, key);
+    }
+
     public void trackTokenInvalidSignature() {
         this.tokenInvalidSignatureCounter.increment();
     }
@@ -47,4 +81,20 @@ public class SecurityMetersService {
     public void trackTokenMalformed() {
         this.tokenMalformedCounter.increment();
     }
+
+    public void trackTokenCacheHit() {
+        this.tokenCacheHitCounter.increment();
+    }
+
+    public void trackTokenCacheMiss() {
+        this.tokenCacheMissCounter.increment();
+    }
+
+    public void trackLoginThrottledByUsername() {
+        this.loginThrottledByUsernameCounter.increment();
+    }
+
+    public void trackLoginThrottledByAddress() {
+        this.loginThrottledByAddressCounter.increment();
+    }
 }
@@ -21,6 +21,33 @@ public final class SecurityUtils {
 
     public static final String AUTHORITIES_KEY = "auth";
 
+    /**
+     * Claim holding the granted authority ids as a base64url bitmap, see {@link Permissions#toByteArray()}.
+     */
+    public static final String PERMISSIONS_KEY = "perm";
+
+    /**
+     * Claim holding the {@link AuthorityCatalog#version()} the permissions bitmap was issued against.
+     */
+    public static final String CATALOG_VERSION_KEY = "pcv";
+
+    /**
+     * Claim holding the user's {@link PermissionVersions permission version} when the token was issued.
+     */
+    public static final String PERMISSION_VERSION_KEY = "pver";
+
+    /**
+     * Claim holding the id of the organisation unit the user is scoped to, absent for unscoped users.
+     */
+    public static final String ORGANISATION_UNIT_KEY = "ou";
+
+    /**
+     * Claim telling refresh tokens, whose value is {@link #REFRESH_TOKEN_USE}, from access tokens.
+     */
+    public static final String TOKEN_USE_KEY = "use";
+
+    public static final String REFRESH_TOKEN_USE = "refresh";
+
     private SecurityUtils() {}
 
     /**
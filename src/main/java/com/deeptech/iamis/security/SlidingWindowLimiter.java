@@ -0,0 +1,141 @@
+package com.deeptech.iamis.security;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, fixed-size sliding-window rate limiter.
+ * <p>
+ * Keys are hashed with a per-instance random seed into two tables of striped counters, like a count-min
+ * sketch: an attempt is allowed while the smaller of its two estimates is under the limit, so two keys only
+ * share a budget if they collide in both tables. Each counter is one {@code long} packing the window number
+ * with the counts of the current and the previous window, updated by compare-and-set; the estimate weights the
+ * previous window by the part of it still inside the sliding window. Counters of windows that have passed
+ * expire implicitly, so memory stays at {@code 2 * slots} longs whatever the number of keys.
+ */
+class SlidingWindowLimiter {
+
+    private static final int COUNT_BITS = 20;
+
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private static final long WINDOW_MASK = (1L << (64 - 2 * COUNT_BITS)) - 1;
+
+    private final AtomicLongArray first;
+
+    private final AtomicLongArray second;
+
+    private final int mask;
+
+    private final long windowNanos;
+
+    private final int limit;
+
+    private final long seed = ThreadLocalRandom.current().nextLong();
+
+    private final long origin = System.nanoTime();
+
+    /**
+     * @param slots       counters per table, rounded up to a power of two.
+     * @param windowNanos the window length.
+     * @param limit       the attempts allowed per key and window.
+     */
+    SlidingWindowLimiter(int slots, long windowNanos, int limit) {
+        int size = Integer.highestOneBit(Math.max(2, slots) - 1) << 1;
+        this.first = new AtomicLongArray(size);
+        this.second = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.windowNanos = windowNanos;
+        this.limit = limit;
+    }
+
+    /**
+     * Records an attempt for the key unless it is over the limit.
+     *
+     * @param key      the key, e.g. a username or client address.
+     * @param nowNanos the current {@link System#nanoTime()}.
+     * @return whether the attempt is allowed.
+     */
+    boolean tryAcquire(String key, long nowNanos) {
+        long hash = hash(key);
+        int firstSlot = (int) hash & mask;
+        int secondSlot = (int) (hash >>> 32) & mask;
+        long elapsed = Math.max(0, nowNanos - origin);
+        long window = elapsed / windowNanos;
+        double previousWeight = 1 - (double) (elapsed % windowNanos) / windowNanos;
+        // Count the attempt first and check the counts it left, so concurrent attempts cannot all pass a check
+        // made before any of them was counted; a rejected attempt is taken back out.
+        long firstState = increment(first, firstSlot, window);
+        long secondState = increment(second, secondSlot, window);
+        if (Math.min(estimate(firstState, previousWeight), estimate(secondState, previousWeight)) - 1 >= limit) {
+            decrement(first, firstSlot, window);
+            decrement(second, secondSlot, window);
+            return false;
+        }
+        return true;
+    }
+
+    private static double estimate(long state, double previousWeight) {
+        return previous(state) * previousWeight + current(state);
+    }
+
+    /**
+     * @return the counter after counting one attempt in the given window.
+     */
+    private static long increment(AtomicLongArray table, int slot, long window) {
+        long state;
+        long next;
+        do {
+            state = table.get(slot);
+            long rolled = roll(state, window);
+            next = current(rolled) == COUNT_MASK ? rolled : rolled + 1;
+        } while (!table.compareAndSet(slot, state, next));
+        return next;
+    }
+
+    private static void decrement(AtomicLongArray table, int slot, long window) {
+        long state;
+        long next;
+        do {
+            state = table.get(slot);
+            long rolled = roll(state, window);
+            if (current(rolled) == 0) {
+                return;
+            }
+            next = rolled - 1;
+        } while (!table.compareAndSet(slot, state, next));
+    }
+
+    /**
+     * @return the counter moved to the given window: unchanged in the same window, the current count becoming
+     * the previous one in the next window, and empty after that.
+     */
+    private static long roll(long state, long window) {
+        long stateWindow = state >>> (2 * COUNT_BITS);
+        long nowWindow = window & WINDOW_MASK;
+        if (stateWindow == nowWindow) {
+            return state;
+        }
+        long previous = ((stateWindow + 1) & WINDOW_MASK) == nowWindow ? current(state) : 0;
+        return nowWindow << (2 * COUNT_BITS) | previous << COUNT_BITS;
+    }
+
+    private static long previous(long state) {
+        return (state >>> COUNT_BITS) & COUNT_MASK;
+    }
+
+    private static long current(long state) {
+        return state & COUNT_MASK;
+    }
+
+    private long hash(String key) {
+        long h = seed;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
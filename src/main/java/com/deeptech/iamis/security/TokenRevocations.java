@@ -0,0 +1,139 @@
+package com.deeptech.iamis.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ids of revoked tokens, checked on every request without a database round trip.
+ * <p>
+ * Revocations are stored in {@code revoked_tokens} until the token expires and held in memory behind a bloom
+ * filter. Nearly every presented token is not revoked, which the filter answers with a few bit tests; only
+ * on a filter hit is the exact set consulted, so false positives never reject a valid token. Each instance
+ * polls the table every {@code security.authentication.revocation.poll-interval} for revocations made by the
+ * others, and expired entries are dropped once a minute.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocations {
+
+    private static final int FILTER_BITS = 1 << 20;
+
+    private static final int FILTER_HASHES = 4;
+
+    private static final Duration POLL_OVERLAP = Duration.ofMinutes(1);
+
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<UUID, Instant> revoked = new ConcurrentHashMap<>();
+
+    private volatile AtomicLongArray filter = new AtomicLongArray(FILTER_BITS >>> 6);
+
+    private Instant polledUpTo = Instant.EPOCH;
+
+    private Instant purgedAt = Instant.EPOCH;
+
+    /**
+     * @param jti the token id.
+     * @return whether the token has been revoked.
+     */
+    public boolean isRevoked(UUID jti) {
+        AtomicLongArray bits = filter;
+        long hash = mix(jti.getMostSignificantBits());
+        long step = mix(jti.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < FILTER_HASHES; i++, hash += step) {
+            int bit = (int) (hash & (FILTER_BITS - 1));
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return revoked.containsKey(jti);
+    }
+
+    /**
+     * Revokes a token on every instance.
+     *
+     * @param jti       the token id.
+     * @param expiresAt the token expiry, after which the revocation is forgotten.
+     * @return false if the token had already been revoked.
+     */
+    public boolean revoke(UUID jti, Instant expiresAt) {
+        int inserted = jdbcTemplate.update(
+                "INSERT INTO revoked_tokens (jti, expires_at) VALUES (?, ?) ON CONFLICT DO NOTHING",
+                jti, Timestamp.from(expiresAt));
+        add(jti, expiresAt);
+        return inserted == 1;
+    }
+
+    @Scheduled(fixedDelayString = "${security.authentication.revocation.poll-interval:PT5S}")
+    public synchronized void poll() {
+        Instant since = polledUpTo.minus(POLL_OVERLAP);
+        jdbcTemplate.query("SELECT jti, expires_at, revoked_at FROM revoked_tokens "
+                        + "WHERE revoked_at > ? AND expires_at > now()",
+                rs -> {
+                    add(rs.getObject(1, UUID.class), rs.getTimestamp(2).toInstant());
+                    Instant revokedAt = rs.getTimestamp(3).toInstant();
+                    if (revokedAt.isAfter(polledUpTo)) {
+                        polledUpTo = revokedAt;
+                    }
+                },
+                Timestamp.from(since));
+
+        Instant now = Instant.now();
+        if (Duration.between(purgedAt, now).compareTo(PURGE_INTERVAL) >= 0) {
+            purgedAt = now;
+            purge(now);
+        }
+    }
+
+    private synchronized void add(UUID jti, Instant expiresAt) {
+        revoked.put(jti, expiresAt);
+        set(filter, jti);
+    }
+
+    private static void set(AtomicLongArray bits, UUID jti) {
+        long hash = mix(jti.getMostSignificantBits());
+        long step = mix(jti.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < FILTER_HASHES; i++, hash += step) {
+            int bit = (int) (hash & (FILTER_BITS - 1));
+            bits.getAndAccumulate(bit >>> 6, 1L << bit, (word, mask) -> word | mask);
+        }
+    }
+
+    /**
+     * Spreads the bits of one half of a token id over the whole word. Random UUIDs carry the fixed version nibble
+     * in the low bits of their first half, which would otherwise pin four bits of every filter index.
+     */
+    private static long mix(long bits) {
+        long h = bits ^ (bits >>> 32);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Drops expired revocations and rebuilds the filter without them.
+     */
+    private synchronized void purge(Instant now) {
+        if (revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now))) {
+            AtomicLongArray rebuilt = new AtomicLongArray(FILTER_BITS >>> 6);
+            revoked.keySet().forEach(jti -> set(rebuilt, jti));
+            filter = rebuilt;
+        }
+        int deleted = jdbcTemplate.update("DELETE FROM revoked_tokens WHERE expires_at <= ?", Timestamp.from(now));
+        log.debug("Holding {} revoked tokens, deleted {} expired", revoked.size(), deleted);
+    }
+}
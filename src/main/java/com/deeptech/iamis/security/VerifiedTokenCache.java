@@ -0,0 +1,110 @@
+package com.deeptech.iamis.security;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of verified tokens, keyed by the SHA-256 digest of the token value.
+ * <p>
+ * A hit skips the signature check and claim parsing, so the key must be a cryptographic digest of the whole
+ * token. An entry is served only strictly before the token's {@code exp} and tokens without an expiry are
+ * never cached. When the cache is full, expired entries are swept at most once a second and new tokens are
+ * not cached until there is room again.
+ */
+public class VerifiedTokenCache {
+
+    private static final long SWEEP_INTERVAL_MILLIS = 1000;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Map<Key, Jwt> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong lastSweep = new AtomicLong();
+
+    private final int maxEntries;
+
+    private final Clock clock;
+
+    public VerifiedTokenCache(int maxEntries, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * @param token the token value.
+     * @return the key of the token.
+     */
+    public Key keyOf(String token) {
+        MessageDigest digest = SHA_256.get();
+        ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        return new Key(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+
+    /**
+     * @param key the key of the token.
+     * @return the verified token, or null if it is not cached or has expired.
+     */
+    public Jwt get(Key key) {
+        Jwt jwt = entries.get(key);
+        if (jwt != null && !clock.instant().isBefore(jwt.getExpiresAt())) {
+            entries.remove(key, jwt);
+            return null;
+        }
+        return jwt;
+    }
+
+    /**
+     * @param key the key of the token.
+     * @param jwt the token, verified.
+     */
+    public void put(Key key, Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null || !clock.instant().isBefore(expiresAt)) {
+            return;
+        }
+        if (entries.size() >= maxEntries && !sweep()) {
+            return;
+        }
+        entries.put(key, jwt);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes expired entries, unless another sweep ran within the last second.
+     *
+     * @return whether there is room for a new entry.
+     */
+    private boolean sweep() {
+        long now = clock.millis();
+        long last = lastSweep.get();
+        if (now - last >= SWEEP_INTERVAL_MILLIS && lastSweep.compareAndSet(last, now)) {
+            Instant instant = Instant.ofEpochMilli(now);
+            entries.values().removeIf(jwt -> !instant.isBefore(jwt.getExpiresAt()));
+        }
+        return entries.size() < maxEntries;
+    }
+
+    /**
+     * A SHA-256 digest of a token.
+     */
+    public record Key(long h0, long h1, long h2, long h3) {
+    }
+}
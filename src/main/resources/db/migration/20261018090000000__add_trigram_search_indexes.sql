@@ -0,0 +1,17 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- SearchService matches text filters with lower(column) LIKE '%value%', which only a trigram index on the same
+-- expression can serve.
+CREATE INDEX idx_users_first_name_trgm ON users USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX idx_users_middle_name_trgm ON users USING gin (lower(middle_name) gin_trgm_ops);
+CREATE INDEX idx_users_last_name_trgm ON users USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+
+CREATE INDEX idx_gfs_codes_name_trgm ON gfs_codes USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_gfs_codes_code_trgm ON gfs_codes USING gin (lower(code) gin_trgm_ops);
+
+CREATE INDEX idx_organisation_units_name_trgm ON organisation_units USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_organisation_units_code_trgm ON organisation_units USING gin (lower(code) gin_trgm_ops);
+
+CREATE INDEX idx_departments_name_trgm ON departments USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_departments_code_trgm ON departments USING gin (lower(code) gin_trgm_ops);
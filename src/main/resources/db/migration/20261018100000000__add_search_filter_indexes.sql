@@ -0,0 +1,8 @@
+-- Btree indexes for the columns list endpoints filter on with equality, IN and range operators.
+CREATE INDEX idx_organisation_units_level_id ON organisation_units (level_id);
+CREATE INDEX idx_organisation_units_parent_id ON organisation_units (parent_id);
+CREATE INDEX idx_departments_organisation_unit_id ON departments (organisation_unit_id);
+CREATE INDEX idx_finding_subcategories_finding_category_id ON finding_subcategories (finding_category_id);
+CREATE INDEX idx_financial_years_start_date_end_date ON financial_years (start_date, end_date);
+CREATE INDEX idx_periods_financial_year_id ON periods (financial_year_id);
+CREATE INDEX idx_periods_start_date_end_date ON periods (start_date, end_date);
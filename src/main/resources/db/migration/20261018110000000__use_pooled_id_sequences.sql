@@ -0,0 +1,20 @@
+-- Replace identity columns with one sequence per table, incremented by the allocation size of
+-- TableSequenceGenerator (50) so Hibernate can hand out ids in blocks and batch inserts.
+-- A pooled value is the upper bound of its block, so each sequence first returns the highest id taken plus
+-- the increment; sequences are dropped together with their table.
+DO
+$$
+    DECLARE
+        t TEXT;
+    BEGIN
+        FOREACH t IN ARRAY ARRAY ['roles', 'users', 'authorities', 'menu_groups', 'menu_items',
+            'professional_qualifications', 'positions', 'risk_categories', 'risk_ranks', 'finding_categories',
+            'finding_subcategories', 'internal_control_types', 'gfs_codes', 'organisation_unit_levels',
+            'organisation_units', 'departments', 'financial_years', 'periods']
+            LOOP
+                EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t);
+                EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50 OWNED BY %I.id', t || '_seq', t);
+                EXECUTE format('SELECT setval(%L, coalesce(max(id), 0) + 50, false) FROM %I', t || '_seq', t);
+            END LOOP;
+    END
+$$;
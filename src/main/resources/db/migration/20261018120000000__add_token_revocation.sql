@@ -0,0 +1,14 @@
+-- Version of each user's permissions, stamped into access tokens and bumped whenever the user's roles,
+-- activation or role authorities change, so tokens issued before the change are rejected.
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS permission_version INTEGER NOT NULL DEFAULT 0;
+
+-- Ids of revoked tokens until they expire. Every instance keeps them in memory and polls for new rows.
+CREATE TABLE IF NOT EXISTS revoked_tokens
+(
+    jti        UUID PRIMARY KEY,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS revoked_tokens_revoked_at_idx ON revoked_tokens (revoked_at);
@@ -0,0 +1,44 @@
+-- Depth of each organisation unit below its root, which has depth 0.
+ALTER TABLE organisation_units
+    ADD COLUMN IF NOT EXISTS depth INTEGER NOT NULL DEFAULT 0;
+
+-- Closure of the parent relation: one row per unit and each of its ancestors, and one per unit with itself at
+-- depth 0, so the descendants or ancestors of a unit within a depth are one index range scan however deep the
+-- hierarchy is. Maintained by OrganisationUnitServiceImpl; the foreign keys are deferred because rows of a new
+-- unit are written before Hibernate flushes the unit itself.
+CREATE TABLE IF NOT EXISTS organisation_unit_closure
+(
+    ancestor_id   BIGINT  NOT NULL,
+    descendant_id BIGINT  NOT NULL,
+    depth         INTEGER NOT NULL,
+    CONSTRAINT pk_organisation_unit_closure PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT fk_organisation_unit_closure_on_ancestors FOREIGN KEY (ancestor_id)
+        REFERENCES organisation_units (id) ON DELETE CASCADE DEFERRABLE INITIALLY DEFERRED,
+    CONSTRAINT fk_organisation_unit_closure_on_descendants FOREIGN KEY (descendant_id)
+        REFERENCES organisation_units (id) ON DELETE CASCADE DEFERRABLE INITIALLY DEFERRED
+);
+
+CREATE INDEX IF NOT EXISTS idx_organisation_unit_closure_ancestor_depth
+    ON organisation_unit_closure (ancestor_id, depth, descendant_id);
+CREATE INDEX IF NOT EXISTS idx_organisation_unit_closure_descendant_depth
+    ON organisation_unit_closure (descendant_id, depth, ancestor_id);
+
+-- Backfill from the existing parent ids; units on a parent cycle are linked only up to the cycle.
+INSERT INTO organisation_unit_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE tree (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0
+    FROM organisation_units
+    UNION ALL
+    SELECT tree.ancestor_id, unit.id, tree.depth + 1
+    FROM tree
+             JOIN organisation_units unit ON unit.parent_id = tree.descendant_id
+) CYCLE descendant_id SET is_cycle USING visited
+SELECT ancestor_id, descendant_id, depth
+FROM tree
+WHERE NOT is_cycle
+ON CONFLICT DO NOTHING;
+
+UPDATE organisation_units unit
+SET depth = closure.depth
+FROM (SELECT descendant_id, max(depth) AS depth FROM organisation_unit_closure GROUP BY descendant_id) closure
+WHERE closure.descendant_id = unit.id;
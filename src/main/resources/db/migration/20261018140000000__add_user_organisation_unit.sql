@@ -0,0 +1,9 @@
+-- Organisation unit whose subtree a user may see. Users without one, such as administrators, see all units.
+-- Deleting a unit that still has users is refused rather than widening their scope.
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS organisation_unit_id BIGINT;
+
+ALTER TABLE users
+    ADD CONSTRAINT fk_users_on_organisation_unit FOREIGN KEY (organisation_unit_id) REFERENCES organisation_units (id);
+
+CREATE INDEX IF NOT EXISTS idx_users_organisation_unit_id ON users (organisation_unit_id);
@@ -0,0 +1,244 @@
+package com.deeptech.iamis.authentication;
+
+import com.deeptech.iamis.core.CustomApiResponse;
+import com.deeptech.iamis.modules.user.User;
+import com.deeptech.iamis.modules.user.UserRepository;
+import com.deeptech.iamis.security.AuthorityCatalog;
+import com.deeptech.iamis.security.RolePermissionCache;
+import com.deeptech.iamis.security.TokenRevocations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.deeptech.iamis.security.SecurityUtils.PERMISSION_VERSION_KEY;
+import static com.deeptech.iamis.security.SecurityUtils.REFRESH_TOKEN_USE;
+import static com.deeptech.iamis.security.SecurityUtils.TOKEN_USE_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticateControllerTest {
+
+    private static final String SUBJECT = "auditor@example.com";
+
+    private static final Instant EXPIRES_AT = Instant.now().plus(8, ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS);
+
+    @Mock
+    private JwtEncoder jwtEncoder;
+
+    @Mock
+    private JwtDecoder jwtDecoder;
+
+    @Mock
+    private TokenRevocations tokenRevocations;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AuthorityCatalog authorityCatalog;
+
+    @Mock
+    private RolePermissionCache rolePermissionCache;
+
+    @InjectMocks
+    private AuthenticateController controller;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void exchangesARefreshTokenOnceForTokensExpiringWithIt() {
+        Jwt refreshToken = refreshToken(SUBJECT);
+        when(jwtDecoder.decode("old")).thenReturn(refreshToken);
+        when(userRepository.findWithRolesByEmail(SUBJECT)).thenReturn(Optional.of(user(true)));
+        when(tokenRevocations.revoke(UUID.fromString(refreshToken.getId()), EXPIRES_AT)).thenReturn(true);
+        when(rolePermissionCache.of(anyCollection())).thenReturn(RolePermissionCache.RolePermissions.NONE);
+        when(jwtEncoder.encode(any())).thenReturn(jwt("new"));
+
+        CustomApiResponse response = controller.refresh(request("old"));
+
+        assertThat(response.getData()).asInstanceOf(MAP)
+                .containsEntry("token", "new")
+                .containsEntry("refreshToken", "new");
+        ArgumentCaptor<JwtEncoderParameters> encoded = ArgumentCaptor.forClass(JwtEncoderParameters.class);
+        verify(jwtEncoder, times(2)).encode(encoded.capture());
+        JwtClaimsSet access = encoded.getAllValues().get(0).getClaims();
+        JwtClaimsSet rotated = encoded.getAllValues().get(1).getClaims();
+        assertThat(access.getSubject()).isEqualTo(SUBJECT);
+        assertThat(access.hasClaim(TOKEN_USE_KEY)).isFalse();
+        assertThat(rotated.getSubject()).isEqualTo(SUBJECT);
+        assertThat(rotated.getClaimAsString(TOKEN_USE_KEY)).isEqualTo(REFRESH_TOKEN_USE);
+        assertThat(rotated.getExpiresAt()).isEqualTo(EXPIRES_AT);
+        assertThat(rotated.getId()).isNotEqualTo(refreshToken.getId());
+        assertThat(rotated.<Integer>getClaim(PERMISSION_VERSION_KEY)).isEqualTo(3);
+    }
+
+    @Test
+    void refusesARefreshTokenIssuedBeforeThePermissionsChanged() {
+        when(jwtDecoder.decode("old")).thenReturn(refreshToken(SUBJECT, 2));
+        when(userRepository.findWithRolesByEmail(SUBJECT)).thenReturn(Optional.of(user(true)));
+
+        assertThatThrownBy(() -> controller.refresh(request("old")))
+                .isInstanceOf(InvalidBearerTokenException.class)
+                .hasMessage("Permissions changed since the refresh token was issued");
+        verify(tokenRevocations, never()).revoke(any(), any());
+    }
+
+    @Test
+    void refusesARefreshTokenThatWasAlreadyUsed() {
+        Jwt refreshToken = refreshToken(SUBJECT);
+        when(jwtDecoder.decode("old")).thenReturn(refreshToken);
+        when(userRepository.findWithRolesByEmail(SUBJECT)).thenReturn(Optional.of(user(true)));
+        when(tokenRevocations.revoke(UUID.fromString(refreshToken.getId()), EXPIRES_AT)).thenReturn(false);
+
+        assertThatThrownBy(() -> controller.refresh(request("old")))
+                .isInstanceOf(InvalidBearerTokenException.class)
+                .hasMessage("Refresh token has already been used");
+        verify(jwtEncoder, never()).encode(any());
+    }
+
+    @Test
+    void refusesARevokedRefreshToken() {
+        Jwt refreshToken = refreshToken(SUBJECT);
+        when(jwtDecoder.decode("old")).thenReturn(refreshToken);
+        when(tokenRevocations.isRevoked(UUID.fromString(refreshToken.getId()))).thenReturn(true);
+
+        assertThatThrownBy(() -> controller.refresh(request("old")))
+                .isInstanceOf(InvalidBearerTokenException.class)
+                .hasMessage("Invalid refresh token");
+        verify(tokenRevocations, never()).revoke(any(), any());
+        verify(jwtEncoder, never()).encode(any());
+    }
+
+    @Test
+    void refusesAnAccessTokenAtTheRefreshEndpoint() {
+        Jwt accessToken = Jwt.withTokenValue("access")
+                .header("alg", "RS256")
+                .jti(UUID.randomUUID().toString())
+                .subject(SUBJECT)
+                .expiresAt(EXPIRES_AT)
+                .build();
+        when(jwtDecoder.decode("access")).thenReturn(accessToken);
+
+        assertThatThrownBy(() -> controller.refresh(request("access")))
+                .isInstanceOf(InvalidBearerTokenException.class)
+                .hasMessage("Invalid refresh token");
+        verify(tokenRevocations, never()).revoke(any(), any());
+    }
+
+    @Test
+    void refusesRefreshTokensThatDoNotDecode() {
+        when(jwtDecoder.decode("expired")).thenThrow(new BadJwtException("Jwt expired"));
+
+        assertThatThrownBy(() -> controller.refresh(request("expired")))
+                .isInstanceOf(InvalidBearerTokenException.class)
+                .hasMessage("Invalid refresh token");
+    }
+
+    @Test
+    void refusesTheRefreshTokenOfAnInactiveUser() {
+        when(jwtDecoder.decode("old")).thenReturn(refreshToken(SUBJECT));
+        when(userRepository.findWithRolesByEmail(SUBJECT)).thenReturn(Optional.of(user(false)));
+
+        assertThatThrownBy(() -> controller.refresh(request("old")))
+                .isInstanceOf(InvalidBearerTokenException.class)
+                .hasMessage("User is not active");
+        verify(tokenRevocations, never()).revoke(any(), any());
+    }
+
+    @Test
+    void logsOutByRevokingTheAccessAndRefreshTokens() {
+        Jwt accessToken = accessToken();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(accessToken));
+        Jwt refreshToken = refreshToken(SUBJECT);
+        when(jwtDecoder.decode("old")).thenReturn(refreshToken);
+
+        controller.logout(request("old"));
+
+        verify(tokenRevocations).revoke(UUID.fromString(accessToken.getId()), accessToken.getExpiresAt());
+        verify(tokenRevocations).revoke(UUID.fromString(refreshToken.getId()), EXPIRES_AT);
+    }
+
+    @Test
+    void leavesTheRefreshTokenOfAnotherUserAloneOnLogout() {
+        Jwt accessToken = accessToken();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(accessToken));
+        when(jwtDecoder.decode("other")).thenReturn(refreshToken("other@example.com"));
+
+        controller.logout(request("other"));
+
+        verify(tokenRevocations).revoke(UUID.fromString(accessToken.getId()), accessToken.getExpiresAt());
+        verify(tokenRevocations, times(1)).revoke(any(), any());
+    }
+
+    private static RefreshTokenVM request(String refreshToken) {
+        RefreshTokenVM request = new RefreshTokenVM();
+        request.setRefreshToken(refreshToken);
+        return request;
+    }
+
+    private static Jwt refreshToken(String subject) {
+        return refreshToken(subject, 3);
+    }
+
+    private static Jwt refreshToken(String subject, int permissionVersion) {
+        return Jwt.withTokenValue("old")
+                .header("alg", "RS256")
+                .jti(UUID.randomUUID().toString())
+                .subject(subject)
+                .expiresAt(EXPIRES_AT)
+                .claim(TOKEN_USE_KEY, REFRESH_TOKEN_USE)
+                .claim(PERMISSION_VERSION_KEY, permissionVersion)
+                .build();
+    }
+
+    private static Jwt accessToken() {
+        return Jwt.withTokenValue("access")
+                .header("alg", "RS256")
+                .jti(UUID.randomUUID().toString())
+                .subject(SUBJECT)
+                .expiresAt(Instant.now().plus(5, ChronoUnit.MINUTES))
+                .build();
+    }
+
+    private static Jwt jwt(String value) {
+        return Jwt.withTokenValue(value).header("alg", "RS256").subject(SUBJECT).build();
+    }
+
+    private static User user(boolean active) {
+        User user = new User();
+        user.setEmail(SUBJECT);
+        user.setPassword("{noop}secret");
+        user.setIsActive(active);
+        user.setPermissionVersion(3);
+        return user;
+    }
+}
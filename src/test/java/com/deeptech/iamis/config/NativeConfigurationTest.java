@@ -0,0 +1,48 @@
+package com.deeptech.iamis.config;
+
+import com.deeptech.iamis.authentication.RefreshTokenVM;
+import com.deeptech.iamis.core.SearchOperator;
+import com.deeptech.iamis.core.TableSequenceGenerator;
+import com.deeptech.iamis.modules.period.PeriodType;
+import com.deeptech.iamis.modules.user.UserDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeConfigurationTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeConfiguration.ApplicationRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registersDtosAndViewModelsForBinding() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(UserDto.class)
+                .withMemberCategories(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(RefreshTokenVM.class)
+                .withMemberCategories(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS))
+                .accepts(hints);
+    }
+
+    @Test
+    void registersEnumsForConversionFromStrings() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(PeriodType.class)
+                .withMemberCategories(MemberCategory.PUBLIC_FIELDS, MemberCategory.INVOKE_PUBLIC_METHODS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(SearchOperator.class)).accepts(hints);
+    }
+
+    @Test
+    void registersTheIdGenerator() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(TableSequenceGenerator.class)
+                .withMemberCategories(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+}
@@ -0,0 +1,144 @@
+package com.deeptech.iamis.core;
+
+import com.deeptech.iamis.modules.authority.Authority;
+import com.deeptech.iamis.modules.authority.AuthorityRepository;
+import com.deeptech.iamis.modules.role.Role;
+import com.deeptech.iamis.modules.role.RoleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthoritySynchronizerTest {
+
+    private final List<Authority> existing = new ArrayList<>();
+
+    private final Map<RequestMappingInfo, HandlerMethod> handlerMethods = new LinkedHashMap<>();
+
+    private AuthorityRepository authorityRepository;
+
+    private Role superAdministrator;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AuthoritySynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        handlerMethods.put(RequestMappingInfo.paths("/api/widgets").methods(RequestMethod.POST).build(),
+                new HandlerMethod(new WidgetResource(), WidgetResource.class.getMethod("create")));
+        handlerMethods.put(RequestMappingInfo.paths("/api/widgets/{uuid}").methods(RequestMethod.DELETE).build(),
+                new HandlerMethod(new WidgetResource(), WidgetResource.class.getMethod("delete")));
+        RequestMappingInfoHandlerMapping handlerMapping = mock(RequestMappingInfoHandlerMapping.class);
+        when(handlerMapping.getHandlerMethods()).thenReturn(handlerMethods);
+
+        authorityRepository = mock(AuthorityRepository.class);
+        when(authorityRepository.findAll()).thenReturn(existing);
+        when(authorityRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        superAdministrator = new Role();
+        RoleRepository roleRepository = mock(RoleRepository.class);
+        when(roleRepository.findRoleByCode(AuthoritySynchronizer.SUPER_ADMINISTRATOR))
+                .thenReturn(Optional.of(superAdministrator));
+
+        meterRegistry = new SimpleMeterRegistry();
+        synchronizer = new AuthoritySynchronizer(handlerMapping, authorityRepository, roleRepository, meterRegistry);
+    }
+
+    @Test
+    void insertsNewAuthoritiesAndGrantsThemToTheSuperAdministrator() {
+        existing.add(authority(1L, "create", "[POST]"));
+
+        Map<String, Authority> authorities = synchronizer.synchronize();
+
+        assertThat(authorities).containsOnlyKeys("WIDGET_CREATE", "WIDGET_DELETE");
+        assertThat(authorities.get("WIDGET_CREATE")).isSameAs(existing.get(0));
+        assertThat(superAdministrator.getAuthorities()).containsExactly(authorities.get("WIDGET_DELETE"));
+        assertThat(gauge("inserted")).isEqualTo(1);
+        assertThat(gauge("unchanged")).isEqualTo(1);
+    }
+
+    @Test
+    void updatesAuthoritiesWhoseHttpMethodsChanged() {
+        existing.add(authority(1L, "create", "[PUT]"));
+        existing.add(authority(2L, "delete", "[DELETE]"));
+
+        synchronizer.synchronize();
+
+        assertThat(existing.get(0).getMethod()).isEqualTo("[POST]");
+        assertThat(gauge("updated")).isEqualTo(1);
+        assertThat(superAdministrator.getAuthorities()).isEmpty();
+    }
+
+    @Test
+    void keepsAndLogsStaleAuthoritiesByDefault() {
+        existing.add(authority(9L, "archive", "[POST]"));
+
+        Map<String, Authority> authorities = synchronizer.synchronize();
+
+        assertThat(authorities).containsKey("WIDGET_ARCHIVE");
+        verify(authorityRepository, never()).deleteRoleGrantsByAuthorityIdIn(any());
+        verify(authorityRepository, never()).deleteMenuItemGrantsByAuthorityIdIn(any());
+        verify(authorityRepository, never()).deleteAllByIdIn(any());
+        assertThat(gauge("removed")).isZero();
+    }
+
+    @Test
+    void deletesStaleAuthoritiesAndTheirGrantsWhenAsked() {
+        ReflectionTestUtils.setField(synchronizer, "removeStale", true);
+        existing.add(authority(9L, "archive", "[POST]"));
+        when(authorityRepository.deleteAllByIdIn(List.of(9L))).thenReturn(1);
+
+        Map<String, Authority> authorities = synchronizer.synchronize();
+
+        assertThat(authorities).doesNotContainKey("WIDGET_ARCHIVE");
+        verify(authorityRepository).deleteRoleGrantsByAuthorityIdIn(List.of(9L));
+        verify(authorityRepository).deleteMenuItemGrantsByAuthorityIdIn(List.of(9L));
+        verify(authorityRepository).deleteAllByIdIn(List.of(9L));
+        assertThat(gauge("removed")).isEqualTo(1);
+    }
+
+    private double gauge(String change) {
+        return meterRegistry.get(AuthoritySynchronizer.AUTHORITIES_METER_NAME)
+                .tag(AuthoritySynchronizer.AUTHORITIES_METER_CHANGE_DIMENSION, change)
+                .gauge()
+                .value();
+    }
+
+    private static Authority authority(Long id, String action, String method) {
+        Authority authority = new Authority();
+        authority.setId(id);
+        authority.setName("WIDGET_" + action.toUpperCase());
+        authority.setResource("Widget");
+        authority.setAction(action);
+        authority.setMethod(method);
+        return authority;
+    }
+
+    static class WidgetResource {
+
+        public void create() {
+        }
+
+        public void delete() {
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.deeptech.iamis.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BulkImporterTest {
+
+    private static final String STAGE = "import_stage_organisation_units";
+
+    private static final BulkImporter.ImportForeignKey PARENT =
+            new BulkImporter.ImportForeignKey("parent_id", "organisation_units", "id", "parentId");
+
+    private static final BulkImporter.ImportForeignKey LEVEL =
+            new BulkImporter.ImportForeignKey("level_id", "organisation_unit_levels", "id", "levelId");
+
+    private Statement statement;
+
+    private List<String> executed;
+
+    private Deque<Integer> cascades;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        statement = mock(Statement.class);
+        executed = new ArrayList<>();
+        cascades = new ArrayDeque<>();
+        when(statement.executeUpdate(anyString())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            executed.add(sql);
+            return sql.contains("'Rejected parentId on line '") && !cascades.isEmpty() ? cascades.pop() : 0;
+        });
+    }
+
+    @Test
+    void checksKeysToOtherTablesAgainstTheirRowsOnly() throws SQLException {
+        BulkImporter.checkForeignKeys(statement, STAGE, table(LEVEL));
+
+        assertThat(executed).containsExactly("update " + STAGE + " s set error = 'Unknown levelId ' || s.level_id"
+                + " where s.error is null and s.level_id is not null and not exists"
+                + " (select 1 from organisation_unit_levels t where t.id = s.level_id)");
+    }
+
+    @Test
+    void pointsParentsInTheFileAtTheirNewIdsBeforeCheckingTheRest() throws SQLException {
+        BulkImporter.checkForeignKeys(statement, STAGE, table(PARENT, LEVEL));
+
+        assertThat(executed.get(0)).contains("set error = 'Duplicate id ' || s.source_id || ' in file'");
+        assertThat(executed.get(1)).isEqualTo("update " + STAGE + " s set line_of_parent_id = p.line_no,"
+                + " parent_id = p.target_id from " + STAGE + " p where p.source_id = s.parent_id and not exists"
+                + " (select 1 from " + STAGE + " d where d.source_id = p.source_id and d.line_no < p.line_no)");
+        assertThat(executed.get(2)).contains("'Row names itself as its parentId'");
+        assertThat(executed.get(3)).isEqualTo("update " + STAGE + " s set error = 'Unknown parentId ' || s.parent_id"
+                + " where s.error is null and s.parent_id is not null and s.line_of_parent_id is null"
+                + " and not exists (select 1 from organisation_units t where t.id = s.parent_id)");
+        assertThat(executed.get(4)).contains("'Unknown levelId '");
+        assertThat(executed.get(5)).contains("'Rejected parentId on line '");
+        assertThat(executed).hasSize(6);
+    }
+
+    @Test
+    void rejectsChildrenOfRejectedParentsUntilNoneAreLeft() throws SQLException {
+        cascades.addAll(List.of(3, 1));
+
+        BulkImporter.checkForeignKeys(statement, STAGE, table(PARENT));
+
+        assertThat(executed).filteredOn(sql -> sql.contains("'Rejected parentId on line '")).hasSize(3)
+                .allMatch(sql -> sql.endsWith(" where s.error is null and exists (select 1 from " + STAGE
+                        + " p where p.line_no = s.line_of_parent_id and p.error is not null)"));
+    }
+
+    @Test
+    void findsTheKeysToTheTableItself() {
+        BulkImporter.ImportTable<?> table = table(PARENT, LEVEL);
+
+        assertThat(table.selfReferences()).containsExactly(PARENT);
+        assertThat(PARENT.lineColumn()).isEqualTo("line_of_parent_id");
+    }
+
+    private static BulkImporter.ImportTable<Object> table(BulkImporter.ImportForeignKey... foreignKeys) {
+        return new BulkImporter.ImportTable<>("organisation_units", null, null, List.of(), List.of(foreignKeys));
+    }
+}
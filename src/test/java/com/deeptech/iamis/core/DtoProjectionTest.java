@@ -0,0 +1,160 @@
+package com.deeptech.iamis.core;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DtoProjectionTest {
+
+    private DtoProjection<Unit, UnitDto> projection;
+
+    @BeforeEach
+    void setUp() {
+        ManagedType<?> levelType = mock(ManagedType.class);
+        doReturn(Set.of(attribute("name", String.class, PersistentAttributeType.BASIC)))
+                .when(levelType).getSingularAttributes();
+        SingularAttribute<?, ?> level = attribute("level", Object.class, PersistentAttributeType.MANY_TO_ONE);
+        doReturn(levelType).when(level).getType();
+
+        EntityType<Unit> entityType = mock(EntityType.class);
+        when(entityType.getJavaType()).thenReturn(Unit.class);
+        doReturn(Set.of(
+                attribute("id", Long.class, PersistentAttributeType.BASIC),
+                attribute("name", String.class, PersistentAttributeType.BASIC),
+                attribute("status", Status.class, PersistentAttributeType.BASIC),
+                level)).when(entityType).getSingularAttributes();
+        doReturn(Set.of()).when(entityType).getPluralAttributes();
+
+        projection = DtoProjection.of(entityType, UnitDto.class);
+    }
+
+    @Test
+    void selectsTheIdThenTheMatchedColumnsJoiningAssociationsForLabels() {
+        Root<Unit> root = mock(Root.class);
+        Join<Unit, ?> levelJoin = mock(Join.class);
+        Path<?> id = mock(Path.class);
+        Path<?> name = mock(Path.class);
+        Path<?> status = mock(Path.class);
+        Path<?> levelName = mock(Path.class);
+        doReturn(id).when(root).get("id");
+        doReturn(name).when(root).get("name");
+        doReturn(status).when(root).get("status");
+        doReturn(levelJoin).when(root).join("level", JoinType.LEFT);
+        doReturn(levelName).when(levelJoin).get("name");
+
+        // Bean properties are introspected by name: id, levelName, name, status; unknown has no column.
+        assertThat(projection.selections(root)).containsExactly(id, id, levelName, name, status);
+    }
+
+    @Test
+    void mapsEachRowToADtoConvertingEnumsToTheirNames() {
+        EntityManager entityManager = mock(EntityManager.class);
+
+        List<UnitDto> dtos = projection.toDtos(entityManager, List.of(
+                row(5L, "Region", "Dodoma", Status.ACTIVE),
+                row(6L, null, "Kondoa", null)));
+
+        assertThat(dtos).extracting(UnitDto::getId).containsExactly(5L, 6L);
+        assertThat(dtos).extracting(UnitDto::getLevelName).containsExactly("Region", null);
+        assertThat(dtos).extracting(UnitDto::getName).containsExactly("Dodoma", "Kondoa");
+        assertThat(dtos).extracting(UnitDto::getStatus).containsExactly("ACTIVE", null);
+        assertThat(dtos).extracting(UnitDto::getUnknown).containsOnlyNulls();
+        verifyNoInteractions(entityManager);
+    }
+
+    private static Tuple row(Long id, String levelName, String name, Status status) {
+        Tuple row = mock(Tuple.class);
+        when(row.get(0, Long.class)).thenReturn(id);
+        when(row.get(1)).thenReturn(id);
+        when(row.get(2)).thenReturn(levelName);
+        when(row.get(3)).thenReturn(name);
+        when(row.get(4)).thenReturn(status);
+        return row;
+    }
+
+    private static SingularAttribute<?, ?> attribute(String name, Class<?> javaType, PersistentAttributeType kind) {
+        SingularAttribute<?, ?> attribute = mock(SingularAttribute.class);
+        when(attribute.getName()).thenReturn(name);
+        doReturn(javaType).when(attribute).getJavaType();
+        when(attribute.getPersistentAttributeType()).thenReturn(kind);
+        return attribute;
+    }
+
+    enum Status {
+        ACTIVE
+    }
+
+    static class Unit {
+    }
+
+    public static class UnitDto {
+
+        private Long id;
+
+        private String name;
+
+        private String status;
+
+        private String levelName;
+
+        private String unknown;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public String getLevelName() {
+            return levelName;
+        }
+
+        public void setLevelName(String levelName) {
+            this.levelName = levelName;
+        }
+
+        public String getUnknown() {
+            return unknown;
+        }
+
+        public void setUnknown(String unknown) {
+            this.unknown = unknown;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.deeptech.iamis.core;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EstimatedSliceTest {
+
+    @Test
+    void reportsAnEstimatedTotalAndWhetherThereIsANextPage() {
+        CustomApiResponse response = CustomApiResponse.ok(
+                new EstimatedSlice<>(List.of("a", "b"), PageRequest.of(0, 2), true, 1200L, true));
+
+        assertThat(response.getData()).isEqualTo(List.of("a", "b"));
+        assertThat(response.getTotal()).isEqualTo(1200L);
+        assertThat(response.getTotalEstimated()).isTrue();
+        assertThat(response.getHasNext()).isTrue();
+    }
+
+    @Test
+    void reportsTheExactTotalOfTheLastPageUnflagged() {
+        CustomApiResponse response = CustomApiResponse.ok(
+                new EstimatedSlice<>(List.of("e"), PageRequest.of(2, 2), false, 5L, false));
+
+        assertThat(response.getTotal()).isEqualTo(5L);
+        assertThat(response.getTotalEstimated()).isNull();
+        assertThat(response.getHasNext()).isFalse();
+        assertThat(response.getPage()).isEqualTo(2);
+    }
+
+    @Test
+    void leavesTheTotalOutWhenThereIsNoEstimate() {
+        CustomApiResponse response = CustomApiResponse.ok(
+                new EstimatedSlice<>(List.of("a"), PageRequest.of(0, 1), true, null, true));
+
+        assertThat(response.getTotal()).isNull();
+        assertThat(response.getHasNext()).isTrue();
+    }
+
+    @Test
+    void keepsTheCountOfExactPages() {
+        CustomApiResponse response = CustomApiResponse.ok(new PageImpl<>(List.of("a"), PageRequest.of(0, 1), 7));
+
+        assertThat(response.getTotal()).isEqualTo(7L);
+        assertThat(response.getTotalEstimated()).isNull();
+        assertThat(response.getHasNext()).isTrue();
+    }
+
+    @Test
+    void keepsTheTotalWhenMapped() {
+        EstimatedSlice<Integer> mapped =
+                new EstimatedSlice<>(List.of("a", "bb"), PageRequest.of(0, 2), true, 40L, true).map(String::length);
+
+        assertThat(mapped.getContent()).containsExactly(1, 2);
+        assertThat(mapped.getTotal()).isEqualTo(40L);
+        assertThat(mapped.isEstimated()).isTrue();
+        assertThat(mapped.hasNext()).isTrue();
+    }
+}
@@ -0,0 +1,97 @@
+package com.deeptech.iamis.core;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writesAHeaderAndOneCsvLinePerRow() throws IOException {
+        String csv = export(ExportFormat.CSV,
+                new Unit(1L, "Dodoma", List.of("region", "capital")),
+                new Unit(2L, null, List.of()));
+
+        assertThat(csv).isEqualTo("id,name,tags\r\n1,Dodoma,region|capital\r\n2,,\r\n");
+    }
+
+    @Test
+    void quotesCellsHoldingSeparatorsQuotesOrLineBreaks() throws IOException {
+        String csv = export(ExportFormat.CSV, new Unit(3L, "Dar es Salaam, \"DSM\"\nCoast", List.of()));
+
+        assertThat(csv).endsWith("\r\n3,\"Dar es Salaam, \"\"DSM\"\"\nCoast\",\r\n");
+    }
+
+    @Test
+    void neutralizesTextCellsASpreadsheetWouldEvaluate() throws IOException {
+        String csv = export(ExportFormat.CSV,
+                new Unit(-5L, "=HYPERLINK(\"http://example.com\")", List.of("@SUM(A1)")),
+                new Unit(6L, "-2+3", List.of()));
+
+        assertThat(csv).isEqualTo("id,name,tags\r\n"
+                + "-5,\"'=HYPERLINK(\"\"http://example.com\"\")\",'@SUM(A1)\r\n"
+                + "6,'-2+3,\r\n");
+    }
+
+    @Test
+    void writesTheHeaderOfAnEmptyCsvExport() throws IOException {
+        assertThat(export(ExportFormat.CSV)).isEqualTo("id,name,tags\r\n");
+    }
+
+    @Test
+    void writesOneJsonObjectPerNdjsonLine() throws IOException {
+        String ndjson = export(ExportFormat.NDJSON,
+                new Unit(1L, "Dodoma", List.of("region")),
+                new Unit(2L, "Kondoa", List.of()));
+
+        assertThat(ndjson).isEqualTo("{\"id\":1,\"name\":\"Dodoma\",\"tags\":[\"region\"]}\n"
+                + "{\"id\":2,\"name\":\"Kondoa\",\"tags\":[]}\n");
+    }
+
+    private String export(ExportFormat format, Unit... units) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter<Unit> writer = ExportWriter.of(format, Unit.class, objectMapper, out);
+        for (Unit unit : units) {
+            writer.write(unit);
+        }
+        writer.flush();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @JsonPropertyOrder({"id", "name", "tags"})
+    static class Unit {
+
+        private final Long id;
+
+        private final String name;
+
+        private final List<String> tags;
+
+        Unit(Long id, String name, List<String> tags) {
+            this.id = id;
+            this.name = name;
+            this.tags = tags;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+    }
+}
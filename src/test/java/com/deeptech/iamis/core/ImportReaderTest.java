@@ -0,0 +1,132 @@
+package com.deeptech.iamis.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void readsCsvRecordsByTheirHeaderWithTheLineTheyStartOn() throws IOException {
+        List<ImportReader.Row<Unit>> rows = read(ExportFormat.CSV,
+                "name,parentId\r\nDodoma,1\r\n\r\n\"Kondoa, \"\"Central\"\"\",2\r\nMbeya,\r\n");
+
+        assertThat(rows).extracting(ImportReader.Row::line).containsExactly(2L, 4L, 5L);
+        assertThat(rows).extracting(row -> row.dto().getName())
+                .containsExactly("Dodoma", "Kondoa, \"Central\"", "Mbeya");
+        assertThat(rows).extracting(row -> row.dto().getParentId()).containsExactly(1L, 2L, null);
+    }
+
+    @Test
+    void keepsLineBreaksOfQuotedCellsAndCountsTheirLines() throws IOException {
+        List<ImportReader.Row<Unit>> rows = read(ExportFormat.CSV,
+                "name,parentId\n\"Upper\nKondoa\",2\n\"\",3\n");
+
+        assertThat(rows).extracting(ImportReader.Row::line).containsExactly(2L, 4L);
+        assertThat(rows.get(0).dto().getName()).isEqualTo("Upper\nKondoa");
+        assertThat(rows.get(1).dto().getName()).isEmpty();
+    }
+
+    @Test
+    void reportsCsvRecordsThatCannotBeRead() throws IOException {
+        List<ImportReader.Row<Unit>> rows = read(ExportFormat.CSV,
+                "name,parentId\nDodoma\nKondoa,two\nMbeya,3\n");
+
+        assertThat(rows.get(0).error()).isEqualTo("Expected 2 columns but found 1");
+        assertThat(rows.get(0).dto()).isNull();
+        assertThat(rows.get(1).error()).startsWith("Invalid value: ");
+        assertThat(rows.get(1).line()).isEqualTo(3L);
+        assertThat(rows.get(2).dto().getName()).isEqualTo("Mbeya");
+    }
+
+    @Test
+    void readsNdjsonLinesSkippingBlankOnes() throws IOException {
+        List<ImportReader.Row<Unit>> rows = read(ExportFormat.NDJSON,
+                "{\"name\":\"Dodoma\",\"parentId\":1}\n\n{\"name\":\"Kondoa\"}\n{\"name\":\n");
+
+        assertThat(rows).extracting(ImportReader.Row::line).containsExactly(1L, 3L, 4L);
+        assertThat(rows.get(0).dto().getParentId()).isEqualTo(1L);
+        assertThat(rows.get(1).dto().getName()).isEqualTo("Kondoa");
+        assertThat(rows.get(2).error()).startsWith("Invalid JSON: ");
+    }
+
+    @Test
+    void readsBackWhatTheExportWrote() throws IOException {
+        Unit dodoma = new Unit();
+        dodoma.setUuid(UUID.randomUUID());
+        dodoma.setName("Dodoma, \"Central\"");
+        dodoma.setParentId(1L);
+        Unit mbeya = new Unit();
+        mbeya.setUuid(UUID.randomUUID());
+        mbeya.setName("Mbeya");
+
+        for (ExportFormat format : ExportFormat.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ExportWriter<Unit> writer = ExportWriter.of(format, Unit.class, objectMapper, out);
+            writer.write(dodoma);
+            writer.write(mbeya);
+            writer.flush();
+
+            List<ImportReader.Row<Unit>> rows = read(format, out.toString(StandardCharsets.UTF_8));
+
+            assertThat(rows).extracting(ImportReader.Row::dto)
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactly(dodoma, mbeya);
+        }
+    }
+
+    private List<ImportReader.Row<Unit>> read(ExportFormat format, String content) throws IOException {
+        ImportReader<Unit> reader = ImportReader.of(format, Unit.class, objectMapper,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        List<ImportReader.Row<Unit>> rows = new ArrayList<>();
+        ImportReader.Row<Unit> row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    static class Unit {
+
+        private UUID uuid;
+
+        private String name;
+
+        private Long parentId;
+
+        public UUID getUuid() {
+            return uuid;
+        }
+
+        public void setUuid(UUID uuid) {
+            this.uuid = uuid;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Long getParentId() {
+            return parentId;
+        }
+
+        public void setParentId(Long parentId) {
+            this.parentId = parentId;
+        }
+    }
+}
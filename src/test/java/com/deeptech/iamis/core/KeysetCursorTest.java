@@ -0,0 +1,169 @@
+package com.deeptech.iamis.core;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_MOCKS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class KeysetCursorTest {
+
+    private static final Map<String, SearchFilter> FILTERS = Map.of(
+            "name", SearchFilter.of("name", String.class),
+            "id", SearchFilter.of("id", Long.class));
+
+    private Root<Object> root;
+
+    private CriteriaBuilder builder;
+
+    private Path<String> name;
+
+    private Path<Long> id;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        root = mock(Root.class);
+        builder = mock(CriteriaBuilder.class, RETURNS_MOCKS);
+        name = mock(Path.class);
+        id = mock(Path.class);
+        doReturn(name).when(root).get("name");
+        doReturn(id).when(root).get("id");
+    }
+
+    @Test
+    void decodesWhatItEncodes() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", "Dodoma, Tanzania");
+        keys.put("id", 42L);
+
+        assertThat(KeysetCursor.decode(KeysetCursor.encode(keys), FILTERS)).containsExactly(
+                Map.entry("name", "Dodoma, Tanzania"), Map.entry("id", 42L));
+    }
+
+    @Test
+    void keepsNullKeys() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", null);
+        keys.put("id", 7L);
+
+        Map<String, Object> decoded = KeysetCursor.decode(KeysetCursor.encode(keys), FILTERS);
+
+        assertThat(decoded).containsEntry("name", null).containsEntry("id", 7L);
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor!", FILTERS))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid cursor");
+        String notJson = Base64.getUrlEncoder().withoutPadding().encodeToString("[1,2]".getBytes());
+        assertThatThrownBy(() -> KeysetCursor.decode(notJson, FILTERS))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void rejectsCursorsOnUnknownKeys() {
+        String cursor = KeysetCursor.encode(Map.of("password", "x"));
+
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, FILTERS))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid cursor key password");
+    }
+
+    @Test
+    void seeksPastAscendingKeysWithNullsLast() {
+        toPredicate(List.of(Sort.Order.asc("name"), Sort.Order.asc("id")), "Dodoma", 7L);
+
+        verify(builder).greaterThan(name, "Dodoma");
+        verify(builder).isNull(name);
+        verify(builder).equal(name, "Dodoma");
+        verify(builder).greaterThan(id, 7L);
+    }
+
+    @Test
+    void seeksOnlyWithinNullsWhenAnAscendingKeyIsNull() {
+        toPredicate(List.of(Sort.Order.asc("name"), Sort.Order.asc("id")), null, 7L);
+
+        verify(builder, never()).greaterThan(eq(name), anyString());
+        verify(builder).isNull(name);
+        verify(builder).greaterThan(id, 7L);
+    }
+
+    @Test
+    void seeksPastDescendingKeysWithNullsFirst() {
+        toPredicate(List.of(Sort.Order.desc("name"), Sort.Order.asc("id")), "Dodoma", 7L);
+
+        verify(builder).lessThan(name, "Dodoma");
+        verify(builder, never()).isNull(name);
+        verify(builder).equal(name, "Dodoma");
+        verify(builder).greaterThan(id, 7L);
+    }
+
+    @Test
+    void seeksIntoNonNullsWhenADescendingKeyIsNull() {
+        toPredicate(List.of(Sort.Order.desc("name"), Sort.Order.asc("id")), null, 7L);
+
+        verify(builder).isNotNull(name);
+        verify(builder).isNull(name);
+        verify(builder).greaterThan(id, 7L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void seeksPastTextKeysIgnoringCaseByTheirLoweredValues() {
+        Expression<String> lowered = mock(Expression.class);
+        Expression<String> literal = mock(Expression.class);
+        Expression<String> bound = mock(Expression.class);
+        doReturn(String.class).when(name).getJavaType();
+        doReturn(lowered).when(builder).lower(name);
+        doReturn(literal).when(builder).literal("Dodoma");
+        doReturn(bound).when(builder).lower(literal);
+
+        toPredicate(List.of(Sort.Order.asc("name").ignoreCase(), Sort.Order.asc("id")), "Dodoma", 7L);
+
+        verify(builder).greaterThan(lowered, bound);
+        verify(builder).isNull(lowered);
+        verify(builder).equal(lowered, bound);
+        verify(builder, never()).greaterThan(eq(name), anyString());
+        verify(builder).greaterThan(id, 7L);
+    }
+
+    @Test
+    void comparesNonTextKeysAsIsWhenIgnoringCase() {
+        doReturn(Long.class).when(id).getJavaType();
+
+        toPredicate(List.of(Sort.Order.asc("name"), Sort.Order.desc("id").ignoreCase()), "Dodoma", 7L);
+
+        verify(builder).lessThan(id, 7L);
+        verify(builder, never()).lower(any());
+    }
+
+    private void toPredicate(List<Sort.Order> orders, String nameKey, Long idKey) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", nameKey);
+        keys.put("id", idKey);
+        KeysetCursor.after(orders, keys).toPredicate(root, mock(CriteriaQuery.class), builder);
+    }
+}
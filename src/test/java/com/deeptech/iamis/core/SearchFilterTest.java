@@ -0,0 +1,54 @@
+package com.deeptech.iamis.core;
+
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchFilterTest {
+
+    enum Status {
+        ACTIVE, INACTIVE
+    }
+
+    @Test
+    void parsesValuesToTheAttributeType() {
+        UUID uuid = UUID.randomUUID();
+
+        assertThat(SearchFilter.of("name", String.class).parse("Dodoma")).isEqualTo("Dodoma");
+        assertThat(SearchFilter.of("id", Long.class).parse("42")).isEqualTo(42L);
+        assertThat(SearchFilter.of("position", int.class).parse("3")).isEqualTo(3);
+        assertThat(SearchFilter.of("amount", BigDecimal.class).parse("12.50")).isEqualTo(new BigDecimal("12.50"));
+        assertThat(SearchFilter.of("isActive", Boolean.class).parse("TRUE")).isEqualTo(true);
+        assertThat(SearchFilter.of("isActive", boolean.class).parse("yes")).isEqualTo(false);
+        assertThat(SearchFilter.of("uuid", UUID.class).parse(uuid.toString())).isEqualTo(uuid);
+        assertThat(SearchFilter.of("startDate", LocalDate.class).parse("2024-07-01"))
+                .isEqualTo(LocalDate.of(2024, 7, 1));
+        assertThat(SearchFilter.of("createdAt", LocalDateTime.class).parse("2024-07-01T08:30:00"))
+                .isEqualTo(LocalDateTime.of(2024, 7, 1, 8, 30));
+        assertThat(SearchFilter.of("status", Status.class).parse("INACTIVE")).isEqualTo(Status.INACTIVE);
+    }
+
+    @Test
+    void hasNoFilterForUnsupportedTypes() {
+        assertThat(SearchFilter.of("data", byte[].class)).isNull();
+        assertThat(SearchFilter.of("parent", Object.class)).isNull();
+    }
+
+    @Test
+    void rejectsValuesOfTheWrongType() {
+        assertThatThrownBy(() -> SearchFilter.of("id", Long.class).parse("abc"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid value 'abc' for search field id");
+        assertThatThrownBy(() -> SearchFilter.of("startDate", LocalDate.class).parse("01/07/2024"))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> SearchFilter.of("status", Status.class).parse("active"))
+                .isInstanceOf(ValidationException.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.deeptech.iamis.core;
+
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchOperatorTest {
+
+    @Test
+    void parsesSuffixesIgnoringCase() {
+        assertThat(SearchOperator.fromSuffix("gte")).isEqualTo(SearchOperator.GTE);
+        assertThat(SearchOperator.fromSuffix("In")).isEqualTo(SearchOperator.IN);
+        assertThat(SearchOperator.fromSuffix("BETWEEN")).isEqualTo(SearchOperator.BETWEEN);
+    }
+
+    @Test
+    void rejectsUnknownSuffixes() {
+        assertThatThrownBy(() -> SearchOperator.fromSuffix("like"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Unknown search operator like");
+    }
+
+    @Test
+    void rejectsBetweenWithoutTwoValues() {
+        SearchFilter filter = SearchFilter.of("minValue", Integer.class);
+
+        assertThatThrownBy(() -> filter.toSpecification(SearchOperator.BETWEEN, "1"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Search field minValue.between expects two values");
+        assertThatThrownBy(() -> filter.toSpecification(SearchOperator.BETWEEN, "1,2,3"))
+                .isInstanceOf(ValidationException.class);
+        assertThat(filter.toSpecification(SearchOperator.BETWEEN, "1, 5")).isNotNull();
+    }
+
+    @Test
+    void rejectsEmptyAndMalformedLists() {
+        SearchFilter filter = SearchFilter.of("levelId", Long.class);
+
+        assertThatThrownBy(() -> filter.toSpecification(SearchOperator.IN, " , "))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid value ' , ' for search field levelId");
+        assertThatThrownBy(() -> filter.toSpecification(SearchOperator.IN, "1,x"))
+                .isInstanceOf(ValidationException.class);
+        assertThat(filter.toSpecification(SearchOperator.IN, "1,2,3")).isNotNull();
+    }
+
+    @Test
+    void rejectsRangesOnBooleans() {
+        SearchFilter filter = SearchFilter.of("isActive", Boolean.class);
+
+        assertThatThrownBy(() -> filter.toSpecification(SearchOperator.GT, "true"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Search field isActive does not support range operators");
+    }
+}
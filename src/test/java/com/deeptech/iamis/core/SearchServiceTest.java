@@ -0,0 +1,133 @@
+package com.deeptech.iamis.core;
+
+import com.deeptech.iamis.modules.period.Period;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.constraints.NotBlank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchServiceTest {
+
+    private EntityManager entityManager;
+
+    private SearchService<Period> service;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        when(entityManager.getFlushMode()).thenReturn(FlushModeType.AUTO);
+        service = new SearchService<>();
+        service.setValidator(Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+    }
+
+    @Test
+    void savesEachValidItemAndReportsTheOthers() {
+        List<String> saved = new ArrayList<>();
+        List<String> reverted = new ArrayList<>();
+
+        List<BatchItem<Item>> items = service.saveEach(
+                List.of(new Item("Q1"), new Item(" "), new Item("missing"), new Item("taken"), new Item("Q2")),
+                item -> {
+                    switch (item.name()) {
+                        case "missing" -> throw new EntityNotFoundException("No Period missing");
+                        case "taken" -> throw new ValidationException("Period taken exists");
+                        default -> saved.add(item.name());
+                    }
+                    return item;
+                },
+                item -> reverted.add(item.name()));
+
+        assertThat(saved).containsExactly("Q1", "Q2");
+        assertThat(items).extracting(BatchItem::index).containsExactly(0, 1, 2, 3, 4);
+        assertThat(items).extracting(BatchItem::isFailed).containsExactly(false, true, true, true, false);
+        assertThat(items.get(1).error()).startsWith("name ");
+        assertThat(items.get(2).error()).isEqualTo("No Period missing");
+        assertThat(items.get(3).error()).isEqualTo("Period taken exists");
+        assertThat(items.get(4).data()).isEqualTo(new Item("Q2"));
+        assertThat(reverted).containsExactly("missing", "taken");
+    }
+
+    @Test
+    void revertsOnlyManagedRows() {
+        Period managed = new Period();
+        Period detached = new Period();
+        when(entityManager.contains(managed)).thenReturn(true);
+
+        service.revert(managed);
+        service.revert(detached);
+
+        verify(entityManager).refresh(managed);
+        verify(entityManager, never()).refresh(detached);
+    }
+
+    @Test
+    void flushesTheWholeBatchOnceAtTheEnd() {
+        service.saveEach(List.of(new Item("Q1"), new Item("Q2")), item -> item, item -> { });
+
+        InOrder order = inOrder(entityManager);
+        order.verify(entityManager).setFlushMode(FlushModeType.COMMIT);
+        order.verify(entityManager).flush();
+        order.verify(entityManager).setFlushMode(FlushModeType.AUTO);
+    }
+
+    @Test
+    void rejectsTheWholeBatchWhenItsStatementsFail() {
+        doThrow(new PersistenceException("duplicate key")).when(entityManager).flush();
+
+        assertThatThrownBy(() -> service.saveEach(List.of(new Item("Q1")), item -> item, item -> { }))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Cannot save batch: duplicate key");
+        verify(entityManager).setFlushMode(FlushModeType.AUTO);
+    }
+
+    @Test
+    void rejectsBatchesOverTheLimit() {
+        List<Item> batch = Collections.nCopies(SearchService.BATCH_LIMIT + 1, new Item("Q1"));
+
+        assertThatThrownBy(() -> service.saveEach(batch, item -> item, item -> { }))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("A batch may hold at most 1000 items");
+        verify(entityManager, never()).flush();
+    }
+
+    @Test
+    void rejectsCursorsOverOrdersPlacingNulls() {
+        SearchFilterRegistry searchFilterRegistry = mock(SearchFilterRegistry.class);
+        when(searchFilterRegistry.filtersFor(Period.class)).thenReturn(Map.of(
+                "name", SearchFilter.of("name", String.class),
+                "id", SearchFilter.of("id", Long.class)));
+        service.setSearchFilterRegistry(searchFilterRegistry);
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.asc("name").nullsFirst()));
+
+        assertThatThrownBy(() -> service.scroll(Period.class, Item.class, null, pageable, Map.of()))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Cannot use a cursor when placing the nulls of name");
+    }
+
+    record Item(@NotBlank String name) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.deeptech.iamis.modules.department;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deeptech.iamis.core.BatchItem;
+import com.deeptech.iamis.modules.organisation_unit.OrganisationUnitScope;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class DepartmentServiceImplTest {
+
+  private static final String OUTSIDE =
+    "OrganisationUnit with id 30 is outside your organisation unit";
+
+  private DepartmentRepository repository;
+
+  private DepartmentMapper mapper;
+
+  private OrganisationUnitScope scope;
+
+  private EntityManager entityManager;
+
+  private DepartmentServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(DepartmentRepository.class);
+    mapper = mock(DepartmentMapper.class);
+    scope = mock(OrganisationUnitScope.class);
+    service = new DepartmentServiceImpl(repository, mapper, scope);
+    service.setOrganisationUnitScope(scope);
+    service.setValidator(
+      Validation.buildDefaultValidatorFactory().getValidator()
+    );
+    entityManager = mock(EntityManager.class);
+    ReflectionTestUtils.setField(service, "entityManager", entityManager);
+    when(mapper.toEntity(any())).thenAnswer(invocation -> {
+      DepartmentDto dto = invocation.getArgument(0);
+      return department(null, dto.getOrganisationUnitId());
+    });
+    when(mapper.partialUpdate(any(), any())).thenAnswer(invocation -> {
+      DepartmentDto dto = invocation.getArgument(0);
+      Department department = invocation.getArgument(1);
+      department.setOrganisationUnitId(dto.getOrganisationUnitId());
+      return department;
+    });
+    when(repository.save(any())).thenAnswer(invocation ->
+      invocation.getArgument(0)
+    );
+    doThrow(new ValidationException(OUTSIDE)).when(scope).requireWithin(30L);
+  }
+
+  @Test
+  void refusesToMoveADepartmentOutOfTheUsersUnitBeforeChangingIt() {
+    Department department = department(5L, 7L);
+    visible(department);
+
+    assertThatThrownBy(() -> service.save(dto(department.getUuid(), 30L)))
+      .isInstanceOf(ValidationException.class)
+      .hasMessage(OUTSIDE);
+    assertThat(department.getOrganisationUnitId()).isEqualTo(7L);
+    verify(mapper, never()).partialUpdate(any(), any());
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  void checksTheCurrentUnitWhenAnUpdateLeavesItOut() {
+    Department department = department(5L, 7L);
+    visible(department);
+
+    service.save(dto(department.getUuid(), null));
+
+    verify(scope).requireWithin(7L);
+    verify(repository).save(department);
+  }
+
+  @Test
+  void refusesANewDepartmentOutsideTheUsersUnit() {
+    assertThatThrownBy(() -> service.save(dto(null, 30L)))
+      .isInstanceOf(ValidationException.class)
+      .hasMessage(OUTSIDE);
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  void leavesTheRowOfARefusedBatchItemUnchanged() {
+    Department department = department(5L, 7L);
+    visible(department);
+    when(repository.findByUuid(department.getUuid())).thenReturn(
+      Optional.of(department)
+    );
+    when(entityManager.contains(department)).thenReturn(true);
+
+    List<BatchItem<DepartmentDto>> items = service.saveAll(
+      List.of(dto(department.getUuid(), 30L))
+    );
+
+    assertThat(items.get(0).error()).isEqualTo(OUTSIDE);
+    assertThat(department.getOrganisationUnitId()).isEqualTo(7L);
+    verify(repository, never()).save(any());
+    verify(entityManager).refresh(department);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void visible(Department department) {
+    when(repository.findOne(any(Specification.class))).thenReturn(
+      Optional.of(department)
+    );
+  }
+
+  private static Department department(Long id, Long organisationUnitId) {
+    Department department = new Department();
+    department.setId(id);
+    department.setName("Finance");
+    department.setOrganisationUnitId(organisationUnitId);
+    return department;
+  }
+
+  private static DepartmentDto dto(UUID uuid, Long organisationUnitId) {
+    DepartmentDto dto = new DepartmentDto();
+    dto.setUuid(uuid);
+    dto.setName("Finance");
+    dto.setOrganisationUnitId(organisationUnitId);
+    return dto;
+  }
+}
@@ -0,0 +1,122 @@
+package com.deeptech.iamis.modules.menu_item;
+
+import com.deeptech.iamis.modules.menu_group.MenuGroup;
+import com.deeptech.iamis.modules.menu_group.MenuGroupDto;
+import com.deeptech.iamis.modules.menu_group.MenuGroupMapper;
+import com.deeptech.iamis.modules.menu_group.MenuGroupRepository;
+import com.deeptech.iamis.security.Permissions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MenuIndexTest {
+
+    private MenuItemRepository menuItemRepository;
+
+    private MenuGroupRepository menuGroupRepository;
+
+    private MenuIndex menuIndex;
+
+    @BeforeEach
+    void setUp() {
+        menuItemRepository = mock(MenuItemRepository.class);
+        menuGroupRepository = mock(MenuGroupRepository.class);
+        MenuItemMapper menuItemMapper = mock(MenuItemMapper.class);
+        MenuGroupMapper menuGroupMapper = mock(MenuGroupMapper.class);
+        when(menuItemMapper.toDtoNoAuth(any())).thenAnswer(invocation -> {
+            MenuItem item = invocation.getArgument(0);
+            MenuItemDto dto = new MenuItemDto();
+            dto.setId(item.getId());
+            dto.setName(item.getName());
+            dto.setSortOrder(item.getSortOrder());
+            dto.setMenuGroupId(item.getMenuGroupId());
+            return dto;
+        });
+        when(menuGroupMapper.toDto(any())).thenAnswer(invocation -> {
+            MenuGroup group = invocation.getArgument(0);
+            return new MenuGroupDto(group.getId(), group.getUuid(), group.getName(), null, null,
+                    group.getSortOrder(), null);
+        });
+
+        when(menuGroupRepository.findAll(any(Sort.class))).thenReturn(List.of(
+                group(20L, "Audit", 1), group(10L, "Setup", 2)));
+        when(menuItemRepository.findAll(any(Sort.class))).thenReturn(List.of(
+                item(1L, "Dashboard", 0, null), item(2L, "Units", 1, 10L), item(3L, "Plans", 1, 20L),
+                item(4L, "Users", 2, 10L)));
+        when(menuItemRepository.findAuthorityLinks()).thenReturn(List.of(
+                new Object[]{1L, 100L}, new Object[]{2L, 100L}, new Object[]{4L, 101L}, new Object[]{3L, 102L}));
+
+        menuIndex = new MenuIndex(menuItemRepository, menuGroupRepository, menuItemMapper, menuGroupMapper);
+    }
+
+    @Test
+    void listsTopLevelItemsAndGroupsHoldingTheGrantedItemsBySortOrder() {
+        List<MenuGroupDto> menus = menuIndex.menusFor(permissions(100, 101));
+
+        assertThat(menus).extracting(MenuGroupDto::getName).containsExactly("Dashboard", "Setup");
+        assertThat(menus.get(0).getChildren()).isNull();
+        assertThat(menus.get(1).getChildren()).extracting(MenuItemDto::getName).containsExactly("Units", "Users");
+    }
+
+    @Test
+    void leavesOutGroupsWithoutGrantedItems() {
+        assertThat(menuIndex.menusFor(permissions(102))).extracting(MenuGroupDto::getName).containsExactly("Audit");
+        assertThat(menuIndex.menusFor(permissions(999))).isEmpty();
+        assertThat(menuIndex.menusFor(Permissions.NONE)).isEmpty();
+    }
+
+    @Test
+    void buildsTheIndexOnceAndSharesMenusOfTheSameAuthorities() {
+        List<MenuGroupDto> menus = menuIndex.menusFor(permissions(100, 101));
+
+        assertThat(menuIndex.menusFor(permissions(101, 100))).isSameAs(menus);
+        menuIndex.menusFor(permissions(102));
+        verify(menuItemRepository, times(1)).findAuthorityLinks();
+    }
+
+    @Test
+    void rebuildsTheIndexAfterItWasInvalidated() {
+        menuIndex.menusFor(permissions(100));
+        when(menuItemRepository.findAuthorityLinks()).thenReturn(List.<Object[]>of(new Object[]{3L, 100L}));
+
+        menuIndex.invalidate();
+
+        assertThat(menuIndex.menusFor(permissions(100))).extracting(MenuGroupDto::getName).containsExactly("Audit");
+        verify(menuItemRepository, times(2)).findAuthorityLinks();
+    }
+
+    private static Permissions permissions(int... authorityIds) {
+        BitSet bits = new BitSet();
+        for (int authorityId : authorityIds) {
+            bits.set(authorityId);
+        }
+        return Permissions.of(bits);
+    }
+
+    private static MenuGroup group(Long id, String name, int sortOrder) {
+        MenuGroup group = new MenuGroup();
+        group.setId(id);
+        group.setName(name);
+        group.setSortOrder(sortOrder);
+        return group;
+    }
+
+    private static MenuItem item(Long id, String name, int sortOrder, Long menuGroupId) {
+        MenuItem item = new MenuItem();
+        item.setId(id);
+        item.setName(name);
+        item.setSortOrder(sortOrder);
+        item.setMenuGroupId(menuGroupId);
+        return item;
+    }
+}
@@ -0,0 +1,195 @@
+package com.deeptech.iamis.modules.organisation_unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.deeptech.iamis.modules.department.Department;
+import com.deeptech.iamis.modules.period.Period;
+import com.deeptech.iamis.security.Permissions;
+import com.deeptech.iamis.security.PermissionsAuthenticationToken;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.validation.ValidationException;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+class OrganisationUnitScopeTest {
+
+  private EntityManagerFactory entityManagerFactory;
+
+  private EntityType<?> departmentType;
+
+  private OrganisationUnitRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    departmentType = entityType(Department.class);
+    Metamodel metamodel = mock(Metamodel.class);
+    doReturn(Set.of(departmentType, entityType(Period.class)))
+      .when(metamodel)
+      .getEntities();
+    entityManagerFactory = mock(EntityManagerFactory.class);
+    when(entityManagerFactory.getMetamodel()).thenReturn(metamodel);
+    repository = mock(OrganisationUnitRepository.class);
+  }
+
+  @AfterEach
+  void clearContext() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void takesTheUnitOfTheCurrentUserFromTheirToken() {
+    OrganisationUnitScope scope = new OrganisationUnitScope(
+      entityManagerFactory,
+      repository
+    );
+    assertThat(scope.currentUnitId()).isNull();
+
+    authenticate(null);
+    assertThat(scope.currentUnitId()).isNull();
+
+    authenticate(7L);
+    assertThat(scope.currentUnitId()).isEqualTo(7L);
+
+    SecurityContextHolder
+      .getContext()
+      .setAuthentication(new JwtAuthenticationToken(jwt()));
+    assertThat(scope.currentUnitId()).isNull();
+  }
+
+  @Test
+  void limitsScopedEntitiesToTheSubtreeOfTheUsersUnit() {
+    OrganisationUnitScope scope = new OrganisationUnitScope(
+      entityManagerFactory,
+      repository
+    );
+    authenticate(7L);
+
+    Root<Department> root = mock(Root.class);
+    CriteriaQuery<?> query = mock(CriteriaQuery.class);
+    CriteriaBuilder builder = mock(CriteriaBuilder.class);
+    Subquery<Long> subquery = mock(Subquery.class, RETURNS_SELF);
+    Root<OrganisationUnitClosure> closure = mock(Root.class);
+    Path<Object> descendantId = mock(Path.class);
+    Path<Object> ancestorId = mock(Path.class);
+    Path<Object> organisationUnitId = mock(Path.class);
+    Predicate inSubtree = mock(Predicate.class);
+    Predicate withinUnit = mock(Predicate.class);
+    when(query.subquery(Long.class)).thenReturn(subquery);
+    when(subquery.from(OrganisationUnitClosure.class)).thenReturn(closure);
+    doReturn(descendantId).when(closure).get("descendantId");
+    doReturn(ancestorId).when(closure).get("ancestorId");
+    doReturn(organisationUnitId).when(root).get("organisationUnitId");
+    when(builder.equal(ancestorId, 7L)).thenReturn(inSubtree);
+    when(organisationUnitId.in(subquery)).thenReturn(withinUnit);
+
+    Predicate predicate = scope
+      .specificationFor(Department.class)
+      .toPredicate(root, query, builder);
+
+    assertThat(predicate).isSameAs(withinUnit);
+  }
+
+  @Test
+  void leavesUnscopedUsersAndEntitiesAlone() {
+    OrganisationUnitScope scope = new OrganisationUnitScope(
+      entityManagerFactory,
+      repository
+    );
+    assertThat(scope.specificationFor(Department.class)).isNull();
+
+    authenticate(7L);
+    assertThat(scope.specificationFor(Period.class)).isNull();
+  }
+
+  @Test
+  void failsAtStartupOnAnUnknownScopeAttribute() {
+    when(departmentType.getSingularAttribute("organisationUnitId")).thenThrow(
+      new IllegalArgumentException("Unable to locate attribute")
+    );
+
+    assertThatThrownBy(() ->
+      new OrganisationUnitScope(entityManagerFactory, repository)
+    ).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void letsUnscopedUsersPlaceRowsAnywhere() {
+    OrganisationUnitScope scope = new OrganisationUnitScope(
+      entityManagerFactory,
+      repository
+    );
+
+    scope.requireWithin(8L);
+    scope.requireWithin(null);
+
+    verifyNoInteractions(repository);
+  }
+
+  @Test
+  void letsScopedUsersPlaceRowsOnlyWithinTheirSubtree() {
+    OrganisationUnitScope scope = new OrganisationUnitScope(
+      entityManagerFactory,
+      repository
+    );
+    authenticate(7L);
+    when(repository.isInSubtree(7L, 8L)).thenReturn(true);
+
+    scope.requireWithin(8L);
+
+    assertThatThrownBy(() -> scope.requireWithin(3L))
+      .isInstanceOf(ValidationException.class)
+      .hasMessage(
+        "OrganisationUnit with id 3 is outside your organisation unit"
+      );
+    assertThatThrownBy(() -> scope.requireWithin(null))
+      .isInstanceOf(ValidationException.class)
+      .hasMessage(
+        "OrganisationUnit with id null is outside your organisation unit"
+      );
+  }
+
+  private static EntityType<?> entityType(Class<?> javaType) {
+    EntityType<?> type = mock(EntityType.class);
+    doReturn(javaType).when(type).getJavaType();
+    return type;
+  }
+
+  private static void authenticate(Long organisationUnitId) {
+    SecurityContextHolder
+      .getContext()
+      .setAuthentication(
+        new PermissionsAuthenticationToken(
+          jwt(),
+          Permissions.NONE,
+          organisationUnitId
+        )
+      );
+  }
+
+  private static Jwt jwt() {
+    return Jwt
+      .withTokenValue("token")
+      .header("alg", "RS256")
+      .subject("auditor@example.com")
+      .build();
+  }
+}
@@ -0,0 +1,234 @@
+package com.deeptech.iamis.modules.organisation_unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deeptech.iamis.core.BatchItem;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class OrganisationUnitServiceImplTest {
+
+  private OrganisationUnitRepository repository;
+
+  private OrganisationUnitMapper mapper;
+
+  private OrganisationUnitTree tree;
+
+  private OrganisationUnitScope scope;
+
+  private EntityManager entityManager;
+
+  private OrganisationUnitServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(OrganisationUnitRepository.class);
+    mapper = mock(OrganisationUnitMapper.class);
+    tree = mock(OrganisationUnitTree.class);
+    scope = mock(OrganisationUnitScope.class);
+    service = new OrganisationUnitServiceImpl(repository, mapper, tree, scope);
+    service.setOrganisationUnitScope(scope);
+    service.setValidator(
+      Validation.buildDefaultValidatorFactory().getValidator()
+    );
+    entityManager = mock(EntityManager.class);
+    ReflectionTestUtils.setField(service, "entityManager", entityManager);
+    when(mapper.toEntity(any())).thenAnswer(invocation -> {
+      OrganisationUnitDto dto = invocation.getArgument(0);
+      return unit(null, dto.getParentId(), 0);
+    });
+    when(mapper.partialUpdate(any(), any())).thenAnswer(invocation -> {
+      OrganisationUnitDto dto = invocation.getArgument(0);
+      OrganisationUnit unit = invocation.getArgument(1);
+      unit.setParentId(dto.getParentId());
+      return unit;
+    });
+    when(repository.save(any())).thenAnswer(invocation -> {
+      OrganisationUnit unit = invocation.getArgument(0);
+      if (unit.getId() == null) {
+        unit.setId(100L);
+      }
+      return unit;
+    });
+  }
+
+  @Test
+  void linksANewUnitUnderItsParent() {
+    when(repository.findById(2L)).thenReturn(Optional.of(unit(2L, 1L, 1)));
+
+    service.save(dto(null, 2L));
+
+    verify(scope).requireWithin(2L);
+    verify(repository).insertIntoHierarchy(100L, 2L);
+    verify(repository, never()).insertRootIntoHierarchy(anyLong());
+    verify(tree).invalidate();
+  }
+
+  @Test
+  void linksANewRootToItselfOnly() {
+    service.save(dto(null, null));
+
+    verify(repository).insertRootIntoHierarchy(100L);
+    verify(repository, never()).insertIntoHierarchy(anyLong(), anyLong());
+  }
+
+  @Test
+  void movesTheSubtreeWhenTheParentChanges() {
+    OrganisationUnit unit = unit(10L, 1L, 1);
+    visible(unit);
+    when(repository.findById(2L)).thenReturn(Optional.of(unit(2L, 1L, 2)));
+
+    service.save(dto(unit.getUuid(), 2L));
+
+    InOrder order = inOrder(repository);
+    order.verify(repository).detachSubtree(10L);
+    order.verify(repository).attachSubtree(10L, 2L);
+    order.verify(repository).shiftSubtreeDepth(10L, 2);
+    assertThat(unit.getDepth()).isEqualTo(3);
+    verify(scope).requireWithin(2L);
+    verify(tree).invalidate();
+  }
+
+  @Test
+  void leavesTheHierarchyAloneWhenTheParentIsUnchanged() {
+    OrganisationUnit unit = unit(10L, 1L, 1);
+    visible(unit);
+
+    service.save(dto(unit.getUuid(), 1L));
+
+    verify(repository, never()).detachSubtree(anyLong());
+    verify(repository, never()).attachSubtree(anyLong(), anyLong());
+  }
+
+  @Test
+  void refusesToMoveAUnitUnderItsOwnSubtree() {
+    OrganisationUnit unit = unit(10L, 1L, 1);
+    visible(unit);
+    when(repository.isInSubtree(10L, 12L)).thenReturn(true);
+
+    assertThatThrownBy(() -> service.save(dto(unit.getUuid(), 12L)))
+      .isInstanceOf(ValidationException.class)
+      .hasMessage(
+        "OrganisationUnit cannot be moved under itself or its descendants"
+      );
+    verify(repository, never()).detachSubtree(anyLong());
+    verify(repository, never()).shiftSubtreeDepth(anyLong(), anyInt());
+  }
+
+  @Test
+  void leavesTheRowOfARefusedBatchItemUnchanged() {
+    OrganisationUnit unit = unit(10L, 1L, 1);
+    visible(unit);
+    when(repository.findByUuid(unit.getUuid())).thenReturn(Optional.of(unit));
+    when(entityManager.contains(unit)).thenReturn(true);
+    when(repository.isInSubtree(10L, 12L)).thenReturn(true);
+
+    List<BatchItem<OrganisationUnitDto>> items = service.saveAll(
+      List.of(valid(dto(unit.getUuid(), 12L)))
+    );
+
+    assertThat(items.get(0).error()).isEqualTo(
+      "OrganisationUnit cannot be moved under itself or its descendants"
+    );
+    assertThat(unit.getParentId()).isEqualTo(1L);
+    verify(mapper, never()).partialUpdate(any(), any());
+    verify(repository, never()).save(any());
+    verify(entityManager).refresh(unit);
+  }
+
+  @Test
+  void refusesABatchMoveOutOfTheUsersUnitBeforeChangingTheRow() {
+    OrganisationUnit unit = unit(10L, 1L, 1);
+    visible(unit);
+    doThrow(
+      new ValidationException(
+        "OrganisationUnit with id 30 is outside your organisation unit"
+      )
+    )
+      .when(scope)
+      .requireWithin(30L);
+
+    List<BatchItem<OrganisationUnitDto>> items = service.saveAll(
+      List.of(valid(dto(unit.getUuid(), 30L)))
+    );
+
+    assertThat(items.get(0).isFailed()).isTrue();
+    assertThat(unit.getParentId()).isEqualTo(1L);
+    verify(mapper, never()).partialUpdate(any(), any());
+    verify(repository, never()).detachSubtree(anyLong());
+  }
+
+  @Test
+  void refusesToDeleteAUnitWithChildren() {
+    OrganisationUnit unit = unit(10L, 1L, 1);
+    unit.setName("Dodoma");
+    visible(unit);
+    when(repository.existsByParentId(10L)).thenReturn(true);
+
+    assertThatThrownBy(() -> service.delete(unit.getUuid()))
+      .isInstanceOf(ValidationException.class)
+      .hasMessageStartingWith(
+        "Cannot delete OrganisationUnit Dodoma because it has child units"
+      );
+    verify(repository, never()).delete(any());
+    verify(tree, never()).invalidate();
+  }
+
+  @Test
+  void deletesALeafUnit() {
+    OrganisationUnit unit = unit(10L, 1L, 1);
+    visible(unit);
+
+    service.delete(unit.getUuid());
+
+    verify(repository).delete(unit);
+    verify(tree).invalidate();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void visible(OrganisationUnit unit) {
+    when(repository.findOne(any(Specification.class))).thenReturn(
+      Optional.of(unit)
+    );
+  }
+
+  private static OrganisationUnit unit(Long id, Long parentId, int depth) {
+    OrganisationUnit unit = new OrganisationUnit();
+    unit.setId(id);
+    unit.setParentId(parentId);
+    unit.setDepth(depth);
+    return unit;
+  }
+
+  private static OrganisationUnitDto valid(OrganisationUnitDto dto) {
+    dto.setName("Dodoma");
+    dto.setLevelId(1L);
+    return dto;
+  }
+
+  private static OrganisationUnitDto dto(UUID uuid, Long parentId) {
+    OrganisationUnitDto dto = new OrganisationUnitDto();
+    dto.setUuid(uuid);
+    dto.setParentId(parentId);
+    return dto;
+  }
+}
@@ -0,0 +1,161 @@
+package com.deeptech.iamis.modules.organisation_unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.deeptech.iamis.modules.organisation_unit_level.OrganisationUnitLevelRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class OrganisationUnitTreeTest {
+
+  private final List<Object[]> rows = new ArrayList<>();
+
+  private OrganisationUnitRepository repository;
+
+  private OrganisationUnitTree tree;
+
+  @BeforeEach
+  void setUp() {
+    // Tanzania > (Dodoma > Kondoa, Mwanza), by depth and name as the repository returns them.
+    rows.add(row(1L, "Tanzania", null, 0));
+    rows.add(row(2L, "Dodoma", 1L, 1));
+    rows.add(row(3L, "Mwanza", 1L, 1));
+    rows.add(row(4L, "Kondoa", 2L, 2));
+    repository = mock(OrganisationUnitRepository.class);
+    when(repository.findTreeRows()).thenReturn(rows);
+    tree = tree();
+  }
+
+  @Test
+  void listsTheSubtreeOfAUnit() {
+    OrganisationUnitTree.Snapshot snapshot = tree.snapshot();
+
+    assertThat(ids(snapshot, snapshot.subtreeOf(snapshot.nodeOf(2L))))
+      .containsExactly(2L, 4L);
+    assertThat(ids(snapshot, snapshot.subtreeOf(snapshot.nodeOf(1L))))
+      .containsExactly(1L, 2L, 3L, 4L);
+    assertThat(ids(snapshot, snapshot.subtreeOf(snapshot.nodeOf(3L))))
+      .containsExactly(3L);
+    assertThat(ids(snapshot, snapshot.childrenOf(snapshot.nodeOf(1L))))
+      .containsExactly(2L, 3L);
+    assertThat(ids(snapshot, snapshot.pathToRoot(snapshot.nodeOf(4L))))
+      .containsExactly(4L, 2L, 1L);
+  }
+
+  @Test
+  void cutsCyclesInsteadOfFollowingThem() {
+    rows.clear();
+    rows.add(row(5L, "Arusha", 6L, 0));
+    rows.add(row(6L, "Meru", 5L, 1));
+
+    OrganisationUnitTree.Snapshot snapshot = tree().snapshot();
+
+    assertThat(snapshot.parents()).containsExactly(-1, 0);
+    assertThat(ids(snapshot, snapshot.subtreeOf(0))).containsExactly(5L, 6L);
+  }
+
+  @Test
+  void rendersOnlyTheSubtreeOfAScopedUser() {
+    String body = new String(
+      tree.render(2L).body(),
+      StandardCharsets.UTF_8
+    );
+
+    assertThat(body).contains("Dodoma", "Kondoa").doesNotContain("Mwanza");
+    assertThat(
+      new String(tree.render(99L).body(), StandardCharsets.UTF_8)
+    ).doesNotContain("Dodoma");
+  }
+
+  @Test
+  void tagsTheSameTreeAlikeOnEveryInstance() {
+    assertThat(tree().render(null).etag())
+      .isEqualTo(tree.render(null).etag())
+      .startsWith("\"")
+      .endsWith("\"");
+    assertThat(tree.render(2L).etag()).isNotEqualTo(tree.render(null).etag());
+  }
+
+  @Test
+  void retagsTheTreeOnceInvalidated() {
+    String before = tree.render(null).etag();
+    rows.add(row(7L, "Ilala", 1L, 1));
+
+    assertThat(tree.render(null).etag()).isEqualTo(before);
+    tree.invalidate();
+    assertThat(tree.render(null).etag()).isNotEqualTo(before);
+  }
+
+  @Test
+  void answersAMatchingETagWithNotModified() {
+    OrganisationUnitResource resource = new OrganisationUnitResource(
+      mock(OrganisationUnitService.class),
+      tree,
+      mock(OrganisationUnitScope.class)
+    );
+    String etag = tree.render(null).etag();
+
+    MockHttpServletRequest fresh = new MockHttpServletRequest("GET", "/tree");
+    ResponseEntity<byte[]> full = resource.tree(
+      new ServletWebRequest(fresh, new MockHttpServletResponse())
+    );
+    assertThat(full.getStatusCode().value()).isEqualTo(200);
+    assertThat(full.getHeaders().getETag()).isEqualTo(etag);
+    assertThat(full.getBody()).isEqualTo(tree.render(null).body());
+
+    MockHttpServletRequest revalidation = new MockHttpServletRequest(
+      "GET",
+      "/tree"
+    );
+    revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    assertThat(
+      resource.tree(new ServletWebRequest(revalidation, response))
+    ).isNull();
+    assertThat(response.getStatus()).isEqualTo(304);
+    assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+  }
+
+  private OrganisationUnitTree tree() {
+    return new OrganisationUnitTree(
+      repository,
+      mock(OrganisationUnitLevelRepository.class),
+      new ObjectMapper()
+    );
+  }
+
+  private static Object[] row(Long id, String name, Long parentId, int depth) {
+    return new Object[] {
+      id,
+      UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)),
+      name,
+      name.substring(0, 3).toUpperCase(),
+      1L,
+      parentId,
+      depth,
+    };
+  }
+
+  private static List<Long> ids(
+    OrganisationUnitTree.Snapshot snapshot,
+    int[] nodes
+  ) {
+    List<Long> ids = new ArrayList<>();
+    for (int node : nodes) {
+      ids.add(snapshot.tree().units().get(node).id());
+    }
+    return ids;
+  }
+}
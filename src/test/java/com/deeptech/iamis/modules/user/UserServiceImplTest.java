@@ -0,0 +1,154 @@
+package com.deeptech.iamis.modules.user;
+
+import com.deeptech.iamis.modules.organisation_unit.OrganisationUnitScope;
+import com.deeptech.iamis.modules.role.RoleRepository;
+import com.deeptech.iamis.security.PermissionVersions;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceImplTest {
+
+    private static final String OUTSIDE = "OrganisationUnit with id 30 is outside your organisation unit";
+
+    private UserRepository userRepository;
+
+    private PasswordEncoder passwordEncoder;
+
+    private UserMapper userMapper;
+
+    private PermissionVersions permissionVersions;
+
+    private OrganisationUnitScope scope;
+
+    private UserServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        userMapper = mock(UserMapper.class);
+        permissionVersions = mock(PermissionVersions.class);
+        scope = mock(OrganisationUnitScope.class);
+        service = new UserServiceImpl(userRepository, passwordEncoder, mock(RoleRepository.class), userMapper,
+                permissionVersions, scope);
+        service.setOrganisationUnitScope(scope);
+        when(userMapper.toEntity(any())).thenAnswer(invocation -> {
+            UserDto dto = invocation.getArgument(0);
+            return user(dto.getOrganisationUnitId());
+        });
+        when(userMapper.partialUpdate(any(), any())).thenAnswer(invocation -> {
+            UserDto dto = invocation.getArgument(0);
+            User user = invocation.getArgument(1);
+            if (dto.getOrganisationUnitId() != null) {
+                user.setOrganisationUnitId(dto.getOrganisationUnitId());
+            }
+            return user;
+        });
+        when(userRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new ValidationException(OUTSIDE)).when(scope).requireWithin(30L);
+    }
+
+    @Test
+    void readsTheUserToUpdateWithinTheScopeOfTheCurrentUser() {
+        when(userRepository.findOne(any(Specification.class))).thenReturn(Optional.empty());
+        UUID uuid = UUID.randomUUID();
+
+        assertThatThrownBy(() -> service.save(dto(uuid, 8L)))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("User with uuid " + uuid + " not found");
+        verify(scope).specificationFor(User.class);
+        verify(userRepository, never()).findByUuid(any());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void refusesToMoveAUserOutOfTheScopeOfTheCurrentUser() {
+        User user = visible(user(7L));
+
+        assertThatThrownBy(() -> service.save(dto(user.getUuid(), 30L)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(OUTSIDE);
+        assertThat(user.getOrganisationUnitId()).isEqualTo(7L);
+        verify(userMapper, never()).partialUpdate(any(), any());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void movesAUserWithinTheScopeAndBumpsTheirPermissionVersion() {
+        User user = visible(user(7L));
+
+        service.save(dto(user.getUuid(), 8L));
+
+        verify(scope).requireWithin(8L);
+        assertThat(user.getOrganisationUnitId()).isEqualTo(8L);
+        verify(permissionVersions).userChanged(user);
+        verify(userRepository).save(user);
+    }
+
+    @Test
+    void checksTheCurrentUnitWhenAnUpdateLeavesItOut() {
+        User user = visible(user(7L));
+
+        service.save(dto(user.getUuid(), null));
+
+        verify(scope).requireWithin(7L);
+        verify(permissionVersions, never()).userChanged(any());
+    }
+
+    @Test
+    void refusesToCreateAUserOutsideTheScopeOfTheCurrentUser() {
+        assertThatThrownBy(() -> service.save(dto(null, 30L)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(OUTSIDE);
+        verify(passwordEncoder, never()).encode(any());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void resetsPasswordsOnlyWithinTheScopeOfTheCurrentUser() {
+        when(userRepository.findOne(any(Specification.class))).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.resetPassword(UUID.randomUUID(), new UserResetPasswordDto()))
+                .isInstanceOf(EntityNotFoundException.class);
+        verify(userRepository, never()).findByUuid(any());
+        verify(passwordEncoder, never()).encode(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private User visible(User user) {
+        when(userRepository.findOne(any(Specification.class))).thenReturn(Optional.of(user));
+        return user;
+    }
+
+    private static User user(Long organisationUnitId) {
+        User user = new User();
+        user.setEmail("auditor@example.com");
+        user.setOrganisationUnitId(organisationUnitId);
+        return user;
+    }
+
+    private static UserDto dto(UUID uuid, Long organisationUnitId) {
+        UserDto dto = new UserDto();
+        dto.setUuid(uuid);
+        dto.setEmail("auditor@example.com");
+        dto.setFirstName("Amina");
+        dto.setOrganisationUnitId(organisationUnitId);
+        return dto;
+    }
+}
@@ -0,0 +1,61 @@
+package com.deeptech.iamis.security;
+
+import com.deeptech.iamis.modules.role.Role;
+import com.deeptech.iamis.modules.role.RoleRepository;
+import com.deeptech.iamis.modules.user.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.deeptech.iamis.security.PermissionsTest.bits;
+import static com.deeptech.iamis.security.RolePermissionCacheTest.role;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthenticatedUserTest {
+
+    @Test
+    void carriesThePermissionsOfAllRoles() {
+        User user = user(true, role(1L), role(2L));
+
+        AuthenticatedUser authenticated = AuthenticatedUser.of(user, cache());
+
+        assertThat(authenticated.getUser()).isSameAs(user);
+        assertThat(authenticated.getUsername()).isEqualTo("auditor@example.com");
+        assertThat(authenticated.getPassword()).isEqualTo("{noop}secret");
+        assertThat(authenticated.getPermissions()).isEqualTo(Permissions.of(bits(3, 5, 64)));
+        assertThat(authenticated.getAuthorityNames()).containsExactlyInAnyOrder("GET_USERS", "POST_USERS", "GET_ROLES");
+        assertThat(authenticated.getAuthorities()).isEmpty();
+        assertThat(authenticated.isEnabled()).isTrue();
+    }
+
+    @Test
+    void disablesInactiveUsers() {
+        AuthenticatedUser authenticated = AuthenticatedUser.of(user(false), cache());
+
+        assertThat(authenticated.isEnabled()).isFalse();
+        assertThat(authenticated.getPermissions()).isEqualTo(Permissions.NONE);
+        assertThat(authenticated.getAuthorityNames()).isEmpty();
+    }
+
+    private static RolePermissionCache cache() {
+        RoleRepository roleRepository = mock(RoleRepository.class);
+        when(roleRepository.findAuthorityGrants()).thenReturn(List.of(
+                new Object[]{1L, 3L, "GET_USERS"},
+                new Object[]{1L, 64L, "POST_USERS"},
+                new Object[]{2L, 3L, "GET_USERS"},
+                new Object[]{2L, 5L, "GET_ROLES"}));
+        return new RolePermissionCache(roleRepository);
+    }
+
+    private static User user(boolean active, Role... roles) {
+        User user = new User();
+        user.setEmail("auditor@example.com");
+        user.setPassword("{noop}secret");
+        user.setIsActive(active);
+        user.setRoles(Set.of(roles));
+        return user;
+    }
+}
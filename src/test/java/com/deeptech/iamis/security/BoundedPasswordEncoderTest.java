@@ -0,0 +1,62 @@
+package com.deeptech.iamis.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void hashesAndVerifiesPasswords() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, Duration.ZERO, 2, 4, Duration.ofSeconds(10));
+        try {
+            String hash = encoder.encode("secret");
+
+            assertThat(hash).startsWith("$2a$04$");
+            assertThat(encoder.matches("secret", hash)).isTrue();
+            assertThat(encoder.matches("guess", hash)).isFalse();
+        } finally {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void asksToRehashPasswordsOfALowerStrength() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(5, Duration.ZERO, 1, 1, Duration.ofSeconds(10));
+        try {
+            assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+            assertThat(encoder.upgradeEncoding(encoder.encode("secret"))).isFalse();
+        } finally {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void failsCallsThatFindTheExecutorSaturated() {
+        // One thread and one queue slot; each hash at strength 14 takes far longer than the 1 ms timeout.
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(14, Duration.ZERO, 1, 1, Duration.ofMillis(1));
+        try {
+            assertThatThrownBy(() -> encoder.encode("first"))
+                    .isInstanceOf(PasswordHashingBusyException.class)
+                    .hasMessage("Password check timed out, try again shortly");
+            assertThatThrownBy(() -> encoder.encode("queued"))
+                    .isInstanceOf(PasswordHashingBusyException.class)
+                    .hasMessage("Password check timed out, try again shortly");
+            assertThatThrownBy(() -> encoder.encode("rejected"))
+                    .isInstanceOf(PasswordHashingBusyException.class)
+                    .hasMessage("Too many concurrent password checks, try again shortly");
+        } finally {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void tunesTheStrengthWithinItsBounds() {
+        assertThat(BoundedPasswordEncoder.tune(Duration.ZERO)).isEqualTo(BoundedPasswordEncoder.MIN_STRENGTH);
+        assertThat(BoundedPasswordEncoder.tune(Duration.ofHours(1))).isEqualTo(BoundedPasswordEncoder.MAX_STRENGTH);
+    }
+}
@@ -0,0 +1,100 @@
+package com.deeptech.iamis.security;
+
+import com.deeptech.iamis.core.NoAuthorization;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CustomAuthorizationInterceptorTest {
+
+    private static final int AUTHORITY_ID = 5;
+
+    private AuthorityCatalog authorityCatalog;
+
+    private CustomAuthorizationInterceptor interceptor;
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        authorityCatalog = mock(AuthorityCatalog.class);
+        interceptor = new CustomAuthorizationInterceptor(authorityCatalog);
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void allowsAGuardedHandlerOnlyToCallersWithItsAuthority() throws Exception {
+        HandlerMethod handler = handler("delete");
+        when(authorityCatalog.requirementOf(any())).thenReturn(
+                new AuthorityCatalog.Requirement(AUTHORITY_ID, AuthorityCatalog.unlisted(handler).deniedBody()));
+
+        authenticate(new BitSet());
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, handler)).isFalse();
+        assertThat(response.getStatus()).isEqualTo(403);
+
+        BitSet granted = new BitSet();
+        granted.set(AUTHORITY_ID);
+        authenticate(granted);
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler))
+                .isTrue();
+    }
+
+    @Test
+    void deniesAHandlerTheCatalogDoesNotGuard() throws Exception {
+        BitSet granted = new BitSet();
+        granted.set(0, 64);
+        authenticate(granted);
+
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, handler("delete"))).isFalse();
+
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getContentAsString()).contains("Your Are Not Authorized to Access {delete} on {Sample}");
+    }
+
+    @Test
+    void allowsAHandlerAnnotatedWithNoAuthorization() throws Exception {
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, handler("open"))).isTrue();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new SampleResource(), SampleResource.class.getMethod(name));
+    }
+
+    private static void authenticate(BitSet authorityIds) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS512")
+                .subject("auditor@example.com")
+                .build();
+        SecurityContextHolder.getContext()
+                .setAuthentication(new PermissionsAuthenticationToken(jwt, Permissions.of(authorityIds)));
+    }
+
+    static class SampleResource {
+
+        public void delete() {
+        }
+
+        @NoAuthorization
+        public void open() {
+        }
+    }
+}
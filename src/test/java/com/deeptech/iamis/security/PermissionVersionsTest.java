@@ -0,0 +1,105 @@
+package com.deeptech.iamis.security;
+
+import com.deeptech.iamis.modules.user.User;
+import com.deeptech.iamis.modules.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PermissionVersionsTest {
+
+    private static final String ACTIVE = "auditor@example.com";
+
+    private static final String UNKNOWN = "unknown@example.com";
+
+    private UserRepository userRepository;
+
+    private PermissionVersions permissionVersions;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findActivePermissionVersions()).thenReturn(List.<Object[]>of(new Object[]{ACTIVE, 3}));
+        when(userRepository.findActivePermissionVersionByEmail(anyString())).thenReturn(Optional.empty());
+        permissionVersions = new PermissionVersions(userRepository);
+    }
+
+    @Test
+    void acceptsOnlyTheCurrentVersionWithoutLookingUsersUp() {
+        assertThat(permissionVersions.isCurrent(ACTIVE, 3)).isTrue();
+        assertThat(permissionVersions.isCurrent(ACTIVE, 2)).isFalse();
+
+        verify(userRepository, times(1)).findActivePermissionVersions();
+        verify(userRepository, never()).findActivePermissionVersionByEmail(anyString());
+    }
+
+    @Test
+    void looksAnUnknownUserUpOnceUntilTheNextReload() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(permissionVersions.isCurrent(UNKNOWN, 0)).isFalse();
+        }
+        verify(userRepository, times(1)).findActivePermissionVersionByEmail(UNKNOWN);
+
+        when(userRepository.findActivePermissionVersionByEmail(UNKNOWN)).thenReturn(Optional.of(0));
+        assertThat(permissionVersions.isCurrent(UNKNOWN, 0)).isFalse();
+
+        permissionVersions.reload();
+
+        assertThat(permissionVersions.isCurrent(UNKNOWN, 0)).isTrue();
+        verify(userRepository, times(2)).findActivePermissionVersionByEmail(UNKNOWN);
+    }
+
+    @Test
+    void acceptsATokenRotatedOnAnotherInstanceAfterOneLookup() {
+        when(userRepository.findActivePermissionVersionByEmail(ACTIVE)).thenReturn(Optional.of(4));
+
+        assertThat(permissionVersions.isCurrent(ACTIVE, 4)).isTrue();
+        assertThat(permissionVersions.isCurrent(ACTIVE, 4)).isTrue();
+        assertThat(permissionVersions.isCurrent(ACTIVE, 3)).isFalse();
+
+        verify(userRepository, times(1)).findActivePermissionVersionByEmail(ACTIVE);
+    }
+
+    @Test
+    void rejectsTheTokensOfAUserDeactivatedOnAnotherInstance() {
+        when(userRepository.findActivePermissionVersionByEmail(ACTIVE)).thenReturn(Optional.empty());
+
+        assertThat(permissionVersions.isCurrent(ACTIVE, 4)).isFalse();
+        assertThat(permissionVersions.isCurrent(ACTIVE, 3)).isFalse();
+
+        verify(userRepository, times(1)).findActivePermissionVersionByEmail(ACTIVE);
+    }
+
+    @Test
+    void revokesTheTokensOfAChangedUserOnceReloaded() {
+        User user = new User();
+        user.setPermissionVersion(3);
+        assertThat(permissionVersions.isCurrent(ACTIVE, 3)).isTrue();
+        when(userRepository.findActivePermissionVersions()).thenReturn(List.<Object[]>of(new Object[]{ACTIVE, 4}));
+
+        permissionVersions.userChanged(user);
+
+        assertThat(user.getPermissionVersion()).isEqualTo(4);
+        assertThat(permissionVersions.isCurrent(ACTIVE, 3)).isFalse();
+        assertThat(permissionVersions.isCurrent(ACTIVE, 4)).isTrue();
+        verify(userRepository, never()).findActivePermissionVersionByEmail(anyString());
+    }
+
+    @Test
+    void bumpsTheUsersOfAChangedRole() {
+        permissionVersions.roleChanged(7L);
+
+        verify(userRepository).incrementPermissionVersionByRoleId(7L);
+        verify(userRepository, times(1)).findActivePermissionVersions();
+    }
+}
@@ -0,0 +1,32 @@
+package com.deeptech.iamis.security;
+
+import org.junit.jupiter.api.Test;
+
+import static com.deeptech.iamis.security.PermissionsTest.bits;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PermissionsClaimTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        Permissions permissions = Permissions.of(bits(1, 2, 3, 64, 1000));
+
+        String claim = PermissionsClaim.encode(permissions);
+
+        assertThat(claim).doesNotContain("=", "+", "/");
+        assertThat(PermissionsClaim.decode(claim)).isEqualTo(permissions);
+    }
+
+    @Test
+    void encodesNoPermissionsAsAnEmptyClaim() {
+        assertThat(PermissionsClaim.encode(Permissions.NONE)).isEmpty();
+        assertThat(PermissionsClaim.decode("")).isSameAs(Permissions.NONE);
+    }
+
+    @Test
+    void rejectsClaimsThatAreNotBase64Url() {
+        assertThatThrownBy(() -> PermissionsClaim.decode("a+b/"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,63 @@
+package com.deeptech.iamis.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PermissionsTest {
+
+    @Test
+    void hasOnlyTheGrantedAuthorities() {
+        Permissions permissions = Permissions.of(bits(1, 63, 64, 200));
+
+        assertThat(permissions.has(1)).isTrue();
+        assertThat(permissions.has(63)).isTrue();
+        assertThat(permissions.has(64)).isTrue();
+        assertThat(permissions.has(200)).isTrue();
+        assertThat(permissions.has(0)).isFalse();
+        assertThat(permissions.has(65)).isFalse();
+        assertThat(permissions.has(10_000)).isFalse();
+    }
+
+    @Test
+    void emptyBitsetsAreNone() {
+        assertThat(Permissions.of(new BitSet())).isSameAs(Permissions.NONE);
+        assertThat(Permissions.valueOf(new byte[]{0, 0})).isSameAs(Permissions.NONE);
+        assertThat(Permissions.NONE.isEmpty()).isTrue();
+        assertThat(Permissions.NONE.has(0)).isFalse();
+    }
+
+    @Test
+    void readsTheBytesItWrites() {
+        Permissions permissions = Permissions.of(bits(0, 7, 8, 63, 64, 129));
+
+        assertThat(Permissions.valueOf(permissions.toByteArray())).isEqualTo(permissions);
+        assertThat(Permissions.valueOf(permissions.toByteArray()).toBitSet()).isEqualTo(bits(0, 7, 8, 63, 64, 129));
+    }
+
+    @Test
+    void ignoresTrailingZeroBytes() {
+        assertThat(Permissions.valueOf(new byte[]{5, 0, 0, 0, 0, 0, 0, 0, 0, 0}))
+                .isEqualTo(Permissions.of(bits(0, 2)));
+    }
+
+    @Test
+    void unitesPermissionsOfDifferentLengths() {
+        Permissions shorter = Permissions.of(bits(3));
+        Permissions longer = Permissions.of(bits(5, 130));
+
+        assertThat(shorter.or(longer)).isEqualTo(Permissions.of(bits(3, 5, 130)));
+        assertThat(longer.or(shorter)).isEqualTo(Permissions.of(bits(3, 5, 130)));
+        assertThat(shorter.or(Permissions.NONE)).isEqualTo(shorter);
+    }
+
+    static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,76 @@
+package com.deeptech.iamis.security;
+
+import com.deeptech.iamis.modules.role.Role;
+import com.deeptech.iamis.modules.role.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.deeptech.iamis.security.PermissionsTest.bits;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RolePermissionCacheTest {
+
+    private RoleRepository roleRepository;
+
+    private RolePermissionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        roleRepository = mock(RoleRepository.class);
+        when(roleRepository.findAuthorityGrants()).thenReturn(List.of(
+                new Object[]{1L, 3L, "GET_USERS"},
+                new Object[]{1L, 64L, "POST_USERS"},
+                new Object[]{2L, 3L, "GET_USERS"},
+                new Object[]{2L, 5L, "GET_ROLES"}));
+        cache = new RolePermissionCache(roleRepository);
+    }
+
+    @Test
+    void holdsTheAuthoritiesOfEachRole() {
+        RolePermissionCache.RolePermissions permissions = cache.of(1L);
+
+        assertThat(permissions.permissions()).isEqualTo(Permissions.of(bits(3, 64)));
+        assertThat(permissions.names()).containsExactly("GET_USERS", "POST_USERS");
+        assertThat(cache.of(9L)).isSameAs(RolePermissionCache.RolePermissions.NONE);
+    }
+
+    @Test
+    void unitesTheAuthoritiesOfSeveralRoles() {
+        RolePermissionCache.RolePermissions permissions = cache.of(List.of(role(1L), role(2L), role(9L)));
+
+        assertThat(permissions.permissions()).isEqualTo(Permissions.of(bits(3, 5, 64)));
+        assertThat(permissions.names()).containsExactlyInAnyOrder("GET_USERS", "POST_USERS", "GET_ROLES");
+        assertThat(cache.of(List.of())).isEqualTo(RolePermissionCache.RolePermissions.NONE);
+    }
+
+    @Test
+    void sharesThePermissionsOfASingleRole() {
+        assertThat(cache.of(List.of(role(2L)))).isSameAs(cache.of(2L));
+    }
+
+    @Test
+    void readsTheGrantsOnceUntilInvalidated() {
+        cache.of(1L);
+        cache.of(List.of(role(1L), role(2L)));
+        verify(roleRepository, times(1)).findAuthorityGrants();
+
+        when(roleRepository.findAuthorityGrants()).thenReturn(List.<Object[]>of(new Object[]{1L, 7L, "DELETE_USERS"}));
+        cache.invalidate();
+
+        assertThat(cache.of(1L).names()).containsExactly("DELETE_USERS");
+        assertThat(cache.of(2L)).isSameAs(RolePermissionCache.RolePermissions.NONE);
+        verify(roleRepository, times(2)).findAuthorityGrants();
+    }
+
+    static Role role(Long id) {
+        Role role = new Role();
+        role.setId(id);
+        return role;
+    }
+}
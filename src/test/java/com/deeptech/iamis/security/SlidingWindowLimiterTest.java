@@ -0,0 +1,102 @@
+package com.deeptech.iamis.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowLimiterTest {
+
+    private static final long WINDOW = TimeUnit.MINUTES.toNanos(1);
+
+    // A little less than half of the second window, so a little more than half of the first one still counts.
+    private static final long HALFWAY = WINDOW + WINDOW / 2 - TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void allowsUpToTheLimitPerKey() {
+        SlidingWindowLimiter limiter = new SlidingWindowLimiter(1024, WINDOW, 3);
+        long now = System.nanoTime();
+
+        assertThat(limiter.tryAcquire("alice", now)).isTrue();
+        assertThat(limiter.tryAcquire("alice", now)).isTrue();
+        assertThat(limiter.tryAcquire("alice", now)).isTrue();
+        assertThat(limiter.tryAcquire("alice", now)).isFalse();
+        assertThat(limiter.tryAcquire("bob", now)).isTrue();
+    }
+
+    @Test
+    void weighsThePreviousWindowByItsOverlap() {
+        SlidingWindowLimiter limiter = new SlidingWindowLimiter(1024, WINDOW, 4);
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire("alice", start)).isTrue();
+        }
+
+        // Just over 4 * 0.5 = 2 attempts of the previous window count.
+        long halfway = start + HALFWAY;
+        assertThat(limiter.tryAcquire("alice", halfway)).isTrue();
+        assertThat(limiter.tryAcquire("alice", halfway)).isTrue();
+        assertThat(limiter.tryAcquire("alice", halfway)).isFalse();
+
+        // Two windows later nothing of the first one counts any more.
+        long later = start + 3 * WINDOW;
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire("alice", later)).isTrue();
+        }
+    }
+
+    @Test
+    void doesNotCountRejectedAttempts() {
+        SlidingWindowLimiter limiter = new SlidingWindowLimiter(1024, WINDOW, 2);
+        long start = System.nanoTime();
+        limiter.tryAcquire("alice", start);
+        limiter.tryAcquire("alice", start);
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire("alice", start)).isFalse();
+        }
+
+        // Only the two allowed attempts carry over, just over 2 * 0.5 = 1 of them.
+        long halfway = start + HALFWAY;
+        assertThat(limiter.tryAcquire("alice", halfway)).isTrue();
+        assertThat(limiter.tryAcquire("alice", halfway)).isFalse();
+    }
+
+    @Test
+    void keepsToTheLimitUnderContention() throws InterruptedException {
+        int limit = 50;
+        int threads = 8;
+        SlidingWindowLimiter limiter = new SlidingWindowLimiter(1024, WINDOW, limit);
+        long now = System.nanoTime();
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (limiter.tryAcquire("alice", now)) {
+                        allowed.incrementAndGet();
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // The two tables may count racing attempts in different orders, so an attempt at the boundary can slip
+        // through in each; at most one per thread racing for it.
+        assertThat(allowed.get()).isBetween(limit, limit + threads - 1);
+    }
+}
@@ -0,0 +1,89 @@
+package com.deeptech.iamis.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationsTest {
+
+    private static final String INSERT =
+            "INSERT INTO revoked_tokens (jti, expires_at) VALUES (?, ?) ON CONFLICT DO NOTHING";
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TokenRevocations revocations;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        revocations = new TokenRevocations(jdbcTemplate);
+    }
+
+    @Test
+    void reportsOnlyRevokedTokens() {
+        UUID revoked = UUID.randomUUID();
+        when(jdbcTemplate.update(eq(INSERT), eq(revoked), any(Timestamp.class))).thenReturn(1);
+
+        assertThat(revocations.revoke(revoked, Instant.now().plus(1, ChronoUnit.HOURS))).isTrue();
+
+        assertThat(revocations.isRevoked(revoked)).isTrue();
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(revocations.isRevoked(UUID.randomUUID())).isFalse();
+        }
+    }
+
+    @Test
+    void tellsWhenATokenWasAlreadyRevoked() {
+        UUID jti = UUID.randomUUID();
+        when(jdbcTemplate.update(eq(INSERT), eq(jti), any(Timestamp.class))).thenReturn(1, 0);
+        Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+
+        assertThat(revocations.revoke(jti, expiresAt)).isTrue();
+        assertThat(revocations.revoke(jti, expiresAt)).isFalse();
+        assertThat(revocations.isRevoked(jti)).isTrue();
+    }
+
+    @Test
+    void picksUpRevocationsOfOtherInstances() throws Exception {
+        UUID jti = UUID.randomUUID();
+        ResultSet row = mock(ResultSet.class);
+        when(row.getObject(1, UUID.class)).thenReturn(jti);
+        when(row.getTimestamp(2)).thenReturn(Timestamp.from(Instant.now().plus(1, ChronoUnit.HOURS)));
+        when(row.getTimestamp(3)).thenReturn(Timestamp.from(Instant.now()));
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Timestamp.class));
+
+        assertThat(revocations.isRevoked(jti)).isFalse();
+        revocations.poll();
+
+        assertThat(revocations.isRevoked(jti)).isTrue();
+    }
+
+    @Test
+    void forgetsRevocationsOnceTheTokenExpired() {
+        UUID jti = UUID.randomUUID();
+        revocations.revoke(jti, Instant.now().minusSeconds(1));
+        assertThat(revocations.isRevoked(jti)).isTrue();
+
+        revocations.poll();
+
+        assertThat(revocations.isRevoked(jti)).isFalse();
+    }
+}
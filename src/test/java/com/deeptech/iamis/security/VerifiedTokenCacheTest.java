@@ -0,0 +1,103 @@
+package com.deeptech.iamis.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-07-01T08:00:00Z"));
+
+    @Test
+    void servesTokensUntilTheyExpire() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+        VerifiedTokenCache.Key key = cache.keyOf("token");
+        Jwt jwt = jwt(clock.instant().plusSeconds(60));
+
+        cache.put(key, jwt);
+        assertThat(cache.get(key)).isSameAs(jwt);
+
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(cache.get(cache.keyOf("token"))).isSameAs(jwt);
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void doesNotCacheExpiredTokensOrTokensWithoutExpiry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+
+        cache.put(cache.keyOf("expired"), jwt(clock.instant()));
+        cache.put(cache.keyOf("endless"), jwt(null));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void keysTokensByTheirWholeValue() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+
+        assertThat(cache.keyOf("header.payload.signature")).isEqualTo(cache.keyOf("header.payload.signature"));
+        assertThat(cache.keyOf("header.payload.signature")).isNotEqualTo(cache.keyOf("header.payload.signaturf"));
+    }
+
+    @Test
+    void makesRoomOnlyByDroppingExpiredTokens() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, clock);
+        cache.put(cache.keyOf("short"), jwt(clock.instant().plusSeconds(10)));
+        cache.put(cache.keyOf("long"), jwt(clock.instant().plusSeconds(600)));
+
+        cache.put(cache.keyOf("rejected"), jwt(clock.instant().plusSeconds(600)));
+        assertThat(cache.get(cache.keyOf("rejected"))).isNull();
+
+        clock.advance(Duration.ofSeconds(10));
+        cache.put(cache.keyOf("accepted"), jwt(clock.instant().plusSeconds(600)));
+        assertThat(cache.get(cache.keyOf("accepted"))).isNotNull();
+        assertThat(cache.get(cache.keyOf("long"))).isNotNull();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    private static Jwt jwt(Instant expiresAt) {
+        Jwt.Builder builder = Jwt.withTokenValue("token")
+                .header("alg", "HS512")
+                .subject("admin@iamis.co.tz");
+        return expiresAt == null ? builder.build() : builder.expiresAt(expiresAt).build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}